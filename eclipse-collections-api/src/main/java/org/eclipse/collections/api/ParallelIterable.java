@@ -13,15 +13,19 @@ package org.eclipse.collections.api;
 import java.util.Comparator;
 
 import org.eclipse.collections.api.annotation.Beta;
+import org.eclipse.collections.api.bag.Bag;
 import org.eclipse.collections.api.bag.MutableBag;
 import org.eclipse.collections.api.bag.sorted.MutableSortedBag;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function0;
 import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.function.primitive.ByteFunction;
+import org.eclipse.collections.api.block.function.primitive.CharFunction;
 import org.eclipse.collections.api.block.function.primitive.DoubleFunction;
 import org.eclipse.collections.api.block.function.primitive.FloatFunction;
 import org.eclipse.collections.api.block.function.primitive.IntFunction;
 import org.eclipse.collections.api.block.function.primitive.LongFunction;
+import org.eclipse.collections.api.block.function.primitive.ShortFunction;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.predicate.Predicate2;
 import org.eclipse.collections.api.block.procedure.Procedure;
@@ -29,6 +33,8 @@ import org.eclipse.collections.api.block.procedure.Procedure2;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.primitive.ObjectDoubleMap;
+import org.eclipse.collections.api.map.primitive.ObjectLongMap;
 import org.eclipse.collections.api.map.sorted.MutableSortedMap;
 import org.eclipse.collections.api.multimap.Multimap;
 import org.eclipse.collections.api.set.MutableSet;
@@ -83,41 +89,55 @@ public interface ParallelIterable<T>
     //     * Returns a parallel BooleanIterable which will transform the underlying iterable data to boolean values based on the booleanFunction.
     //     */
     //    ParallelBooleanIterable collectBoolean(BooleanFunction<? super T> booleanFunction);
-    //
-    //    /**
-    //     * Returns a parallel ByteIterable which will transform the underlying iterable data to byte values based on the byteFunction.
-    //     */
-    //    ParallelByteIterable collectByte(ByteFunction<? super T> byteFunction);
-    //
-    //    /**
-    //     * Returns a parallel CharIterable which will transform the underlying iterable data to char values based on the charFunction.
-    //     */
-    //    ParallelCharIterable collectChar(CharFunction<? super T> charFunction);
-    //
-    //    /**
-    //     * Returns a parallel DoubleIterable which will transform the underlying iterable data to double values based on the doubleFunction.
-    //     */
-    //    ParallelDoubleIterable collectDouble(DoubleFunction<? super T> doubleFunction);
-    //
-    //    /**
-    //     * Returns a parallel FloatIterable which will transform the underlying iterable data to float values based on the floatFunction.
-    //     */
-    //    ParallelFloatIterable collectFloat(FloatFunction<? super T> floatFunction);
-    //
-    //    /**
-    //     * Returns a parallel IntIterable which will transform the underlying iterable data to int values based on the intFunction.
-    //     */
-    //    ParallelIntIterable collectInt(IntFunction<? super T> intFunction);
-    //
-    //    /**
-    //     * Returns a parallel LongIterable which will transform the underlying iterable data to long values based on the longFunction.
-    //     */
-    //    ParallelLongIterable collectLong(LongFunction<? super T> longFunction);
-    //
-    //    /**
-    //     * Returns a parallel ShortIterable which will transform the underlying iterable data to short values based on the shortFunction.
-    //     */
-    //    ParallelShortIterable collectShort(ShortFunction<? super T> shortFunction);
+
+    /**
+     * Returns a ParallelByteIterable which will transform the underlying iterable data to byte values based on the byteFunction.
+     *
+     * @since 10.3
+     */
+    ParallelByteIterable collectByte(ByteFunction<? super T> byteFunction);
+
+    /**
+     * Returns a ParallelCharIterable which will transform the underlying iterable data to char values based on the charFunction.
+     *
+     * @since 10.3
+     */
+    ParallelCharIterable collectChar(CharFunction<? super T> charFunction);
+
+    /**
+     * Returns a ParallelDoubleIterable which will transform the underlying iterable data to double values based on the doubleFunction.
+     *
+     * @since 10.3
+     */
+    ParallelDoubleIterable collectDouble(DoubleFunction<? super T> doubleFunction);
+
+    /**
+     * Returns a ParallelFloatIterable which will transform the underlying iterable data to float values based on the floatFunction.
+     *
+     * @since 10.3
+     */
+    ParallelFloatIterable collectFloat(FloatFunction<? super T> floatFunction);
+
+    /**
+     * Returns a ParallelIntIterable which will transform the underlying iterable data to int values based on the intFunction.
+     *
+     * @since 10.3
+     */
+    ParallelIntIterable collectInt(IntFunction<? super T> intFunction);
+
+    /**
+     * Returns a ParallelLongIterable which will transform the underlying iterable data to long values based on the longFunction.
+     *
+     * @since 10.3
+     */
+    ParallelLongIterable collectLong(LongFunction<? super T> longFunction);
+
+    /**
+     * Returns a ParallelShortIterable which will transform the underlying iterable data to short values based on the shortFunction.
+     *
+     * @since 10.3
+     */
+    ParallelShortIterable collectShort(ShortFunction<? super T> shortFunction);
 
     void forEach(Procedure<? super T> procedure);
 
@@ -260,6 +280,50 @@ public interface ParallelIterable<T>
 
     void appendString(Appendable appendable, String start, String separator, String end);
 
+    /**
+     * Groups and sums the values using the two specified functions. Each batch is summed into its own map and the
+     * partial maps are then merged pairwise, so no shared map is contended and the values are never boxed.
+     *
+     * @since 10.3
+     */
+    default <V> ObjectLongMap<V> sumByInt(Function<? super T, ? extends V> groupBy, IntFunction<? super T> function)
+    {
+        throw new UnsupportedOperationException("Default method to prevent breaking backwards compatibility");
+    }
+
+    /**
+     * Groups and sums the values using the two specified functions. Each batch is summed into its own map and the
+     * partial maps are then merged pairwise, so no shared map is contended and the values are never boxed.
+     *
+     * @since 10.3
+     */
+    default <V> ObjectLongMap<V> sumByLong(Function<? super T, ? extends V> groupBy, LongFunction<? super T> function)
+    {
+        throw new UnsupportedOperationException("Default method to prevent breaking backwards compatibility");
+    }
+
+    /**
+     * Groups and sums the values using the two specified functions. Each batch is summed into its own map and the
+     * partial maps are then merged pairwise. It uses Kahan summation algorithm to reduce numerical error.
+     *
+     * @since 10.3
+     */
+    default <V> ObjectDoubleMap<V> sumByDouble(Function<? super T, ? extends V> groupBy, DoubleFunction<? super T> function)
+    {
+        throw new UnsupportedOperationException("Default method to prevent breaking backwards compatibility");
+    }
+
+    /**
+     * This method will count the number of occurrences of each value calculated by applying the
+     * function to each element of the iterable in parallel.
+     *
+     * @since 10.3
+     */
+    default <V> Bag<V> countBy(Function<? super T, ? extends V> function)
+    {
+        throw new UnsupportedOperationException("Default method to prevent breaking backwards compatibility");
+    }
+
     <V> Multimap<V, T> groupBy(Function<? super T, ? extends V> function);
 
     <V> Multimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function);
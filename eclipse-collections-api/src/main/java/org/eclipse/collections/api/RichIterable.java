@@ -66,6 +66,13 @@ import org.eclipse.collections.api.map.primitive.ObjectLongMap;
 import org.eclipse.collections.api.map.sorted.MutableSortedMap;
 import org.eclipse.collections.api.multimap.Multimap;
 import org.eclipse.collections.api.multimap.MutableMultimap;
+import org.eclipse.collections.api.multimap.primitive.MutableObjectByteMultimap;
+import org.eclipse.collections.api.multimap.primitive.MutableObjectCharMultimap;
+import org.eclipse.collections.api.multimap.primitive.MutableObjectDoubleMultimap;
+import org.eclipse.collections.api.multimap.primitive.MutableObjectFloatMultimap;
+import org.eclipse.collections.api.multimap.primitive.MutableObjectIntMultimap;
+import org.eclipse.collections.api.multimap.primitive.MutableObjectLongMultimap;
+import org.eclipse.collections.api.multimap.primitive.MutableObjectShortMultimap;
 import org.eclipse.collections.api.ordered.OrderedIterable;
 import org.eclipse.collections.api.partition.PartitionIterable;
 import org.eclipse.collections.api.set.MutableSet;
@@ -2315,4 +2322,149 @@ public interface RichIterable<T>
         this.forEach(each -> target.put(groupByFunction.apply(each), collectFunction.apply(each)));
         return target;
     }
+
+    /**
+     * Applies a groupBy function over the iterable, followed by an int collect function, without boxing the collected
+     * values.
+     *
+     * <pre>
+     * MutableObjectIntListMultimap&lt;String&gt; result =
+     *     people.groupByAndCollectInt(Person::getCity, Person::getAge, ObjectIntArrayListMultimap.newMultimap());
+     * </pre>
+     *
+     * @return The {@code target} multimap where the key is the result of applying the groupBy function and the values
+     * are the results of applying the collect function.
+     *
+     * @see #groupByAndCollect(Function, Function, MutableMultimap)
+     *
+     * @since 10.3
+     */
+    default <K, R extends MutableObjectIntMultimap<K>> R groupByAndCollectInt(
+            Function<? super T, ? extends K> groupByFunction,
+            IntFunction<? super T> collectFunction,
+            R target)
+    {
+        this.forEach(each -> target.put(groupByFunction.apply(each), collectFunction.intValueOf(each)));
+        return target;
+    }
+
+    /**
+     * Applies a groupBy function over the iterable, followed by a long collect function, without boxing the collected
+     * values.
+     *
+     * @return The {@code target} multimap where the key is the result of applying the groupBy function and the values
+     * are the results of applying the collect function.
+     *
+     * @see #groupByAndCollect(Function, Function, MutableMultimap)
+     *
+     * @since 10.3
+     */
+    default <K, R extends MutableObjectLongMultimap<K>> R groupByAndCollectLong(
+            Function<? super T, ? extends K> groupByFunction,
+            LongFunction<? super T> collectFunction,
+            R target)
+    {
+        this.forEach(each -> target.put(groupByFunction.apply(each), collectFunction.longValueOf(each)));
+        return target;
+    }
+
+    /**
+     * Applies a groupBy function over the iterable, followed by a float collect function, without boxing the collected
+     * values.
+     *
+     * @return The {@code target} multimap where the key is the result of applying the groupBy function and the values
+     * are the results of applying the collect function.
+     *
+     * @see #groupByAndCollect(Function, Function, MutableMultimap)
+     *
+     * @since 10.3
+     */
+    default <K, R extends MutableObjectFloatMultimap<K>> R groupByAndCollectFloat(
+            Function<? super T, ? extends K> groupByFunction,
+            FloatFunction<? super T> collectFunction,
+            R target)
+    {
+        this.forEach(each -> target.put(groupByFunction.apply(each), collectFunction.floatValueOf(each)));
+        return target;
+    }
+
+    /**
+     * Applies a groupBy function over the iterable, followed by a double collect function, without boxing the collected
+     * values.
+     *
+     * @return The {@code target} multimap where the key is the result of applying the groupBy function and the values
+     * are the results of applying the collect function.
+     *
+     * @see #groupByAndCollect(Function, Function, MutableMultimap)
+     *
+     * @since 10.3
+     */
+    default <K, R extends MutableObjectDoubleMultimap<K>> R groupByAndCollectDouble(
+            Function<? super T, ? extends K> groupByFunction,
+            DoubleFunction<? super T> collectFunction,
+            R target)
+    {
+        this.forEach(each -> target.put(groupByFunction.apply(each), collectFunction.doubleValueOf(each)));
+        return target;
+    }
+
+    /**
+     * Applies a groupBy function over the iterable, followed by a short collect function, without boxing the collected
+     * values.
+     *
+     * @return The {@code target} multimap where the key is the result of applying the groupBy function and the values
+     * are the results of applying the collect function.
+     *
+     * @see #groupByAndCollect(Function, Function, MutableMultimap)
+     *
+     * @since 10.3
+     */
+    default <K, R extends MutableObjectShortMultimap<K>> R groupByAndCollectShort(
+            Function<? super T, ? extends K> groupByFunction,
+            ShortFunction<? super T> collectFunction,
+            R target)
+    {
+        this.forEach(each -> target.put(groupByFunction.apply(each), collectFunction.shortValueOf(each)));
+        return target;
+    }
+
+    /**
+     * Applies a groupBy function over the iterable, followed by a byte collect function, without boxing the collected
+     * values.
+     *
+     * @return The {@code target} multimap where the key is the result of applying the groupBy function and the values
+     * are the results of applying the collect function.
+     *
+     * @see #groupByAndCollect(Function, Function, MutableMultimap)
+     *
+     * @since 10.3
+     */
+    default <K, R extends MutableObjectByteMultimap<K>> R groupByAndCollectByte(
+            Function<? super T, ? extends K> groupByFunction,
+            ByteFunction<? super T> collectFunction,
+            R target)
+    {
+        this.forEach(each -> target.put(groupByFunction.apply(each), collectFunction.byteValueOf(each)));
+        return target;
+    }
+
+    /**
+     * Applies a groupBy function over the iterable, followed by a char collect function, without boxing the collected
+     * values.
+     *
+     * @return The {@code target} multimap where the key is the result of applying the groupBy function and the values
+     * are the results of applying the collect function.
+     *
+     * @see #groupByAndCollect(Function, Function, MutableMultimap)
+     *
+     * @since 10.3
+     */
+    default <K, R extends MutableObjectCharMultimap<K>> R groupByAndCollectChar(
+            Function<? super T, ? extends K> groupByFunction,
+            CharFunction<? super T> collectFunction,
+            R target)
+    {
+        this.forEach(each -> target.put(groupByFunction.apply(each), collectFunction.charValueOf(each)));
+        return target;
+    }
 }
@@ -14,10 +14,13 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import org.eclipse.collections.api.ParallelIterable;
 import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.annotation.Beta;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function0;
 import org.eclipse.collections.api.block.function.Function2;
@@ -146,6 +149,39 @@ public interface MapIterable<K, V> extends RichIterable<V>
      */
     RichIterable<Pair<K, V>> keyValuesView();
 
+    /**
+     * Returns a parallel iterable of the values of this map.
+     *
+     * @since 10.3
+     */
+    @Beta
+    default ParallelIterable<V> asParallel(ExecutorService executorService, int batchSize)
+    {
+        throw new UnsupportedOperationException("Default method to prevent breaking backwards compatibility");
+    }
+
+    /**
+     * Returns a parallel iterable of the keys of this map.
+     *
+     * @since 10.3
+     */
+    @Beta
+    default ParallelIterable<K> keysViewAsParallel(ExecutorService executorService, int batchSize)
+    {
+        throw new UnsupportedOperationException("Default method to prevent breaking backwards compatibility");
+    }
+
+    /**
+     * Returns a parallel iterable of the key/value pairs of this map.
+     *
+     * @since 10.3
+     */
+    @Beta
+    default ParallelIterable<Pair<K, V>> keyValuesViewAsParallel(ExecutorService executorService, int batchSize)
+    {
+        throw new UnsupportedOperationException("Default method to prevent breaking backwards compatibility");
+    }
+
     /**
      * Given a map from Domain {@code ->} Range return a multimap from Range {@code ->} Domain. We chose the name 'flip'
      * rather than 'invert' or 'transpose' since this method does not have the property of applying twice
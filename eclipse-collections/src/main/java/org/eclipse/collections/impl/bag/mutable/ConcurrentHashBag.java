@@ -0,0 +1,608 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.bag.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.bag.ImmutableBag;
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.predicate.primitive.IntPredicate;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.tuple.primitive.ObjectIntPair;
+import org.eclipse.collections.impl.Counter;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.multimap.bag.HashBagMultimap;
+import org.eclipse.collections.impl.utility.ArrayIterate;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * ConcurrentHashBag is a MutableBag which can be updated from many threads at once without an external lock.
+ * Each distinct item is mapped to its own {@link LongAdder} in a {@link ConcurrentHashMap}, so adding occurrences
+ * never blocks and threads adding the same item update different cells of its counter. Removing or setting
+ * occurrences synchronizes on the counter of that one item only, which guarantees a count never drops below zero.
+ * <p>
+ * A counter whose count drops to zero is retired for good and removed from the map with
+ * {@code remove(item, counter)}. An add which finds that the counter it updated was retired concurrently drains
+ * whatever the retired counter still holds into a new counter for the item, so no occurrence is lost. An add which
+ * races with {@link #clear()} may be discarded along with the counters.
+ * <p>
+ * {@link #size()} and {@link #sizeDistinct()} are computed by visiting each counter. Internal iteration is weakly
+ * consistent, while {@link #iterator()} walks a snapshot and removes through this bag.
+ * Methods used for reporting, such as {@link #topOccurrences(int)}, {@link #bottomOccurrences(int)} and
+ * {@link #toImmutable()}, work from a snapshot of the counts so their result is always internally consistent.
+ * <p>
+ * Like {@link ConcurrentHashMap}, this bag does not permit null elements.
+ *
+ * @since 10.3
+ */
+public class ConcurrentHashBag<T>
+        extends AbstractMutableBag<T>
+        implements Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private ConcurrentHashMap<T, ItemCounter> items;
+
+    public ConcurrentHashBag()
+    {
+        this.items = ConcurrentHashMap.newMap();
+    }
+
+    public ConcurrentHashBag(int size)
+    {
+        this.items = ConcurrentHashMap.newMap(size);
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag()
+    {
+        return new ConcurrentHashBag<>();
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag(int size)
+    {
+        return new ConcurrentHashBag<>(size);
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag(Bag<? extends E> source)
+    {
+        ConcurrentHashBag<E> result = ConcurrentHashBag.newBag(source.sizeDistinct());
+        result.addAllBag(source);
+        return result;
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag(Iterable<? extends E> source)
+    {
+        if (source instanceof Bag)
+        {
+            return ConcurrentHashBag.newBag((Bag<E>) source);
+        }
+        return ConcurrentHashBag.newBagWith((E[]) Iterate.toArray(source));
+    }
+
+    public static <E> ConcurrentHashBag<E> newBagWith(E... elements)
+    {
+        ConcurrentHashBag<E> result = ConcurrentHashBag.newBag();
+        ArrayIterate.addAllTo(elements, result);
+        return result;
+    }
+
+    private ItemCounter counterFor(T item)
+    {
+        ItemCounter counter = this.items.get(item);
+        if (counter == null)
+        {
+            return this.items.getIfAbsentPut(item, ItemCounter::new);
+        }
+        return counter;
+    }
+
+    private ItemCounter existingCounterFor(Object item)
+    {
+        return item == null ? null : this.items.get(item);
+    }
+
+    private static int countOf(ItemCounter counter)
+    {
+        if (counter == null || counter.retired)
+        {
+            return 0;
+        }
+        return (int) counter.sum();
+    }
+
+    /**
+     * Adds the occurrences to the counter of the item and returns the resulting count. If the counter was retired
+     * concurrently, the occurrences left in it are moved to the counter which replaced it.
+     */
+    private int addToCounter(T item, int occurrences)
+    {
+        ItemCounter counter = this.counterFor(item);
+        counter.add(occurrences);
+        if (counter.retired)
+        {
+            this.drain(item, counter);
+            return this.occurrencesOf(item);
+        }
+        return (int) counter.sum();
+    }
+
+    /**
+     * Moves the occurrences left in a retired counter to the live counter of the item. Each drain subtracts exactly
+     * what it read, so an occurrence is moved once, either by the add which left it or by an earlier drain.
+     */
+    private void drain(T item, ItemCounter counter)
+    {
+        long leftover;
+        synchronized (counter)
+        {
+            leftover = counter.sum();
+            if (leftover != 0L)
+            {
+                counter.add(-leftover);
+            }
+        }
+        if (leftover > 0L)
+        {
+            this.addToCounter(item, (int) leftover);
+        }
+    }
+
+    /**
+     * Subtracts up to {@code occurrences} from the counter and returns the number actually subtracted. The count
+     * read under the lock is a safe upper bound, because only adds can change a live counter without its lock.
+     */
+    private int subtract(Object item, ItemCounter counter, int occurrences)
+    {
+        synchronized (counter)
+        {
+            if (counter.retired)
+            {
+                return 0;
+            }
+            int current = (int) counter.sum();
+            int removed = Math.min(current, occurrences);
+            if (removed > 0)
+            {
+                counter.add(-removed);
+                this.retireIfEmpty(item, counter);
+            }
+            return removed;
+        }
+    }
+
+    /**
+     * Retires the counter and removes it from the map if its count is zero. Must be called while holding the lock on
+     * the counter. A retired counter is never used again. An add which updated the counter before seeing the mark
+     * is moved to a new counter by the drain which follows.
+     */
+    private void retireIfEmpty(Object item, ItemCounter counter)
+    {
+        if (counter.sum() != 0L)
+        {
+            return;
+        }
+        counter.retired = true;
+        this.items.remove(item, counter);
+        this.drain((T) item, counter);
+    }
+
+    /**
+     * Returns a HashBag holding a copy of the current counts. Each count is read once, so the snapshot is internally
+     * consistent even while other threads keep updating this bag.
+     */
+    public HashBag<T> snapshot()
+    {
+        HashBag<T> result = HashBag.newBag(this.items.size());
+        this.forEachWithOccurrences(result::addOccurrences);
+        return result;
+    }
+
+    @Override
+    public int addOccurrences(T item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot add a negative number of occurrences");
+        }
+        if (occurrences > 0)
+        {
+            return this.addToCounter(item, occurrences);
+        }
+        return this.occurrencesOf(item);
+    }
+
+    @Override
+    public boolean add(T item)
+    {
+        this.addToCounter(item, 1);
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object item)
+    {
+        return this.removeOccurrences(item, 1);
+    }
+
+    @Override
+    public boolean removeOccurrences(Object item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot remove a negative number of occurrences");
+        }
+        if (occurrences == 0)
+        {
+            return false;
+        }
+        ItemCounter counter = this.existingCounterFor(item);
+        return counter != null && this.subtract(item, counter, occurrences) > 0;
+    }
+
+    @Override
+    public boolean setOccurrences(T item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot set a negative number of occurrences");
+        }
+        while (true)
+        {
+            ItemCounter counter = occurrences == 0 ? this.existingCounterFor(item) : this.counterFor(item);
+            if (counter == null)
+            {
+                return false;
+            }
+            synchronized (counter)
+            {
+                if (!counter.retired)
+                {
+                    int originalOccurrences = (int) counter.sum();
+                    if (originalOccurrences == occurrences)
+                    {
+                        return false;
+                    }
+                    counter.add(occurrences - originalOccurrences);
+                    this.retireIfEmpty(item, counter);
+                    return true;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void clear()
+    {
+        this.items.clear();
+    }
+
+    @Override
+    public int occurrencesOf(Object item)
+    {
+        return ConcurrentHashBag.countOf(this.existingCounterFor(item));
+    }
+
+    @Override
+    public void forEachWithOccurrences(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        this.items.forEachKeyValue((item, counter) ->
+        {
+            int count = ConcurrentHashBag.countOf(counter);
+            if (count > 0)
+            {
+                objectIntProcedure.value(item, count);
+            }
+        });
+    }
+
+    @Override
+    public int sizeDistinct()
+    {
+        return this.items.count(counter -> ConcurrentHashBag.countOf(counter) > 0);
+    }
+
+    @Override
+    public int size()
+    {
+        Counter counter = new Counter();
+        this.forEachWithOccurrences((each, count) -> counter.add(count));
+        return counter.getCount();
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.items.noneSatisfy(counter -> ConcurrentHashBag.countOf(counter) > 0);
+    }
+
+    @Override
+    public boolean contains(Object item)
+    {
+        return this.occurrencesOf(item) > 0;
+    }
+
+    @Override
+    protected RichIterable<T> getKeysView()
+    {
+        return this.items.keysView().select(this::contains);
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+        if (!(other instanceof Bag))
+        {
+            return false;
+        }
+        return this.snapshot().equals(other);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return this.snapshot().hashCode();
+    }
+
+    @Override
+    public MutableMap<T, Integer> toMapOfItemToCount()
+    {
+        MutableMap<T, Integer> map = UnifiedMap.newMap(this.items.size());
+        this.forEachWithOccurrences(map::put);
+        return map;
+    }
+
+    @Override
+    public ImmutableBag<T> toImmutable()
+    {
+        return this.snapshot().toImmutable();
+    }
+
+    @Override
+    public MutableList<ObjectIntPair<T>> topOccurrences(int n)
+    {
+        return this.snapshot().topOccurrences(n);
+    }
+
+    @Override
+    public MutableList<ObjectIntPair<T>> bottomOccurrences(int n)
+    {
+        return this.snapshot().bottomOccurrences(n);
+    }
+
+    @Override
+    public MutableBag<T> selectByOccurrences(IntPredicate predicate)
+    {
+        ConcurrentHashBag<T> result = ConcurrentHashBag.newBag();
+        this.forEachWithOccurrences((each, occurrences) ->
+        {
+            if (predicate.accept(occurrences))
+            {
+                result.addOccurrences(each, occurrences);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        this.forEachWithOccurrences((each, count) ->
+        {
+            for (int i = 0; i < count; i++)
+            {
+                procedure.value(each);
+            }
+        });
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        Counter index = new Counter();
+        this.forEachWithOccurrences((each, count) ->
+        {
+            for (int i = 0; i < count; i++)
+            {
+                objectIntProcedure.value(each, index.getCount());
+                index.increment();
+            }
+        });
+    }
+
+    @Override
+    public <P> void forEachWith(Procedure2<? super T, ? super P> procedure, P parameter)
+    {
+        this.forEachWithOccurrences((each, count) ->
+        {
+            for (int i = 0; i < count; i++)
+            {
+                procedure.value(each, parameter);
+            }
+        });
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new SnapshotIterator();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> predicate)
+    {
+        Counter removed = new Counter();
+        this.items.forEachKeyValue((item, counter) ->
+        {
+            if (predicate.accept(item))
+            {
+                removed.add(this.subtract(item, counter, Integer.MAX_VALUE));
+            }
+        });
+        return removed.getCount() > 0;
+    }
+
+    @Override
+    public <P> boolean removeIfWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.removeIf(each -> predicate.accept(each, parameter));
+    }
+
+    @Override
+    public boolean removeAllIterable(Iterable<?> iterable)
+    {
+        Counter removed = new Counter();
+        if (iterable instanceof Bag)
+        {
+            ((Bag<?>) iterable).forEachWithOccurrences((each, parameter) -> removed.add(this.removeAllOccurrences(each)));
+        }
+        else
+        {
+            for (Object each : iterable)
+            {
+                removed.add(this.removeAllOccurrences(each));
+            }
+        }
+        return removed.getCount() > 0;
+    }
+
+    private int removeAllOccurrences(Object item)
+    {
+        ItemCounter counter = this.existingCounterFor(item);
+        return counter == null ? 0 : this.subtract(item, counter, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public <V> HashBagMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
+    {
+        return this.groupBy(function, HashBagMultimap.newMultimap());
+    }
+
+    @Override
+    public <V> HashBagMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return this.groupByEach(function, HashBagMultimap.newMultimap());
+    }
+
+    @Override
+    public MutableBag<T> newEmpty()
+    {
+        return ConcurrentHashBag.newBag();
+    }
+
+    @Override
+    public ConcurrentHashBag<T> with(T element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    @Override
+    public ConcurrentHashBag<T> without(T element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    @Override
+    public ConcurrentHashBag<T> withAll(Iterable<? extends T> iterable)
+    {
+        this.addAllIterable(iterable);
+        return this;
+    }
+
+    @Override
+    public ConcurrentHashBag<T> withoutAll(Iterable<? extends T> iterable)
+    {
+        this.removeAllIterable(iterable);
+        return this;
+    }
+
+    public ConcurrentHashBag<T> with(T... elements)
+    {
+        this.addAll(Arrays.asList(elements));
+        return this;
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        this.snapshot().writeExternal(out);
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        HashBag<T> deserialized = HashBag.newBag();
+        deserialized.readExternal(in);
+        this.items = ConcurrentHashMap.newMap(deserialized.sizeDistinct());
+        deserialized.forEachWithOccurrences(this::addOccurrences);
+    }
+
+    private static final class ItemCounter extends LongAdder
+    {
+        private static final long serialVersionUID = 1L;
+
+        private volatile boolean retired;
+    }
+
+    private final class SnapshotIterator implements Iterator<T>
+    {
+        private final Iterator<T> iterator = ConcurrentHashBag.this.snapshot().iterator();
+
+        private T currentItem;
+        private boolean canRemove;
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.iterator.hasNext();
+        }
+
+        @Override
+        public T next()
+        {
+            this.currentItem = this.iterator.next();
+            this.canRemove = true;
+            return this.currentItem;
+        }
+
+        @Override
+        public void remove()
+        {
+            if (!this.canRemove)
+            {
+                throw new IllegalStateException();
+            }
+            ConcurrentHashBag.this.remove(this.currentItem);
+            this.canRemove = false;
+        }
+    }
+}
@@ -78,6 +78,9 @@ import org.eclipse.collections.impl.utility.LazyIterate;
  * no external pointer can ever reference the underlying HashBag outside of a locked procedure. In the case of the
  * read lock method, an Unmodifiable version of the collection is offered, which will throw UnsupportedOperationExceptions
  * on any write methods like add or remove.
+ * <p>
+ * Bags created with {@link #newStampedBag()} read {@code size()}, {@code isEmpty()}, {@code contains()},
+ * {@code occurrencesOf()} and {@code detect()} on small bags optimistically, without taking the read lock.
  */
 public final class MultiReaderHashBag<T>
         extends AbstractMultiReaderMutableCollection<T>
@@ -103,9 +106,14 @@ public final class MultiReaderHashBag<T>
     }
 
     private MultiReaderHashBag(MutableBag<T> newDelegate, ReadWriteLock newLock)
+    {
+        this(newDelegate, newLock, false);
+    }
+
+    private MultiReaderHashBag(MutableBag<T> newDelegate, ReadWriteLock newLock, boolean optimisticReads)
     {
         this.lock = newLock;
-        this.lockWrapper = new ReadWriteLockWrapper(newLock);
+        this.lockWrapper = new ReadWriteLockWrapper(newLock, optimisticReads);
         this.delegate = newDelegate;
     }
 
@@ -129,6 +137,26 @@ public final class MultiReaderHashBag<T>
         return new MultiReaderHashBag<>(HashBag.newBagWith(elements));
     }
 
+    /**
+     * Creates a MultiReaderHashBag whose short read operations, such as size and contains, read optimistically without
+     * taking the read lock and only fall back to it if a write happened concurrently.
+     *
+     * @since 10.3
+     */
+    public static <T> MultiReaderHashBag<T> newStampedBag()
+    {
+        return new MultiReaderHashBag<>(HashBag.newBag(), new ReentrantReadWriteLock(), true);
+    }
+
+    /**
+     * @see #newStampedBag()
+     * @since 10.3
+     */
+    public static <T> MultiReaderHashBag<T> newStampedBag(Iterable<T> iterable)
+    {
+        return new MultiReaderHashBag<>(HashBag.newBag(iterable), new ReentrantReadWriteLock(), true);
+    }
+
     @Override
     protected MutableBag<T> getDelegate()
     {
@@ -222,6 +250,22 @@ public final class MultiReaderHashBag<T>
     @Override
     public int occurrencesOf(Object item)
     {
+        long stamp = this.lockWrapper.tryOptimisticRead();
+        if (stamp != 0L)
+        {
+            try
+            {
+                int result = this.delegate.occurrencesOf(item);
+                if (this.lockWrapper.validate(stamp))
+                {
+                    return result;
+                }
+            }
+            catch (RuntimeException ignored)
+            {
+                // A concurrent write left the delegate inconsistent, so retry under the read lock
+            }
+        }
         try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
         {
             return this.delegate.occurrencesOf(item);
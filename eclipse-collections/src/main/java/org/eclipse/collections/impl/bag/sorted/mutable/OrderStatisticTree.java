@@ -0,0 +1,843 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.bag.sorted.mutable;
+
+import java.util.AbstractSet;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.SortedSet;
+
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+
+/**
+ * OrderStatisticTree is a sorted multiset of distinct keys, each with a positive number of occurrences, stored in an AVL
+ * tree whose nodes also record the number of keys and the total number of occurrences below them. These subtree counts
+ * let {@link #rank(Object)}, {@link #get(int)} and {@link #countBetween(Object, Object)} run in logarithmic time rather
+ * than by iterating.
+ * <p>
+ * This is the data store of {@link RankedTreeBag} and
+ * {@link org.eclipse.collections.impl.set.sorted.mutable.RankedTreeSortedSet}, where every key occurs once. It follows
+ * the {@link java.util.TreeMap} contract for comparators, null keys and range views.
+ *
+ * @since 10.3
+ */
+public final class OrderStatisticTree<T>
+{
+    private static final int MAX_HEIGHT = 64;
+
+    private final Comparator<? super T> comparator;
+    private Node<T> root;
+    private int modCount;
+    private int previous;
+
+    public OrderStatisticTree()
+    {
+        this((Comparator<? super T>) null);
+    }
+
+    public OrderStatisticTree(Comparator<? super T> comparator)
+    {
+        this.comparator = comparator;
+    }
+
+    public OrderStatisticTree(OrderStatisticTree<T> tree)
+    {
+        this.comparator = tree.comparator;
+        this.root = OrderStatisticTree.copy(tree.root);
+    }
+
+    private static <T> Node<T> copy(Node<T> node)
+    {
+        if (node == null)
+        {
+            return null;
+        }
+        Node<T> copy = new Node<>(node.key, node.count);
+        copy.left = OrderStatisticTree.copy(node.left);
+        copy.right = OrderStatisticTree.copy(node.right);
+        copy.height = node.height;
+        copy.size = node.size;
+        copy.weight = node.weight;
+        return copy;
+    }
+
+    public Comparator<? super T> comparator()
+    {
+        return this.comparator;
+    }
+
+    /**
+     * Returns the total number of occurrences of all keys.
+     */
+    public int size()
+    {
+        return OrderStatisticTree.weight(this.root);
+    }
+
+    /**
+     * Returns the number of distinct keys.
+     */
+    public int sizeDistinct()
+    {
+        return OrderStatisticTree.size(this.root);
+    }
+
+    public boolean isEmpty()
+    {
+        return this.root == null;
+    }
+
+    public void clear()
+    {
+        this.modCount++;
+        this.root = null;
+    }
+
+    public boolean contains(Object key)
+    {
+        return this.find(key) != null;
+    }
+
+    public int occurrencesOf(Object key)
+    {
+        Node<T> node = this.find(key);
+        return node == null ? 0 : node.count;
+    }
+
+    /**
+     * Adds {@code occurrences} to the count of {@code key} and returns its previous count.
+     */
+    public int addOccurrences(T key, int occurrences)
+    {
+        return this.put(key, occurrences, true);
+    }
+
+    /**
+     * Sets the count of {@code key}, removing it when {@code occurrences} is zero, and returns its previous count.
+     */
+    public int setOccurrences(T key, int occurrences)
+    {
+        return this.put(key, occurrences, false);
+    }
+
+    /**
+     * Removes {@code key} and returns its previous count.
+     */
+    public int remove(Object key)
+    {
+        if (this.root == null)
+        {
+            this.checkNull(key);
+            return 0;
+        }
+        return this.setOccurrences((T) key, 0);
+    }
+
+    private int put(T key, int occurrences, boolean add)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot set a negative number of occurrences: " + occurrences);
+        }
+        if (this.root == null)
+        {
+            this.compare(key, key);
+        }
+        this.previous = 0;
+        this.root = this.put(this.root, key, occurrences, add);
+        return this.previous;
+    }
+
+    private Node<T> put(Node<T> node, T key, int occurrences, boolean add)
+    {
+        if (node == null)
+        {
+            if (occurrences == 0)
+            {
+                return null;
+            }
+            this.modCount++;
+            return new Node<>(key, occurrences);
+        }
+        int comparison = this.compare(key, node.key);
+        if (comparison < 0)
+        {
+            node.left = this.put(node.left, key, occurrences, add);
+        }
+        else if (comparison > 0)
+        {
+            node.right = this.put(node.right, key, occurrences, add);
+        }
+        else
+        {
+            this.previous = node.count;
+            int count = add ? node.count + occurrences : occurrences;
+            if (count == node.count)
+            {
+                return node;
+            }
+            if (count == 0)
+            {
+                this.modCount++;
+                return OrderStatisticTree.removeNode(node);
+            }
+            node.count = count;
+        }
+        return OrderStatisticTree.balance(node);
+    }
+
+    private static <T> Node<T> removeNode(Node<T> node)
+    {
+        if (node.left == null)
+        {
+            return node.right;
+        }
+        if (node.right == null)
+        {
+            return node.left;
+        }
+        Node<T> successor = node.right;
+        while (successor.left != null)
+        {
+            successor = successor.left;
+        }
+        successor.right = OrderStatisticTree.removeFirst(node.right);
+        successor.left = node.left;
+        return OrderStatisticTree.balance(successor);
+    }
+
+    private static <T> Node<T> removeFirst(Node<T> node)
+    {
+        if (node.left == null)
+        {
+            return node.right;
+        }
+        node.left = OrderStatisticTree.removeFirst(node.left);
+        return OrderStatisticTree.balance(node);
+    }
+
+    private static <T> Node<T> balance(Node<T> node)
+    {
+        int difference = OrderStatisticTree.height(node.left) - OrderStatisticTree.height(node.right);
+        if (difference > 1)
+        {
+            if (OrderStatisticTree.height(node.left.left) < OrderStatisticTree.height(node.left.right))
+            {
+                node.left = OrderStatisticTree.rotateLeft(node.left);
+            }
+            return OrderStatisticTree.rotateRight(node);
+        }
+        if (difference < -1)
+        {
+            if (OrderStatisticTree.height(node.right.right) < OrderStatisticTree.height(node.right.left))
+            {
+                node.right = OrderStatisticTree.rotateRight(node.right);
+            }
+            return OrderStatisticTree.rotateLeft(node);
+        }
+        node.update();
+        return node;
+    }
+
+    private static <T> Node<T> rotateRight(Node<T> node)
+    {
+        Node<T> left = node.left;
+        node.left = left.right;
+        left.right = node;
+        node.update();
+        left.update();
+        return left;
+    }
+
+    private static <T> Node<T> rotateLeft(Node<T> node)
+    {
+        Node<T> right = node.right;
+        node.right = right.left;
+        right.left = node;
+        node.update();
+        right.update();
+        return right;
+    }
+
+    private static int height(Node<?> node)
+    {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int size(Node<?> node)
+    {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int weight(Node<?> node)
+    {
+        return node == null ? 0 : node.weight;
+    }
+
+    private int compare(Object key, T nodeKey)
+    {
+        if (this.comparator == null)
+        {
+            return ((Comparable<Object>) key).compareTo(nodeKey);
+        }
+        return ((Comparator<Object>) this.comparator).compare(key, nodeKey);
+    }
+
+    private void checkNull(Object key)
+    {
+        if (key == null && this.comparator == null)
+        {
+            throw new NullPointerException();
+        }
+    }
+
+    private Node<T> find(Object key)
+    {
+        this.checkNull(key);
+        Node<T> node = this.root;
+        while (node != null)
+        {
+            int comparison = this.compare(key, node.key);
+            if (comparison == 0)
+            {
+                return node;
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the total number of occurrences of the keys strictly less than {@code key}, whether or not {@code key}
+     * is present.
+     */
+    public int rank(Object key)
+    {
+        int rank = 0;
+        Node<T> node = this.root;
+        while (node != null)
+        {
+            int comparison = this.compare(key, node.key);
+            if (comparison <= 0)
+            {
+                if (comparison == 0)
+                {
+                    return rank + OrderStatisticTree.weight(node.left);
+                }
+                node = node.left;
+            }
+            else
+            {
+                rank += OrderStatisticTree.weight(node.left) + node.count;
+                node = node.right;
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * Returns the number of distinct keys strictly less than {@code key}, whether or not {@code key} is present.
+     */
+    public int rankDistinct(Object key)
+    {
+        int rank = 0;
+        Node<T> node = this.root;
+        while (node != null)
+        {
+            int comparison = this.compare(key, node.key);
+            if (comparison <= 0)
+            {
+                if (comparison == 0)
+                {
+                    return rank + OrderStatisticTree.size(node.left);
+                }
+                node = node.left;
+            }
+            else
+            {
+                rank += OrderStatisticTree.size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * Returns the key at {@code index} in sorted order, where each key occupies as many consecutive indices as it has
+     * occurrences.
+     */
+    public T get(int index)
+    {
+        int size = this.size();
+        if (index < 0 || index >= size)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + " Size: " + size);
+        }
+        int remaining = index;
+        Node<T> node = this.root;
+        while (true)
+        {
+            int leftWeight = OrderStatisticTree.weight(node.left);
+            if (remaining < leftWeight)
+            {
+                node = node.left;
+            }
+            else
+            {
+                remaining -= leftWeight;
+                if (remaining < node.count)
+                {
+                    return node.key;
+                }
+                remaining -= node.count;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Returns the total number of occurrences of the keys in the range [{@code fromKey}, {@code toKey}).
+     */
+    public int countBetween(T fromKey, T toKey)
+    {
+        if (this.compare(fromKey, toKey) > 0)
+        {
+            throw new IllegalArgumentException("fromKey > toKey");
+        }
+        return this.rank(toKey) - this.rank(fromKey);
+    }
+
+    /**
+     * Returns the key at the given percentile using the nearest-rank method, so that at least {@code percentile}
+     * percent of all occurrences are less than or equal to it.
+     */
+    public T percentile(double percentile)
+    {
+        if (!(percentile >= 0.0 && percentile <= 100.0))
+        {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        int size = this.size();
+        if (size == 0)
+        {
+            throw new NoSuchElementException();
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * size) - 1;
+        return this.get(Math.max(index, 0));
+    }
+
+    public T first()
+    {
+        Node<T> node = this.root;
+        if (node == null)
+        {
+            throw new NoSuchElementException();
+        }
+        while (node.left != null)
+        {
+            node = node.left;
+        }
+        return node.key;
+    }
+
+    public T last()
+    {
+        Node<T> node = this.root;
+        if (node == null)
+        {
+            throw new NoSuchElementException();
+        }
+        while (node.right != null)
+        {
+            node = node.right;
+        }
+        return node.key;
+    }
+
+    private Node<T> ceiling(Object key)
+    {
+        Node<T> result = null;
+        Node<T> node = this.root;
+        while (node != null)
+        {
+            int comparison = this.compare(key, node.key);
+            if (comparison == 0)
+            {
+                return node;
+            }
+            if (comparison < 0)
+            {
+                result = node;
+                node = node.left;
+            }
+            else
+            {
+                node = node.right;
+            }
+        }
+        return result;
+    }
+
+    private Node<T> lower(Object key)
+    {
+        Node<T> result = null;
+        Node<T> node = this.root;
+        while (node != null)
+        {
+            if (this.compare(key, node.key) <= 0)
+            {
+                node = node.left;
+            }
+            else
+            {
+                result = node;
+                node = node.right;
+            }
+        }
+        return result;
+    }
+
+    public void forEachWithOccurrences(ObjectIntProcedure<? super T> procedure)
+    {
+        OrderStatisticTree.forEachWithOccurrences(this.root, procedure);
+    }
+
+    private static <T> void forEachWithOccurrences(Node<T> node, ObjectIntProcedure<? super T> procedure)
+    {
+        Node<T> each = node;
+        while (each != null)
+        {
+            OrderStatisticTree.forEachWithOccurrences(each.left, procedure);
+            procedure.value(each.key, each.count);
+            each = each.right;
+        }
+    }
+
+    /**
+     * Returns a live view of the distinct keys. Adding to the view adds a key with one occurrence, and its range views
+     * report their size in logarithmic time.
+     */
+    public SortedSet<T> keySet()
+    {
+        return new KeySet(true, null, true, null);
+    }
+
+    private static final class Node<T>
+    {
+        private final T key;
+        private int count;
+        private int height = 1;
+        private int size = 1;
+        private int weight;
+        private Node<T> left;
+        private Node<T> right;
+
+        private Node(T key, int count)
+        {
+            this.key = key;
+            this.count = count;
+            this.weight = count;
+        }
+
+        private void update()
+        {
+            this.height = 1 + Math.max(OrderStatisticTree.height(this.left), OrderStatisticTree.height(this.right));
+            this.size = 1 + OrderStatisticTree.size(this.left) + OrderStatisticTree.size(this.right);
+            this.weight = this.count + OrderStatisticTree.weight(this.left) + OrderStatisticTree.weight(this.right);
+        }
+    }
+
+    private final class KeySet extends AbstractSet<T> implements SortedSet<T>
+    {
+        private final boolean fromStart;
+        private final T low;
+        private final boolean toEnd;
+        private final T high;
+
+        private KeySet(boolean fromStart, T low, boolean toEnd, T high)
+        {
+            if (!fromStart && !toEnd && OrderStatisticTree.this.compare(low, high) > 0)
+            {
+                throw new IllegalArgumentException("fromKey > toKey");
+            }
+            this.fromStart = fromStart;
+            this.low = low;
+            this.toEnd = toEnd;
+            this.high = high;
+        }
+
+        private boolean tooLow(Object key)
+        {
+            return !this.fromStart && OrderStatisticTree.this.compare(key, this.low) < 0;
+        }
+
+        private boolean tooHigh(Object key)
+        {
+            return !this.toEnd && OrderStatisticTree.this.compare(key, this.high) >= 0;
+        }
+
+        private boolean inRange(Object key)
+        {
+            return !this.tooLow(key) && !this.tooHigh(key);
+        }
+
+        private boolean inClosedRange(Object key)
+        {
+            return !this.tooLow(key) && (this.toEnd || OrderStatisticTree.this.compare(key, this.high) <= 0);
+        }
+
+        @Override
+        public Comparator<? super T> comparator()
+        {
+            return OrderStatisticTree.this.comparator;
+        }
+
+        @Override
+        public int size()
+        {
+            OrderStatisticTree<T> tree = OrderStatisticTree.this;
+            int highRank = this.toEnd ? tree.sizeDistinct() : tree.rankDistinct(this.high);
+            int lowRank = this.fromStart ? 0 : tree.rankDistinct(this.low);
+            return highRank - lowRank;
+        }
+
+        @Override
+        public boolean isEmpty()
+        {
+            return !this.iterator().hasNext();
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return this.inRange(o) && OrderStatisticTree.this.contains(o);
+        }
+
+        @Override
+        public boolean add(T key)
+        {
+            if (!this.inRange(key))
+            {
+                throw new IllegalArgumentException("key out of range");
+            }
+            OrderStatisticTree<T> tree = OrderStatisticTree.this;
+            if (tree.root == null)
+            {
+                tree.compare(key, key);
+            }
+            if (tree.contains(key))
+            {
+                return false;
+            }
+            tree.setOccurrences(key, 1);
+            return true;
+        }
+
+        @Override
+        public boolean remove(Object o)
+        {
+            return this.inRange(o) && OrderStatisticTree.this.remove(o) > 0;
+        }
+
+        @Override
+        public void clear()
+        {
+            if (this.fromStart && this.toEnd)
+            {
+                OrderStatisticTree.this.clear();
+            }
+            else
+            {
+                super.clear();
+            }
+        }
+
+        @Override
+        public Iterator<T> iterator()
+        {
+            return new KeyIterator(this);
+        }
+
+        @Override
+        public SortedSet<T> subSet(T fromElement, T toElement)
+        {
+            if (!this.inRange(fromElement))
+            {
+                throw new IllegalArgumentException("fromKey out of range");
+            }
+            if (!this.inClosedRange(toElement))
+            {
+                throw new IllegalArgumentException("toKey out of range");
+            }
+            return new KeySet(false, fromElement, false, toElement);
+        }
+
+        @Override
+        public SortedSet<T> headSet(T toElement)
+        {
+            if (!this.inClosedRange(toElement))
+            {
+                throw new IllegalArgumentException("toKey out of range");
+            }
+            return new KeySet(this.fromStart, this.low, false, toElement);
+        }
+
+        @Override
+        public SortedSet<T> tailSet(T fromElement)
+        {
+            if (!this.inRange(fromElement))
+            {
+                throw new IllegalArgumentException("fromKey out of range");
+            }
+            return new KeySet(false, fromElement, this.toEnd, this.high);
+        }
+
+        @Override
+        public T first()
+        {
+            OrderStatisticTree<T> tree = OrderStatisticTree.this;
+            if (this.fromStart)
+            {
+                T first = tree.first();
+                if (this.tooHigh(first))
+                {
+                    throw new NoSuchElementException();
+                }
+                return first;
+            }
+            Node<T> node = tree.ceiling(this.low);
+            if (node == null || this.tooHigh(node.key))
+            {
+                throw new NoSuchElementException();
+            }
+            return node.key;
+        }
+
+        @Override
+        public T last()
+        {
+            OrderStatisticTree<T> tree = OrderStatisticTree.this;
+            if (this.toEnd)
+            {
+                T last = tree.last();
+                if (this.tooLow(last))
+                {
+                    throw new NoSuchElementException();
+                }
+                return last;
+            }
+            Node<T> node = tree.lower(this.high);
+            if (node == null || this.tooLow(node.key))
+            {
+                throw new NoSuchElementException();
+            }
+            return node.key;
+        }
+    }
+
+    private final class KeyIterator implements Iterator<T>
+    {
+        private final KeySet range;
+        private final Node<T>[] stack = new Node[MAX_HEIGHT];
+        private int depth;
+        private Node<T> lastReturned;
+        private int expectedModCount = OrderStatisticTree.this.modCount;
+
+        private KeyIterator(KeySet range)
+        {
+            this.range = range;
+            if (range.fromStart)
+            {
+                this.pushLeft(OrderStatisticTree.this.root);
+            }
+            else
+            {
+                this.seek(range.low, true);
+            }
+        }
+
+        private void pushLeft(Node<T> node)
+        {
+            Node<T> each = node;
+            while (each != null)
+            {
+                this.stack[this.depth++] = each;
+                each = each.left;
+            }
+        }
+
+        private void seek(T key, boolean inclusive)
+        {
+            this.depth = 0;
+            Node<T> node = OrderStatisticTree.this.root;
+            while (node != null)
+            {
+                int comparison = OrderStatisticTree.this.compare(key, node.key);
+                if (comparison < 0 || (comparison == 0 && inclusive))
+                {
+                    this.stack[this.depth++] = node;
+                    if (comparison == 0)
+                    {
+                        return;
+                    }
+                    node = node.left;
+                }
+                else
+                {
+                    node = node.right;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.depth > 0 && (this.range.toEnd || !this.range.tooHigh(this.stack[this.depth - 1].key));
+        }
+
+        @Override
+        public T next()
+        {
+            if (OrderStatisticTree.this.modCount != this.expectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            Node<T> node = this.stack[--this.depth];
+            this.pushLeft(node.right);
+            this.lastReturned = node;
+            return node.key;
+        }
+
+        @Override
+        public void remove()
+        {
+            if (this.lastReturned == null)
+            {
+                throw new IllegalStateException();
+            }
+            if (OrderStatisticTree.this.modCount != this.expectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            T key = this.lastReturned.key;
+            OrderStatisticTree.this.remove(key);
+            this.seek(key, false);
+            this.lastReturned = null;
+            this.expectedModCount = OrderStatisticTree.this.modCount;
+        }
+    }
+}
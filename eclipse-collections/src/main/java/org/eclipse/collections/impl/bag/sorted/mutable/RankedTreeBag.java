@@ -0,0 +1,646 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.bag.sorted.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.bag.sorted.MutableSortedBag;
+import org.eclipse.collections.api.bag.sorted.SortedBag;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.predicate.primitive.IntPredicate;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.ordered.OrderedIterable;
+import org.eclipse.collections.api.set.sorted.MutableSortedSet;
+import org.eclipse.collections.api.stack.MutableStack;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.Counter;
+import org.eclipse.collections.impl.block.factory.Comparators;
+import org.eclipse.collections.impl.multimap.bag.sorted.mutable.TreeBagMultimap;
+import org.eclipse.collections.impl.set.sorted.mutable.RankedTreeSortedSet;
+import org.eclipse.collections.impl.set.sorted.mutable.TreeSortedSet;
+import org.eclipse.collections.impl.stack.mutable.ArrayStack;
+import org.eclipse.collections.impl.utility.Iterate;
+import org.eclipse.collections.impl.utility.LazyIterate;
+import org.eclipse.collections.impl.utility.ListIterate;
+import org.eclipse.collections.impl.utility.OrderedIterate;
+import org.eclipse.collections.impl.utility.internal.IterableIterate;
+import org.eclipse.collections.impl.utility.internal.SortedBagIterables;
+
+/**
+ * A RankedTreeBag is a MutableSortedBag which uses an {@link OrderStatisticTree} as its underlying data store. Each
+ * node of the tree holds an item and its number of occurrences, and also the total number of occurrences in its
+ * subtree. This lets the bag answer order-statistic queries in logarithmic time rather than by iterating:
+ * {@link #indexOf(Object)} and {@link #rank(Object)}, {@link #get(int)}, {@link #countBetween(Object, Object)} and
+ * {@link #percentile(double)}, as well as ranged iteration with {@link #forEach(int, int, Procedure)}.
+ *
+ * @since 10.3
+ */
+public class RankedTreeBag<T>
+        extends AbstractMutableSortedBag<T>
+        implements Externalizable
+{
+    private static final long serialVersionUID = 1L;
+    private OrderStatisticTree<T> items;
+
+    public RankedTreeBag()
+    {
+        this.items = new OrderStatisticTree<>();
+    }
+
+    private RankedTreeBag(OrderStatisticTree<T> tree)
+    {
+        this.items = tree;
+    }
+
+    public RankedTreeBag(Comparator<? super T> comparator)
+    {
+        this.items = new OrderStatisticTree<>(comparator);
+    }
+
+    public RankedTreeBag(SortedBag<T> sortedBag)
+    {
+        this(sortedBag.comparator(), sortedBag);
+    }
+
+    public RankedTreeBag(Comparator<? super T> comparator, Iterable<? extends T> iterable)
+    {
+        this(comparator);
+        this.addAllIterable(iterable);
+    }
+
+    public static <E> RankedTreeBag<E> newBag()
+    {
+        return new RankedTreeBag<>();
+    }
+
+    public static <E> RankedTreeBag<E> newBag(Comparator<? super E> comparator)
+    {
+        return new RankedTreeBag<>(comparator);
+    }
+
+    public static <E> RankedTreeBag<E> newBag(Iterable<? extends E> source)
+    {
+        if (source instanceof SortedBag<?>)
+        {
+            return new RankedTreeBag<>((SortedBag<E>) source);
+        }
+        return Iterate.addAllTo(source, RankedTreeBag.newBag());
+    }
+
+    public static <E> RankedTreeBag<E> newBag(Comparator<? super E> comparator, Iterable<? extends E> iterable)
+    {
+        return new RankedTreeBag<>(comparator, iterable);
+    }
+
+    public static <E> RankedTreeBag<E> newBagWith(E... elements)
+    {
+        //noinspection SSBasedInspection
+        return RankedTreeBag.newBag(Arrays.asList(elements));
+    }
+
+    public static <E> RankedTreeBag<E> newBagWith(Comparator<? super E> comparator, E... elements)
+    {
+        //noinspection SSBasedInspection
+        return RankedTreeBag.newBag(comparator, Arrays.asList(elements));
+    }
+
+    @Override
+    public RankedTreeBag<T> clone()
+    {
+        return new RankedTreeBag<>(new OrderStatisticTree<>(this.items));
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+        if (!(other instanceof Bag))
+        {
+            return false;
+        }
+        Bag<?> bag = (Bag<?>) other;
+        if (this.sizeDistinct() != bag.sizeDistinct())
+        {
+            return false;
+        }
+
+        return Iterate.allSatisfy(this.items.keySet(), each -> bag.occurrencesOf(each) == this.items.occurrencesOf(each));
+    }
+
+    @Override
+    public int hashCode()
+    {
+        Counter counter = new Counter();
+        this.forEachWithOccurrences((each, count) -> counter.add((each == null ? 0 : each.hashCode()) ^ count));
+        return counter.getCount();
+    }
+
+    @Override
+    protected RichIterable<T> getKeysView()
+    {
+        return LazyIterate.adapt(this.items.keySet());
+    }
+
+    @Override
+    public int sizeDistinct()
+    {
+        return this.items.sizeDistinct();
+    }
+
+    @Override
+    public void forEachWithOccurrences(ObjectIntProcedure<? super T> procedure)
+    {
+        this.items.forEachWithOccurrences(procedure);
+    }
+
+    @Override
+    public MutableSortedBag<T> selectByOccurrences(IntPredicate predicate)
+    {
+        OrderStatisticTree<T> tree = new OrderStatisticTree<>(this.comparator());
+        this.items.forEachWithOccurrences((each, occurrences) -> {
+            if (predicate.accept(occurrences))
+            {
+                tree.addOccurrences(each, occurrences);
+            }
+        });
+        return new RankedTreeBag<>(tree);
+    }
+
+    @Override
+    public int occurrencesOf(Object item)
+    {
+        return this.items.occurrencesOf(item);
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.items.isEmpty();
+    }
+
+    @Override
+    public boolean remove(Object item)
+    {
+        int occurrences = this.items.occurrencesOf(item);
+        if (occurrences > 0)
+        {
+            this.items.setOccurrences((T) item, occurrences - 1);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void clear()
+    {
+        this.items.clear();
+    }
+
+    @Override
+    public boolean contains(Object o)
+    {
+        return this.items.contains(o);
+    }
+
+    @Override
+    public int compareTo(SortedBag<T> otherBag)
+    {
+        return SortedBagIterables.compare(this, otherBag);
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeObject(this.comparator());
+        out.writeInt(this.items.sizeDistinct());
+        for (Iterator<T> iterator = this.items.keySet().iterator(); iterator.hasNext(); )
+        {
+            T each = iterator.next();
+            out.writeObject(each);
+            out.writeInt(this.items.occurrencesOf(each));
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        this.items = new OrderStatisticTree<>((Comparator<T>) in.readObject());
+        int size = in.readInt();
+        for (int i = 0; i < size; i++)
+        {
+            this.addOccurrences((T) in.readObject(), in.readInt());
+        }
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        this.items.forEachWithOccurrences((each, occurrences) -> {
+            for (int i = 0; i < occurrences; i++)
+            {
+                procedure.value(each);
+            }
+        });
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        Counter index = new Counter();
+        this.items.forEachWithOccurrences((each, occurrences) -> {
+            for (int i = 0; i < occurrences; i++)
+            {
+                objectIntProcedure.value(each, index.getCount());
+                index.increment();
+            }
+        });
+    }
+
+    @Override
+    public void forEach(int fromIndex, int toIndex, Procedure<? super T> procedure)
+    {
+        this.forEachWithIndex(fromIndex, toIndex, (each, index) -> procedure.value(each));
+    }
+
+    @Override
+    public void forEachWithIndex(int fromIndex, int toIndex, ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        ListIterate.rangeCheck(fromIndex, toIndex, this.size());
+        if (fromIndex > toIndex)
+        {
+            throw new IllegalArgumentException("fromIndex must not be greater than toIndex");
+        }
+
+        T first = this.items.get(fromIndex);
+        Iterator<T> iterator = this.items.keySet().tailSet(first).iterator();
+        T each = iterator.next();
+        int remaining = this.items.occurrencesOf(each) - (fromIndex - this.items.rank(each));
+        for (int i = fromIndex; i <= toIndex; i++)
+        {
+            if (remaining == 0)
+            {
+                each = iterator.next();
+                remaining = this.items.occurrencesOf(each);
+            }
+            objectIntProcedure.value(each, i);
+            remaining--;
+        }
+    }
+
+    @Override
+    public <P> void forEachWith(Procedure2<? super T, ? super P> procedure, P parameter)
+    {
+        this.items.forEachWithOccurrences((each, occurrences) -> {
+            for (int i = 0; i < occurrences; i++)
+            {
+                procedure.value(each, parameter);
+            }
+        });
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new InternalIterator();
+    }
+
+    @Override
+    public int addOccurrences(T item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot add a negative number of occurrences");
+        }
+        if (occurrences > 0)
+        {
+            return this.items.addOccurrences(item, occurrences) + occurrences;
+        }
+        return this.occurrencesOf(item);
+    }
+
+    @Override
+    public boolean removeOccurrences(Object item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot remove a negative number of occurrences");
+        }
+
+        if (occurrences == 0)
+        {
+            return false;
+        }
+
+        int startCount = this.items.occurrencesOf(item);
+        if (startCount == 0)
+        {
+            return false;
+        }
+
+        this.items.setOccurrences((T) item, Math.max(startCount - occurrences, 0));
+        return true;
+    }
+
+    @Override
+    public boolean setOccurrences(T item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot set a negative number of occurrences");
+        }
+
+        return this.items.setOccurrences(item, occurrences) != occurrences;
+    }
+
+    @Override
+    public RankedTreeBag<T> without(T element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    @Override
+    public RankedTreeBag<T> withAll(Iterable<? extends T> iterable)
+    {
+        this.addAllIterable(iterable);
+        return this;
+    }
+
+    @Override
+    public RankedTreeBag<T> withoutAll(Iterable<? extends T> iterable)
+    {
+        this.removeAllIterable(iterable);
+        return this;
+    }
+
+    @Override
+    public RankedTreeBag<T> with(T element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    @Override
+    public MutableSortedBag<T> newEmpty()
+    {
+        return RankedTreeBag.newBag(this.items.comparator());
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> predicate)
+    {
+        return this.items.keySet().removeIf(predicate);
+    }
+
+    @Override
+    public <P> boolean removeIfWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.items.keySet().removeIf(each -> predicate.accept(each, parameter));
+    }
+
+    @Override
+    public boolean removeAllIterable(Iterable<?> iterable)
+    {
+        boolean changed = false;
+        for (Object each : iterable)
+        {
+            if (this.items.remove(each) > 0)
+            {
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    @Override
+    public int size()
+    {
+        return this.items.size();
+    }
+
+    @Override
+    public int indexOf(Object object)
+    {
+        if (this.items.contains(object))
+        {
+            return this.items.rank(object);
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of occurrences of items strictly less than {@code item}, whether or not it is contained in
+     * this bag.
+     */
+    public int rank(T item)
+    {
+        return this.items.rank(item);
+    }
+
+    /**
+     * Returns the item at {@code index} in sorted order, where each item occupies as many consecutive indices as it has
+     * occurrences.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is negative or not less than {@link #size()}
+     */
+    public T get(int index)
+    {
+        return this.items.get(index);
+    }
+
+    /**
+     * Returns the number of occurrences of items in the range [{@code fromItem}, {@code toItem}).
+     */
+    public int countBetween(T fromItem, T toItem)
+    {
+        return this.items.countBetween(fromItem, toItem);
+    }
+
+    /**
+     * Returns the item at the given percentile, between 0 and 100, using the nearest-rank method.
+     *
+     * @throws java.util.NoSuchElementException if this bag is empty
+     */
+    public T percentile(double percentile)
+    {
+        return this.items.percentile(percentile);
+    }
+
+    @Override
+    public MutableSortedSet<Pair<T, Integer>> zipWithIndex()
+    {
+        Comparator<? super T> comparator = this.items.comparator();
+        return this.zipWithIndex(TreeSortedSet.newSet((o1, o2) ->
+        {
+            int compare = comparator == null
+                    ? Comparators.nullSafeCompare(o1, o2)
+                    : comparator.compare(o1.getOne(), o2.getOne());
+            if (compare != 0)
+            {
+                return compare;
+            }
+            return o1.getTwo().compareTo(o2.getTwo());
+        }));
+    }
+
+    @Override
+    public MutableSortedSet<T> distinct()
+    {
+        return RankedTreeSortedSet.newSet(this.comparator(), this.items.keySet());
+    }
+
+    @Override
+    public <V> TreeBagMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
+    {
+        return this.groupBy(function, TreeBagMultimap.newMultimap(this.comparator()));
+    }
+
+    @Override
+    public <V> TreeBagMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return this.groupByEach(function, TreeBagMultimap.newMultimap(this.comparator()));
+    }
+
+    @Override
+    public int detectIndex(Predicate<? super T> predicate)
+    {
+        return Iterate.detectIndex(this, predicate);
+    }
+
+    @Override
+    public <S> boolean corresponds(OrderedIterable<S> other, Predicate2<? super T, ? super S> predicate)
+    {
+        return OrderedIterate.corresponds(this, other, predicate);
+    }
+
+    @Override
+    public MutableStack<T> toStack()
+    {
+        return ArrayStack.newStack(this);
+    }
+
+    @Override
+    public MutableSortedBag<T> take(int count)
+    {
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Count must be greater than zero, but was: " + count);
+        }
+
+        return IterableIterate.take(this, Math.min(this.size(), count), this.newEmpty());
+    }
+
+    @Override
+    public MutableSortedBag<T> drop(int count)
+    {
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Count must be greater than zero, but was: " + count);
+        }
+
+        return IterableIterate.drop(this, count, this.newEmpty());
+    }
+
+    @Override
+    public Comparator<? super T> comparator()
+    {
+        return this.items.comparator();
+    }
+
+    public RankedTreeBag<T> with(T... elements)
+    {
+        this.addAll(Arrays.asList(elements));
+        return this;
+    }
+
+    public RankedTreeBag<T> with(T element1, T element2)
+    {
+        this.add(element1);
+        this.add(element2);
+        return this;
+    }
+
+    @Override
+    public boolean add(T item)
+    {
+        this.items.addOccurrences(item, 1);
+        return true;
+    }
+
+    public RankedTreeBag<T> with(T element1, T element2, T element3)
+    {
+        this.add(element1);
+        this.add(element2);
+        this.add(element3);
+        return this;
+    }
+
+    private class InternalIterator implements Iterator<T>
+    {
+        private final Iterator<T> iterator = RankedTreeBag.this.items.keySet().iterator();
+
+        private T currentItem;
+        private int occurrences;
+        private boolean canRemove;
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.occurrences > 0 || this.iterator.hasNext();
+        }
+
+        @Override
+        public T next()
+        {
+            if (this.occurrences == 0)
+            {
+                this.currentItem = this.iterator.next();
+                this.occurrences = RankedTreeBag.this.occurrencesOf(this.currentItem);
+            }
+            this.occurrences--;
+            this.canRemove = true;
+            return this.currentItem;
+        }
+
+        @Override
+        public void remove()
+        {
+            if (!this.canRemove)
+            {
+                throw new IllegalStateException();
+            }
+            if (this.occurrences == 0 && RankedTreeBag.this.occurrencesOf(this.currentItem) == 1)
+            {
+                this.iterator.remove();
+            }
+            else
+            {
+                RankedTreeBag.this.remove(this.currentItem);
+            }
+            this.canRemove = false;
+        }
+    }
+}
@@ -11,9 +11,12 @@
 /**
  * This package contains implementations of {@link org.eclipse.collections.api.bag.sorted.MutableSortedBag}.
  * <p>
- *     This package contains 2 sorted mutable bag implementation:
+ *     This package contains 3 sorted mutable bag implementation:
  * <ul>
  *     <li>
+ *          {@link org.eclipse.collections.impl.bag.sorted.mutable.RankedTreeBag} - a sorted bag backed by an {@link org.eclipse.collections.impl.bag.sorted.mutable.OrderStatisticTree}, with rank and index queries in logarithmic time.
+ *     </li>
+ *     <li>
  *          {@link org.eclipse.collections.impl.bag.sorted.mutable.TreeBag} - a sorted bag backed by Tree data structure..
  *     </li>
  *     <li>
@@ -14,9 +14,12 @@ import java.util.Collection;
 import java.util.Comparator;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 
 import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.ParallelIterable;
 import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.annotation.Beta;
 import org.eclipse.collections.api.bag.MutableBag;
 import org.eclipse.collections.api.bag.sorted.MutableSortedBag;
 import org.eclipse.collections.api.bimap.BiMap;
@@ -208,6 +211,27 @@ public abstract class AbstractBiMap<K, V> implements BiMap<K, V>
         return this.getDelegate().keyValuesView();
     }
 
+    @Beta
+    @Override
+    public ParallelIterable<V> asParallel(ExecutorService executorService, int batchSize)
+    {
+        return this.getDelegate().asParallel(executorService, batchSize);
+    }
+
+    @Beta
+    @Override
+    public ParallelIterable<K> keysViewAsParallel(ExecutorService executorService, int batchSize)
+    {
+        return this.getDelegate().keysViewAsParallel(executorService, batchSize);
+    }
+
+    @Beta
+    @Override
+    public ParallelIterable<Pair<K, V>> keyValuesViewAsParallel(ExecutorService executorService, int batchSize)
+    {
+        return this.getDelegate().keyValuesViewAsParallel(executorService, batchSize);
+    }
+
     @Override
     public <R extends Collection<V>> R into(R target)
     {
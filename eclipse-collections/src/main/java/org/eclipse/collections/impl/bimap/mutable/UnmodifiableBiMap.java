@@ -18,6 +18,7 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
 import org.eclipse.collections.api.BooleanIterable;
 import org.eclipse.collections.api.ByteIterable;
@@ -27,8 +28,10 @@ import org.eclipse.collections.api.FloatIterable;
 import org.eclipse.collections.api.IntIterable;
 import org.eclipse.collections.api.LazyIterable;
 import org.eclipse.collections.api.LongIterable;
+import org.eclipse.collections.api.ParallelIterable;
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.ShortIterable;
+import org.eclipse.collections.api.annotation.Beta;
 import org.eclipse.collections.api.bag.MutableBag;
 import org.eclipse.collections.api.bag.sorted.MutableSortedBag;
 import org.eclipse.collections.api.bimap.ImmutableBiMap;
@@ -200,6 +203,27 @@ public class UnmodifiableBiMap<K, V> implements MutableBiMap<K, V>, Serializable
         return this.delegate.keyValuesView();
     }
 
+    @Beta
+    @Override
+    public ParallelIterable<V> asParallel(ExecutorService executorService, int batchSize)
+    {
+        return this.delegate.asParallel(executorService, batchSize);
+    }
+
+    @Beta
+    @Override
+    public ParallelIterable<K> keysViewAsParallel(ExecutorService executorService, int batchSize)
+    {
+        return this.delegate.keysViewAsParallel(executorService, batchSize);
+    }
+
+    @Beta
+    @Override
+    public ParallelIterable<Pair<K, V>> keyValuesViewAsParallel(ExecutorService executorService, int batchSize)
+    {
+        return this.delegate.keyValuesViewAsParallel(executorService, batchSize);
+    }
+
     @Override
     public Iterator<V> iterator()
     {
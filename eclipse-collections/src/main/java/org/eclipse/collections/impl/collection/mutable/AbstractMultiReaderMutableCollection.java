@@ -18,6 +18,7 @@ import java.util.Optional;
 import java.util.Spliterator;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
 import java.util.stream.Stream;
 
 import org.eclipse.collections.api.LazyIterable;
@@ -76,9 +77,19 @@ import org.eclipse.collections.impl.map.mutable.UnifiedMap;
 /**
  * AbstractMultiReaderMutableCollection is a common abstraction that provides thread-safe collection behaviors.
  * Subclasses of this class must provide implementations of getDelegate() and getLock().
+ * <p>
+ * If the lock wrapper is created with optimistic reads enabled, short read operations such as size, isEmpty, contains
+ * and getFirst first read the delegate without locking and validate a {@link StampedLock} stamp afterwards, falling
+ * back to the read lock only if a write happened in between. This avoids the shared read-lock counter on read-heavy
+ * workloads. All other operations, and all writes, use the read-write lock as before.
  */
 public abstract class AbstractMultiReaderMutableCollection<T> implements MutableCollection<T>
 {
+    /**
+     * The largest collection which {@link #detect(Predicate)} searches with an optimistic read.
+     */
+    protected static final int OPTIMISTIC_DETECT_MAXIMUM_SIZE = 32;
+
     protected transient ReadWriteLock lock;
     protected transient ReadWriteLockWrapper lockWrapper;
 
@@ -87,6 +98,22 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
     @Override
     public boolean contains(Object item)
     {
+        long stamp = this.lockWrapper.tryOptimisticRead();
+        if (stamp != 0L)
+        {
+            try
+            {
+                boolean result = this.getDelegate().contains(item);
+                if (this.lockWrapper.validate(stamp))
+                {
+                    return result;
+                }
+            }
+            catch (RuntimeException ignored)
+            {
+                // A concurrent write left the delegate inconsistent, so retry under the read lock
+            }
+        }
         try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
         {
             return this.getDelegate().contains(item);
@@ -398,9 +425,33 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
         }
     }
 
+    /**
+     * With optimistic reads, collections of up to {@value #OPTIMISTIC_DETECT_MAXIMUM_SIZE} elements are searched without
+     * the read lock, so the predicate may be evaluated again under the read lock if a write happens concurrently.
+     */
     @Override
     public T detect(Predicate<? super T> predicate)
     {
+        long stamp = this.lockWrapper.tryOptimisticRead();
+        if (stamp != 0L)
+        {
+            try
+            {
+                MutableCollection<T> delegate = this.getDelegate();
+                if (delegate.size() <= OPTIMISTIC_DETECT_MAXIMUM_SIZE)
+                {
+                    T result = delegate.detect(predicate);
+                    if (this.lockWrapper.validate(stamp))
+                    {
+                        return result;
+                    }
+                }
+            }
+            catch (RuntimeException ignored)
+            {
+                // A concurrent write left the delegate inconsistent, so retry under the read lock
+            }
+        }
         try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
         {
             return this.getDelegate().detect(predicate);
@@ -572,6 +623,22 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
     @Override
     public T getFirst()
     {
+        long stamp = this.lockWrapper.tryOptimisticRead();
+        if (stamp != 0L)
+        {
+            try
+            {
+                T result = this.getDelegate().getFirst();
+                if (this.lockWrapper.validate(stamp))
+                {
+                    return result;
+                }
+            }
+            catch (RuntimeException ignored)
+            {
+                // A concurrent write left the delegate inconsistent, so retry under the read lock
+            }
+        }
         try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
         {
             return this.getDelegate().getFirst();
@@ -581,6 +648,22 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
     @Override
     public T getLast()
     {
+        long stamp = this.lockWrapper.tryOptimisticRead();
+        if (stamp != 0L)
+        {
+            try
+            {
+                T result = this.getDelegate().getLast();
+                if (this.lockWrapper.validate(stamp))
+                {
+                    return result;
+                }
+            }
+            catch (RuntimeException ignored)
+            {
+                // A concurrent write left the delegate inconsistent, so retry under the read lock
+            }
+        }
         try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
         {
             return this.getDelegate().getLast();
@@ -599,6 +682,15 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
     @Override
     public boolean notEmpty()
     {
+        long stamp = this.lockWrapper.tryOptimisticRead();
+        if (stamp != 0L)
+        {
+            boolean result = this.getDelegate().notEmpty();
+            if (this.lockWrapper.validate(stamp))
+            {
+                return result;
+            }
+        }
         try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
         {
             return this.getDelegate().notEmpty();
@@ -960,6 +1052,15 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
     @Override
     public boolean isEmpty()
     {
+        long stamp = this.lockWrapper.tryOptimisticRead();
+        if (stamp != 0L)
+        {
+            boolean result = this.getDelegate().isEmpty();
+            if (this.lockWrapper.validate(stamp))
+            {
+                return result;
+            }
+        }
         try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
         {
             return this.getDelegate().isEmpty();
@@ -1083,6 +1184,15 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
     @Override
     public int size()
     {
+        long stamp = this.lockWrapper.tryOptimisticRead();
+        if (stamp != 0L)
+        {
+            int result = this.getDelegate().size();
+            if (this.lockWrapper.validate(stamp))
+            {
+                return result;
+            }
+        }
         try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
         {
             return this.getDelegate().size();
@@ -1984,12 +2094,62 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
         private final ReadWriteLock readWriteLock;
         private final LockWrapper readLock;
         private final LockWrapper writeLock;
+        private final OptimisticWriteLockWrapper optimisticWriteLock;
 
         public ReadWriteLockWrapper(ReadWriteLock readWriteLock)
+        {
+            this(readWriteLock, false);
+        }
+
+        /**
+         * If optimistic reads are enabled, every write lock also holds the write lock of a {@link StampedLock}, so
+         * {@link #tryOptimisticRead()} and {@link #validate(long)} can detect writes without taking the read lock.
+         *
+         * @since 10.3
+         */
+        public ReadWriteLockWrapper(ReadWriteLock readWriteLock, boolean optimisticReads)
         {
             this.readWriteLock = readWriteLock;
             this.readLock = new LockWrapper(readWriteLock.readLock());
-            this.writeLock = new LockWrapper(readWriteLock.writeLock());
+            if (optimisticReads)
+            {
+                this.optimisticWriteLock = new OptimisticWriteLockWrapper(readWriteLock.writeLock());
+                this.writeLock = this.optimisticWriteLock;
+            }
+            else
+            {
+                this.optimisticWriteLock = null;
+                this.writeLock = new LockWrapper(readWriteLock.writeLock());
+            }
+        }
+
+        /**
+         * @since 10.3
+         */
+        public boolean isOptimisticReads()
+        {
+            return this.optimisticWriteLock != null;
+        }
+
+        /**
+         * Returns a stamp to pass to {@link #validate(long)} after reading without a lock, or zero if optimistic reads
+         * are disabled or a write is in progress.
+         *
+         * @since 10.3
+         */
+        public long tryOptimisticRead()
+        {
+            return this.optimisticWriteLock == null ? 0L : this.optimisticWriteLock.stampedLock.tryOptimisticRead();
+        }
+
+        /**
+         * Returns true if no write lock has been acquired since the stamp was returned by {@link #tryOptimisticRead()}.
+         *
+         * @since 10.3
+         */
+        public boolean validate(long stamp)
+        {
+            return this.optimisticWriteLock.stampedLock.validate(stamp);
         }
 
         /**
@@ -2007,10 +2167,49 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
         public LockWrapper acquireWriteLock()
         {
             this.writeLock.lock.lock();
+            if (this.optimisticWriteLock != null)
+            {
+                this.optimisticWriteLock.enter();
+            }
             return this.writeLock;
         }
     }
 
+    /**
+     * Holds the write lock of a StampedLock while the write lock is held, so that optimistic readers can validate
+     * their reads. The hold count and stamp are only accessed by the thread holding the write lock, which may
+     * acquire it reentrantly.
+     */
+    private static final class OptimisticWriteLockWrapper extends LockWrapper
+    {
+        private final StampedLock stampedLock = new StampedLock();
+        private int holdCount;
+        private long stamp;
+
+        private OptimisticWriteLockWrapper(Lock lock)
+        {
+            super(lock);
+        }
+
+        private void enter()
+        {
+            if (this.holdCount++ == 0)
+            {
+                this.stamp = this.stampedLock.writeLock();
+            }
+        }
+
+        @Override
+        public void close()
+        {
+            if (--this.holdCount == 0)
+            {
+                this.stampedLock.unlockWrite(this.stamp);
+            }
+            super.close();
+        }
+    }
+
     public static class LockWrapper implements AutoCloseable
     {
         private final Lock lock;
@@ -20,6 +20,7 @@ import org.eclipse.collections.impl.map.fixed.FixedSizeMapFactoryImpl;
 import org.eclipse.collections.impl.map.immutable.ImmutableMapFactoryImpl;
 import org.eclipse.collections.impl.map.mutable.MapAdapter;
 import org.eclipse.collections.impl.map.mutable.MutableMapFactoryImpl;
+import org.eclipse.collections.impl.map.mutable.OpenHashMap;
 
 /**
  * This class should be used to create instances of MutableMap, ImmutableMap and FixedSizeMap
@@ -67,4 +68,25 @@ public final class Maps
     {
         return MapAdapter.adapt(map);
     }
+
+    /**
+     * Returns a new empty {@link OpenHashMap}, which uses open addressing rather than the chained buckets of the maps
+     * returned by {@link #mutable}.
+     *
+     * @since 10.3
+     */
+    public static <K, V> MutableMap<K, V> newOpenHashMap()
+    {
+        return OpenHashMap.newMap();
+    }
+
+    /**
+     * Returns a new empty {@link OpenHashMap} sized to hold {@code initialCapacity} entries without growing.
+     *
+     * @since 10.3
+     */
+    public static <K, V> MutableMap<K, V> newOpenHashMap(int initialCapacity)
+    {
+        return OpenHashMap.newMap(initialCapacity);
+    }
 }
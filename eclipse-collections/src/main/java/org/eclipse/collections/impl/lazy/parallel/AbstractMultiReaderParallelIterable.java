@@ -13,16 +13,27 @@ package org.eclipse.collections.impl.lazy.parallel;
 import java.util.Comparator;
 import java.util.concurrent.locks.ReadWriteLock;
 
+import org.eclipse.collections.api.ParallelByteIterable;
+import org.eclipse.collections.api.ParallelCharIterable;
+import org.eclipse.collections.api.ParallelDoubleIterable;
+import org.eclipse.collections.api.ParallelFloatIterable;
+import org.eclipse.collections.api.ParallelIntIterable;
 import org.eclipse.collections.api.ParallelIterable;
+import org.eclipse.collections.api.ParallelLongIterable;
+import org.eclipse.collections.api.ParallelShortIterable;
+import org.eclipse.collections.api.bag.Bag;
 import org.eclipse.collections.api.bag.MutableBag;
 import org.eclipse.collections.api.bag.sorted.MutableSortedBag;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function0;
 import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.function.primitive.ByteFunction;
+import org.eclipse.collections.api.block.function.primitive.CharFunction;
 import org.eclipse.collections.api.block.function.primitive.DoubleFunction;
 import org.eclipse.collections.api.block.function.primitive.FloatFunction;
 import org.eclipse.collections.api.block.function.primitive.IntFunction;
 import org.eclipse.collections.api.block.function.primitive.LongFunction;
+import org.eclipse.collections.api.block.function.primitive.ShortFunction;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.predicate.Predicate2;
 import org.eclipse.collections.api.block.procedure.Procedure;
@@ -31,11 +42,20 @@ import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.list.ParallelListIterable;
 import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.primitive.ObjectDoubleMap;
+import org.eclipse.collections.api.map.primitive.ObjectLongMap;
 import org.eclipse.collections.api.map.sorted.MutableSortedMap;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.api.set.ParallelUnsortedSetIterable;
 import org.eclipse.collections.api.set.sorted.MutableSortedSet;
 import org.eclipse.collections.impl.lazy.parallel.list.MultiReaderParallelListIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.MultiReaderParallelByteIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.MultiReaderParallelCharIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.MultiReaderParallelDoubleIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.MultiReaderParallelFloatIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.MultiReaderParallelIntIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.MultiReaderParallelLongIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.MultiReaderParallelShortIterable;
 import org.eclipse.collections.impl.lazy.parallel.set.MultiReaderParallelUnsortedSetIterable;
 
 public abstract class AbstractMultiReaderParallelIterable<T, PI extends ParallelIterable<T>> implements ParallelIterable<T>
@@ -64,6 +84,48 @@ public abstract class AbstractMultiReaderParallelIterable<T, PI extends Parallel
         return new MultiReaderParallelIterable<>(wrapped, this.lock);
     }
 
+    @Override
+    public ParallelByteIterable collectByte(ByteFunction<? super T> byteFunction)
+    {
+        return new MultiReaderParallelByteIterable(this.delegate.collectByte(byteFunction), this.lock);
+    }
+
+    @Override
+    public ParallelCharIterable collectChar(CharFunction<? super T> charFunction)
+    {
+        return new MultiReaderParallelCharIterable(this.delegate.collectChar(charFunction), this.lock);
+    }
+
+    @Override
+    public ParallelDoubleIterable collectDouble(DoubleFunction<? super T> doubleFunction)
+    {
+        return new MultiReaderParallelDoubleIterable(this.delegate.collectDouble(doubleFunction), this.lock);
+    }
+
+    @Override
+    public ParallelFloatIterable collectFloat(FloatFunction<? super T> floatFunction)
+    {
+        return new MultiReaderParallelFloatIterable(this.delegate.collectFloat(floatFunction), this.lock);
+    }
+
+    @Override
+    public ParallelIntIterable collectInt(IntFunction<? super T> intFunction)
+    {
+        return new MultiReaderParallelIntIterable(this.delegate.collectInt(intFunction), this.lock);
+    }
+
+    @Override
+    public ParallelLongIterable collectLong(LongFunction<? super T> longFunction)
+    {
+        return new MultiReaderParallelLongIterable(this.delegate.collectLong(longFunction), this.lock);
+    }
+
+    @Override
+    public ParallelShortIterable collectShort(ShortFunction<? super T> shortFunction)
+    {
+        return new MultiReaderParallelShortIterable(this.delegate.collectShort(shortFunction), this.lock);
+    }
+
     @Override
     public void forEach(Procedure<? super T> procedure)
     {
@@ -764,6 +826,62 @@ public abstract class AbstractMultiReaderParallelIterable<T, PI extends Parallel
         }
     }
 
+    @Override
+    public <V> ObjectLongMap<V> sumByInt(Function<? super T, ? extends V> groupBy, IntFunction<? super T> function)
+    {
+        this.lock.readLock().lock();
+        try
+        {
+            return this.delegate.sumByInt(groupBy, function);
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public <V> ObjectLongMap<V> sumByLong(Function<? super T, ? extends V> groupBy, LongFunction<? super T> function)
+    {
+        this.lock.readLock().lock();
+        try
+        {
+            return this.delegate.sumByLong(groupBy, function);
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public <V> ObjectDoubleMap<V> sumByDouble(Function<? super T, ? extends V> groupBy, DoubleFunction<? super T> function)
+    {
+        this.lock.readLock().lock();
+        try
+        {
+            return this.delegate.sumByDouble(groupBy, function);
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public <V> Bag<V> countBy(Function<? super T, ? extends V> function)
+    {
+        this.lock.readLock().lock();
+        try
+        {
+            return this.delegate.countBy(function);
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+    }
+
     @Override
     public String toString()
     {
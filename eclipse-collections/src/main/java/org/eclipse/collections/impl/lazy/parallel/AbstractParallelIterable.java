@@ -23,17 +23,28 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 
 import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.ParallelByteIterable;
+import org.eclipse.collections.api.ParallelCharIterable;
+import org.eclipse.collections.api.ParallelDoubleIterable;
+import org.eclipse.collections.api.ParallelFloatIterable;
+import org.eclipse.collections.api.ParallelIntIterable;
 import org.eclipse.collections.api.ParallelIterable;
+import org.eclipse.collections.api.ParallelLongIterable;
+import org.eclipse.collections.api.ParallelShortIterable;
 import org.eclipse.collections.api.annotation.Beta;
+import org.eclipse.collections.api.bag.Bag;
 import org.eclipse.collections.api.bag.MutableBag;
 import org.eclipse.collections.api.bag.sorted.MutableSortedBag;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function0;
 import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.function.primitive.ByteFunction;
+import org.eclipse.collections.api.block.function.primitive.CharFunction;
 import org.eclipse.collections.api.block.function.primitive.DoubleFunction;
 import org.eclipse.collections.api.block.function.primitive.FloatFunction;
 import org.eclipse.collections.api.block.function.primitive.IntFunction;
 import org.eclipse.collections.api.block.function.primitive.LongFunction;
+import org.eclipse.collections.api.block.function.primitive.ShortFunction;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.predicate.Predicate2;
 import org.eclipse.collections.api.block.procedure.Procedure;
@@ -41,6 +52,8 @@ import org.eclipse.collections.api.block.procedure.Procedure2;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.primitive.ObjectDoubleMap;
+import org.eclipse.collections.api.map.primitive.ObjectLongMap;
 import org.eclipse.collections.api.map.sorted.MutableSortedMap;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.api.set.sorted.MutableSortedSet;
@@ -57,11 +70,20 @@ import org.eclipse.collections.impl.block.procedure.MapCollectProcedure;
 import org.eclipse.collections.impl.block.procedure.MutatingAggregationProcedure;
 import org.eclipse.collections.impl.block.procedure.NonMutatingAggregationProcedure;
 import org.eclipse.collections.impl.block.procedure.checked.CheckedProcedure2;
+import org.eclipse.collections.impl.lazy.parallel.primitive.ParallelCollectByteIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.ParallelCollectCharIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.ParallelCollectDoubleIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.ParallelCollectFloatIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.ParallelCollectIntIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.ParallelCollectLongIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.ParallelCollectShortIterable;
 import org.eclipse.collections.impl.list.mutable.CompositeFastList;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
 import org.eclipse.collections.impl.map.mutable.ConcurrentHashMapUnsafe;
 import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.map.mutable.primitive.ObjectDoubleHashMap;
+import org.eclipse.collections.impl.map.mutable.primitive.ObjectLongHashMap;
 import org.eclipse.collections.impl.map.sorted.mutable.TreeSortedMap;
 import org.eclipse.collections.impl.set.mutable.SetAdapter;
 import org.eclipse.collections.impl.set.mutable.UnifiedSet;
@@ -416,6 +438,48 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
         }
     }
 
+    @Override
+    public ParallelByteIterable collectByte(ByteFunction<? super T> byteFunction)
+    {
+        return new ParallelCollectByteIterable<>(this, byteFunction);
+    }
+
+    @Override
+    public ParallelCharIterable collectChar(CharFunction<? super T> charFunction)
+    {
+        return new ParallelCollectCharIterable<>(this, charFunction);
+    }
+
+    @Override
+    public ParallelDoubleIterable collectDouble(DoubleFunction<? super T> doubleFunction)
+    {
+        return new ParallelCollectDoubleIterable<>(this, doubleFunction);
+    }
+
+    @Override
+    public ParallelFloatIterable collectFloat(FloatFunction<? super T> floatFunction)
+    {
+        return new ParallelCollectFloatIterable<>(this, floatFunction);
+    }
+
+    @Override
+    public ParallelIntIterable collectInt(IntFunction<? super T> intFunction)
+    {
+        return new ParallelCollectIntIterable<>(this, intFunction);
+    }
+
+    @Override
+    public ParallelLongIterable collectLong(LongFunction<? super T> longFunction)
+    {
+        return new ParallelCollectLongIterable<>(this, longFunction);
+    }
+
+    @Override
+    public ParallelShortIterable collectShort(ShortFunction<? super T> shortFunction)
+    {
+        return new ParallelCollectShortIterable<>(this, shortFunction);
+    }
+
     @Override
     public <P> void forEachWith(Procedure2<? super T, ? super P> procedure, P parameter)
     {
@@ -751,6 +815,106 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
         }
     }
 
+    @Override
+    public <V> ObjectLongMap<V> sumByInt(Function<? super T, ? extends V> groupBy, IntFunction<? super T> function)
+    {
+        Function<Batch<T>, ObjectLongHashMap<V>> map = batch -> {
+            ObjectLongHashMap<V> partial = ObjectLongHashMap.newMap();
+            batch.forEach(each -> partial.addToValue(groupBy.valueOf(each), (long) function.intValueOf(each)));
+            return partial;
+        };
+        return this.collectMerge(map, AbstractParallelIterable::mergeSums, ObjectLongHashMap::newMap);
+    }
+
+    @Override
+    public <V> ObjectLongMap<V> sumByLong(Function<? super T, ? extends V> groupBy, LongFunction<? super T> function)
+    {
+        Function<Batch<T>, ObjectLongHashMap<V>> map = batch -> {
+            ObjectLongHashMap<V> partial = ObjectLongHashMap.newMap();
+            batch.forEach(each -> partial.addToValue(groupBy.valueOf(each), function.longValueOf(each)));
+            return partial;
+        };
+        return this.collectMerge(map, AbstractParallelIterable::mergeSums, ObjectLongHashMap::newMap);
+    }
+
+    @Override
+    public <V> ObjectDoubleMap<V> sumByDouble(Function<? super T, ? extends V> groupBy, DoubleFunction<? super T> function)
+    {
+        Function<Batch<T>, SumByDoubleResultHolder<V>> map = batch -> {
+            SumByDoubleResultHolder<V> partial = new SumByDoubleResultHolder<>();
+            batch.forEach(each -> partial.add(groupBy.valueOf(each), function.doubleValueOf(each), 0.0d));
+            return partial;
+        };
+        return this.collectMerge(map, SumByDoubleResultHolder::merge, SumByDoubleResultHolder::new).getSums();
+    }
+
+    @Override
+    public <V> Bag<V> countBy(Function<? super T, ? extends V> function)
+    {
+        Function<Batch<T>, HashBag<V>> map = batch -> {
+            HashBag<V> partial = HashBag.newBag();
+            batch.forEach(each -> partial.add(function.valueOf(each)));
+            return partial;
+        };
+        return this.collectMerge(map, AbstractParallelIterable::mergeCounts, HashBag::newBag);
+    }
+
+    private static <V> ObjectLongHashMap<V> mergeSums(ObjectLongHashMap<V> left, ObjectLongHashMap<V> right)
+    {
+        if (left.size() < right.size())
+        {
+            return AbstractParallelIterable.mergeSums(right, left);
+        }
+        right.forEachKeyValue(left::addToValue);
+        return left;
+    }
+
+    private static <V> HashBag<V> mergeCounts(HashBag<V> left, HashBag<V> right)
+    {
+        if (left.sizeDistinct() < right.sizeDistinct())
+        {
+            return AbstractParallelIterable.mergeCounts(right, left);
+        }
+        right.forEachWithOccurrences(left::addOccurrences);
+        return left;
+    }
+
+    /**
+     * Computes one partial result per batch and merges the partial results pairwise as they complete. Every merge is
+     * submitted back to the executor, so the partials are combined as a tree rather than funnelled through a single
+     * shared result. The merger may mutate and return either of its arguments.
+     */
+    protected <R> R collectMerge(Function<Batch<T>, R> function, Function2<R, R, R> merger, Function0<R> emptyResult)
+    {
+        ExecutorCompletionService<R> completionService = new ExecutorCompletionService<>(this.getExecutorService());
+        // The call to toList() is important to stop the lazy evaluation and force all the Runnables to start executing.
+        int numTasks = this.split().collect(chunk -> completionService.submit(() -> function.valueOf(chunk))).toList().size();
+        if (numTasks == 0)
+        {
+            return emptyResult.value();
+        }
+        try
+        {
+            while (numTasks > 1)
+            {
+                R left = completionService.take().get();
+                R right = completionService.take().get();
+                completionService.submit(() -> merger.value(left, right));
+                numTasks--;
+            }
+            return completionService.take().get();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        catch (ExecutionException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
     @Override
     public <V> MapIterable<V, T> groupByUniqueKey(Function<? super T, ? extends V> function)
     {
@@ -764,4 +928,31 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
         });
         return result;
     }
+
+    private static final class SumByDoubleResultHolder<V>
+    {
+        private final ObjectDoubleHashMap<V> sums = ObjectDoubleHashMap.newMap();
+        private final ObjectDoubleHashMap<V> compensations = ObjectDoubleHashMap.newMap();
+
+        private void add(V key, double value, double valueCompensation)
+        {
+            double sum = this.sums.get(key);
+            double compensation = this.compensations.get(key) + valueCompensation;
+            double adjustedValue = value - compensation;
+            double nextSum = sum + adjustedValue;
+            this.compensations.put(key, nextSum - sum - adjustedValue);
+            this.sums.put(key, nextSum);
+        }
+
+        private SumByDoubleResultHolder<V> merge(SumByDoubleResultHolder<V> other)
+        {
+            other.sums.forEachKeyValue((key, value) -> this.add(key, value, other.compensations.get(key)));
+            return this;
+        }
+
+        private ObjectDoubleHashMap<V> getSums()
+        {
+            return this.sums;
+        }
+    }
 }
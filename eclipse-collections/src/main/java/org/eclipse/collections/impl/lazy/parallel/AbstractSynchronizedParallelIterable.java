@@ -12,16 +12,27 @@ package org.eclipse.collections.impl.lazy.parallel;
 
 import java.util.Comparator;
 
+import org.eclipse.collections.api.ParallelByteIterable;
+import org.eclipse.collections.api.ParallelCharIterable;
+import org.eclipse.collections.api.ParallelDoubleIterable;
+import org.eclipse.collections.api.ParallelFloatIterable;
+import org.eclipse.collections.api.ParallelIntIterable;
 import org.eclipse.collections.api.ParallelIterable;
+import org.eclipse.collections.api.ParallelLongIterable;
+import org.eclipse.collections.api.ParallelShortIterable;
+import org.eclipse.collections.api.bag.Bag;
 import org.eclipse.collections.api.bag.MutableBag;
 import org.eclipse.collections.api.bag.sorted.MutableSortedBag;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function0;
 import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.function.primitive.ByteFunction;
+import org.eclipse.collections.api.block.function.primitive.CharFunction;
 import org.eclipse.collections.api.block.function.primitive.DoubleFunction;
 import org.eclipse.collections.api.block.function.primitive.FloatFunction;
 import org.eclipse.collections.api.block.function.primitive.IntFunction;
 import org.eclipse.collections.api.block.function.primitive.LongFunction;
+import org.eclipse.collections.api.block.function.primitive.ShortFunction;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.predicate.Predicate2;
 import org.eclipse.collections.api.block.procedure.Procedure;
@@ -30,12 +41,21 @@ import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.list.ParallelListIterable;
 import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.primitive.ObjectDoubleMap;
+import org.eclipse.collections.api.map.primitive.ObjectLongMap;
 import org.eclipse.collections.api.map.sorted.MutableSortedMap;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.api.set.ParallelUnsortedSetIterable;
 import org.eclipse.collections.api.set.sorted.MutableSortedSet;
 import org.eclipse.collections.api.set.sorted.ParallelSortedSetIterable;
 import org.eclipse.collections.impl.lazy.parallel.list.SynchronizedParallelListIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.SynchronizedParallelByteIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.SynchronizedParallelCharIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.SynchronizedParallelDoubleIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.SynchronizedParallelFloatIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.SynchronizedParallelIntIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.SynchronizedParallelLongIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.SynchronizedParallelShortIterable;
 import org.eclipse.collections.impl.lazy.parallel.set.SynchronizedParallelUnsortedSetIterable;
 import org.eclipse.collections.impl.lazy.parallel.set.sorted.SynchronizedParallelSortedSetIterable;
 
@@ -70,6 +90,48 @@ public abstract class AbstractSynchronizedParallelIterable<T, PI extends Paralle
         return new SynchronizedParallelIterable<>(wrapped, this.lock);
     }
 
+    @Override
+    public ParallelByteIterable collectByte(ByteFunction<? super T> byteFunction)
+    {
+        return new SynchronizedParallelByteIterable(this.delegate.collectByte(byteFunction), this.lock);
+    }
+
+    @Override
+    public ParallelCharIterable collectChar(CharFunction<? super T> charFunction)
+    {
+        return new SynchronizedParallelCharIterable(this.delegate.collectChar(charFunction), this.lock);
+    }
+
+    @Override
+    public ParallelDoubleIterable collectDouble(DoubleFunction<? super T> doubleFunction)
+    {
+        return new SynchronizedParallelDoubleIterable(this.delegate.collectDouble(doubleFunction), this.lock);
+    }
+
+    @Override
+    public ParallelFloatIterable collectFloat(FloatFunction<? super T> floatFunction)
+    {
+        return new SynchronizedParallelFloatIterable(this.delegate.collectFloat(floatFunction), this.lock);
+    }
+
+    @Override
+    public ParallelIntIterable collectInt(IntFunction<? super T> intFunction)
+    {
+        return new SynchronizedParallelIntIterable(this.delegate.collectInt(intFunction), this.lock);
+    }
+
+    @Override
+    public ParallelLongIterable collectLong(LongFunction<? super T> longFunction)
+    {
+        return new SynchronizedParallelLongIterable(this.delegate.collectLong(longFunction), this.lock);
+    }
+
+    @Override
+    public ParallelShortIterable collectShort(ShortFunction<? super T> shortFunction)
+    {
+        return new SynchronizedParallelShortIterable(this.delegate.collectShort(shortFunction), this.lock);
+    }
+
     @Override
     public void forEach(Procedure<? super T> procedure)
     {
@@ -520,6 +582,42 @@ public abstract class AbstractSynchronizedParallelIterable<T, PI extends Paralle
         }
     }
 
+    @Override
+    public <V> ObjectLongMap<V> sumByInt(Function<? super T, ? extends V> groupBy, IntFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.sumByInt(groupBy, function);
+        }
+    }
+
+    @Override
+    public <V> ObjectLongMap<V> sumByLong(Function<? super T, ? extends V> groupBy, LongFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.sumByLong(groupBy, function);
+        }
+    }
+
+    @Override
+    public <V> ObjectDoubleMap<V> sumByDouble(Function<? super T, ? extends V> groupBy, DoubleFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.sumByDouble(groupBy, function);
+        }
+    }
+
+    @Override
+    public <V> Bag<V> countBy(Function<? super T, ? extends V> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.countBy(function);
+        }
+    }
+
     @Override
     public String toString()
     {
@@ -12,17 +12,28 @@ package org.eclipse.collections.impl.lazy.parallel;
 
 import java.util.Comparator;
 
+import org.eclipse.collections.api.ParallelByteIterable;
+import org.eclipse.collections.api.ParallelCharIterable;
+import org.eclipse.collections.api.ParallelDoubleIterable;
+import org.eclipse.collections.api.ParallelFloatIterable;
+import org.eclipse.collections.api.ParallelIntIterable;
 import org.eclipse.collections.api.ParallelIterable;
+import org.eclipse.collections.api.ParallelLongIterable;
+import org.eclipse.collections.api.ParallelShortIterable;
 import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.bag.Bag;
 import org.eclipse.collections.api.bag.MutableBag;
 import org.eclipse.collections.api.bag.sorted.MutableSortedBag;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function0;
 import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.function.primitive.ByteFunction;
+import org.eclipse.collections.api.block.function.primitive.CharFunction;
 import org.eclipse.collections.api.block.function.primitive.DoubleFunction;
 import org.eclipse.collections.api.block.function.primitive.FloatFunction;
 import org.eclipse.collections.api.block.function.primitive.IntFunction;
 import org.eclipse.collections.api.block.function.primitive.LongFunction;
+import org.eclipse.collections.api.block.function.primitive.ShortFunction;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.predicate.Predicate2;
 import org.eclipse.collections.api.block.procedure.Procedure;
@@ -30,9 +41,18 @@ import org.eclipse.collections.api.block.procedure.Procedure2;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.primitive.ObjectDoubleMap;
+import org.eclipse.collections.api.map.primitive.ObjectLongMap;
 import org.eclipse.collections.api.map.sorted.MutableSortedMap;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.api.set.sorted.MutableSortedSet;
+import org.eclipse.collections.impl.lazy.parallel.primitive.NonParallelByteIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.NonParallelCharIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.NonParallelDoubleIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.NonParallelFloatIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.NonParallelIntIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.NonParallelLongIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.NonParallelShortIterable;
 
 public abstract class NonParallelIterable<T, RI extends RichIterable<T>> implements ParallelIterable<T>
 {
@@ -43,6 +63,48 @@ public abstract class NonParallelIterable<T, RI extends RichIterable<T>> impleme
         this.delegate = delegate;
     }
 
+    @Override
+    public ParallelByteIterable collectByte(ByteFunction<? super T> byteFunction)
+    {
+        return new NonParallelByteIterable(this.delegate.asLazy().collectByte(byteFunction));
+    }
+
+    @Override
+    public ParallelCharIterable collectChar(CharFunction<? super T> charFunction)
+    {
+        return new NonParallelCharIterable(this.delegate.asLazy().collectChar(charFunction));
+    }
+
+    @Override
+    public ParallelDoubleIterable collectDouble(DoubleFunction<? super T> doubleFunction)
+    {
+        return new NonParallelDoubleIterable(this.delegate.asLazy().collectDouble(doubleFunction));
+    }
+
+    @Override
+    public ParallelFloatIterable collectFloat(FloatFunction<? super T> floatFunction)
+    {
+        return new NonParallelFloatIterable(this.delegate.asLazy().collectFloat(floatFunction));
+    }
+
+    @Override
+    public ParallelIntIterable collectInt(IntFunction<? super T> intFunction)
+    {
+        return new NonParallelIntIterable(this.delegate.asLazy().collectInt(intFunction));
+    }
+
+    @Override
+    public ParallelLongIterable collectLong(LongFunction<? super T> longFunction)
+    {
+        return new NonParallelLongIterable(this.delegate.asLazy().collectLong(longFunction));
+    }
+
+    @Override
+    public ParallelShortIterable collectShort(ShortFunction<? super T> shortFunction)
+    {
+        return new NonParallelShortIterable(this.delegate.asLazy().collectShort(shortFunction));
+    }
+
     @Override
     public void forEach(Procedure<? super T> procedure)
     {
@@ -348,4 +410,28 @@ public abstract class NonParallelIterable<T, RI extends RichIterable<T>> impleme
     {
         return this.delegate.aggregateBy(groupBy, zeroValueFactory, nonMutatingAggregator);
     }
+
+    @Override
+    public <V> ObjectLongMap<V> sumByInt(Function<? super T, ? extends V> groupBy, IntFunction<? super T> function)
+    {
+        return this.delegate.sumByInt(groupBy, function);
+    }
+
+    @Override
+    public <V> ObjectLongMap<V> sumByLong(Function<? super T, ? extends V> groupBy, LongFunction<? super T> function)
+    {
+        return this.delegate.sumByLong(groupBy, function);
+    }
+
+    @Override
+    public <V> ObjectDoubleMap<V> sumByDouble(Function<? super T, ? extends V> groupBy, DoubleFunction<? super T> function)
+    {
+        return this.delegate.sumByDouble(groupBy, function);
+    }
+
+    @Override
+    public <V> Bag<V> countBy(Function<? super T, ? extends V> function)
+    {
+        return this.delegate.countBy(function);
+    }
 }
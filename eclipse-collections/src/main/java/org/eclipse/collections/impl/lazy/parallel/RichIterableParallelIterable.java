@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.lazy.parallel;
+
+import java.util.concurrent.ExecutorService;
+
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.annotation.Beta;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.impl.lazy.parallel.list.ListIterableParallelIterable;
+import org.eclipse.collections.impl.lazy.parallel.list.RootListBatch;
+import org.eclipse.collections.impl.list.mutable.FastList;
+
+/**
+ * A ParallelIterable over any RichIterable. Each evaluation copies the elements of the delegate into a FastList and
+ * splits the list into batches by index range, so it suits iterables which cannot be split in place, such as tree,
+ * open-addressed or segmented maps and their views.
+ *
+ * @since 10.3
+ */
+@Beta
+public final class RichIterableParallelIterable<T> extends AbstractParallelIterableImpl<T, RootListBatch<T>>
+{
+    private final RichIterable<T> delegate;
+    private final ExecutorService executorService;
+    private final int batchSize;
+
+    public RichIterableParallelIterable(RichIterable<T> delegate, ExecutorService executorService, int batchSize)
+    {
+        if (executorService == null)
+        {
+            throw new NullPointerException();
+        }
+        if (batchSize < 1)
+        {
+            throw new IllegalArgumentException();
+        }
+        this.delegate = delegate;
+        this.executorService = executorService;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public ExecutorService getExecutorService()
+    {
+        return this.executorService;
+    }
+
+    @Override
+    public int getBatchSize()
+    {
+        return this.batchSize;
+    }
+
+    @Override
+    public LazyIterable<RootListBatch<T>> split()
+    {
+        FastList<T> snapshot = FastList.newList(this.delegate);
+        return new ListIterableParallelIterable<>(snapshot, this.executorService, this.batchSize).split();
+    }
+
+    @Override
+    public void forEach(Procedure<? super T> procedure)
+    {
+        AbstractParallelIterable.forEach(this, procedure);
+    }
+
+    @Override
+    public boolean anySatisfy(Predicate<? super T> predicate)
+    {
+        return AbstractParallelIterable.anySatisfy(this, predicate);
+    }
+
+    @Override
+    public boolean allSatisfy(Predicate<? super T> predicate)
+    {
+        return AbstractParallelIterable.allSatisfy(this, predicate);
+    }
+
+    @Override
+    public T detect(Predicate<? super T> predicate)
+    {
+        return AbstractParallelIterable.detect(this, predicate);
+    }
+
+    @Override
+    public Object[] toArray()
+    {
+        return this.delegate.toArray();
+    }
+}
@@ -685,7 +685,7 @@ abstract class AbstractImmutableList<T>
     }
 
     @Override
-    public ImmutableSubList<T> subList(int fromIndex, int toIndex)
+    public ImmutableList<T> subList(int fromIndex, int toIndex)
     {
         return new ImmutableSubList<>(this, fromIndex, toIndex);
     }
@@ -0,0 +1,777 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.list.immutable;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * ImmutableRrbTreeList is an ImmutableList stored as a relaxed radix balanced tree, as described by Bagwell and Rompf.
+ * Elements are kept in leaves of up to 32 elements, and each branch node holds up to 32 children together with the
+ * cumulative sizes of its children, so that the children of a node need not be full.
+ * <p>
+ * Versions of the list share every node that an operation does not change. {@link #newWith(Object)} and
+ * {@link #newWithFirst(Object)} copy one path from the root to a leaf, {@link #subList(int, int)} copies only the two
+ * paths at its boundaries, and {@link #newWithAll(Iterable)} with another ImmutableRrbTreeList joins the two trees in
+ * O(log n), redistributing only the nodes along the seam so that the tree stays shallow. {@link #get(int)} reads one
+ * node per level, and a list of a million elements is four levels deep.
+ *
+ * @since 10.3
+ */
+public final class ImmutableRrbTreeList<T>
+        extends AbstractImmutableList<T>
+        implements Serializable, RandomAccess
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final int BITS = 5;
+    private static final int BRANCHING = 1 << BITS;
+
+    /**
+     * The number of nodes a concatenation may leave on a level beyond the fewest that could hold their children. A
+     * little slack lets concatenation reuse most nodes unchanged while keeping the search for a child short.
+     */
+    private static final int EXTRA_NODES = 2;
+
+    private static final Object[] EMPTY_ARRAY = new Object[0];
+
+    private static final ImmutableRrbTreeList<?> EMPTY = new ImmutableRrbTreeList<>(EMPTY_ARRAY, 0, 0);
+
+    /**
+     * An {@code Object[]} of elements when {@link #height} is zero, otherwise a {@link Node}.
+     */
+    private final Object root;
+    private final int height;
+    private final int size;
+
+    private ImmutableRrbTreeList(Object root, int height, int size)
+    {
+        this.root = root;
+        this.height = height;
+        this.size = size;
+    }
+
+    public static <T> ImmutableRrbTreeList<T> empty()
+    {
+        return (ImmutableRrbTreeList<T>) EMPTY;
+    }
+
+    public static <T> ImmutableRrbTreeList<T> newList(Iterable<? extends T> iterable)
+    {
+        if (iterable instanceof ImmutableRrbTreeList<?>)
+        {
+            return (ImmutableRrbTreeList<T>) iterable;
+        }
+        return ImmutableRrbTreeList.fromArray(Iterate.toArray(iterable));
+    }
+
+    public static <T> ImmutableRrbTreeList<T> newListWith(T... elements)
+    {
+        return ImmutableRrbTreeList.fromArray(elements);
+    }
+
+    private static <T> ImmutableRrbTreeList<T> fromArray(Object[] elements)
+    {
+        int size = elements.length;
+        if (size == 0)
+        {
+            return ImmutableRrbTreeList.empty();
+        }
+        Object[] level = new Object[(size + BRANCHING - 1) >>> BITS];
+        for (int i = 0; i < level.length; i++)
+        {
+            level[i] = Arrays.copyOfRange(elements, i << BITS, Math.min(size, i + 1 << BITS));
+        }
+        int height = 0;
+        while (level.length > 1)
+        {
+            Object[] parents = new Object[(level.length + BRANCHING - 1) >>> BITS];
+            for (int i = 0; i < parents.length; i++)
+            {
+                parents[i] = Node.of(Arrays.copyOfRange(level, i << BITS, Math.min(level.length, i + 1 << BITS)), height);
+            }
+            level = parents;
+            height++;
+        }
+        return new ImmutableRrbTreeList<>(level[0], height, size);
+    }
+
+    private static <T> ImmutableRrbTreeList<T> newList(Object root, int height, int size)
+    {
+        if (size == 0)
+        {
+            return ImmutableRrbTreeList.empty();
+        }
+        Object newRoot = root;
+        int newHeight = height;
+        while (newHeight > 0 && ((Node) newRoot).children.length == 1)
+        {
+            newRoot = ((Node) newRoot).children[0];
+            newHeight--;
+        }
+        return new ImmutableRrbTreeList<>(newRoot, newHeight, size);
+    }
+
+    private static int sizeOf(Object node, int height)
+    {
+        return height == 0 ? ((Object[]) node).length : ((Node) node).size();
+    }
+
+    private static Object[] slotsOf(Object node, int height)
+    {
+        return height == 0 ? (Object[]) node : ((Node) node).children;
+    }
+
+    private static Object singletonPath(int height, Object element)
+    {
+        if (height == 0)
+        {
+            return new Object[]{element};
+        }
+        return new Node(new Object[]{ImmutableRrbTreeList.singletonPath(height - 1, element)}, new int[]{1});
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public T get(int index)
+    {
+        if (index < 0 || index >= this.size)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + " Size: " + this.size);
+        }
+        Object node = this.root;
+        int localIndex = index;
+        for (int level = this.height; level > 0; level--)
+        {
+            Node branch = (Node) node;
+            int slot = branch.slotOf(localIndex, level);
+            localIndex -= branch.offsetOf(slot);
+            node = branch.children[slot];
+        }
+        return (T) ((Object[]) node)[localIndex];
+    }
+
+    @Override
+    public ImmutableRrbTreeList<T> newWith(T element)
+    {
+        Object newRoot = ImmutableRrbTreeList.pushLast(this.root, this.height, element);
+        if (newRoot != null)
+        {
+            return new ImmutableRrbTreeList<>(newRoot, this.height, this.size + 1);
+        }
+        Object[] children = {this.root, ImmutableRrbTreeList.singletonPath(this.height, element)};
+        return new ImmutableRrbTreeList<>(new Node(children, new int[]{this.size, this.size + 1}), this.height + 1, this.size + 1);
+    }
+
+    /**
+     * Returns a new list with {@code element} inserted before the first element of this list.
+     */
+    public ImmutableRrbTreeList<T> newWithFirst(T element)
+    {
+        Object newRoot = ImmutableRrbTreeList.pushFirst(this.root, this.height, element);
+        if (newRoot != null)
+        {
+            return new ImmutableRrbTreeList<>(newRoot, this.height, this.size + 1);
+        }
+        Object[] children = {ImmutableRrbTreeList.singletonPath(this.height, element), this.root};
+        return new ImmutableRrbTreeList<>(new Node(children, new int[]{1, this.size + 1}), this.height + 1, this.size + 1);
+    }
+
+    @Override
+    public ImmutableRrbTreeList<T> newWithAll(Iterable<? extends T> elements)
+    {
+        return ImmutableRrbTreeList.concat(this, ImmutableRrbTreeList.newList(elements));
+    }
+
+    @Override
+    public ImmutableRrbTreeList<T> newWithout(T element)
+    {
+        int index = this.indexOf(element);
+        if (index < 0)
+        {
+            return this;
+        }
+        return ImmutableRrbTreeList.concat(this.slice(0, index), this.slice(index + 1, this.size));
+    }
+
+    @Override
+    public ImmutableRrbTreeList<T> newWithoutAll(Iterable<? extends T> elements)
+    {
+        FastList<T> result = FastList.newList(this);
+        this.removeAllFrom(elements, result);
+        return result.size() == this.size ? this : ImmutableRrbTreeList.newList(result);
+    }
+
+    @Override
+    public ImmutableRrbTreeList<T> subList(int fromIndex, int toIndex)
+    {
+        if (fromIndex < 0)
+        {
+            throw new IndexOutOfBoundsException("fromIndex = " + fromIndex);
+        }
+        if (toIndex > this.size)
+        {
+            throw new IndexOutOfBoundsException("toIndex = " + toIndex);
+        }
+        if (fromIndex > toIndex)
+        {
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ')');
+        }
+        return this.slice(fromIndex, toIndex);
+    }
+
+    @Override
+    public ImmutableRrbTreeList<T> take(int count)
+    {
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Count must be greater than zero, but was: " + count);
+        }
+        return this.slice(0, Math.min(count, this.size));
+    }
+
+    @Override
+    public ImmutableRrbTreeList<T> drop(int count)
+    {
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Count must be greater than zero, but was: " + count);
+        }
+        return this.slice(Math.min(count, this.size), this.size);
+    }
+
+    private ImmutableRrbTreeList<T> slice(int fromIndex, int toIndex)
+    {
+        if (fromIndex == 0 && toIndex == this.size)
+        {
+            return this;
+        }
+        if (fromIndex == toIndex)
+        {
+            return ImmutableRrbTreeList.empty();
+        }
+        Object node = ImmutableRrbTreeList.takeFirst(this.root, this.height, toIndex);
+        node = ImmutableRrbTreeList.dropFirst(node, this.height, fromIndex);
+        return ImmutableRrbTreeList.newList(node, this.height, toIndex - fromIndex);
+    }
+
+    @Override
+    public int indexOf(Object object)
+    {
+        int index = 0;
+        for (T each : this)
+        {
+            if (Objects.equals(each, object))
+            {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new LeafIterator();
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        ImmutableRrbTreeList.each(this.root, this.height, procedure);
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        int index = 0;
+        for (T each : this)
+        {
+            objectIntProcedure.value(each, index++);
+        }
+    }
+
+    @Override
+    public boolean equals(Object that)
+    {
+        if (that == this)
+        {
+            return true;
+        }
+        if (!(that instanceof List))
+        {
+            return false;
+        }
+        List<?> list = (List<?>) that;
+        if (this.size != list.size())
+        {
+            return false;
+        }
+        Iterator<?> iterator = list.iterator();
+        for (T each : this)
+        {
+            if (!Objects.equals(each, iterator.next()))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 1;
+        for (T each : this)
+        {
+            hashCode = 31 * hashCode + (each == null ? 0 : each.hashCode());
+        }
+        return hashCode;
+    }
+
+    private Object writeReplace()
+    {
+        return new ImmutableRrbTreeListSerializationProxy<>(this);
+    }
+
+    private static <T> void each(Object node, int height, Procedure<? super T> procedure)
+    {
+        if (height == 0)
+        {
+            for (Object each : (Object[]) node)
+            {
+                procedure.value((T) each);
+            }
+        }
+        else
+        {
+            for (Object child : ((Node) node).children)
+            {
+                ImmutableRrbTreeList.each(child, height - 1, procedure);
+            }
+        }
+    }
+
+    /**
+     * Returns a copy of {@code node} with {@code element} appended, or null if the rightmost path has no room.
+     */
+    private static Object pushLast(Object node, int height, Object element)
+    {
+        if (height == 0)
+        {
+            Object[] leaf = (Object[]) node;
+            if (leaf.length == BRANCHING)
+            {
+                return null;
+            }
+            Object[] newLeaf = Arrays.copyOf(leaf, leaf.length + 1);
+            newLeaf[leaf.length] = element;
+            return newLeaf;
+        }
+        Node branch = (Node) node;
+        int last = branch.children.length - 1;
+        Object child = ImmutableRrbTreeList.pushLast(branch.children[last], height - 1, element);
+        if (child != null)
+        {
+            Object[] children = branch.children.clone();
+            children[last] = child;
+            int[] sizes = branch.sizes.clone();
+            sizes[last]++;
+            return new Node(children, sizes);
+        }
+        if (branch.children.length == BRANCHING)
+        {
+            return null;
+        }
+        Object[] children = Arrays.copyOf(branch.children, last + 2);
+        children[last + 1] = ImmutableRrbTreeList.singletonPath(height - 1, element);
+        int[] sizes = Arrays.copyOf(branch.sizes, last + 2);
+        sizes[last + 1] = sizes[last] + 1;
+        return new Node(children, sizes);
+    }
+
+    /**
+     * Returns a copy of {@code node} with {@code element} prepended, or null if the leftmost path has no room.
+     */
+    private static Object pushFirst(Object node, int height, Object element)
+    {
+        if (height == 0)
+        {
+            Object[] leaf = (Object[]) node;
+            if (leaf.length == BRANCHING)
+            {
+                return null;
+            }
+            Object[] newLeaf = new Object[leaf.length + 1];
+            newLeaf[0] = element;
+            System.arraycopy(leaf, 0, newLeaf, 1, leaf.length);
+            return newLeaf;
+        }
+        Node branch = (Node) node;
+        int length = branch.children.length;
+        Object child = ImmutableRrbTreeList.pushFirst(branch.children[0], height - 1, element);
+        if (child != null)
+        {
+            Object[] children = branch.children.clone();
+            children[0] = child;
+            int[] sizes = new int[length];
+            for (int i = 0; i < length; i++)
+            {
+                sizes[i] = branch.sizes[i] + 1;
+            }
+            return new Node(children, sizes);
+        }
+        if (length == BRANCHING)
+        {
+            return null;
+        }
+        Object[] children = new Object[length + 1];
+        children[0] = ImmutableRrbTreeList.singletonPath(height - 1, element);
+        System.arraycopy(branch.children, 0, children, 1, length);
+        int[] sizes = new int[length + 1];
+        sizes[0] = 1;
+        for (int i = 0; i < length; i++)
+        {
+            sizes[i + 1] = branch.sizes[i] + 1;
+        }
+        return new Node(children, sizes);
+    }
+
+    /**
+     * Returns the first {@code count} elements of {@code node}, where {@code 0 < count <= size}.
+     */
+    private static Object takeFirst(Object node, int height, int count)
+    {
+        if (count == ImmutableRrbTreeList.sizeOf(node, height))
+        {
+            return node;
+        }
+        if (height == 0)
+        {
+            return Arrays.copyOf((Object[]) node, count);
+        }
+        Node branch = (Node) node;
+        int slot = branch.slotOf(count - 1, height);
+        Object[] children = Arrays.copyOf(branch.children, slot + 1);
+        children[slot] = ImmutableRrbTreeList.takeFirst(branch.children[slot], height - 1, count - branch.offsetOf(slot));
+        int[] sizes = Arrays.copyOf(branch.sizes, slot + 1);
+        sizes[slot] = count;
+        return new Node(children, sizes);
+    }
+
+    /**
+     * Returns {@code node} without its first {@code count} elements, where {@code 0 <= count < size}.
+     */
+    private static Object dropFirst(Object node, int height, int count)
+    {
+        if (count == 0)
+        {
+            return node;
+        }
+        if (height == 0)
+        {
+            Object[] leaf = (Object[]) node;
+            return Arrays.copyOfRange(leaf, count, leaf.length);
+        }
+        Node branch = (Node) node;
+        int slot = branch.slotOf(count, height);
+        int length = branch.children.length - slot;
+        Object[] children = new Object[length];
+        children[0] = ImmutableRrbTreeList.dropFirst(branch.children[slot], height - 1, count - branch.offsetOf(slot));
+        System.arraycopy(branch.children, slot + 1, children, 1, length - 1);
+        int[] sizes = new int[length];
+        for (int i = 0; i < length; i++)
+        {
+            sizes[i] = branch.sizes[slot + i] - count;
+        }
+        return new Node(children, sizes);
+    }
+
+    private static <T> ImmutableRrbTreeList<T> concat(ImmutableRrbTreeList<T> left, ImmutableRrbTreeList<? extends T> right)
+    {
+        if (right.isEmpty())
+        {
+            return left;
+        }
+        if (left.isEmpty())
+        {
+            return (ImmutableRrbTreeList<T>) right;
+        }
+        Object[] nodes = ImmutableRrbTreeList.concatSubTrees(left.root, left.height, right.root, right.height);
+        int height = Math.max(left.height, right.height);
+        int size = left.size + right.size;
+        if (nodes.length == 1)
+        {
+            return ImmutableRrbTreeList.newList(nodes[0], height, size);
+        }
+        return new ImmutableRrbTreeList<>(Node.of(nodes, height), height + 1, size);
+    }
+
+    /**
+     * Joins two subtrees along the right edge of {@code left} and the left edge of {@code right}. Returns one or two
+     * nodes of the height of the taller subtree.
+     */
+    private static Object[] concatSubTrees(Object left, int leftHeight, Object right, int rightHeight)
+    {
+        if (leftHeight > rightHeight)
+        {
+            Object[] leftChildren = ((Node) left).children;
+            int last = leftChildren.length - 1;
+            Object[] middle = ImmutableRrbTreeList.concatSubTrees(leftChildren[last], leftHeight - 1, right, rightHeight);
+            return ImmutableRrbTreeList.rebalance(Arrays.copyOf(leftChildren, last), middle, EMPTY_ARRAY, leftHeight - 1);
+        }
+        if (leftHeight < rightHeight)
+        {
+            Object[] rightChildren = ((Node) right).children;
+            Object[] middle = ImmutableRrbTreeList.concatSubTrees(left, leftHeight, rightChildren[0], rightHeight - 1);
+            return ImmutableRrbTreeList.rebalance(EMPTY_ARRAY, middle, Arrays.copyOfRange(rightChildren, 1, rightChildren.length), rightHeight - 1);
+        }
+        if (leftHeight == 0)
+        {
+            Object[] leftLeaf = (Object[]) left;
+            Object[] rightLeaf = (Object[]) right;
+            if (leftLeaf.length + rightLeaf.length <= BRANCHING)
+            {
+                Object[] leaf = Arrays.copyOf(leftLeaf, leftLeaf.length + rightLeaf.length);
+                System.arraycopy(rightLeaf, 0, leaf, leftLeaf.length, rightLeaf.length);
+                return new Object[]{leaf};
+            }
+            return new Object[]{leftLeaf, rightLeaf};
+        }
+        Object[] leftChildren = ((Node) left).children;
+        Object[] rightChildren = ((Node) right).children;
+        int last = leftChildren.length - 1;
+        Object[] middle = ImmutableRrbTreeList.concatSubTrees(leftChildren[last], leftHeight - 1, rightChildren[0], rightHeight - 1);
+        return ImmutableRrbTreeList.rebalance(
+                Arrays.copyOf(leftChildren, last),
+                middle,
+                Arrays.copyOfRange(rightChildren, 1, rightChildren.length),
+                leftHeight - 1);
+    }
+
+    /**
+     * Redistributes the given nodes of height {@code childHeight} and wraps them in one or two parent nodes.
+     */
+    private static Object[] rebalance(Object[] left, Object[] middle, Object[] right, int childHeight)
+    {
+        Object[] all = new Object[left.length + middle.length + right.length];
+        System.arraycopy(left, 0, all, 0, left.length);
+        System.arraycopy(middle, 0, all, left.length, middle.length);
+        System.arraycopy(right, 0, all, left.length + middle.length, right.length);
+
+        Object[] balanced = ImmutableRrbTreeList.redistribute(all, childHeight);
+        if (balanced.length <= BRANCHING)
+        {
+            return new Object[]{Node.of(balanced, childHeight)};
+        }
+        return new Object[]{
+                Node.of(Arrays.copyOf(balanced, BRANCHING), childHeight),
+                Node.of(Arrays.copyOfRange(balanced, BRANCHING, balanced.length), childHeight)};
+    }
+
+    /**
+     * Merges underfull nodes into their right neighbours until at most {@link #EXTRA_NODES} more nodes are used than
+     * the fewest that could hold all their slots. Nodes which keep all of their slots are reused.
+     */
+    private static Object[] redistribute(Object[] nodes, int height)
+    {
+        int count = nodes.length;
+        int[] slotCounts = new int[count];
+        int totalSlots = 0;
+        for (int i = 0; i < count; i++)
+        {
+            slotCounts[i] = ImmutableRrbTreeList.slotsOf(nodes[i], height).length;
+            totalSlots += slotCounts[i];
+        }
+        int optimal = (totalSlots + BRANCHING - 1) >>> BITS;
+        if (count <= optimal + EXTRA_NODES)
+        {
+            return nodes;
+        }
+
+        int i = 0;
+        while (count > optimal + EXTRA_NODES)
+        {
+            while (slotCounts[i] == BRANCHING)
+            {
+                i++;
+            }
+            int remaining = slotCounts[i];
+            do
+            {
+                int filled = Math.min(remaining + slotCounts[i + 1], BRANCHING);
+                remaining = remaining + slotCounts[i + 1] - filled;
+                slotCounts[i] = filled;
+                i++;
+            }
+            while (remaining > 0);
+            System.arraycopy(slotCounts, i + 1, slotCounts, i, count - i - 1);
+            count--;
+            i--;
+        }
+
+        Object[] result = new Object[count];
+        int source = 0;
+        int offset = 0;
+        for (int target = 0; target < count; target++)
+        {
+            int wanted = slotCounts[target];
+            Object[] sourceSlots = ImmutableRrbTreeList.slotsOf(nodes[source], height);
+            if (offset == 0 && sourceSlots.length == wanted)
+            {
+                result[target] = nodes[source];
+                source++;
+                continue;
+            }
+            Object[] slots = new Object[wanted];
+            int filled = 0;
+            while (filled < wanted)
+            {
+                sourceSlots = ImmutableRrbTreeList.slotsOf(nodes[source], height);
+                int copied = Math.min(wanted - filled, sourceSlots.length - offset);
+                System.arraycopy(sourceSlots, offset, slots, filled, copied);
+                filled += copied;
+                offset += copied;
+                if (offset == sourceSlots.length)
+                {
+                    source++;
+                    offset = 0;
+                }
+            }
+            result[target] = height == 0 ? slots : Node.of(slots, height - 1);
+        }
+        return result;
+    }
+
+    /**
+     * A branch of the tree. {@code children} are {@code Object[]} leaves for a node of height one and nodes otherwise,
+     * and {@code sizes[i]} is the number of elements in the first {@code i + 1} children.
+     */
+    private static final class Node
+    {
+        private final Object[] children;
+        private final int[] sizes;
+
+        private Node(Object[] children, int[] sizes)
+        {
+            this.children = children;
+            this.sizes = sizes;
+        }
+
+        private static Node of(Object[] children, int childHeight)
+        {
+            int[] sizes = new int[children.length];
+            int total = 0;
+            for (int i = 0; i < children.length; i++)
+            {
+                total += ImmutableRrbTreeList.sizeOf(children[i], childHeight);
+                sizes[i] = total;
+            }
+            return new Node(children, sizes);
+        }
+
+        private int size()
+        {
+            return this.sizes[this.sizes.length - 1];
+        }
+
+        /**
+         * Returns the child holding {@code index}. A child of a node at {@code height} holds at most
+         * 32<sup>height</sup> elements, so the radix guess never overshoots and only has to be stepped forward past
+         * underfull children.
+         */
+        private int slotOf(int index, int height)
+        {
+            int shift = BITS * height;
+            int slot = shift >= Integer.SIZE ? 0 : index >>> shift;
+            while (this.sizes[slot] <= index)
+            {
+                slot++;
+            }
+            return slot;
+        }
+
+        private int offsetOf(int slot)
+        {
+            return slot == 0 ? 0 : this.sizes[slot - 1];
+        }
+    }
+
+    /**
+     * Iterates leaf by leaf, descending from the root once per leaf rather than once per element.
+     */
+    private final class LeafIterator implements Iterator<T>
+    {
+        private int index;
+        private Object[] leaf = EMPTY_ARRAY;
+        private int leafStart;
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.index < ImmutableRrbTreeList.this.size;
+        }
+
+        @Override
+        public T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            int leafIndex = this.index - this.leafStart;
+            if (leafIndex >= this.leaf.length)
+            {
+                this.findLeaf();
+                leafIndex = this.index - this.leafStart;
+            }
+            this.index++;
+            return (T) this.leaf[leafIndex];
+        }
+
+        private void findLeaf()
+        {
+            Object node = ImmutableRrbTreeList.this.root;
+            int localIndex = this.index;
+            for (int level = ImmutableRrbTreeList.this.height; level > 0; level--)
+            {
+                Node branch = (Node) node;
+                int slot = branch.slotOf(localIndex, level);
+                localIndex -= branch.offsetOf(slot);
+                node = branch.children[slot];
+            }
+            this.leaf = (Object[]) node;
+            this.leafStart = this.index - localIndex;
+        }
+
+        @Override
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+        }
+    }
+}
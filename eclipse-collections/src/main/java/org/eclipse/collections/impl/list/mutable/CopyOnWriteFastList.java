@@ -0,0 +1,692 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.list.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutorService;
+import java.util.function.UnaryOperator;
+
+import org.eclipse.collections.api.block.HashingStrategy;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.list.ParallelListIterable;
+import org.eclipse.collections.api.ordered.OrderedIterable;
+import org.eclipse.collections.api.partition.list.PartitionMutableList;
+import org.eclipse.collections.api.stack.MutableStack;
+import org.eclipse.collections.impl.UnmodifiableIteratorAdapter;
+import org.eclipse.collections.impl.utility.Iterate;
+import org.eclipse.collections.impl.utility.internal.InternalArrayIterate;
+
+/**
+ * CopyOnWriteFastList is a thread-safe MutableList for data which is read and iterated far more often than it is
+ * changed, such as listener lists. The elements are held in an array which is never modified once published. Reads,
+ * iterators and internal iteration methods like forEach, select and anySatisfy use the array current when they
+ * start, without any locking, and never observe a concurrent change. Every write copies the array under a lock and
+ * publishes the copy, so writers should batch their changes with {@link #withAll(Iterable)}, {@link #removeIf(Predicate)}
+ * or {@link #withWriteLockAndDelegate(Procedure)} rather than calling add or remove in a loop.
+ * <p>
+ * Iterators and {@link #subList(int, int)} views are unmodifiable snapshots.
+ *
+ * @since 10.3
+ */
+public final class CopyOnWriteFastList<T>
+        extends AbstractListAdapter<T>
+        implements Externalizable
+{
+    private static final long serialVersionUID = 1L;
+    private static final Object[] EMPTY_ARRAY = {};
+
+    private final transient Object lock = new Object();
+    private volatile T[] items;
+
+    public CopyOnWriteFastList()
+    {
+        this.items = (T[]) EMPTY_ARRAY;
+    }
+
+    private CopyOnWriteFastList(T[] newItems)
+    {
+        this.items = newItems;
+    }
+
+    public static <T> CopyOnWriteFastList<T> newList()
+    {
+        return new CopyOnWriteFastList<>();
+    }
+
+    public static <T> CopyOnWriteFastList<T> newList(Iterable<? extends T> iterable)
+    {
+        Object[] array = Iterate.toArray(iterable);
+        return new CopyOnWriteFastList<>((T[]) Arrays.copyOf(array, array.length, Object[].class));
+    }
+
+    public static <T> CopyOnWriteFastList<T> newListWith(T... elements)
+    {
+        return new CopyOnWriteFastList<>((T[]) Arrays.copyOf(elements, elements.length, Object[].class));
+    }
+
+    /**
+     * Returns a list over the current array, which must not be modified.
+     */
+    @Override
+    protected FastList<T> getDelegate()
+    {
+        T[] array = this.items;
+        return new FastList<>(array.length, array);
+    }
+
+    private FastList<T> copy()
+    {
+        T[] array = this.items;
+        return new FastList<>(array.length, array.clone());
+    }
+
+    private void publish(FastList<T> copy)
+    {
+        copy.trimToSize();
+        this.items = copy.items;
+    }
+
+    private boolean copyAndUpdate(Predicate<? super FastList<T>> update)
+    {
+        synchronized (this.lock)
+        {
+            FastList<T> copy = this.copy();
+            boolean changed = update.accept(copy);
+            if (changed)
+            {
+                this.publish(copy);
+            }
+            return changed;
+        }
+    }
+
+    /**
+     * Applies the procedure to a private copy of this list under the write lock and then publishes the copy, so any
+     * number of changes cost a single copy of the array and readers see all of them or none of them. If the procedure
+     * throws an exception, this list is unchanged.
+     */
+    public void withWriteLockAndDelegate(Procedure<? super MutableList<T>> procedure)
+    {
+        synchronized (this.lock)
+        {
+            FastList<T> copy = this.copy();
+            procedure.value(copy);
+            this.items = (T[]) copy.toArray();
+        }
+    }
+
+    @Override
+    public int size()
+    {
+        return this.items.length;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.items.length == 0;
+    }
+
+    @Override
+    public boolean notEmpty()
+    {
+        return this.items.length > 0;
+    }
+
+    @Override
+    public boolean contains(Object o)
+    {
+        T[] array = this.items;
+        return InternalArrayIterate.indexOf(array, array.length, o) >= 0;
+    }
+
+    @Override
+    public T get(int index)
+    {
+        return this.items[index];
+    }
+
+    @Override
+    public int indexOf(Object o)
+    {
+        T[] array = this.items;
+        return InternalArrayIterate.indexOf(array, array.length, o);
+    }
+
+    @Override
+    public T getFirst()
+    {
+        T[] array = this.items;
+        return array.length == 0 ? null : array[0];
+    }
+
+    @Override
+    public T getLast()
+    {
+        T[] array = this.items;
+        return array.length == 0 ? null : array[array.length - 1];
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new UnmodifiableIteratorAdapter<>(this.getDelegate().iterator());
+    }
+
+    @Override
+    public ListIterator<T> listIterator()
+    {
+        return this.listIterator(0);
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int index)
+    {
+        return new UnmodifiableListIteratorAdapter<>(this.getDelegate().listIterator(index));
+    }
+
+    @Override
+    public Spliterator<T> spliterator()
+    {
+        return Spliterators.spliterator(this.items, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    @Override
+    public MutableList<T> subList(int fromIndex, int toIndex)
+    {
+        return this.getDelegate().subList(fromIndex, toIndex).asUnmodifiable();
+    }
+
+    @Override
+    public boolean add(T element)
+    {
+        synchronized (this.lock)
+        {
+            T[] array = this.items;
+            T[] newArray = Arrays.copyOf(array, array.length + 1);
+            newArray[array.length] = element;
+            this.items = newArray;
+            return true;
+        }
+    }
+
+    @Override
+    public void add(int index, T element)
+    {
+        synchronized (this.lock)
+        {
+            T[] array = this.items;
+            if (index < 0 || index > array.length)
+            {
+                throw new IndexOutOfBoundsException("Index: " + index + " Size: " + array.length);
+            }
+            T[] newArray = (T[]) new Object[array.length + 1];
+            System.arraycopy(array, 0, newArray, 0, index);
+            newArray[index] = element;
+            System.arraycopy(array, index, newArray, index + 1, array.length - index);
+            this.items = newArray;
+        }
+    }
+
+    @Override
+    public T set(int index, T element)
+    {
+        synchronized (this.lock)
+        {
+            FastList<T> copy = this.copy();
+            T previous = copy.set(index, element);
+            this.items = copy.items;
+            return previous;
+        }
+    }
+
+    @Override
+    public T remove(int index)
+    {
+        synchronized (this.lock)
+        {
+            FastList<T> copy = this.copy();
+            T previous = copy.remove(index);
+            this.publish(copy);
+            return previous;
+        }
+    }
+
+    @Override
+    public boolean remove(Object o)
+    {
+        synchronized (this.lock)
+        {
+            T[] array = this.items;
+            int index = InternalArrayIterate.indexOf(array, array.length, o);
+            if (index < 0)
+            {
+                return false;
+            }
+            T[] newArray = (T[]) new Object[array.length - 1];
+            System.arraycopy(array, 0, newArray, 0, index);
+            System.arraycopy(array, index + 1, newArray, index, array.length - index - 1);
+            this.items = newArray;
+            return true;
+        }
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> collection)
+    {
+        return this.addAllIterable(collection);
+    }
+
+    @Override
+    public boolean addAllIterable(Iterable<? extends T> iterable)
+    {
+        Object[] newItems = Iterate.toArray(iterable);
+        if (newItems.length == 0)
+        {
+            return false;
+        }
+        synchronized (this.lock)
+        {
+            T[] array = this.items;
+            T[] newArray = Arrays.copyOf(array, array.length + newItems.length);
+            System.arraycopy(newItems, 0, newArray, array.length, newItems.length);
+            this.items = newArray;
+            return true;
+        }
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends T> collection)
+    {
+        Object[] newItems = collection.toArray();
+        synchronized (this.lock)
+        {
+            T[] array = this.items;
+            if (index < 0 || index > array.length)
+            {
+                throw new IndexOutOfBoundsException("Index: " + index + " Size: " + array.length);
+            }
+            if (newItems.length == 0)
+            {
+                return false;
+            }
+            T[] newArray = (T[]) new Object[array.length + newItems.length];
+            System.arraycopy(array, 0, newArray, 0, index);
+            System.arraycopy(newItems, 0, newArray, index, newItems.length);
+            System.arraycopy(array, index, newArray, index + newItems.length, array.length - index);
+            this.items = newArray;
+            return true;
+        }
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> collection)
+    {
+        return this.copyAndUpdate(copy -> copy.removeAll(collection));
+    }
+
+    @Override
+    public boolean removeAllIterable(Iterable<?> iterable)
+    {
+        return this.copyAndUpdate(copy -> copy.removeAllIterable(iterable));
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> collection)
+    {
+        return this.copyAndUpdate(copy -> copy.retainAll(collection));
+    }
+
+    @Override
+    public boolean retainAllIterable(Iterable<?> iterable)
+    {
+        return this.copyAndUpdate(copy -> copy.retainAllIterable(iterable));
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> predicate)
+    {
+        return this.copyAndUpdate(copy -> copy.removeIf(predicate));
+    }
+
+    @Override
+    public <P> boolean removeIfWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.copyAndUpdate(copy -> copy.removeIfWith(predicate, parameter));
+    }
+
+    @Override
+    public boolean removeIf(java.util.function.Predicate<? super T> filter)
+    {
+        Predicate<T> predicate = filter::test;
+        return this.removeIf(predicate);
+    }
+
+    @Override
+    public void clear()
+    {
+        synchronized (this.lock)
+        {
+            this.items = (T[]) EMPTY_ARRAY;
+        }
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<T> operator)
+    {
+        this.copyAndUpdate(copy -> {
+            copy.replaceAll(operator);
+            return true;
+        });
+    }
+
+    @Override
+    public void sort(Comparator<? super T> comparator)
+    {
+        this.copyAndUpdate(copy -> {
+            copy.sort(comparator);
+            return true;
+        });
+    }
+
+    @Override
+    public CopyOnWriteFastList<T> sortThis(Comparator<? super T> comparator)
+    {
+        this.sort(comparator);
+        return this;
+    }
+
+    @Override
+    public CopyOnWriteFastList<T> sortThis()
+    {
+        return this.sortThis(null);
+    }
+
+    @Override
+    public CopyOnWriteFastList<T> reverseThis()
+    {
+        this.copyAndUpdate(copy -> {
+            copy.reverseThis();
+            return true;
+        });
+        return this;
+    }
+
+    @Override
+    public CopyOnWriteFastList<T> shuffleThis()
+    {
+        return this.shuffleThis(new Random());
+    }
+
+    @Override
+    public CopyOnWriteFastList<T> shuffleThis(Random random)
+    {
+        this.copyAndUpdate(copy -> {
+            copy.shuffleThis(random);
+            return true;
+        });
+        return this;
+    }
+
+    @Override
+    public CopyOnWriteFastList<T> with(T element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    @Override
+    public CopyOnWriteFastList<T> without(T element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    @Override
+    public CopyOnWriteFastList<T> withAll(Iterable<? extends T> elements)
+    {
+        this.addAllIterable(elements);
+        return this;
+    }
+
+    @Override
+    public CopyOnWriteFastList<T> withoutAll(Iterable<? extends T> elements)
+    {
+        this.removeAllIterable(elements);
+        return this;
+    }
+
+    @Override
+    public ImmutableList<T> toImmutable()
+    {
+        return Lists.immutable.withAll(this.getDelegate());
+    }
+
+    @Override
+    public MutableList<T> asUnmodifiable()
+    {
+        return UnmodifiableMutableList.of(this);
+    }
+
+    @Override
+    public MutableList<T> asSynchronized()
+    {
+        return SynchronizedMutableList.of(this);
+    }
+
+    @Override
+    public CopyOnWriteFastList<T> clone()
+    {
+        return new CopyOnWriteFastList<>(this.items);
+    }
+
+    @Override
+    public CopyOnWriteFastList<T> newEmpty()
+    {
+        return CopyOnWriteFastList.newList();
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        this.getDelegate().each(procedure);
+    }
+
+    @Override
+    public void reverseForEach(Procedure<? super T> procedure)
+    {
+        this.getDelegate().reverseForEach(procedure);
+    }
+
+    @Override
+    public void reverseForEachWithIndex(ObjectIntProcedure<? super T> procedure)
+    {
+        this.getDelegate().reverseForEachWithIndex(procedure);
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        this.getDelegate().forEachWithIndex(objectIntProcedure);
+    }
+
+    @Override
+    public void forEachWithIndex(int fromIndex, int toIndex, ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        this.getDelegate().forEachWithIndex(fromIndex, toIndex, objectIntProcedure);
+    }
+
+    @Override
+    public void forEach(int fromIndex, int toIndex, Procedure<? super T> procedure)
+    {
+        this.getDelegate().forEach(fromIndex, toIndex, procedure);
+    }
+
+    @Override
+    public T detect(Predicate<? super T> predicate)
+    {
+        return this.getDelegate().detect(predicate);
+    }
+
+    @Override
+    public int detectIndex(Predicate<? super T> predicate)
+    {
+        return this.getDelegate().detectIndex(predicate);
+    }
+
+    @Override
+    public int detectLastIndex(Predicate<? super T> predicate)
+    {
+        return this.getDelegate().detectLastIndex(predicate);
+    }
+
+    @Override
+    public int count(Predicate<? super T> predicate)
+    {
+        return this.getDelegate().count(predicate);
+    }
+
+    @Override
+    public <S> boolean corresponds(OrderedIterable<S> other, Predicate2<? super T, ? super S> predicate)
+    {
+        return this.getDelegate().corresponds(other, predicate);
+    }
+
+    @Override
+    public boolean anySatisfy(Predicate<? super T> predicate)
+    {
+        return this.getDelegate().anySatisfy(predicate);
+    }
+
+    @Override
+    public boolean allSatisfy(Predicate<? super T> predicate)
+    {
+        return this.getDelegate().allSatisfy(predicate);
+    }
+
+    @Override
+    public boolean noneSatisfy(Predicate<? super T> predicate)
+    {
+        return this.getDelegate().noneSatisfy(predicate);
+    }
+
+    @Override
+    public MutableList<T> select(Predicate<? super T> predicate)
+    {
+        return this.getDelegate().select(predicate);
+    }
+
+    @Override
+    public MutableList<T> reject(Predicate<? super T> predicate)
+    {
+        return this.getDelegate().reject(predicate);
+    }
+
+    @Override
+    public <S> MutableList<S> selectInstancesOf(Class<S> clazz)
+    {
+        return this.getDelegate().selectInstancesOf(clazz);
+    }
+
+    @Override
+    public MutableList<T> distinct()
+    {
+        return this.getDelegate().distinct();
+    }
+
+    @Override
+    public MutableList<T> distinct(HashingStrategy<? super T> hashingStrategy)
+    {
+        return this.getDelegate().distinct(hashingStrategy);
+    }
+
+    @Override
+    public MutableList<T> take(int count)
+    {
+        return this.getDelegate().take(count);
+    }
+
+    @Override
+    public MutableList<T> takeWhile(Predicate<? super T> predicate)
+    {
+        return this.getDelegate().takeWhile(predicate);
+    }
+
+    @Override
+    public MutableList<T> drop(int count)
+    {
+        return this.getDelegate().drop(count);
+    }
+
+    @Override
+    public MutableList<T> dropWhile(Predicate<? super T> predicate)
+    {
+        return this.getDelegate().dropWhile(predicate);
+    }
+
+    @Override
+    public PartitionMutableList<T> partitionWhile(Predicate<? super T> predicate)
+    {
+        return this.getDelegate().partitionWhile(predicate);
+    }
+
+    @Override
+    public MutableStack<T> toStack()
+    {
+        return this.getDelegate().toStack();
+    }
+
+    @Override
+    public ParallelListIterable<T> asParallel(ExecutorService executorService, int batchSize)
+    {
+        return this.getDelegate().asParallel(executorService, batchSize);
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        T[] array = this.items;
+        out.writeInt(array.length);
+        for (T each : array)
+        {
+            out.writeObject(each);
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        T[] array = (T[]) new Object[size];
+        for (int i = 0; i < size; i++)
+        {
+            array[i] = (T) in.readObject();
+        }
+        this.items = array;
+    }
+}
@@ -90,6 +90,10 @@ import static org.eclipse.collections.impl.factory.Iterables.mList;
  * FastList is returned. This wrapper guarantees that no external pointer can ever reference the underlying FastList
  * outside of a locked procedure. In the case of the read lock method, an Unmodifiable version of the collection is
  * offered, which will throw UnsupportedOperationExceptions on any write methods like add or remove.
+ * <p>
+ * Lists created with {@link #newStampedList()} read {@code size()}, {@code isEmpty()}, {@code contains()},
+ * {@code get()}, {@code getFirst()}, {@code getLast()} and {@code detect()} on small lists optimistically, without
+ * taking the read lock.
  */
 public final class MultiReaderFastList<T>
         extends AbstractMultiReaderMutableCollection<T>
@@ -115,9 +119,19 @@ public final class MultiReaderFastList<T>
     }
 
     private MultiReaderFastList(MutableList<T> newDelegate, ReadWriteLock newLock)
+    {
+        this(newDelegate, newLock, false);
+    }
+
+    private MultiReaderFastList(MutableList<T> newDelegate, ReadWriteLock newLock, boolean optimisticReads)
+    {
+        this(newDelegate, newLock, new ReadWriteLockWrapper(newLock, optimisticReads));
+    }
+
+    private MultiReaderFastList(MutableList<T> newDelegate, ReadWriteLock newLock, ReadWriteLockWrapper newLockWrapper)
     {
         this.lock = newLock;
-        this.lockWrapper = new ReadWriteLockWrapper(newLock);
+        this.lockWrapper = newLockWrapper;
         this.delegate = newDelegate;
     }
 
@@ -141,6 +155,26 @@ public final class MultiReaderFastList<T>
         return new MultiReaderFastList<>(FastList.newListWith(elements));
     }
 
+    /**
+     * Creates a MultiReaderFastList whose short read operations, such as size, contains and get, read optimistically without
+     * taking the read lock and only fall back to it if a write happened concurrently.
+     *
+     * @since 10.3
+     */
+    public static <T> MultiReaderFastList<T> newStampedList()
+    {
+        return new MultiReaderFastList<>(FastList.newList(), new ReentrantReadWriteLock(), true);
+    }
+
+    /**
+     * @see #newStampedList()
+     * @since 10.3
+     */
+    public static <T> MultiReaderFastList<T> newStampedList(Iterable<? extends T> iterable)
+    {
+        return new MultiReaderFastList<>(FastList.newList(iterable), new ReentrantReadWriteLock(), true);
+    }
+
     @Override
     protected MutableList<T> getDelegate()
     {
@@ -211,7 +245,7 @@ public final class MultiReaderFastList<T>
     {
         try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
         {
-            return new MultiReaderFastList<>(this.delegate.clone());
+            return new MultiReaderFastList<>(this.delegate.clone(), new ReentrantReadWriteLock(), this.lockWrapper.isOptimisticReads());
         }
     }
 
@@ -557,7 +591,7 @@ public final class MultiReaderFastList<T>
     {
         try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
         {
-            return new MultiReaderFastList<>(this.delegate.subList(fromIndex, toIndex), this.lock);
+            return new MultiReaderFastList<>(this.delegate.subList(fromIndex, toIndex), this.lock, this.lockWrapper);
         }
     }
 
@@ -582,6 +616,22 @@ public final class MultiReaderFastList<T>
     @Override
     public T get(int index)
     {
+        long stamp = this.lockWrapper.tryOptimisticRead();
+        if (stamp != 0L)
+        {
+            try
+            {
+                T result = this.delegate.get(index);
+                if (this.lockWrapper.validate(stamp))
+                {
+                    return result;
+                }
+            }
+            catch (RuntimeException ignored)
+            {
+                // A concurrent write left the delegate inconsistent, so retry under the read lock
+            }
+        }
         try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
         {
             return this.delegate.get(index);
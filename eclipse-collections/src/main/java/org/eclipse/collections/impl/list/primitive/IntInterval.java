@@ -17,11 +17,14 @@ import java.util.Comparator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Spliterator;
+import java.util.concurrent.ExecutorService;
 import java.util.function.IntConsumer;
 
 import org.eclipse.collections.api.IntIterable;
 import org.eclipse.collections.api.LazyIntIterable;
+import org.eclipse.collections.api.ParallelIntIterable;
 import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.annotation.Beta;
 import org.eclipse.collections.api.bag.primitive.MutableIntBag;
 import org.eclipse.collections.api.block.function.primitive.IntToObjectFunction;
 import org.eclipse.collections.api.block.function.primitive.ObjectIntIntToObjectFunction;
@@ -42,6 +45,7 @@ import org.eclipse.collections.api.tuple.primitive.IntObjectPair;
 import org.eclipse.collections.impl.bag.mutable.primitive.IntHashBag;
 import org.eclipse.collections.impl.block.factory.primitive.IntPredicates;
 import org.eclipse.collections.impl.factory.primitive.IntLists;
+import org.eclipse.collections.impl.lazy.parallel.primitive.IntListParallelIterable;
 import org.eclipse.collections.impl.lazy.primitive.CollectIntToObjectIterable;
 import org.eclipse.collections.impl.lazy.primitive.LazyIntIterableAdapter;
 import org.eclipse.collections.impl.lazy.primitive.ReverseIntIterable;
@@ -888,6 +892,16 @@ public final class IntInterval
         return this;
     }
 
+    /**
+     * @since 10.3
+     */
+    @Beta
+    @Override
+    public ParallelIntIterable asParallel(ExecutorService executorService, int batchSize)
+    {
+        return new IntListParallelIterable(this, executorService, batchSize);
+    }
+
     @Override
     public ImmutableIntList newWith(int element)
     {
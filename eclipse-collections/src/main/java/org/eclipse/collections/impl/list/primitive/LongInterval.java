@@ -0,0 +1,1043 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.list.primitive;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.ExecutorService;
+import java.util.function.LongConsumer;
+
+import org.eclipse.collections.api.LazyLongIterable;
+import org.eclipse.collections.api.LongIterable;
+import org.eclipse.collections.api.ParallelLongIterable;
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.annotation.Beta;
+import org.eclipse.collections.api.bag.primitive.MutableLongBag;
+import org.eclipse.collections.api.block.function.primitive.LongToObjectFunction;
+import org.eclipse.collections.api.block.function.primitive.ObjectLongIntToObjectFunction;
+import org.eclipse.collections.api.block.function.primitive.ObjectLongToObjectFunction;
+import org.eclipse.collections.api.block.predicate.primitive.LongPredicate;
+import org.eclipse.collections.api.block.procedure.primitive.LongIntProcedure;
+import org.eclipse.collections.api.block.procedure.primitive.LongProcedure;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.iterator.LongIterator;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.list.primitive.ImmutableLongList;
+import org.eclipse.collections.api.list.primitive.LongList;
+import org.eclipse.collections.api.list.primitive.MutableLongList;
+import org.eclipse.collections.api.set.primitive.MutableLongSet;
+import org.eclipse.collections.api.tuple.primitive.LongLongPair;
+import org.eclipse.collections.api.tuple.primitive.LongObjectPair;
+import org.eclipse.collections.impl.bag.mutable.primitive.LongHashBag;
+import org.eclipse.collections.impl.block.factory.primitive.LongPredicates;
+import org.eclipse.collections.impl.factory.primitive.LongLists;
+import org.eclipse.collections.impl.lazy.parallel.primitive.LongListParallelIterable;
+import org.eclipse.collections.impl.lazy.primitive.CollectLongToObjectIterable;
+import org.eclipse.collections.impl.lazy.primitive.LazyLongIterableAdapter;
+import org.eclipse.collections.impl.lazy.primitive.ReverseLongIterable;
+import org.eclipse.collections.impl.lazy.primitive.SelectLongIterable;
+import org.eclipse.collections.impl.list.mutable.primitive.LongArrayList;
+import org.eclipse.collections.impl.set.mutable.primitive.LongHashSet;
+import org.eclipse.collections.impl.tuple.primitive.PrimitiveTuples;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * A LongInterval is a range of longs that may be iterated over using a step value. Like {@link IntInterval} it never
+ * materializes its values; {@link #get(int)}, {@link #contains(long)}, {@link #size()}, {@link #sum()}, {@link #min()}
+ * and {@link #max()} are all computed arithmetically. The from and to values may be anywhere in the long range, but
+ * the interval cannot hold more than {@link Integer#MAX_VALUE} values.
+ *
+ * @since 10.3
+ */
+public final class LongInterval
+        implements ImmutableLongList, Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private final long from;
+    private final long to;
+    private final long step;
+
+    private LongInterval(long from, long to, long step)
+    {
+        this.from = from;
+        this.to = to;
+        this.step = step;
+    }
+
+    /**
+     * This static {@code from} method allows LongInterval to act as a fluent builder for itself.
+     * It works in conjunction with the instance methods {@link #to(long)} and {@link #by(long)}.
+     * <p>
+     * Usage Example:
+     * <pre>
+     * LongInterval interval1 = LongInterval.from(1L).to(5L);          // results in: 1, 2, 3, 4, 5.
+     * LongInterval interval2 = LongInterval.from(1L).to(10L).by(2L);  // results in: 1, 3, 5, 7, 9.
+     * </pre>
+     */
+    public static LongInterval from(long newFrom)
+    {
+        return LongInterval.fromToBy(newFrom, newFrom, 1L);
+    }
+
+    /**
+     * This instance {@code to} method allows LongInterval to act as a fluent builder for itself.
+     * It works in conjunction with the static method {@link #from(long)} and instance method {@link #by(long)}.
+     */
+    public LongInterval to(long newTo)
+    {
+        return LongInterval.fromToBy(this.from, newTo, this.step);
+    }
+
+    /**
+     * This instance {@code by} method allows LongInterval to act as a fluent builder for itself.
+     * It works in conjunction with the static method {@link #from(long)} and instance method {@link #to(long)}.
+     */
+    public LongInterval by(long newStep)
+    {
+        return LongInterval.fromToBy(this.from, this.to, newStep);
+    }
+
+    /**
+     * Returns a LongInterval starting at zero.
+     */
+    public static LongInterval zero()
+    {
+        return LongInterval.from(0L);
+    }
+
+    /**
+     * Returns a LongInterval starting from 1 to the specified count value with a step value of 1.
+     */
+    public static LongInterval oneTo(long count)
+    {
+        return LongInterval.oneToBy(count, 1L);
+    }
+
+    /**
+     * Returns a LongInterval starting from 1 to the specified count value with a step value of step.
+     */
+    public static LongInterval oneToBy(long count, long step)
+    {
+        if (count < 1L)
+        {
+            throw new IllegalArgumentException("Only positive ranges allowed using oneToBy");
+        }
+        return LongInterval.fromToBy(1L, count, step);
+    }
+
+    /**
+     * Returns a LongInterval starting from 0 to the specified count value with a step value of 1.
+     */
+    public static LongInterval zeroTo(long count)
+    {
+        return LongInterval.zeroToBy(count, 1L);
+    }
+
+    /**
+     * Returns a LongInterval starting from 0 to the specified count value with a step value of step.
+     */
+    public static LongInterval zeroToBy(long count, long step)
+    {
+        return LongInterval.fromToBy(0L, count, step);
+    }
+
+    /**
+     * Returns a LongInterval starting from the value from to the specified value to with a step value of 1.
+     */
+    public static LongInterval fromTo(long from, long to)
+    {
+        if (from <= to)
+        {
+            return LongInterval.fromToBy(from, to, 1L);
+        }
+        return LongInterval.fromToBy(from, to, -1L);
+    }
+
+    /**
+     * Returns a LongInterval representing the even values from the value from to the value to.
+     */
+    public static LongInterval evensFromTo(long from, long to)
+    {
+        if (from % 2L != 0L)
+        {
+            if (from < to)
+            {
+                from++;
+            }
+            else
+            {
+                from--;
+            }
+        }
+        if (to % 2L != 0L)
+        {
+            if (to > from)
+            {
+                to--;
+            }
+            else
+            {
+                to++;
+            }
+        }
+        return LongInterval.fromToBy(from, to, to > from ? 2L : -2L);
+    }
+
+    /**
+     * Returns a LongInterval representing the odd values from the value from to the value to.
+     */
+    public static LongInterval oddsFromTo(long from, long to)
+    {
+        if (from % 2L == 0L)
+        {
+            if (from < to)
+            {
+                from++;
+            }
+            else
+            {
+                from--;
+            }
+        }
+        if (to % 2L == 0L)
+        {
+            if (to > from)
+            {
+                to--;
+            }
+            else
+            {
+                to++;
+            }
+        }
+        return LongInterval.fromToBy(from, to, to > from ? 2L : -2L);
+    }
+
+    /**
+     * Returns a LongInterval for the range of longs inclusively between from and to with the specified
+     * stepBy value. A stepBy of {@link Long#MIN_VALUE} is rejected, because it cannot be negated to reverse the
+     * interval.
+     */
+    public static LongInterval fromToBy(long from, long to, long stepBy)
+    {
+        if (stepBy == 0L)
+        {
+            throw new IllegalArgumentException("Cannot use a step by of 0");
+        }
+        if (stepBy == Long.MIN_VALUE)
+        {
+            throw new IllegalArgumentException("Cannot use a step by of Long.MIN_VALUE");
+        }
+        if (from > to && stepBy > 0L || from < to && stepBy < 0L)
+        {
+            throw new IllegalArgumentException("Step by is incorrect for the range");
+        }
+        long steps = LongInterval.stepsBetween(from, to, stepBy);
+        if (Long.compareUnsigned(steps, (long) Integer.MAX_VALUE - 1L) > 0)
+        {
+            throw new IllegalArgumentException("Range size: "
+                    + Long.toUnsignedString(steps)
+                    + " + 1 exceeds max size() of "
+                    + Integer.MAX_VALUE);
+        }
+        return new LongInterval(from, to, stepBy);
+    }
+
+    /**
+     * Returns the number of whole steps from {@code from} towards {@code value}, as an unsigned long so that the
+     * distance between any two longs can be represented.
+     */
+    private static long stepsBetween(long from, long value, long step)
+    {
+        return Long.divideUnsigned(LongInterval.distance(from, value), LongInterval.magnitude(step));
+    }
+
+    private static boolean isWholeStepsFrom(long from, long value, long step)
+    {
+        return Long.remainderUnsigned(LongInterval.distance(from, value), LongInterval.magnitude(step)) == 0L;
+    }
+
+    private static long distance(long from, long value)
+    {
+        return from <= value ? value - from : from - value;
+    }
+
+    private static long magnitude(long step)
+    {
+        return step > 0L ? step : -step;
+    }
+
+    private boolean isWithinBoundaries(long value)
+    {
+        return this.step > 0L && this.from <= value && value <= this.to
+                || this.step < 0L && this.to <= value && value <= this.from;
+    }
+
+    private long valueAtIndex(int index)
+    {
+        return this.from + this.step * (long) index;
+    }
+
+    /**
+     * Returns true if the LongInterval contains all of the specified long values.
+     */
+    @Override
+    public boolean containsAll(long... values)
+    {
+        for (long value : values)
+        {
+            if (!this.contains(value))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean containsAll(LongIterable source)
+    {
+        for (LongIterator iterator = source.longIterator(); iterator.hasNext(); )
+        {
+            if (!this.contains(iterator.next()))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the LongInterval contains none of the specified long values.
+     */
+    public boolean containsNone(long... values)
+    {
+        for (long value : values)
+        {
+            if (this.contains(value))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the LongInterval contains the specified long value.
+     */
+    @Override
+    public boolean contains(long value)
+    {
+        return this.isWithinBoundaries(value) && LongInterval.isWholeStepsFrom(this.from, value, this.step);
+    }
+
+    @Override
+    public void forEachWithIndex(LongIntProcedure procedure)
+    {
+        int size = this.size();
+        long value = this.from;
+        for (int i = 0; i < size; i++)
+        {
+            procedure.value(value, i);
+            value += this.step;
+        }
+    }
+
+    @Override
+    public void forEach(LongProcedure procedure)
+    {
+        this.each(procedure);
+    }
+
+    @Override
+    public void each(LongProcedure procedure)
+    {
+        int size = this.size();
+        long value = this.from;
+        for (int i = 0; i < size; i++)
+        {
+            procedure.value(value);
+            value += this.step;
+        }
+    }
+
+    @Override
+    public int count(LongPredicate predicate)
+    {
+        int count = 0;
+        int size = this.size();
+        long value = this.from;
+        for (int i = 0; i < size; i++)
+        {
+            if (predicate.accept(value))
+            {
+                count++;
+            }
+            value += this.step;
+        }
+        return count;
+    }
+
+    @Override
+    public boolean anySatisfy(LongPredicate predicate)
+    {
+        int size = this.size();
+        long value = this.from;
+        for (int i = 0; i < size; i++)
+        {
+            if (predicate.accept(value))
+            {
+                return true;
+            }
+            value += this.step;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean allSatisfy(LongPredicate predicate)
+    {
+        int size = this.size();
+        long value = this.from;
+        for (int i = 0; i < size; i++)
+        {
+            if (!predicate.accept(value))
+            {
+                return false;
+            }
+            value += this.step;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean noneSatisfy(LongPredicate predicate)
+    {
+        return !this.anySatisfy(predicate);
+    }
+
+    @Override
+    public boolean equals(Object otherList)
+    {
+        if (otherList == this)
+        {
+            return true;
+        }
+        if (!(otherList instanceof LongList))
+        {
+            return false;
+        }
+        LongList list = (LongList) otherList;
+        int size = this.size();
+        if (size != list.size())
+        {
+            return false;
+        }
+        if (list instanceof LongInterval)
+        {
+            LongInterval interval = (LongInterval) list;
+            return this.from == interval.from && (size == 1 || this.step == interval.step);
+        }
+        long value = this.from;
+        for (int i = 0; i < size; i++)
+        {
+            if (value != list.get(i))
+            {
+                return false;
+            }
+            value += this.step;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 1;
+        int size = this.size();
+        long value = this.from;
+        for (int i = 0; i < size; i++)
+        {
+            hashCode = 31 * hashCode + (int) (value ^ value >>> 32);
+            value += this.step;
+        }
+        return hashCode;
+    }
+
+    /**
+     * Returns a new LongInterval with the from and to values reversed and the step value negated.
+     */
+    @Override
+    public LongInterval toReversed()
+    {
+        return LongInterval.fromToBy(this.getLast(), this.from, -this.step);
+    }
+
+    @Override
+    public ImmutableLongList distinct()
+    {
+        return this;
+    }
+
+    /**
+     * Returns the values between fromIndex, inclusive, and toIndex, exclusive, as a LongInterval with the same step.
+     */
+    @Override
+    public ImmutableLongList subList(int fromIndex, int toIndex)
+    {
+        if (fromIndex < 0 || toIndex > this.size() || fromIndex > toIndex)
+        {
+            throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", size: " + this.size());
+        }
+        if (fromIndex == toIndex)
+        {
+            return LongLists.immutable.empty();
+        }
+        return new LongInterval(this.valueAtIndex(fromIndex), this.valueAtIndex(toIndex - 1), this.step);
+    }
+
+    /**
+     * Calculates and returns the size of the interval.
+     */
+    @Override
+    public int size()
+    {
+        return (int) LongInterval.stepsBetween(this.from, this.to, this.step) + 1;
+    }
+
+    @Override
+    public long dotProduct(LongList list)
+    {
+        int size = this.size();
+        if (size != list.size())
+        {
+            throw new IllegalArgumentException("Lists used in dotProduct must be the same size");
+        }
+        long sum = 0L;
+        long value = this.from;
+        for (int i = 0; i < size; i++)
+        {
+            sum += value * list.get(i);
+            value += this.step;
+        }
+        return sum;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return false;
+    }
+
+    @Override
+    public boolean notEmpty()
+    {
+        return true;
+    }
+
+    @Override
+    public String makeString()
+    {
+        return this.makeString(", ");
+    }
+
+    @Override
+    public String makeString(String separator)
+    {
+        return this.makeString("", separator, "");
+    }
+
+    @Override
+    public String makeString(String start, String separator, String end)
+    {
+        Appendable stringBuilder = new StringBuilder();
+        this.appendString(stringBuilder, start, separator, end);
+        return stringBuilder.toString();
+    }
+
+    @Override
+    public void appendString(Appendable appendable)
+    {
+        this.appendString(appendable, ", ");
+    }
+
+    @Override
+    public void appendString(Appendable appendable, String separator)
+    {
+        this.appendString(appendable, "", separator, "");
+    }
+
+    @Override
+    public void appendString(
+            Appendable appendable,
+            String start,
+            String separator,
+            String end)
+    {
+        try
+        {
+            appendable.append(start);
+            int size = this.size();
+            long value = this.from;
+            for (int i = 0; i < size; i++)
+            {
+                if (i > 0)
+                {
+                    appendable.append(separator);
+                }
+                appendable.append(String.valueOf(value));
+                value += this.step;
+            }
+            appendable.append(end);
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public long[] toArray()
+    {
+        long[] result = new long[this.size()];
+        this.forEachWithIndex((each, index) -> result[index] = each);
+        return result;
+    }
+
+    @Override
+    public <T> T injectInto(T injectedValue, ObjectLongToObjectFunction<? super T, ? extends T> function)
+    {
+        T result = injectedValue;
+        int size = this.size();
+        long value = this.from;
+        for (int i = 0; i < size; i++)
+        {
+            result = function.valueOf(result, value);
+            value += this.step;
+        }
+        return result;
+    }
+
+    @Override
+    public <T> T injectIntoWithIndex(T injectedValue, ObjectLongIntToObjectFunction<? super T, ? extends T> function)
+    {
+        T result = injectedValue;
+        int size = this.size();
+        long value = this.from;
+        for (int i = 0; i < size; i++)
+        {
+            result = function.valueOf(result, value, i);
+            value += this.step;
+        }
+        return result;
+    }
+
+    /**
+     * Splits the interval into LongIntervals of at most size values each, without copying.
+     */
+    @Override
+    public RichIterable<LongIterable> chunk(int size)
+    {
+        if (size <= 0)
+        {
+            throw new IllegalArgumentException("Size for groups must be positive but was: " + size);
+        }
+        MutableList<LongIterable> result = Lists.mutable.empty();
+        int thisSize = this.size();
+        for (long index = 0L; index < thisSize; index += size)
+        {
+            result.add(this.subList((int) index, (int) Math.min(index + size, thisSize)));
+        }
+        return result;
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.makeString("[", ", ", "]");
+    }
+
+    @Override
+    public LongIterator longIterator()
+    {
+        return new LongIntervalIterator();
+    }
+
+    @Override
+    public long getFirst()
+    {
+        return this.from;
+    }
+
+    @Override
+    public long getLast()
+    {
+        return this.valueAtIndex(this.size() - 1);
+    }
+
+    @Override
+    public long get(int index)
+    {
+        this.checkBounds("index", index);
+        return this.valueAtIndex(index);
+    }
+
+    private void checkBounds(String name, int index)
+    {
+        if (index < 0 || index >= this.size())
+        {
+            throw new IndexOutOfBoundsException(name + ": " + index + ' ' + this);
+        }
+    }
+
+    @Override
+    public int indexOf(long value)
+    {
+        if (!this.contains(value))
+        {
+            return -1;
+        }
+        return (int) LongInterval.stepsBetween(this.from, value, this.step);
+    }
+
+    @Override
+    public int lastIndexOf(long value)
+    {
+        return this.indexOf(value);
+    }
+
+    @Override
+    public ImmutableLongList select(LongPredicate predicate)
+    {
+        return LongArrayList.newList(new SelectLongIterable(this, predicate)).toImmutable();
+    }
+
+    @Override
+    public ImmutableLongList reject(LongPredicate predicate)
+    {
+        return LongArrayList.newList(new SelectLongIterable(this, LongPredicates.not(predicate))).toImmutable();
+    }
+
+    @Override
+    public long detectIfNone(LongPredicate predicate, long ifNone)
+    {
+        return new SelectLongIterable(this, predicate).detectIfNone(predicate, ifNone);
+    }
+
+    @Override
+    public <V> ImmutableList<V> collect(LongToObjectFunction<? extends V> function)
+    {
+        return new CollectLongToObjectIterable<V>(this, function).toList().toImmutable();
+    }
+
+    @Override
+    public LazyLongIterable asReversed()
+    {
+        return ReverseLongIterable.adapt(this);
+    }
+
+    /**
+     * Returns the sum of the interval, computed from its size, first value and step. Overflow wraps around exactly as
+     * it would when adding the values one by one.
+     */
+    @Override
+    public long sum()
+    {
+        long size = this.size();
+        return size * this.from + this.step * (size * (size - 1L) / 2L);
+    }
+
+    @Override
+    public long max()
+    {
+        if (this.from >= this.to)
+        {
+            return this.getFirst();
+        }
+        return this.getLast();
+    }
+
+    @Override
+    public long min()
+    {
+        if (this.from <= this.to)
+        {
+            return this.getFirst();
+        }
+        return this.getLast();
+    }
+
+    @Override
+    public long minIfEmpty(long defaultValue)
+    {
+        return this.min();
+    }
+
+    @Override
+    public long maxIfEmpty(long defaultValue)
+    {
+        return this.max();
+    }
+
+    @Override
+    public double average()
+    {
+        return ((double) this.getFirst() + (double) this.getLast()) / 2.0;
+    }
+
+    /**
+     * The values of an interval are evenly spaced, so the median is the same as the average.
+     */
+    @Override
+    public double median()
+    {
+        return this.average();
+    }
+
+    @Override
+    public int binarySearch(long value)
+    {
+        if (this.step > 0L && this.from > value || this.step < 0L && this.from < value)
+        {
+            return -1;
+        }
+        if (this.step > 0L && this.to < value || this.step < 0L && this.to > value)
+        {
+            return -1 - this.size();
+        }
+        int index = (int) LongInterval.stepsBetween(this.from, value, this.step);
+        return LongInterval.isWholeStepsFrom(this.from, value, this.step) ? index : (index + 2) * -1;
+    }
+
+    @Override
+    public long[] toSortedArray()
+    {
+        if (this.from <= this.to)
+        {
+            return this.toArray();
+        }
+        return this.toReversed().toArray();
+    }
+
+    @Override
+    public MutableLongList toList()
+    {
+        return LongArrayList.newList(this);
+    }
+
+    @Override
+    public MutableLongList toSortedList()
+    {
+        return LongArrayList.newListWith(this.toSortedArray());
+    }
+
+    @Override
+    public MutableLongSet toSet()
+    {
+        return LongHashSet.newSet(this);
+    }
+
+    @Override
+    public MutableLongBag toBag()
+    {
+        return LongHashBag.newBag(this);
+    }
+
+    @Override
+    public LazyLongIterable asLazy()
+    {
+        return new LazyLongIterableAdapter(this);
+    }
+
+    @Override
+    public ImmutableLongList toImmutable()
+    {
+        return this;
+    }
+
+    /**
+     * Returns a parallel iterable which splits the interval into batches of batchSize indexes, each of which computes
+     * its values from the from and step values.
+     */
+    @Beta
+    @Override
+    public ParallelLongIterable asParallel(ExecutorService executorService, int batchSize)
+    {
+        return new LongListParallelIterable(this, executorService, batchSize);
+    }
+
+    @Override
+    public ImmutableLongList newWith(long element)
+    {
+        return LongArrayList.newList(this).with(element).toImmutable();
+    }
+
+    @Override
+    public ImmutableLongList newWithout(long element)
+    {
+        return LongArrayList.newList(this).without(element).toImmutable();
+    }
+
+    @Override
+    public ImmutableLongList newWithAll(LongIterable elements)
+    {
+        return LongArrayList.newList(this).withAll(elements).toImmutable();
+    }
+
+    @Override
+    public ImmutableLongList newWithoutAll(LongIterable elements)
+    {
+        return LongArrayList.newList(this).withoutAll(elements).toImmutable();
+    }
+
+    @Override
+    public ImmutableList<LongLongPair> zipLong(LongIterable iterable)
+    {
+        int size = this.size();
+        int othersize = iterable.size();
+        MutableList<LongLongPair> target = Lists.mutable.withInitialCapacity(Math.min(size, othersize));
+        LongIterator iterator = this.longIterator();
+        LongIterator otherIterator = iterable.longIterator();
+        for (int i = 0; i < size && otherIterator.hasNext(); i++)
+        {
+            target.add(PrimitiveTuples.pair(iterator.next(), otherIterator.next()));
+        }
+        return target.toImmutable();
+    }
+
+    @Override
+    public <T> ImmutableList<LongObjectPair<T>> zip(Iterable<T> iterable)
+    {
+        int size = this.size();
+        int othersize = Iterate.sizeOf(iterable);
+        MutableList<LongObjectPair<T>> target = Lists.mutable.withInitialCapacity(Math.min(size, othersize));
+        LongIterator iterator = this.longIterator();
+        Iterator<T> otherIterator = iterable.iterator();
+        for (int i = 0; i < size && otherIterator.hasNext(); i++)
+        {
+            target.add(PrimitiveTuples.pair(iterator.next(), otherIterator.next()));
+        }
+        return target.toImmutable();
+    }
+
+    @Override
+    public Spliterator.OfLong spliterator()
+    {
+        return new LongIntervalSpliterator(this.from, this.size(), this.step);
+    }
+
+    private class LongIntervalIterator implements LongIterator
+    {
+        private final int size = LongInterval.this.size();
+        private int index;
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.index < this.size;
+        }
+
+        @Override
+        public long next()
+        {
+            if (this.hasNext())
+            {
+                return LongInterval.this.valueAtIndex(this.index++);
+            }
+            throw new NoSuchElementException();
+        }
+    }
+
+    /**
+     * Splits by halving the number of remaining values, so each half is itself an arithmetic range.
+     */
+    private static final class LongIntervalSpliterator implements Spliterator.OfLong
+    {
+        private long current;
+        private int remaining;
+        private final long step;
+
+        private LongIntervalSpliterator(long from, int remaining, long step)
+        {
+            this.current = from;
+            this.remaining = remaining;
+            this.step = step;
+        }
+
+        @Override
+        public Comparator<? super Long> getComparator()
+        {
+            if (this.step > 0L)
+            {
+                return null;
+            }
+            return Comparator.reverseOrder();
+        }
+
+        @Override
+        public OfLong trySplit()
+        {
+            int leftSize = this.remaining >>> 1;
+            if (leftSize == 0)
+            {
+                return null;
+            }
+            OfLong leftSpliterator = new LongIntervalSpliterator(this.current, leftSize, this.step);
+            this.current += this.step * (long) leftSize;
+            this.remaining -= leftSize;
+            return leftSpliterator;
+        }
+
+        @Override
+        public long estimateSize()
+        {
+            return this.remaining;
+        }
+
+        @Override
+        public int characteristics()
+        {
+            return Spliterator.DISTINCT | Spliterator.IMMUTABLE | Spliterator.NONNULL | Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.SORTED;
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action)
+        {
+            if (this.remaining == 0)
+            {
+                return false;
+            }
+            action.accept(this.current);
+            this.current += this.step;
+            this.remaining--;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action)
+        {
+            long value = this.current;
+            for (int i = this.remaining; i > 0; i--)
+            {
+                action.accept(value);
+                value += this.step;
+            }
+            this.current = value;
+            this.remaining = 0;
+        }
+    }
+}
@@ -12,9 +12,12 @@ package org.eclipse.collections.impl.map;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 
 import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.ParallelIterable;
 import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.annotation.Beta;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function0;
 import org.eclipse.collections.api.block.predicate.Predicate;
@@ -23,7 +26,9 @@ import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.block.procedure.Procedure2;
 import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
 import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.AbstractRichIterable;
+import org.eclipse.collections.impl.lazy.parallel.RichIterableParallelIterable;
 
 public abstract class AbstractMapIterable<K, V> extends AbstractRichIterable<V> implements MapIterable<K, V>
 {
@@ -240,4 +245,29 @@ public abstract class AbstractMapIterable<K, V> extends AbstractRichIterable<V>
     {
         return this.valuesView().toArray(a);
     }
+
+    /**
+     * Copies the values into a list on each evaluation and splits the list. Maps which can split their own storage,
+     * like UnifiedMap, override this.
+     */
+    @Beta
+    @Override
+    public ParallelIterable<V> asParallel(ExecutorService executorService, int batchSize)
+    {
+        return new RichIterableParallelIterable<>(this.valuesView(), executorService, batchSize);
+    }
+
+    @Beta
+    @Override
+    public ParallelIterable<K> keysViewAsParallel(ExecutorService executorService, int batchSize)
+    {
+        return new RichIterableParallelIterable<>(this.keysView(), executorService, batchSize);
+    }
+
+    @Beta
+    @Override
+    public ParallelIterable<Pair<K, V>> keyValuesViewAsParallel(ExecutorService executorService, int batchSize)
+    {
+        return new RichIterableParallelIterable<>(this.keyValuesView(), executorService, batchSize);
+    }
 }
@@ -13,8 +13,11 @@ package org.eclipse.collections.impl.map;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
+import org.eclipse.collections.api.ParallelIterable;
 import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.annotation.Beta;
 import org.eclipse.collections.api.bag.MutableBag;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function0;
@@ -36,6 +39,7 @@ import org.eclipse.collections.api.multimap.MutableMultimap;
 import org.eclipse.collections.api.partition.PartitionMutableCollection;
 import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.collection.AbstractSynchronizedRichIterable;
+import org.eclipse.collections.impl.lazy.parallel.SynchronizedParallelIterable;
 import org.eclipse.collections.impl.tuple.AbstractImmutableEntry;
 import org.eclipse.collections.impl.utility.Iterate;
 import org.eclipse.collections.impl.utility.LazyIterate;
@@ -510,4 +514,24 @@ public abstract class AbstractSynchronizedMapIterable<K, V>
         return (MutableMapIterable<K, V>) super.tap(procedure);
     }
 }
+    @Beta
+    @Override
+    public ParallelIterable<V> asParallel(ExecutorService executorService, int batchSize)
+    {
+        return new SynchronizedParallelIterable<>(this.getDelegate().asParallel(executorService, batchSize), this.lock);
+    }
 
+    @Beta
+    @Override
+    public ParallelIterable<K> keysViewAsParallel(ExecutorService executorService, int batchSize)
+    {
+        return new SynchronizedParallelIterable<>(this.getDelegate().keysViewAsParallel(executorService, batchSize), this.lock);
+    }
+
+    @Beta
+    @Override
+    public ParallelIterable<Pair<K, V>> keyValuesViewAsParallel(ExecutorService executorService, int batchSize)
+    {
+        return new SynchronizedParallelIterable<>(this.getDelegate().keyValuesViewAsParallel(executorService, batchSize), this.lock);
+    }
+}
@@ -0,0 +1,920 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.immutable;
+
+import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.eclipse.collections.impl.utility.LazyIterate;
+
+/**
+ * ImmutableHashTrieMap is an ImmutableMap stored as a hash array mapped trie, in the compressed form described by
+ * Steindorfer and Vinju as CHAMP. Each node of the trie consumes five bits of the hash code of a key and holds up to
+ * thirty-two entries or child nodes, indexed through two bitmaps so that only the occupied slots are allocated.
+ * <p>
+ * Unlike {@link ImmutableUnifiedMap}, which copies its whole table, {@link #newWithKeyValue(Object, Object)} and
+ * {@link #newWithoutKey(Object)} copy only the nodes on the path from the root to the changed entry and share every
+ * other node with the original map, so they take O(log n) time and space. Keys whose hash codes are equal in all 32
+ * bits are kept together in a collision node at the bottom of the trie.
+ * <p>
+ * Null keys and values are supported.
+ *
+ * @since 10.3
+ */
+public final class ImmutableHashTrieMap<K, V>
+        extends AbstractImmutableMap<K, V>
+        implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final int BITS_PER_LEVEL = 5;
+    private static final int LEVEL_MASK = (1 << BITS_PER_LEVEL) - 1;
+    private static final int HASH_BITS = 32;
+
+    private static final Object NOT_FOUND = new Object();
+
+    private static final ImmutableHashTrieMap<?, ?> EMPTY = new ImmutableHashTrieMap<>(BitmapNode.EMPTY, 0);
+
+    private final Node root;
+    private final int size;
+
+    private ImmutableHashTrieMap(Node root, int size)
+    {
+        this.root = root;
+        this.size = size;
+    }
+
+    public static <K, V> ImmutableHashTrieMap<K, V> empty()
+    {
+        return (ImmutableHashTrieMap<K, V>) EMPTY;
+    }
+
+    public static <K, V> ImmutableHashTrieMap<K, V> newMap(Map<? extends K, ? extends V> map)
+    {
+        if (map instanceof ImmutableHashTrieMap<?, ?>)
+        {
+            return (ImmutableHashTrieMap<K, V>) map;
+        }
+        Change change = new Change();
+        Node root = BitmapNode.EMPTY;
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet())
+        {
+            K key = entry.getKey();
+            root = root.put(key, entry.getValue(), ImmutableHashTrieMap.hash(key), 0, change);
+        }
+        return ImmutableHashTrieMap.newMap(root, change.sizeDelta);
+    }
+
+    public static <K, V> ImmutableHashTrieMap<K, V> newMapWith(Pair<K, V>... pairs)
+    {
+        return ImmutableHashTrieMap.<K, V>empty().newWithAllKeyValueArguments(pairs);
+    }
+
+    private static <K, V> ImmutableHashTrieMap<K, V> newMap(Node root, int size)
+    {
+        return size == 0 ? ImmutableHashTrieMap.empty() : new ImmutableHashTrieMap<>(root, size);
+    }
+
+    private static int hash(Object key)
+    {
+        int h = key == null ? 0 : key.hashCode();
+        return h ^ h >>> 16;
+    }
+
+    private static int mask(int hash, int shift)
+    {
+        return hash >>> shift & LEVEL_MASK;
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return this.root.find(key, ImmutableHashTrieMap.hash(key), 0) != NOT_FOUND;
+    }
+
+    @Override
+    public boolean containsValue(Object value)
+    {
+        return this.root.containsValue(value);
+    }
+
+    @Override
+    public V get(Object key)
+    {
+        Object result = this.root.find(key, ImmutableHashTrieMap.hash(key), 0);
+        return result == NOT_FOUND ? null : (V) result;
+    }
+
+    @Override
+    public V getIfAbsent(K key, Function0<? extends V> function)
+    {
+        Object result = this.root.find(key, ImmutableHashTrieMap.hash(key), 0);
+        return result == NOT_FOUND ? function.value() : (V) result;
+    }
+
+    @Override
+    public V getIfAbsentValue(K key, V value)
+    {
+        Object result = this.root.find(key, ImmutableHashTrieMap.hash(key), 0);
+        return result == NOT_FOUND ? value : (V) result;
+    }
+
+    @Override
+    public <P> V getIfAbsentWith(K key, Function<? super P, ? extends V> function, P parameter)
+    {
+        Object result = this.root.find(key, ImmutableHashTrieMap.hash(key), 0);
+        return result == NOT_FOUND ? function.valueOf(parameter) : (V) result;
+    }
+
+    @Override
+    public <A> A ifPresentApply(K key, Function<? super V, ? extends A> function)
+    {
+        Object result = this.root.find(key, ImmutableHashTrieMap.hash(key), 0);
+        return result == NOT_FOUND ? null : function.valueOf((V) result);
+    }
+
+    @Override
+    public ImmutableHashTrieMap<K, V> newWithKeyValue(K key, V value)
+    {
+        Change change = new Change();
+        Node newRoot = this.root.put(key, value, ImmutableHashTrieMap.hash(key), 0, change);
+        return newRoot == this.root ? this : new ImmutableHashTrieMap<>(newRoot, this.size + change.sizeDelta);
+    }
+
+    @Override
+    public ImmutableHashTrieMap<K, V> newWithAllKeyValues(Iterable<? extends Pair<? extends K, ? extends V>> keyValues)
+    {
+        Change change = new Change();
+        Node newRoot = this.root;
+        for (Pair<? extends K, ? extends V> keyValuePair : keyValues)
+        {
+            K key = keyValuePair.getOne();
+            newRoot = newRoot.put(key, keyValuePair.getTwo(), ImmutableHashTrieMap.hash(key), 0, change);
+        }
+        return newRoot == this.root ? this : ImmutableHashTrieMap.newMap(newRoot, this.size + change.sizeDelta);
+    }
+
+    @Override
+    public ImmutableHashTrieMap<K, V> newWithAllKeyValueArguments(Pair<? extends K, ? extends V>... keyValuePairs)
+    {
+        Change change = new Change();
+        Node newRoot = this.root;
+        for (Pair<? extends K, ? extends V> keyValuePair : keyValuePairs)
+        {
+            K key = keyValuePair.getOne();
+            newRoot = newRoot.put(key, keyValuePair.getTwo(), ImmutableHashTrieMap.hash(key), 0, change);
+        }
+        return newRoot == this.root ? this : ImmutableHashTrieMap.newMap(newRoot, this.size + change.sizeDelta);
+    }
+
+    @Override
+    public ImmutableHashTrieMap<K, V> newWithoutKey(K key)
+    {
+        Change change = new Change();
+        Node newRoot = this.root.remove(key, ImmutableHashTrieMap.hash(key), 0, change);
+        return newRoot == this.root ? this : ImmutableHashTrieMap.newMap(newRoot, this.size + change.sizeDelta);
+    }
+
+    @Override
+    public ImmutableHashTrieMap<K, V> newWithoutAllKeys(Iterable<? extends K> keys)
+    {
+        Change change = new Change();
+        Node newRoot = this.root;
+        for (K key : keys)
+        {
+            newRoot = newRoot.remove(key, ImmutableHashTrieMap.hash(key), 0, change);
+        }
+        return newRoot == this.root ? this : ImmutableHashTrieMap.newMap(newRoot, this.size + change.sizeDelta);
+    }
+
+    @Override
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        this.root.forEachKeyValue((Procedure2<Object, Object>) procedure);
+    }
+
+    @Override
+    public void forEachKey(Procedure<? super K> procedure)
+    {
+        this.root.forEachKey((Procedure<Object>) procedure);
+    }
+
+    @Override
+    public void forEachValue(Procedure<? super V> procedure)
+    {
+        this.root.forEachValue((Procedure<Object>) procedure);
+    }
+
+    @Override
+    public Set<K> keySet()
+    {
+        return new KeySet();
+    }
+
+    @Override
+    public Collection<V> values()
+    {
+        return new ValuesCollection();
+    }
+
+    @Override
+    public RichIterable<K> keysView()
+    {
+        return LazyIterate.adapt(this.keySet());
+    }
+
+    @Override
+    public RichIterable<V> valuesView()
+    {
+        return LazyIterate.adapt(this.values());
+    }
+
+    @Override
+    public RichIterable<Pair<K, V>> keyValuesView()
+    {
+        return LazyIterate.adapt(new KeyValuesCollection());
+    }
+
+    @Override
+    public Iterator<V> iterator()
+    {
+        return new ValuesIterator();
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return this.root.entriesHashCode();
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+        if (!(object instanceof Map))
+        {
+            return false;
+        }
+        Map<?, ?> other = (Map<?, ?>) object;
+        return this.size == other.size() && this.root.entriesContainedIn(other);
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder();
+        builder.append('{');
+
+        this.forEachKeyValue(new Procedure2<K, V>()
+        {
+            private boolean first = true;
+
+            public void value(K key, V value)
+            {
+                if (this.first)
+                {
+                    this.first = false;
+                }
+                else
+                {
+                    builder.append(", ");
+                }
+
+                builder.append(key == ImmutableHashTrieMap.this ? "(this Map)" : String.valueOf(key));
+                builder.append('=');
+                builder.append(value == ImmutableHashTrieMap.this ? "(this Map)" : String.valueOf(value));
+            }
+        });
+
+        builder.append('}');
+        return builder.toString();
+    }
+
+    private Object writeReplace()
+    {
+        return new ImmutableMapSerializationProxy<>(this);
+    }
+
+    /**
+     * Counts the entries added or removed while a new root is built, so that the size of the new map is known without
+     * a second lookup.
+     */
+    private static final class Change
+    {
+        private int sizeDelta;
+    }
+
+    private abstract static class Node
+    {
+        /**
+         * Returns the value mapped to {@code key}, or {@link #NOT_FOUND}.
+         */
+        abstract Object find(Object key, int hash, int shift);
+
+        /**
+         * Returns a node which maps {@code key} to {@code value}, or this node if it already does.
+         */
+        abstract Node put(Object key, Object value, int hash, int shift, Change change);
+
+        /**
+         * Returns a node without {@code key}, or this node if it does not contain it.
+         */
+        abstract Node remove(Object key, int hash, int shift, Change change);
+
+        abstract int payloadArity();
+
+        abstract Object keyAt(int index);
+
+        abstract Object valueAt(int index);
+
+        abstract int nodeArity();
+
+        abstract Node nodeAt(int index);
+
+        boolean hasSingleEntry()
+        {
+            return this.payloadArity() == 1 && this.nodeArity() == 0;
+        }
+
+        void forEachKeyValue(Procedure2<Object, Object> procedure)
+        {
+            for (int i = 0; i < this.payloadArity(); i++)
+            {
+                procedure.value(this.keyAt(i), this.valueAt(i));
+            }
+            for (int i = 0; i < this.nodeArity(); i++)
+            {
+                this.nodeAt(i).forEachKeyValue(procedure);
+            }
+        }
+
+        void forEachKey(Procedure<Object> procedure)
+        {
+            for (int i = 0; i < this.payloadArity(); i++)
+            {
+                procedure.value(this.keyAt(i));
+            }
+            for (int i = 0; i < this.nodeArity(); i++)
+            {
+                this.nodeAt(i).forEachKey(procedure);
+            }
+        }
+
+        void forEachValue(Procedure<Object> procedure)
+        {
+            for (int i = 0; i < this.payloadArity(); i++)
+            {
+                procedure.value(this.valueAt(i));
+            }
+            for (int i = 0; i < this.nodeArity(); i++)
+            {
+                this.nodeAt(i).forEachValue(procedure);
+            }
+        }
+
+        boolean containsValue(Object value)
+        {
+            for (int i = 0; i < this.payloadArity(); i++)
+            {
+                if (Objects.equals(this.valueAt(i), value))
+                {
+                    return true;
+                }
+            }
+            for (int i = 0; i < this.nodeArity(); i++)
+            {
+                if (this.nodeAt(i).containsValue(value))
+                {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        int entriesHashCode()
+        {
+            int hashCode = 0;
+            for (int i = 0; i < this.payloadArity(); i++)
+            {
+                hashCode += Objects.hashCode(this.keyAt(i)) ^ Objects.hashCode(this.valueAt(i));
+            }
+            for (int i = 0; i < this.nodeArity(); i++)
+            {
+                hashCode += this.nodeAt(i).entriesHashCode();
+            }
+            return hashCode;
+        }
+
+        boolean entriesContainedIn(Map<?, ?> map)
+        {
+            for (int i = 0; i < this.payloadArity(); i++)
+            {
+                Object key = this.keyAt(i);
+                Object value = this.valueAt(i);
+                if (value == null ? map.get(key) != null || !map.containsKey(key) : !value.equals(map.get(key)))
+                {
+                    return false;
+                }
+            }
+            for (int i = 0; i < this.nodeArity(); i++)
+            {
+                if (!this.nodeAt(i).entriesContainedIn(map))
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * A node indexed by five bits of the hash code. The entries stored inline come first in {@code content} as
+     * alternating keys and values, ordered by bit position; the child nodes follow in reverse bit position order, so
+     * that each group can grow towards the other without knowing the size of the other.
+     */
+    private static final class BitmapNode extends Node
+    {
+        private static final BitmapNode EMPTY = new BitmapNode(0, 0, new Object[0]);
+
+        private final int dataMap;
+        private final int nodeMap;
+        private final Object[] content;
+
+        private BitmapNode(int dataMap, int nodeMap, Object[] content)
+        {
+            this.dataMap = dataMap;
+            this.nodeMap = nodeMap;
+            this.content = content;
+        }
+
+        private static Node merge(Object key0, Object value0, int hash0, Object key1, Object value1, int hash1, int shift)
+        {
+            if (shift >= HASH_BITS)
+            {
+                return new CollisionNode(hash0, new Object[]{key0, value0, key1, value1});
+            }
+            int mask0 = ImmutableHashTrieMap.mask(hash0, shift);
+            int mask1 = ImmutableHashTrieMap.mask(hash1, shift);
+            if (mask0 == mask1)
+            {
+                Node node = BitmapNode.merge(key0, value0, hash0, key1, value1, hash1, shift + BITS_PER_LEVEL);
+                return new BitmapNode(0, 1 << mask0, new Object[]{node});
+            }
+            int dataMap = 1 << mask0 | 1 << mask1;
+            return mask0 < mask1
+                    ? new BitmapNode(dataMap, 0, new Object[]{key0, value0, key1, value1})
+                    : new BitmapNode(dataMap, 0, new Object[]{key1, value1, key0, value0});
+        }
+
+        private int dataIndex(int bit)
+        {
+            return Integer.bitCount(this.dataMap & bit - 1) << 1;
+        }
+
+        private int nodeIndex(int bit)
+        {
+            return this.content.length - 1 - Integer.bitCount(this.nodeMap & bit - 1);
+        }
+
+        @Override
+        Object find(Object key, int hash, int shift)
+        {
+            int bit = 1 << ImmutableHashTrieMap.mask(hash, shift);
+            if ((this.dataMap & bit) != 0)
+            {
+                int index = this.dataIndex(bit);
+                return Objects.equals(this.content[index], key) ? this.content[index + 1] : NOT_FOUND;
+            }
+            if ((this.nodeMap & bit) != 0)
+            {
+                return ((Node) this.content[this.nodeIndex(bit)]).find(key, hash, shift + BITS_PER_LEVEL);
+            }
+            return NOT_FOUND;
+        }
+
+        @Override
+        Node put(Object key, Object value, int hash, int shift, Change change)
+        {
+            int bit = 1 << ImmutableHashTrieMap.mask(hash, shift);
+            if ((this.dataMap & bit) != 0)
+            {
+                int index = this.dataIndex(bit);
+                Object currentKey = this.content[index];
+                Object currentValue = this.content[index + 1];
+                if (Objects.equals(currentKey, key))
+                {
+                    if (currentValue == value)
+                    {
+                        return this;
+                    }
+                    Object[] newContent = this.content.clone();
+                    newContent[index + 1] = value;
+                    return new BitmapNode(this.dataMap, this.nodeMap, newContent);
+                }
+                Node node = BitmapNode.merge(
+                        currentKey, currentValue, ImmutableHashTrieMap.hash(currentKey),
+                        key, value, hash,
+                        shift + BITS_PER_LEVEL);
+                change.sizeDelta++;
+                return this.copyAndMigrateToNode(bit, index, node);
+            }
+            if ((this.nodeMap & bit) != 0)
+            {
+                int index = this.nodeIndex(bit);
+                Node node = (Node) this.content[index];
+                Node newNode = node.put(key, value, hash, shift + BITS_PER_LEVEL, change);
+                if (newNode == node)
+                {
+                    return this;
+                }
+                Object[] newContent = this.content.clone();
+                newContent[index] = newNode;
+                return new BitmapNode(this.dataMap, this.nodeMap, newContent);
+            }
+            change.sizeDelta++;
+            int index = this.dataIndex(bit);
+            Object[] newContent = new Object[this.content.length + 2];
+            System.arraycopy(this.content, 0, newContent, 0, index);
+            newContent[index] = key;
+            newContent[index + 1] = value;
+            System.arraycopy(this.content, index, newContent, index + 2, this.content.length - index);
+            return new BitmapNode(this.dataMap | bit, this.nodeMap, newContent);
+        }
+
+        @Override
+        Node remove(Object key, int hash, int shift, Change change)
+        {
+            int bit = 1 << ImmutableHashTrieMap.mask(hash, shift);
+            if ((this.dataMap & bit) != 0)
+            {
+                int index = this.dataIndex(bit);
+                if (!Objects.equals(this.content[index], key))
+                {
+                    return this;
+                }
+                change.sizeDelta--;
+                Object[] newContent = new Object[this.content.length - 2];
+                System.arraycopy(this.content, 0, newContent, 0, index);
+                System.arraycopy(this.content, index + 2, newContent, index, newContent.length - index);
+                return new BitmapNode(this.dataMap ^ bit, this.nodeMap, newContent);
+            }
+            if ((this.nodeMap & bit) != 0)
+            {
+                int index = this.nodeIndex(bit);
+                Node node = (Node) this.content[index];
+                Node newNode = node.remove(key, hash, shift + BITS_PER_LEVEL, change);
+                if (newNode == node)
+                {
+                    return this;
+                }
+                if (newNode.hasSingleEntry())
+                {
+                    // Keeps the trie canonical: a node below the root always holds at least two entries
+                    return this.copyAndMigrateToData(bit, index, newNode.keyAt(0), newNode.valueAt(0));
+                }
+                Object[] newContent = this.content.clone();
+                newContent[index] = newNode;
+                return new BitmapNode(this.dataMap, this.nodeMap, newContent);
+            }
+            return this;
+        }
+
+        private Node copyAndMigrateToNode(int bit, int dataIndex, Node node)
+        {
+            Object[] newContent = new Object[this.content.length - 1];
+            int newNodeIndex = newContent.length - 1 - Integer.bitCount(this.nodeMap & bit - 1);
+            System.arraycopy(this.content, 0, newContent, 0, dataIndex);
+            System.arraycopy(this.content, dataIndex + 2, newContent, dataIndex, newNodeIndex - dataIndex);
+            newContent[newNodeIndex] = node;
+            System.arraycopy(this.content, newNodeIndex + 2, newContent, newNodeIndex + 1, newContent.length - newNodeIndex - 1);
+            return new BitmapNode(this.dataMap ^ bit, this.nodeMap | bit, newContent);
+        }
+
+        private Node copyAndMigrateToData(int bit, int nodeIndex, Object key, Object value)
+        {
+            int dataIndex = this.dataIndex(bit);
+            Object[] newContent = new Object[this.content.length + 1];
+            System.arraycopy(this.content, 0, newContent, 0, dataIndex);
+            newContent[dataIndex] = key;
+            newContent[dataIndex + 1] = value;
+            System.arraycopy(this.content, dataIndex, newContent, dataIndex + 2, nodeIndex - dataIndex);
+            System.arraycopy(this.content, nodeIndex + 1, newContent, nodeIndex + 2, this.content.length - nodeIndex - 1);
+            return new BitmapNode(this.dataMap | bit, this.nodeMap ^ bit, newContent);
+        }
+
+        @Override
+        int payloadArity()
+        {
+            return Integer.bitCount(this.dataMap);
+        }
+
+        @Override
+        Object keyAt(int index)
+        {
+            return this.content[index << 1];
+        }
+
+        @Override
+        Object valueAt(int index)
+        {
+            return this.content[(index << 1) + 1];
+        }
+
+        @Override
+        int nodeArity()
+        {
+            return Integer.bitCount(this.nodeMap);
+        }
+
+        @Override
+        Node nodeAt(int index)
+        {
+            return (Node) this.content[this.content.length - 1 - index];
+        }
+    }
+
+    /**
+     * A leaf holding the entries whose keys have the same 32 bit hash code, as alternating keys and values.
+     */
+    private static final class CollisionNode extends Node
+    {
+        private final int hash;
+        private final Object[] content;
+
+        private CollisionNode(int hash, Object[] content)
+        {
+            this.hash = hash;
+            this.content = content;
+        }
+
+        private int indexOf(Object key)
+        {
+            for (int i = 0; i < this.content.length; i += 2)
+            {
+                if (Objects.equals(this.content[i], key))
+                {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        Object find(Object key, int hash, int shift)
+        {
+            int index = this.indexOf(key);
+            return index < 0 ? NOT_FOUND : this.content[index + 1];
+        }
+
+        @Override
+        Node put(Object key, Object value, int hash, int shift, Change change)
+        {
+            int index = this.indexOf(key);
+            if (index >= 0)
+            {
+                if (this.content[index + 1] == value)
+                {
+                    return this;
+                }
+                Object[] newContent = this.content.clone();
+                newContent[index + 1] = value;
+                return new CollisionNode(this.hash, newContent);
+            }
+            change.sizeDelta++;
+            Object[] newContent = new Object[this.content.length + 2];
+            System.arraycopy(this.content, 0, newContent, 0, this.content.length);
+            newContent[this.content.length] = key;
+            newContent[this.content.length + 1] = value;
+            return new CollisionNode(this.hash, newContent);
+        }
+
+        @Override
+        Node remove(Object key, int hash, int shift, Change change)
+        {
+            int index = this.indexOf(key);
+            if (index < 0)
+            {
+                return this;
+            }
+            change.sizeDelta--;
+            Object[] newContent = new Object[this.content.length - 2];
+            System.arraycopy(this.content, 0, newContent, 0, index);
+            System.arraycopy(this.content, index + 2, newContent, index, newContent.length - index);
+            return new CollisionNode(this.hash, newContent);
+        }
+
+        @Override
+        int payloadArity()
+        {
+            return this.content.length >> 1;
+        }
+
+        @Override
+        Object keyAt(int index)
+        {
+            return this.content[index << 1];
+        }
+
+        @Override
+        Object valueAt(int index)
+        {
+            return this.content[(index << 1) + 1];
+        }
+
+        @Override
+        int nodeArity()
+        {
+            return 0;
+        }
+
+        @Override
+        Node nodeAt(int index)
+        {
+            throw new IndexOutOfBoundsException("Collision nodes have no child nodes");
+        }
+    }
+
+    /**
+     * Walks the trie depth first, visiting the inline entries of a node before its child nodes. The depth of the trie
+     * is bounded by the hash code width, so the path is kept in fixed size arrays.
+     */
+    private abstract class TrieIterator<T> implements Iterator<T>
+    {
+        private final Node[] nodes = new Node[HASH_BITS / BITS_PER_LEVEL + 2];
+        private final int[] nodeCursors = new int[HASH_BITS / BITS_PER_LEVEL + 2];
+        private int depth;
+
+        private Node payloadNode;
+        private int payloadCursor;
+
+        protected TrieIterator()
+        {
+            this.nodes[0] = ImmutableHashTrieMap.this.root;
+            this.payloadNode = ImmutableHashTrieMap.this.root;
+        }
+
+        protected abstract T valueAt(Node node, int index);
+
+        @Override
+        public boolean hasNext()
+        {
+            while (this.payloadCursor >= this.payloadNode.payloadArity())
+            {
+                if (this.depth < 0)
+                {
+                    return false;
+                }
+                Node node = this.nodes[this.depth];
+                int cursor = this.nodeCursors[this.depth];
+                if (cursor < node.nodeArity())
+                {
+                    this.nodeCursors[this.depth] = cursor + 1;
+                    Node child = node.nodeAt(cursor);
+                    this.depth++;
+                    this.nodes[this.depth] = child;
+                    this.nodeCursors[this.depth] = 0;
+                    this.payloadNode = child;
+                    this.payloadCursor = 0;
+                }
+                else
+                {
+                    this.nodes[this.depth] = null;
+                    this.depth--;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            return this.valueAt(this.payloadNode, this.payloadCursor++);
+        }
+
+        @Override
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot remove from an ImmutableHashTrieMap");
+        }
+    }
+
+    private final class KeysIterator extends TrieIterator<K>
+    {
+        @Override
+        protected K valueAt(Node node, int index)
+        {
+            return (K) node.keyAt(index);
+        }
+    }
+
+    private final class ValuesIterator extends TrieIterator<V>
+    {
+        @Override
+        protected V valueAt(Node node, int index)
+        {
+            return (V) node.valueAt(index);
+        }
+    }
+
+    private final class KeyValuesIterator extends TrieIterator<Pair<K, V>>
+    {
+        @Override
+        protected Pair<K, V> valueAt(Node node, int index)
+        {
+            return Tuples.pair((K) node.keyAt(index), (V) node.valueAt(index));
+        }
+    }
+
+    private final class KeySet extends AbstractSet<K>
+    {
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new KeysIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return ImmutableHashTrieMap.this.size;
+        }
+
+        @Override
+        public boolean contains(Object key)
+        {
+            return ImmutableHashTrieMap.this.containsKey(key);
+        }
+    }
+
+    private final class ValuesCollection extends AbstractCollection<V>
+    {
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new ValuesIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return ImmutableHashTrieMap.this.size;
+        }
+
+        @Override
+        public boolean contains(Object value)
+        {
+            return ImmutableHashTrieMap.this.containsValue(value);
+        }
+    }
+
+    private final class KeyValuesCollection extends AbstractCollection<Pair<K, V>>
+    {
+        @Override
+        public Iterator<Pair<K, V>> iterator()
+        {
+            return new KeyValuesIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return ImmutableHashTrieMap.this.size;
+        }
+    }
+}
@@ -20,6 +20,12 @@ public class ImmutableMapFactoryImpl implements ImmutableMapFactory
 {
     public static final ImmutableMapFactory INSTANCE = new ImmutableMapFactoryImpl();
 
+    /**
+     * Maps larger than this are stored in an {@link ImmutableHashTrieMap}, which can add or remove a key without copying
+     * every entry, rather than in an {@link ImmutableUnifiedMap}.
+     */
+    private static final int HASH_TRIE_THRESHOLD = 1024;
+
     @Override
     public <K, V> ImmutableMap<K, V> empty()
     {
@@ -155,6 +161,11 @@ public class ImmutableMapFactoryImpl implements ImmutableMapFactory
             return this.of();
         }
 
+        if (map.size() > HASH_TRIE_THRESHOLD)
+        {
+            return ImmutableHashTrieMap.newMap(map);
+        }
+
         if (map.size() > 4)
         {
             return new ImmutableUnifiedMap<>(map);
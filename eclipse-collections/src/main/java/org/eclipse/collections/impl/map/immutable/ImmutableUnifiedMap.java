@@ -14,8 +14,11 @@ import java.io.Serializable;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
+import org.eclipse.collections.api.ParallelIterable;
 import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.annotation.Beta;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function0;
 import org.eclipse.collections.api.block.procedure.Procedure;
@@ -149,6 +152,27 @@ public class ImmutableUnifiedMap<K, V>
         return this.delegate.keyValuesView();
     }
 
+    @Beta
+    @Override
+    public ParallelIterable<V> asParallel(ExecutorService executorService, int batchSize)
+    {
+        return this.delegate.asParallel(executorService, batchSize);
+    }
+
+    @Beta
+    @Override
+    public ParallelIterable<K> keysViewAsParallel(ExecutorService executorService, int batchSize)
+    {
+        return this.delegate.keysViewAsParallel(executorService, batchSize);
+    }
+
+    @Beta
+    @Override
+    public ParallelIterable<Pair<K, V>> keyValuesViewAsParallel(ExecutorService executorService, int batchSize)
+    {
+        return this.delegate.keyValuesViewAsParallel(executorService, batchSize);
+    }
+
     @Override
     public void forEachWithIndex(ObjectIntProcedure<? super V> objectIntProcedure)
     {
@@ -0,0 +1,1165 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.function.primitive.IntFunction;
+import org.eclipse.collections.api.block.function.primitive.LongFunction0;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.ConcurrentMutableMap;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.tuple.ImmutableEntry;
+
+/**
+ * A ConcurrentMutableMap with a maximum size or total weight and optional expiry, for use as a bounded cache. Entries
+ * are stored in a java.util.concurrent.ConcurrentHashMap, so reads and writes of different keys do not contend.
+ * <p>
+ * When a write takes the map over its maximum weight, the writing thread evicts entries if no other thread is already
+ * doing so; other writers never wait for it. Entries are chosen with a generalized CLOCK policy: a hand sweeps the
+ * entries, each read raises a small per-entry frequency which the hand lowers as it passes, and entries the hand
+ * reaches with no frequency left are evicted. This approximates LRU and LFU without any shared structure on the read
+ * path. The map may briefly exceed its maximum while an eviction is in progress.
+ * <p>
+ * Expired entries are removed when they are read or reached by the hand, or by {@link #cleanUp()}, so {@link #size()}
+ * and the views may include expired entries until then. Entries removed because of the maximum weight or expiry are
+ * passed to the eviction listener and counted by {@link #evictionCount()}. Null keys and values are not supported.
+ * <p>
+ * The serialized form holds the bounds, expiry, weigher, listener and ticker along with the live entries. Ticker times
+ * are not comparable between processes, so the expiry of each deserialized entry starts again when it is read back.
+ *
+ * @since 10.3
+ */
+public final class BoundedConcurrentHashMap<K, V>
+        extends AbstractMutableMap<K, V>
+        implements ConcurrentMutableMap<K, V>, Serializable
+{
+    private static final long serialVersionUID = 1L;
+    private static final int MAXIMUM_FREQUENCY = 3;
+    private static final long NO_EXPIRY = 0L;
+    private static final LongFunction0 SYSTEM_TICKER = System::nanoTime;
+
+    private final ConcurrentHashMap<K, Node<K, V>> delegate;
+    private final long maximumWeight;
+    private final IntFunction<? super V> weigher;
+    private final long expireAfterWriteNanos;
+    private final long expireAfterAccessNanos;
+    private final LongFunction0 ticker;
+    private final Procedure2<? super K, ? super V> evictionListener;
+
+    private final AtomicLong weightedSize = new AtomicLong();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private Iterator<Node<K, V>> clockHand;
+
+    private BoundedConcurrentHashMap(Builder<? super K, ? super V> builder)
+    {
+        this.delegate = new ConcurrentHashMap<>(builder.initialCapacity);
+        this.maximumWeight = builder.maximumWeight;
+        this.weigher = builder.weigher;
+        this.expireAfterWriteNanos = builder.expireAfterWriteNanos;
+        this.expireAfterAccessNanos = builder.expireAfterAccessNanos;
+        this.ticker = builder.ticker;
+        this.evictionListener = builder.evictionListener;
+    }
+
+    private BoundedConcurrentHashMap(BoundedConcurrentHashMap<K, V> template)
+    {
+        this.delegate = new ConcurrentHashMap<>();
+        this.maximumWeight = template.maximumWeight;
+        this.weigher = template.weigher;
+        this.expireAfterWriteNanos = template.expireAfterWriteNanos;
+        this.expireAfterAccessNanos = template.expireAfterAccessNanos;
+        this.ticker = template.ticker;
+        this.evictionListener = template.evictionListener;
+    }
+
+    public static <NK, NV> BoundedConcurrentHashMap<NK, NV> newMap(long maximumSize)
+    {
+        return BoundedConcurrentHashMap.<NK, NV>newBuilder().maximumSize(maximumSize).build();
+    }
+
+    public static <NK, NV> Builder<NK, NV> newBuilder()
+    {
+        return new Builder<>();
+    }
+
+    /**
+     * Returns the number of reads which found a live entry.
+     */
+    public long hitCount()
+    {
+        return this.hitCount.sum();
+    }
+
+    /**
+     * Returns the number of reads which found no entry or an expired entry.
+     */
+    public long missCount()
+    {
+        return this.missCount.sum();
+    }
+
+    /**
+     * Returns the number of entries removed because of the maximum weight or expiry.
+     */
+    public long evictionCount()
+    {
+        return this.evictionCount.sum();
+    }
+
+    /**
+     * Returns the total weight of the entries, which is the number of entries if no weigher was specified.
+     */
+    public long weightedSize()
+    {
+        return this.weightedSize.get();
+    }
+
+    public long getMaximumWeight()
+    {
+        return this.maximumWeight;
+    }
+
+    /**
+     * Removes all expired entries, and evicts entries if the map is over its maximum weight.
+     */
+    public void cleanUp()
+    {
+        if (this.expires())
+        {
+            long now = this.ticker.value();
+            for (Node<K, V> node : this.delegate.values())
+            {
+                if (this.isExpired(node, now))
+                {
+                    this.evict(node);
+                }
+            }
+        }
+        this.evictIfNeeded();
+    }
+
+    @Override
+    public BoundedConcurrentHashMap<K, V> withKeyValue(K key, V value)
+    {
+        return (BoundedConcurrentHashMap<K, V>) super.withKeyValue(key, value);
+    }
+
+    @Override
+    public BoundedConcurrentHashMap<K, V> withAllKeyValues(Iterable<? extends Pair<? extends K, ? extends V>> keyValues)
+    {
+        return (BoundedConcurrentHashMap<K, V>) super.withAllKeyValues(keyValues);
+    }
+
+    @Override
+    public BoundedConcurrentHashMap<K, V> withAllKeyValueArguments(Pair<? extends K, ? extends V>... keyValues)
+    {
+        return (BoundedConcurrentHashMap<K, V>) super.withAllKeyValueArguments(keyValues);
+    }
+
+    @Override
+    public BoundedConcurrentHashMap<K, V> withoutKey(K key)
+    {
+        return (BoundedConcurrentHashMap<K, V>) super.withoutKey(key);
+    }
+
+    @Override
+    public BoundedConcurrentHashMap<K, V> withoutAllKeys(Iterable<? extends K> keys)
+    {
+        return (BoundedConcurrentHashMap<K, V>) super.withoutAllKeys(keys);
+    }
+
+    /**
+     * Returns a map with the same configuration and entries as this map. Each entry keeps its write and access times,
+     * so it expires from the clone when it would have expired from this map.
+     */
+    @Override
+    public BoundedConcurrentHashMap<K, V> clone()
+    {
+        BoundedConcurrentHashMap<K, V> clone = new BoundedConcurrentHashMap<>(this);
+        for (Node<K, V> node : this.delegate.values())
+        {
+            Node<K, V> copy = new Node<>(node.key, node.value, node.weight, node.writeTime);
+            copy.accessTime = node.accessTime;
+            copy.frequency = node.frequency;
+            clone.delegate.put(node.key, copy);
+            clone.weightedSize.addAndGet(copy.weight);
+        }
+        return clone;
+    }
+
+    /**
+     * Returns an empty map with the same maximum weight, expiry and listener as this map.
+     */
+    @Override
+    public BoundedConcurrentHashMap<K, V> newEmpty()
+    {
+        return new BoundedConcurrentHashMap<>(this);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newEmpty(int capacity)
+    {
+        return org.eclipse.collections.impl.map.mutable.ConcurrentHashMap.newMap(capacity);
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder("{");
+        Iterator<Node<K, V>> iterator = this.delegate.values().iterator();
+        while (iterator.hasNext())
+        {
+            Node<K, V> node = iterator.next();
+            builder.append(node.key).append('=').append(node.value);
+            if (iterator.hasNext())
+            {
+                builder.append(", ");
+            }
+        }
+        return builder.append('}').toString();
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+
+        if (!(object instanceof Map))
+        {
+            return false;
+        }
+
+        Map<?, ?> other = (Map<?, ?>) object;
+        if (this.size() != other.size())
+        {
+            return false;
+        }
+
+        for (Node<K, V> node : this.delegate.values())
+        {
+            if (!node.value.equals(other.get(node.key)))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        for (Node<K, V> node : this.delegate.values())
+        {
+            hashCode += node.key.hashCode() ^ node.value.hashCode();
+        }
+        return hashCode;
+    }
+
+    @Override
+    public int size()
+    {
+        return this.delegate.size();
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.delegate.isEmpty();
+    }
+
+    @Override
+    public boolean notEmpty()
+    {
+        return !this.delegate.isEmpty();
+    }
+
+    @Override
+    public Iterator<V> iterator()
+    {
+        return this.values().iterator();
+    }
+
+    @Override
+    public Set<K> keySet()
+    {
+        return new KeySet();
+    }
+
+    @Override
+    public Collection<V> values()
+    {
+        return new Values();
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet()
+    {
+        return new EntrySet();
+    }
+
+    @Override
+    public void clear()
+    {
+        for (Node<K, V> node : this.delegate.values())
+        {
+            this.removeNode(node);
+        }
+    }
+
+    @Override
+    public BoundedConcurrentHashMap<K, V> tap(Procedure<? super V> procedure)
+    {
+        this.each(procedure);
+        return this;
+    }
+
+    @Override
+    public void forEachValue(Procedure<? super V> procedure)
+    {
+        for (Node<K, V> node : this.delegate.values())
+        {
+            procedure.value(node.value);
+        }
+    }
+
+    @Override
+    public void forEachKey(Procedure<? super K> procedure)
+    {
+        for (Node<K, V> node : this.delegate.values())
+        {
+            procedure.value(node.key);
+        }
+    }
+
+    @Override
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        for (Node<K, V> node : this.delegate.values())
+        {
+            procedure.value(node.key, node.value);
+        }
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super V> objectIntProcedure)
+    {
+        int index = 0;
+        for (Node<K, V> node : this.delegate.values())
+        {
+            objectIntProcedure.value(node.value, index++);
+        }
+    }
+
+    @Override
+    public <P> void forEachWith(Procedure2<? super V, ? super P> procedure, P parameter)
+    {
+        for (Node<K, V> node : this.delegate.values())
+        {
+            procedure.value(node.value, parameter);
+        }
+    }
+
+    @Override
+    public V get(Object key)
+    {
+        Node<K, V> node = this.liveNode(key);
+        if (node == null)
+        {
+            this.missCount.increment();
+            return null;
+        }
+        this.hitCount.increment();
+        return node.value;
+    }
+
+    @Override
+    protected boolean isAbsent(V result, K key)
+    {
+        return result == null;
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return this.liveNode(key) != null;
+    }
+
+    @Override
+    public boolean containsValue(Object value)
+    {
+        long now = this.read();
+        for (Node<K, V> node : this.delegate.values())
+        {
+            if (node.value.equals(value) && !this.isExpired(node, now))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public V put(K key, V value)
+    {
+        Node<K, V> node = this.newNode(key, value);
+        Node<K, V> previous = this.delegate.put(key, node);
+        V result = null;
+        if (previous != null)
+        {
+            this.weightedSize.addAndGet(-previous.weight);
+            if (this.isExpired(previous, node.writeTime))
+            {
+                this.afterEvicted(previous);
+            }
+            else
+            {
+                result = previous.value;
+            }
+        }
+        this.afterAdded(node);
+        return result;
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map)
+    {
+        map.forEach(this::put);
+    }
+
+    @Override
+    public V removeKey(K key)
+    {
+        return this.remove(key);
+    }
+
+    @Override
+    public V remove(Object key)
+    {
+        Node<K, V> node = this.delegate.remove(key);
+        if (node == null)
+        {
+            return null;
+        }
+        this.weightedSize.addAndGet(-node.weight);
+        if (this.isExpired(node, this.read()))
+        {
+            this.afterEvicted(node);
+            return null;
+        }
+        return node.value;
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value)
+    {
+        Node<K, V> node = this.newNode(key, value);
+        while (true)
+        {
+            Node<K, V> existing = this.delegate.putIfAbsent(key, node);
+            if (existing == null)
+            {
+                this.afterAdded(node);
+                return null;
+            }
+            if (!this.isExpired(existing, node.writeTime))
+            {
+                this.recordAccess(existing, node.writeTime);
+                return existing.value;
+            }
+            this.evict(existing);
+        }
+    }
+
+    @Override
+    public boolean remove(Object key, Object value)
+    {
+        while (true)
+        {
+            Node<K, V> existing = this.liveNode(key);
+            if (existing == null || !existing.value.equals(value))
+            {
+                return false;
+            }
+            if (this.removeNode(existing))
+            {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue)
+    {
+        Node<K, V> node = this.newNode(key, newValue);
+        while (true)
+        {
+            Node<K, V> existing = this.liveNode(key);
+            if (existing == null || !existing.value.equals(oldValue))
+            {
+                return false;
+            }
+            if (this.replaceNode(existing, node))
+            {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public V replace(K key, V value)
+    {
+        Node<K, V> node = this.newNode(key, value);
+        while (true)
+        {
+            Node<K, V> existing = this.liveNode(key);
+            if (existing == null)
+            {
+                return null;
+            }
+            if (this.replaceNode(existing, node))
+            {
+                return existing.value;
+            }
+        }
+    }
+
+    @Override
+    public V getIfAbsentPut(K key, Function0<? extends V> function)
+    {
+        V result = this.get(key);
+        if (result == null)
+        {
+            return this.putIfAbsentGetValue(key, function.value());
+        }
+        return result;
+    }
+
+    @Override
+    public V getIfAbsentPut(K key, V value)
+    {
+        V result = this.get(key);
+        if (result == null)
+        {
+            return this.putIfAbsentGetValue(key, value);
+        }
+        return result;
+    }
+
+    @Override
+    public <P> V getIfAbsentPutWith(K key, Function<? super P, ? extends V> function, P parameter)
+    {
+        V result = this.get(key);
+        if (result == null)
+        {
+            return this.putIfAbsentGetValue(key, function.valueOf(parameter));
+        }
+        return result;
+    }
+
+    private V putIfAbsentGetValue(K key, V value)
+    {
+        V existing = this.putIfAbsent(key, value);
+        return existing == null ? value : existing;
+    }
+
+    @Override
+    public V updateValue(K key, Function0<? extends V> factory, Function<? super V, ? extends V> function)
+    {
+        while (true)
+        {
+            Node<K, V> existing = this.liveNode(key);
+            if (existing == null)
+            {
+                Node<K, V> node = this.newNode(key, function.valueOf(factory.value()));
+                if (this.delegate.putIfAbsent(key, node) == null)
+                {
+                    this.afterAdded(node);
+                    return node.value;
+                }
+            }
+            else
+            {
+                Node<K, V> node = this.newNode(key, function.valueOf(existing.value));
+                if (this.replaceNode(existing, node))
+                {
+                    return node.value;
+                }
+            }
+        }
+    }
+
+    @Override
+    public <P> V updateValueWith(K key, Function0<? extends V> factory, Function2<? super V, ? super P, ? extends V> function, P parameter)
+    {
+        while (true)
+        {
+            Node<K, V> existing = this.liveNode(key);
+            if (existing == null)
+            {
+                Node<K, V> node = this.newNode(key, function.value(factory.value(), parameter));
+                if (this.delegate.putIfAbsent(key, node) == null)
+                {
+                    this.afterAdded(node);
+                    return node.value;
+                }
+            }
+            else
+            {
+                Node<K, V> node = this.newNode(key, function.value(existing.value, parameter));
+                if (this.replaceNode(existing, node))
+                {
+                    return node.value;
+                }
+            }
+        }
+    }
+
+    private Node<K, V> newNode(K key, V value)
+    {
+        if (key == null || value == null)
+        {
+            throw new NullPointerException("BoundedConcurrentHashMap does not support null keys or values");
+        }
+        int weight = this.weigher == null ? 1 : this.weigher.intValueOf(value);
+        if (weight < 0)
+        {
+            throw new IllegalArgumentException("Weight must not be negative: " + weight);
+        }
+        return new Node<>(key, value, weight, this.read());
+    }
+
+    /**
+     * Returns the live node for the key, removing it instead if it has expired.
+     */
+    private Node<K, V> liveNode(Object key)
+    {
+        Node<K, V> node = this.delegate.get(key);
+        if (node == null)
+        {
+            return null;
+        }
+        long now = this.read();
+        if (this.isExpired(node, now))
+        {
+            this.evict(node);
+            return null;
+        }
+        this.recordAccess(node, now);
+        return node;
+    }
+
+    private V liveValue(Object key)
+    {
+        Node<K, V> node = this.liveNode(key);
+        return node == null ? null : node.value;
+    }
+
+    private boolean expires()
+    {
+        return this.expireAfterWriteNanos != NO_EXPIRY || this.expireAfterAccessNanos != NO_EXPIRY;
+    }
+
+    private long read()
+    {
+        return this.expires() ? this.ticker.value() : 0L;
+    }
+
+    private boolean isExpired(Node<K, V> node, long now)
+    {
+        return this.expireAfterWriteNanos != NO_EXPIRY && now - node.writeTime >= this.expireAfterWriteNanos
+                || this.expireAfterAccessNanos != NO_EXPIRY && now - node.accessTime >= this.expireAfterAccessNanos;
+    }
+
+    /**
+     * Reads only write to the node when its frequency is not yet saturated, so hot entries stay read-only.
+     */
+    private void recordAccess(Node<K, V> node, long now)
+    {
+        if (node.frequency < MAXIMUM_FREQUENCY)
+        {
+            node.frequency++;
+        }
+        if (this.expireAfterAccessNanos != NO_EXPIRY)
+        {
+            node.accessTime = now;
+        }
+    }
+
+    private boolean removeNode(Node<K, V> node)
+    {
+        if (this.delegate.remove(node.key, node))
+        {
+            this.weightedSize.addAndGet(-node.weight);
+            return true;
+        }
+        return false;
+    }
+
+    private boolean replaceNode(Node<K, V> existing, Node<K, V> node)
+    {
+        if (this.delegate.replace(node.key, existing, node))
+        {
+            this.weightedSize.addAndGet(-existing.weight);
+            this.afterAdded(node);
+            return true;
+        }
+        return false;
+    }
+
+    private void evict(Node<K, V> node)
+    {
+        if (this.removeNode(node))
+        {
+            this.afterEvicted(node);
+        }
+    }
+
+    private void afterEvicted(Node<K, V> node)
+    {
+        this.evictionCount.increment();
+        if (this.evictionListener != null)
+        {
+            this.evictionListener.value(node.key, node.value);
+        }
+    }
+
+    private void afterAdded(Node<K, V> node)
+    {
+        if (this.weightedSize.addAndGet(node.weight) > this.maximumWeight)
+        {
+            this.evictIfNeeded();
+        }
+    }
+
+    private void evictIfNeeded()
+    {
+        if (this.weightedSize.get() <= this.maximumWeight || !this.evictionLock.tryLock())
+        {
+            return;
+        }
+        try
+        {
+            long now = this.read();
+            while (this.weightedSize.get() > this.maximumWeight)
+            {
+                if (this.clockHand == null || !this.clockHand.hasNext())
+                {
+                    this.clockHand = this.delegate.values().iterator();
+                    if (!this.clockHand.hasNext())
+                    {
+                        return;
+                    }
+                }
+                Node<K, V> node = this.clockHand.next();
+                if (node.frequency > 0 && !this.isExpired(node, now))
+                {
+                    node.frequency--;
+                }
+                else
+                {
+                    this.evict(node);
+                }
+            }
+        }
+        finally
+        {
+            this.evictionLock.unlock();
+        }
+    }
+
+    private Object writeReplace()
+    {
+        return new BoundedConcurrentHashMapSerializationProxy<>(this);
+    }
+
+    private static final class Node<K, V>
+    {
+        private final K key;
+        private final V value;
+        private final int weight;
+        private final long writeTime;
+        private volatile long accessTime;
+        private volatile int frequency;
+
+        private Node(K key, V value, int weight, long writeTime)
+        {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.writeTime = writeTime;
+            this.accessTime = writeTime;
+        }
+    }
+
+    private static final class BoundedConcurrentHashMapSerializationProxy<K, V> implements Externalizable
+    {
+        private static final long serialVersionUID = 1L;
+
+        private BoundedConcurrentHashMap<K, V> map;
+
+        @SuppressWarnings("UnusedDeclaration")
+        public BoundedConcurrentHashMapSerializationProxy()
+        {
+            // Empty constructor for Externalizable class
+        }
+
+        private BoundedConcurrentHashMapSerializationProxy(BoundedConcurrentHashMap<K, V> map)
+        {
+            this.map = map;
+        }
+
+        @Override
+        public void writeExternal(ObjectOutput out) throws IOException
+        {
+            BoundedConcurrentHashMap<K, V> map = this.map;
+            out.writeLong(map.maximumWeight);
+            out.writeObject(map.weigher);
+            out.writeLong(map.expireAfterWriteNanos);
+            out.writeLong(map.expireAfterAccessNanos);
+            out.writeObject(map.ticker == SYSTEM_TICKER ? null : map.ticker);
+            out.writeObject(map.evictionListener);
+
+            long now = map.read();
+            MutableList<Node<K, V>> live = FastList.newList(map.size());
+            for (Node<K, V> node : map.delegate.values())
+            {
+                if (!map.isExpired(node, now))
+                {
+                    live.add(node);
+                }
+            }
+            out.writeInt(live.size());
+            for (Node<K, V> node : live)
+            {
+                out.writeObject(node.key);
+                out.writeObject(node.value);
+            }
+        }
+
+        @Override
+        public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+        {
+            Builder<K, V> builder = BoundedConcurrentHashMap.newBuilder();
+            builder.maximumWeight(in.readLong(), (IntFunction<? super V>) in.readObject());
+            long expireAfterWriteNanos = in.readLong();
+            if (expireAfterWriteNanos != NO_EXPIRY)
+            {
+                builder.expireAfterWrite(expireAfterWriteNanos, TimeUnit.NANOSECONDS);
+            }
+            long expireAfterAccessNanos = in.readLong();
+            if (expireAfterAccessNanos != NO_EXPIRY)
+            {
+                builder.expireAfterAccess(expireAfterAccessNanos, TimeUnit.NANOSECONDS);
+            }
+            LongFunction0 ticker = (LongFunction0) in.readObject();
+            if (ticker != null)
+            {
+                builder.ticker(ticker);
+            }
+            builder.evictionListener((Procedure2<? super K, ? super V>) in.readObject());
+
+            int size = in.readInt();
+            BoundedConcurrentHashMap<K, V> map = builder.initialCapacity(size).build();
+            for (int i = 0; i < size; i++)
+            {
+                map.put((K) in.readObject(), (V) in.readObject());
+            }
+            this.map = map;
+        }
+
+        protected Object readResolve()
+        {
+            return this.map;
+        }
+    }
+
+    private abstract class NodeIterator<E> implements Iterator<E>
+    {
+        private final Iterator<Node<K, V>> delegateIterator = BoundedConcurrentHashMap.this.delegate.values().iterator();
+        private Node<K, V> current;
+
+        protected abstract E toElement(Node<K, V> node);
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.delegateIterator.hasNext();
+        }
+
+        @Override
+        public E next()
+        {
+            this.current = this.delegateIterator.next();
+            return this.toElement(this.current);
+        }
+
+        @Override
+        public void remove()
+        {
+            if (this.current == null)
+            {
+                throw new IllegalStateException();
+            }
+            BoundedConcurrentHashMap.this.removeNode(this.current);
+            this.current = null;
+        }
+    }
+
+    private final class KeySet extends AbstractSet<K>
+    {
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new NodeIterator<K>()
+            {
+                @Override
+                protected K toElement(Node<K, V> node)
+                {
+                    return node.key;
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return BoundedConcurrentHashMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object key)
+        {
+            return BoundedConcurrentHashMap.this.containsKey(key);
+        }
+
+        @Override
+        public boolean remove(Object key)
+        {
+            return BoundedConcurrentHashMap.this.remove(key) != null;
+        }
+
+        @Override
+        public void clear()
+        {
+            BoundedConcurrentHashMap.this.clear();
+        }
+    }
+
+    private final class Values extends AbstractCollection<V>
+    {
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new NodeIterator<V>()
+            {
+                @Override
+                protected V toElement(Node<K, V> node)
+                {
+                    return node.value;
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return BoundedConcurrentHashMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object value)
+        {
+            return BoundedConcurrentHashMap.this.containsValue(value);
+        }
+
+        @Override
+        public void clear()
+        {
+            BoundedConcurrentHashMap.this.clear();
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<K, V>>
+    {
+        @Override
+        public Iterator<Entry<K, V>> iterator()
+        {
+            return new NodeIterator<Entry<K, V>>()
+            {
+                @Override
+                protected Entry<K, V> toElement(Node<K, V> node)
+                {
+                    return ImmutableEntry.of(node.key, node.value);
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return BoundedConcurrentHashMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object object)
+        {
+            if (!(object instanceof Entry))
+            {
+                return false;
+            }
+            Entry<?, ?> entry = (Entry<?, ?>) object;
+            Object value = entry.getValue();
+            return value != null && value.equals(BoundedConcurrentHashMap.this.liveValue(entry.getKey()));
+        }
+
+        @Override
+        public boolean remove(Object object)
+        {
+            if (!(object instanceof Entry))
+            {
+                return false;
+            }
+            Entry<?, ?> entry = (Entry<?, ?>) object;
+            return BoundedConcurrentHashMap.this.remove(entry.getKey(), entry.getValue());
+        }
+
+        @Override
+        public void clear()
+        {
+            BoundedConcurrentHashMap.this.clear();
+        }
+    }
+
+    /**
+     * Configures a {@link BoundedConcurrentHashMap}. A maximum size or weight is required; expiry, the eviction
+     * listener and the ticker are optional.
+     */
+    public static final class Builder<K, V>
+    {
+        private long maximumWeight = -1L;
+        private IntFunction<? super V> weigher;
+        private long expireAfterWriteNanos = NO_EXPIRY;
+        private long expireAfterAccessNanos = NO_EXPIRY;
+        private LongFunction0 ticker = SYSTEM_TICKER;
+        private Procedure2<? super K, ? super V> evictionListener;
+        private int initialCapacity = 16;
+
+        private Builder()
+        {
+        }
+
+        public Builder<K, V> maximumSize(long maximumSize)
+        {
+            return this.maximumWeight(maximumSize, null);
+        }
+
+        /**
+         * Bounds the sum of the weights of the values, computed once when each value is written.
+         */
+        public Builder<K, V> maximumWeight(long maximumWeight, IntFunction<? super V> weigher)
+        {
+            if (maximumWeight < 0L)
+            {
+                throw new IllegalArgumentException("Maximum must not be negative: " + maximumWeight);
+            }
+            this.maximumWeight = maximumWeight;
+            this.weigher = weigher;
+            return this;
+        }
+
+        public Builder<K, V> expireAfterWrite(long duration, TimeUnit unit)
+        {
+            this.expireAfterWriteNanos = Builder.toNanos(duration, unit);
+            return this;
+        }
+
+        public Builder<K, V> expireAfterAccess(long duration, TimeUnit unit)
+        {
+            this.expireAfterAccessNanos = Builder.toNanos(duration, unit);
+            return this;
+        }
+
+        /**
+         * Sets the procedure called with the key and value of each entry removed because of the maximum weight or
+         * expiry. It is called on the thread that removed the entry, so it should be fast.
+         */
+        public Builder<K, V> evictionListener(Procedure2<? super K, ? super V> evictionListener)
+        {
+            this.evictionListener = evictionListener;
+            return this;
+        }
+
+        /**
+         * Sets the source of nanosecond times used for expiry, which defaults to {@link System#nanoTime()}.
+         */
+        public Builder<K, V> ticker(LongFunction0 ticker)
+        {
+            this.ticker = ticker;
+            return this;
+        }
+
+        public Builder<K, V> initialCapacity(int initialCapacity)
+        {
+            this.initialCapacity = initialCapacity;
+            return this;
+        }
+
+        public <NK extends K, NV extends V> BoundedConcurrentHashMap<NK, NV> build()
+        {
+            if (this.maximumWeight < 0L)
+            {
+                throw new IllegalStateException("A maximum size or weight must be specified");
+            }
+            return new BoundedConcurrentHashMap<>(this);
+        }
+
+        private static long toNanos(long duration, TimeUnit unit)
+        {
+            if (duration <= 0L)
+            {
+                throw new IllegalArgumentException("Duration must be positive: " + duration);
+            }
+            return unit.toNanos(duration);
+        }
+    }
+}
@@ -25,18 +25,22 @@ import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
-import java.util.function.Predicate;
 
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.ParallelIterable;
+import org.eclipse.collections.api.annotation.Beta;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function0;
 import org.eclipse.collections.api.block.function.Function2;
 import org.eclipse.collections.api.block.function.Function3;
+import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.block.procedure.Procedure2;
 import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
@@ -45,8 +49,19 @@ import org.eclipse.collections.api.map.ConcurrentMutableMap;
 import org.eclipse.collections.api.map.ImmutableMap;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.block.factory.Predicates;
 import org.eclipse.collections.impl.block.procedure.MapEntryToProcedure2;
+import org.eclipse.collections.impl.lazy.AbstractLazyIterable;
+import org.eclipse.collections.impl.lazy.parallel.AbstractBatch;
+import org.eclipse.collections.impl.lazy.parallel.AbstractParallelIterable;
+import org.eclipse.collections.impl.lazy.parallel.AbstractParallelIterableImpl;
+import org.eclipse.collections.impl.lazy.parallel.bag.CollectUnsortedBagBatch;
+import org.eclipse.collections.impl.lazy.parallel.bag.FlatCollectUnsortedBagBatch;
+import org.eclipse.collections.impl.lazy.parallel.bag.RootUnsortedBagBatch;
+import org.eclipse.collections.impl.lazy.parallel.bag.SelectUnsortedBagBatch;
+import org.eclipse.collections.impl.lazy.parallel.bag.UnsortedBagBatch;
 import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.tuple.Tuples;
 import org.eclipse.collections.impl.utility.Iterate;
 import org.eclipse.collections.impl.utility.MapIterate;
 import org.eclipse.collections.impl.utility.internal.IterableIterate;
@@ -1193,6 +1208,40 @@ public final class ConcurrentHashMap<K, V>
         return replacement;
     }
 
+    @Beta
+    @Override
+    public ParallelIterable<V> asParallel(ExecutorService executorService, int batchSize)
+    {
+        return this.asParallel(executorService, batchSize, (key, value) -> value);
+    }
+
+    @Beta
+    @Override
+    public ParallelIterable<K> keysViewAsParallel(ExecutorService executorService, int batchSize)
+    {
+        return this.asParallel(executorService, batchSize, (key, value) -> key);
+    }
+
+    @Beta
+    @Override
+    public ParallelIterable<Pair<K, V>> keyValuesViewAsParallel(ExecutorService executorService, int batchSize)
+    {
+        return this.asParallel(executorService, batchSize, Tuples::pair);
+    }
+
+    private <E> ParallelIterable<E> asParallel(ExecutorService executorService, int batchSize, Function2<? super K, ? super V, ? extends E> function)
+    {
+        if (executorService == null)
+        {
+            throw new NullPointerException();
+        }
+        if (batchSize < 1)
+        {
+            throw new IllegalArgumentException();
+        }
+        return new ConcurrentHashMapParallelIterable<>(this.table, executorService, batchSize, function);
+    }
+
     public void parallelForEachKeyValue(List<Procedure2<K, V>> blocks, Executor executor)
     {
         AtomicReferenceArray currentArray = this.table;
@@ -1678,7 +1727,7 @@ public final class ConcurrentHashMap<K, V>
         }
 
         @Override
-        public boolean removeIf(Predicate<? super V> filter)
+        public boolean removeIf(java.util.function.Predicate<? super V> filter)
         {
             Objects.requireNonNull(filter);
             boolean removed = false;
@@ -1747,7 +1796,7 @@ public final class ConcurrentHashMap<K, V>
         }
 
         @Override
-        public boolean removeIf(Predicate<? super Map.Entry<K, V>> filter)
+        public boolean removeIf(java.util.function.Predicate<? super Map.Entry<K, V>> filter)
         {
             Objects.requireNonNull(filter);
             boolean removed = false;
@@ -2308,4 +2357,232 @@ public final class ConcurrentHashMap<K, V>
     {
         return Maps.immutable.ofMap(this);
     }
+
+    /**
+     * A batch over the buckets [chunkStartIndex, chunkEndIndex) of a table. Buckets which have already been moved by a
+     * concurrent resize are followed into the next table, where bucket i is split between i and i + (length - 1).
+     */
+    private final class ConcurrentHashMapBatch<E> extends AbstractBatch<E> implements RootUnsortedBagBatch<E>
+    {
+        private final AtomicReferenceArray currentArray;
+        private final int chunkStartIndex;
+        private final int chunkEndIndex;
+        private final Function2<? super K, ? super V, ? extends E> function;
+
+        private ConcurrentHashMapBatch(AtomicReferenceArray currentArray, int chunkStartIndex, int chunkEndIndex, Function2<? super K, ? super V, ? extends E> function)
+        {
+            this.currentArray = currentArray;
+            this.chunkStartIndex = chunkStartIndex;
+            this.chunkEndIndex = chunkEndIndex;
+            this.function = function;
+        }
+
+        @Override
+        public void forEach(Procedure<? super E> procedure)
+        {
+            this.detectEntry(this.currentArray, this.chunkStartIndex, this.chunkEndIndex, each ->
+            {
+                procedure.value(each);
+                return false;
+            });
+        }
+
+        @Override
+        public boolean anySatisfy(Predicate<? super E> predicate)
+        {
+            return this.detectEntry(this.currentArray, this.chunkStartIndex, this.chunkEndIndex, predicate) != null;
+        }
+
+        @Override
+        public boolean allSatisfy(Predicate<? super E> predicate)
+        {
+            return this.detectEntry(this.currentArray, this.chunkStartIndex, this.chunkEndIndex, Predicates.not(predicate)) == null;
+        }
+
+        @Override
+        public E detect(Predicate<? super E> predicate)
+        {
+            Entry<K, V> entry = this.detectEntry(this.currentArray, this.chunkStartIndex, this.chunkEndIndex, predicate);
+            return entry == null ? null : this.function.value(entry.getKey(), entry.getValue());
+        }
+
+        private Entry<K, V> detectEntry(AtomicReferenceArray array, int start, int end, Predicate<? super E> predicate)
+        {
+            for (int i = start; i < end; i++)
+            {
+                Object o = array.get(i);
+                if (o == RESIZED || o == RESIZING)
+                {
+                    AtomicReferenceArray nextArray = ConcurrentHashMap.this.helpWithResizeWhileCurrentIndex(array, i);
+                    int powerTwoLength = array.length() - 1;
+                    Entry<K, V> result = this.detectEntry(nextArray, i, i + 1, predicate);
+                    if (result == null)
+                    {
+                        result = this.detectEntry(nextArray, i + powerTwoLength, i + powerTwoLength + 1, predicate);
+                    }
+                    if (result != null)
+                    {
+                        return result;
+                    }
+                }
+                else
+                {
+                    Entry<K, V> e = (Entry<K, V>) o;
+                    while (e != null)
+                    {
+                        if (predicate.accept(this.function.value(e.getKey(), e.getValue())))
+                        {
+                            return e;
+                        }
+                        e = e.getNext();
+                    }
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public UnsortedBagBatch<E> select(Predicate<? super E> predicate)
+        {
+            return new SelectUnsortedBagBatch<>(this, predicate);
+        }
+
+        @Override
+        public <VV> UnsortedBagBatch<VV> collect(Function<? super E, ? extends VV> function)
+        {
+            return new CollectUnsortedBagBatch<>(this, function);
+        }
+
+        @Override
+        public <VV> UnsortedBagBatch<VV> flatCollect(Function<? super E, ? extends Iterable<VV>> function)
+        {
+            return new FlatCollectUnsortedBagBatch<>(this, function);
+        }
+    }
+
+    private final class ConcurrentHashMapParallelIterable<E> extends AbstractParallelIterableImpl<E, RootUnsortedBagBatch<E>>
+    {
+        private final AtomicReferenceArray currentArray;
+        private final ExecutorService executorService;
+        private final int batchSize;
+        private final Function2<? super K, ? super V, ? extends E> function;
+
+        private ConcurrentHashMapParallelIterable(AtomicReferenceArray currentArray, ExecutorService executorService, int batchSize, Function2<? super K, ? super V, ? extends E> function)
+        {
+            this.currentArray = currentArray;
+            this.executorService = executorService;
+            this.batchSize = batchSize;
+            this.function = function;
+        }
+
+        @Override
+        public ExecutorService getExecutorService()
+        {
+            return this.executorService;
+        }
+
+        @Override
+        public int getBatchSize()
+        {
+            return this.batchSize;
+        }
+
+        @Override
+        public LazyIterable<RootUnsortedBagBatch<E>> split()
+        {
+            return new ConcurrentHashMapParallelSplitLazyIterable();
+        }
+
+        @Override
+        public void forEach(Procedure<? super E> procedure)
+        {
+            AbstractParallelIterable.forEach(this, procedure);
+        }
+
+        @Override
+        public boolean anySatisfy(Predicate<? super E> predicate)
+        {
+            return AbstractParallelIterable.anySatisfy(this, predicate);
+        }
+
+        @Override
+        public boolean allSatisfy(Predicate<? super E> predicate)
+        {
+            return AbstractParallelIterable.allSatisfy(this, predicate);
+        }
+
+        @Override
+        public E detect(Predicate<? super E> predicate)
+        {
+            return AbstractParallelIterable.detect(this, predicate);
+        }
+
+        @Override
+        public Object[] toArray()
+        {
+            return this.toList().toArray();
+        }
+
+        private class ConcurrentHashMapParallelSplitIterator implements Iterator<RootUnsortedBagBatch<E>>
+        {
+            protected int chunkIndex;
+
+            // The last slot of the table is reserved for the resize container
+            private int bucketCount()
+            {
+                return ConcurrentHashMapParallelIterable.this.currentArray.length() - 1;
+            }
+
+            // Computed in long so that a large batchSize cannot overflow the index
+            private long chunkStartIndex(int chunkIndex)
+            {
+                return (long) chunkIndex * ConcurrentHashMapParallelIterable.this.batchSize;
+            }
+
+            @Override
+            public boolean hasNext()
+            {
+                return this.chunkStartIndex(this.chunkIndex) < this.bucketCount();
+            }
+
+            @Override
+            public RootUnsortedBagBatch<E> next()
+            {
+                int bucketCount = this.bucketCount();
+                int chunkStartIndex = (int) Math.min(this.chunkStartIndex(this.chunkIndex), bucketCount);
+                int truncatedChunkEndIndex = (int) Math.min(this.chunkStartIndex(this.chunkIndex + 1), bucketCount);
+                this.chunkIndex++;
+                return new ConcurrentHashMapBatch<>(
+                        ConcurrentHashMapParallelIterable.this.currentArray,
+                        chunkStartIndex,
+                        truncatedChunkEndIndex,
+                        ConcurrentHashMapParallelIterable.this.function);
+            }
+
+            @Override
+            public void remove()
+            {
+                throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+            }
+        }
+
+        private class ConcurrentHashMapParallelSplitLazyIterable
+                extends AbstractLazyIterable<RootUnsortedBagBatch<E>>
+        {
+            @Override
+            public void each(Procedure<? super RootUnsortedBagBatch<E>> procedure)
+            {
+                for (RootUnsortedBagBatch<E> chunk : this)
+                {
+                    procedure.value(chunk);
+                }
+            }
+
+            @Override
+            public Iterator<RootUnsortedBagBatch<E>> iterator()
+            {
+                return new ConcurrentHashMapParallelSplitIterator();
+            }
+        }
+    }
 }
@@ -0,0 +1,1105 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.map.MutableMap;
+
+/**
+ * OpenHashMap is a MutableMap which resolves collisions by open addressing rather than by chaining, in the style of
+ * Google's SwissTable. Like {@link UnifiedMap} it stores keys and values in alternate slots of a single array, but a
+ * colliding key is placed in another free slot of the array instead of in a chain, so no extra arrays are allocated
+ * and a lookup never leaves the table.
+ * <p>
+ * Each slot has a control byte which is either empty, deleted, or holds seven bits of the hash code of its key. The
+ * control bytes of eight consecutive slots are packed into a long and compared against a hash code all at once, so a
+ * lookup only calls {@code equals} on keys whose seven hash bits match. Hash codes are mixed before use, which keeps
+ * probe sequences short for keys whose hash codes are poorly distributed.
+ * <p>
+ * Removing a key leaves a deleted marker in its slot unless the group of eight slots still has an empty slot, so
+ * removing through an iterator never moves other entries. The table is rebuilt once empty slots run low, either twice
+ * as large or, if most of the used slots are deleted markers, at the same size.
+ * <p>
+ * Null keys and values are supported. OpenHashMap is not thread safe.
+ *
+ * @since 10.3
+ */
+@SuppressWarnings("ObjectEquality")
+public class OpenHashMap<K, V> extends AbstractMutableMap<K, V>
+        implements Externalizable
+{
+    private static final Object NULL_KEY = new Object()
+    {
+        @Override
+        public boolean equals(Object obj)
+        {
+            throw new RuntimeException("Possible corruption through unsynchronized concurrent modification.");
+        }
+
+        @Override
+        public int hashCode()
+        {
+            throw new RuntimeException("Possible corruption through unsynchronized concurrent modification.");
+        }
+
+        @Override
+        public String toString()
+        {
+            return "OpenHashMap.NULL_KEY";
+        }
+    };
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    // the table holds a key and a value for each slot, so its length must stay within an int
+    private static final int MAXIMUM_CAPACITY = 1 << 29;
+
+    private static final int GROUP_SHIFT = 3;
+    private static final int GROUP_SIZE = 1 << GROUP_SHIFT;
+
+    private static final int HASH_BITS = 7;
+    private static final int HASH_MASK = (1 << HASH_BITS) - 1;
+
+    private static final int EMPTY = 0x80;
+    private static final int DELETED = 0xFE;
+
+    private static final long LOW_BITS = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    private static final long ALL_EMPTY = HIGH_BITS;
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The control bytes, eight slots to a long with the first slot of a group in the lowest byte.
+     */
+    private transient long[] control;
+
+    private transient Object[] table;
+
+    private transient int size;
+
+    /**
+     * The number of slots which are not empty, including deleted slots.
+     */
+    private transient int occupied;
+
+    private transient int maxOccupied;
+
+    public OpenHashMap()
+    {
+        this.allocate(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public OpenHashMap(int initialCapacity)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("initial capacity cannot be less than 0");
+        }
+        this.allocate(OpenHashMap.capacityFor(initialCapacity));
+    }
+
+    public OpenHashMap(Map<? extends K, ? extends V> map)
+    {
+        this(Math.max(map.size(), DEFAULT_INITIAL_CAPACITY));
+        this.putAll(map);
+    }
+
+    public static <K, V> OpenHashMap<K, V> newMap()
+    {
+        return new OpenHashMap<>();
+    }
+
+    public static <K, V> OpenHashMap<K, V> newMap(int size)
+    {
+        return new OpenHashMap<>(size);
+    }
+
+    public static <K, V> OpenHashMap<K, V> newMap(Map<? extends K, ? extends V> map)
+    {
+        return new OpenHashMap<>(map);
+    }
+
+    public static <K, V> OpenHashMap<K, V> newWithKeysValues(K key, V value)
+    {
+        return new OpenHashMap<K, V>(1).withKeysValues(key, value);
+    }
+
+    public static <K, V> OpenHashMap<K, V> newWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        return new OpenHashMap<K, V>(2).withKeysValues(key1, value1, key2, value2);
+    }
+
+    public static <K, V> OpenHashMap<K, V> newWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        return new OpenHashMap<K, V>(3).withKeysValues(key1, value1, key2, value2, key3, value3);
+    }
+
+    public static <K, V> OpenHashMap<K, V> newWithKeysValues(
+            K key1, V value1,
+            K key2, V value2,
+            K key3, V value3,
+            K key4, V value4)
+    {
+        return new OpenHashMap<K, V>(4).withKeysValues(key1, value1, key2, value2, key3, value3, key4, value4);
+    }
+
+    public OpenHashMap<K, V> withKeysValues(K key, V value)
+    {
+        this.put(key, value);
+        return this;
+    }
+
+    public OpenHashMap<K, V> withKeysValues(K key1, V value1, K key2, V value2)
+    {
+        this.put(key1, value1);
+        this.put(key2, value2);
+        return this;
+    }
+
+    public OpenHashMap<K, V> withKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        this.put(key1, value1);
+        this.put(key2, value2);
+        this.put(key3, value3);
+        return this;
+    }
+
+    public OpenHashMap<K, V> withKeysValues(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4)
+    {
+        this.put(key1, value1);
+        this.put(key2, value2);
+        this.put(key3, value3);
+        this.put(key4, value4);
+        return this;
+    }
+
+    @Override
+    public OpenHashMap<K, V> clone()
+    {
+        return new OpenHashMap<>(this);
+    }
+
+    @Override
+    public MutableMap<K, V> newEmpty()
+    {
+        return new OpenHashMap<>();
+    }
+
+    @Override
+    public MutableMap<K, V> newEmpty(int capacity)
+    {
+        return new OpenHashMap<>(capacity);
+    }
+
+    /**
+     * Returns the smallest power of two number of slots, and at least one group, which holds {@code size} entries
+     * without being rebuilt, that is whose seven eighths are at least {@code size}.
+     */
+    private static int capacityFor(int size)
+    {
+        int capacity = GROUP_SIZE;
+        while (capacity < MAXIMUM_CAPACITY && capacity - (capacity >> GROUP_SHIFT) < size)
+        {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private void allocate(int capacity)
+    {
+        this.control = new long[capacity >> GROUP_SHIFT];
+        Arrays.fill(this.control, ALL_EMPTY);
+        this.table = new Object[capacity << 1];
+        this.occupied = 0;
+        // one slot in eight is always empty, which ends every probe sequence
+        this.maxOccupied = capacity - (capacity >> GROUP_SHIFT);
+    }
+
+    private static int hash(Object key)
+    {
+        int h = key == null ? 0 : key.hashCode();
+        h *= 0x9E3779B9;
+        return h ^ h >>> 16;
+    }
+
+    /**
+     * Returns a mask with the high bit set in each byte of {@code word} equal to {@code hashBits}. The mask can hold
+     * a false positive next to a true match, so every match must be confirmed by comparing keys.
+     */
+    private static long matchHash(long word, int hashBits)
+    {
+        long x = word ^ LOW_BITS * hashBits;
+        return (x - LOW_BITS) & ~x & HIGH_BITS;
+    }
+
+    private static long matchEmpty(long word)
+    {
+        return word & ~(word << 6) & HIGH_BITS;
+    }
+
+    private static long matchEmptyOrDeleted(long word)
+    {
+        return word & ~(word << 7) & HIGH_BITS;
+    }
+
+    private static long matchFull(long word)
+    {
+        return ~word & HIGH_BITS;
+    }
+
+    private static int firstSlot(int group, long match)
+    {
+        return (group << GROUP_SHIFT) + (Long.numberOfTrailingZeros(match) >>> 3);
+    }
+
+    private void setControl(int slot, int controlByte)
+    {
+        int group = slot >>> GROUP_SHIFT;
+        int shift = (slot & GROUP_SIZE - 1) << 3;
+        this.control[group] = this.control[group] & ~(0xFFL << shift) | (long) controlByte << shift;
+    }
+
+    private boolean isFull(int slot)
+    {
+        return (this.control[slot >>> GROUP_SHIFT] >>> ((slot & GROUP_SIZE - 1) << 3) & 0x80L) == 0L;
+    }
+
+    private boolean isEmpty(int slot)
+    {
+        return (this.control[slot >>> GROUP_SHIFT] >>> ((slot & GROUP_SIZE - 1) << 3) & 0xFFL) == EMPTY;
+    }
+
+    private boolean keyEquals(int slot, Object key)
+    {
+        Object cur = this.table[slot << 1];
+        return cur != null && OpenHashMap.nullSafeEquals(this.nonSentinel(cur), key);
+    }
+
+    /**
+     * Returns the slot holding {@code key}, or -1.
+     */
+    private int find(Object key)
+    {
+        int hash = OpenHashMap.hash(key);
+        int hashBits = hash & HASH_MASK;
+        int mask = this.control.length - 1;
+        int group = hash >>> HASH_BITS & mask;
+        for (int step = 1; ; step++)
+        {
+            long word = this.control[group];
+            for (long match = OpenHashMap.matchHash(word, hashBits); match != 0L; match &= match - 1L)
+            {
+                int slot = OpenHashMap.firstSlot(group, match);
+                if (this.keyEquals(slot, key))
+                {
+                    return slot;
+                }
+            }
+            if (OpenHashMap.matchEmpty(word) != 0L)
+            {
+                return -1;
+            }
+            group = group + step & mask;
+        }
+    }
+
+    /**
+     * Returns the slot holding {@code key} or, if it is absent, {@code -slot - 1} where slot is the first free slot on
+     * its probe sequence.
+     */
+    private int probe(Object key, int hash)
+    {
+        int hashBits = hash & HASH_MASK;
+        int mask = this.control.length - 1;
+        int group = hash >>> HASH_BITS & mask;
+        int free = -1;
+        for (int step = 1; ; step++)
+        {
+            long word = this.control[group];
+            for (long match = OpenHashMap.matchHash(word, hashBits); match != 0L; match &= match - 1L)
+            {
+                int slot = OpenHashMap.firstSlot(group, match);
+                if (this.keyEquals(slot, key))
+                {
+                    return slot;
+                }
+            }
+            if (free < 0)
+            {
+                long emptyOrDeleted = OpenHashMap.matchEmptyOrDeleted(word);
+                if (emptyOrDeleted != 0L)
+                {
+                    free = OpenHashMap.firstSlot(group, emptyOrDeleted);
+                }
+            }
+            if (OpenHashMap.matchEmpty(word) != 0L)
+            {
+                return -free - 1;
+            }
+            group = group + step & mask;
+        }
+    }
+
+    private int findFree(int hash)
+    {
+        int mask = this.control.length - 1;
+        int group = hash >>> HASH_BITS & mask;
+        for (int step = 1; ; step++)
+        {
+            long emptyOrDeleted = OpenHashMap.matchEmptyOrDeleted(this.control[group]);
+            if (emptyOrDeleted != 0L)
+            {
+                return OpenHashMap.firstSlot(group, emptyOrDeleted);
+            }
+            group = group + step & mask;
+        }
+    }
+
+    private void insert(int free, int hash, K key, V value)
+    {
+        int slot = free;
+        if (this.isEmpty(slot))
+        {
+            if (this.occupied >= this.maxOccupied)
+            {
+                this.rehash();
+                slot = this.findFree(hash);
+            }
+            this.occupied++;
+        }
+        this.setControl(slot, hash & HASH_MASK);
+        this.table[slot << 1] = OpenHashMap.toSentinelIfNull(key);
+        this.table[(slot << 1) + 1] = value;
+        this.size++;
+    }
+
+    private void rehash()
+    {
+        int capacity = this.control.length << GROUP_SHIFT;
+        if (this.size >= capacity >> 1 && capacity < MAXIMUM_CAPACITY)
+        {
+            this.resize(capacity << 1);
+        }
+        else if (this.size < this.maxOccupied)
+        {
+            // mostly deleted slots, or already at the maximum capacity, so rebuilding in place frees enough slots
+            this.resize(capacity);
+        }
+        else
+        {
+            throw new IllegalStateException("OpenHashMap cannot hold more than " + this.maxOccupied + " entries");
+        }
+    }
+
+    private void resize(int capacity)
+    {
+        long[] oldControl = this.control;
+        Object[] oldTable = this.table;
+        this.allocate(capacity);
+        for (int group = 0; group < oldControl.length; group++)
+        {
+            for (long full = OpenHashMap.matchFull(oldControl[group]); full != 0L; full &= full - 1L)
+            {
+                int oldSlot = OpenHashMap.firstSlot(group, full);
+                Object cur = oldTable[oldSlot << 1];
+                int hash = OpenHashMap.hash(this.nonSentinel(cur));
+                int slot = this.findFree(hash);
+                this.setControl(slot, hash & HASH_MASK);
+                this.table[slot << 1] = cur;
+                this.table[(slot << 1) + 1] = oldTable[(oldSlot << 1) + 1];
+            }
+        }
+        this.occupied = this.size;
+    }
+
+    private V removeSlot(int slot)
+    {
+        V result = (V) this.table[(slot << 1) + 1];
+        this.table[slot << 1] = null;
+        this.table[(slot << 1) + 1] = null;
+        if (OpenHashMap.matchEmpty(this.control[slot >>> GROUP_SHIFT]) != 0L)
+        {
+            // no probe sequence continues past a group with an empty slot, so this slot can be empty too
+            this.setControl(slot, EMPTY);
+            this.occupied--;
+        }
+        else
+        {
+            this.setControl(slot, DELETED);
+        }
+        this.size--;
+        return result;
+    }
+
+    @Override
+    public V get(Object key)
+    {
+        int slot = this.find(key);
+        return slot < 0 ? null : (V) this.table[(slot << 1) + 1];
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return this.find(key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(Object value)
+    {
+        for (int group = 0; group < this.control.length; group++)
+        {
+            for (long full = OpenHashMap.matchFull(this.control[group]); full != 0L; full &= full - 1L)
+            {
+                int slot = OpenHashMap.firstSlot(group, full);
+                if (OpenHashMap.nullSafeEquals(this.table[(slot << 1) + 1], value))
+                {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public V put(K key, V value)
+    {
+        int hash = OpenHashMap.hash(key);
+        int slot = this.probe(key, hash);
+        if (slot >= 0)
+        {
+            V result = (V) this.table[(slot << 1) + 1];
+            this.table[(slot << 1) + 1] = value;
+            return result;
+        }
+        this.insert(-slot - 1, hash, key, value);
+        return null;
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map)
+    {
+        if (map instanceof OpenHashMap<?, ?>)
+        {
+            ((OpenHashMap<? extends K, ? extends V>) map).forEachKeyValue(this::put);
+        }
+        else
+        {
+            for (Entry<? extends K, ? extends V> entry : map.entrySet())
+            {
+                this.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    @Override
+    public V getIfAbsentPut(K key, Function0<? extends V> function)
+    {
+        int hash = OpenHashMap.hash(key);
+        int slot = this.probe(key, hash);
+        if (slot >= 0)
+        {
+            return (V) this.table[(slot << 1) + 1];
+        }
+        V result = function.value();
+        this.insert(-slot - 1, hash, key, result);
+        return result;
+    }
+
+    @Override
+    public V getIfAbsentPut(K key, V value)
+    {
+        int hash = OpenHashMap.hash(key);
+        int slot = this.probe(key, hash);
+        if (slot >= 0)
+        {
+            return (V) this.table[(slot << 1) + 1];
+        }
+        this.insert(-slot - 1, hash, key, value);
+        return value;
+    }
+
+    @Override
+    public <P> V getIfAbsentPutWith(K key, Function<? super P, ? extends V> function, P parameter)
+    {
+        int hash = OpenHashMap.hash(key);
+        int slot = this.probe(key, hash);
+        if (slot >= 0)
+        {
+            return (V) this.table[(slot << 1) + 1];
+        }
+        V result = function.valueOf(parameter);
+        this.insert(-slot - 1, hash, key, result);
+        return result;
+    }
+
+    @Override
+    public V updateValue(K key, Function0<? extends V> factory, Function<? super V, ? extends V> function)
+    {
+        int hash = OpenHashMap.hash(key);
+        int slot = this.probe(key, hash);
+        if (slot >= 0)
+        {
+            V result = function.valueOf((V) this.table[(slot << 1) + 1]);
+            this.table[(slot << 1) + 1] = result;
+            return result;
+        }
+        V result = function.valueOf(factory.value());
+        this.insert(-slot - 1, hash, key, result);
+        return result;
+    }
+
+    @Override
+    public <P> V updateValueWith(K key, Function0<? extends V> factory, Function2<? super V, ? super P, ? extends V> function, P parameter)
+    {
+        int hash = OpenHashMap.hash(key);
+        int slot = this.probe(key, hash);
+        if (slot >= 0)
+        {
+            V result = function.value((V) this.table[(slot << 1) + 1], parameter);
+            this.table[(slot << 1) + 1] = result;
+            return result;
+        }
+        V result = function.value(factory.value(), parameter);
+        this.insert(-slot - 1, hash, key, result);
+        return result;
+    }
+
+    @Override
+    public V remove(Object key)
+    {
+        int slot = this.find(key);
+        return slot < 0 ? null : this.removeSlot(slot);
+    }
+
+    @Override
+    public V removeKey(K key)
+    {
+        return this.remove(key);
+    }
+
+    @Override
+    public boolean removeIf(Predicate2<? super K, ? super V> predicate)
+    {
+        int previousSize = this.size;
+        for (int group = 0; group < this.control.length; group++)
+        {
+            for (long full = OpenHashMap.matchFull(this.control[group]); full != 0L; full &= full - 1L)
+            {
+                int slot = OpenHashMap.firstSlot(group, full);
+                if (predicate.accept(this.nonSentinel(this.table[slot << 1]), (V) this.table[(slot << 1) + 1]))
+                {
+                    this.removeSlot(slot);
+                }
+            }
+        }
+        return previousSize > this.size;
+    }
+
+    @Override
+    public void clear()
+    {
+        if (this.occupied == 0)
+        {
+            return;
+        }
+        Arrays.fill(this.control, ALL_EMPTY);
+        Arrays.fill(this.table, null);
+        this.size = 0;
+        this.occupied = 0;
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    @Override
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        for (int group = 0; group < this.control.length; group++)
+        {
+            for (long full = OpenHashMap.matchFull(this.control[group]); full != 0L; full &= full - 1L)
+            {
+                int slot = OpenHashMap.firstSlot(group, full);
+                procedure.value(this.nonSentinel(this.table[slot << 1]), (V) this.table[(slot << 1) + 1]);
+            }
+        }
+    }
+
+    @Override
+    public void forEachKey(Procedure<? super K> procedure)
+    {
+        for (int group = 0; group < this.control.length; group++)
+        {
+            for (long full = OpenHashMap.matchFull(this.control[group]); full != 0L; full &= full - 1L)
+            {
+                procedure.value(this.nonSentinel(this.table[OpenHashMap.firstSlot(group, full) << 1]));
+            }
+        }
+    }
+
+    @Override
+    public void forEachValue(Procedure<? super V> procedure)
+    {
+        for (int group = 0; group < this.control.length; group++)
+        {
+            for (long full = OpenHashMap.matchFull(this.control[group]); full != 0L; full &= full - 1L)
+            {
+                procedure.value((V) this.table[(OpenHashMap.firstSlot(group, full) << 1) + 1]);
+            }
+        }
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet()
+    {
+        return new EntrySet();
+    }
+
+    @Override
+    public Set<K> keySet()
+    {
+        return new KeySet();
+    }
+
+    @Override
+    public Collection<V> values()
+    {
+        return new ValuesCollection();
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+
+        if (!(object instanceof Map))
+        {
+            return false;
+        }
+
+        Map<?, ?> other = (Map<?, ?>) object;
+        if (this.size() != other.size())
+        {
+            return false;
+        }
+
+        for (int group = 0; group < this.control.length; group++)
+        {
+            for (long full = OpenHashMap.matchFull(this.control[group]); full != 0L; full &= full - 1L)
+            {
+                int slot = OpenHashMap.firstSlot(group, full);
+                K key = this.nonSentinel(this.table[slot << 1]);
+                V value = (V) this.table[(slot << 1) + 1];
+                Object otherValue = other.get(key);
+                if (!OpenHashMap.nullSafeEquals(otherValue, value) || (value == null && otherValue == null && !other.containsKey(key)))
+                {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        for (int group = 0; group < this.control.length; group++)
+        {
+            for (long full = OpenHashMap.matchFull(this.control[group]); full != 0L; full &= full - 1L)
+            {
+                int slot = OpenHashMap.firstSlot(group, full);
+                Object cur = this.table[slot << 1];
+                Object value = this.table[(slot << 1) + 1];
+                hashCode += (cur == NULL_KEY ? 0 : cur.hashCode()) ^ (value == null ? 0 : value.hashCode());
+            }
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder();
+        builder.append('{');
+
+        this.forEachKeyValue(new Procedure2<K, V>()
+        {
+            private boolean first = true;
+
+            public void value(K key, V value)
+            {
+                if (this.first)
+                {
+                    this.first = false;
+                }
+                else
+                {
+                    builder.append(", ");
+                }
+
+                builder.append(key == OpenHashMap.this ? "(this Map)" : key);
+                builder.append('=');
+                builder.append(value == OpenHashMap.this ? "(this Map)" : value);
+            }
+        });
+
+        builder.append('}');
+        return builder.toString();
+    }
+
+    /**
+     * Rebuilds the table at the smallest size which holds the current entries, dropping deleted markers.
+     *
+     * @return true if the table shrank
+     */
+    public boolean trimToSize()
+    {
+        int capacity = OpenHashMap.capacityFor(this.size);
+        if (capacity >= this.control.length << GROUP_SHIFT)
+        {
+            return false;
+        }
+        this.resize(capacity);
+        return true;
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.size());
+        for (int group = 0; group < this.control.length; group++)
+        {
+            for (long full = OpenHashMap.matchFull(this.control[group]); full != 0L; full &= full - 1L)
+            {
+                int slot = OpenHashMap.firstSlot(group, full);
+                out.writeObject(this.nonSentinel(this.table[slot << 1]));
+                out.writeObject(this.table[(slot << 1) + 1]);
+            }
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        this.allocate(OpenHashMap.capacityFor(size));
+        for (int i = 0; i < size; i++)
+        {
+            this.put((K) in.readObject(), (V) in.readObject());
+        }
+    }
+
+    private K nonSentinel(Object key)
+    {
+        return key == NULL_KEY ? null : (K) key;
+    }
+
+    private static Object toSentinelIfNull(Object key)
+    {
+        return key == null ? NULL_KEY : key;
+    }
+
+    private static boolean nullSafeEquals(Object value, Object other)
+    {
+        if (value == null)
+        {
+            return other == null;
+        }
+        return other == value || value.equals(other);
+    }
+
+    private abstract class SlotIterator<T> implements Iterator<T>
+    {
+        private int nextSlot = -1;
+        private int currentSlot = -1;
+
+        protected SlotIterator()
+        {
+            this.advance();
+        }
+
+        private void advance()
+        {
+            int capacity = OpenHashMap.this.control.length << GROUP_SHIFT;
+            do
+            {
+                this.nextSlot++;
+            }
+            while (this.nextSlot < capacity && !OpenHashMap.this.isFull(this.nextSlot));
+        }
+
+        protected abstract T valueAt(int slot);
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.nextSlot < OpenHashMap.this.control.length << GROUP_SHIFT;
+        }
+
+        @Override
+        public T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            this.currentSlot = this.nextSlot;
+            this.advance();
+            return this.valueAt(this.currentSlot);
+        }
+
+        @Override
+        public void remove()
+        {
+            if (this.currentSlot < 0)
+            {
+                throw new IllegalStateException();
+            }
+            OpenHashMap.this.removeSlot(this.currentSlot);
+            this.currentSlot = -1;
+        }
+    }
+
+    protected class KeySet extends AbstractSet<K>
+    {
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new SlotIterator<K>()
+            {
+                @Override
+                protected K valueAt(int slot)
+                {
+                    return OpenHashMap.this.nonSentinel(OpenHashMap.this.table[slot << 1]);
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return OpenHashMap.this.size;
+        }
+
+        @Override
+        public boolean contains(Object key)
+        {
+            return OpenHashMap.this.containsKey(key);
+        }
+
+        @Override
+        public boolean remove(Object key)
+        {
+            int slot = OpenHashMap.this.find(key);
+            if (slot < 0)
+            {
+                return false;
+            }
+            OpenHashMap.this.removeSlot(slot);
+            return true;
+        }
+
+        @Override
+        public void clear()
+        {
+            OpenHashMap.this.clear();
+        }
+    }
+
+    protected class ValuesCollection extends AbstractCollection<V>
+    {
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new SlotIterator<V>()
+            {
+                @Override
+                protected V valueAt(int slot)
+                {
+                    return (V) OpenHashMap.this.table[(slot << 1) + 1];
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return OpenHashMap.this.size;
+        }
+
+        @Override
+        public boolean contains(Object value)
+        {
+            return OpenHashMap.this.containsValue(value);
+        }
+
+        @Override
+        public void clear()
+        {
+            OpenHashMap.this.clear();
+        }
+    }
+
+    protected class EntrySet extends AbstractSet<Entry<K, V>>
+    {
+        @Override
+        public Iterator<Entry<K, V>> iterator()
+        {
+            return new SlotIterator<Entry<K, V>>()
+            {
+                @Override
+                protected Entry<K, V> valueAt(int slot)
+                {
+                    return new SlotEntry(
+                            OpenHashMap.this.nonSentinel(OpenHashMap.this.table[slot << 1]),
+                            (V) OpenHashMap.this.table[(slot << 1) + 1]);
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return OpenHashMap.this.size;
+        }
+
+        @Override
+        public boolean contains(Object object)
+        {
+            return this.slotOf(object) >= 0;
+        }
+
+        @Override
+        public boolean remove(Object object)
+        {
+            int slot = this.slotOf(object);
+            if (slot < 0)
+            {
+                return false;
+            }
+            OpenHashMap.this.removeSlot(slot);
+            return true;
+        }
+
+        private int slotOf(Object object)
+        {
+            if (!(object instanceof Entry))
+            {
+                return -1;
+            }
+            Entry<?, ?> entry = (Entry<?, ?>) object;
+            int slot = OpenHashMap.this.find(entry.getKey());
+            if (slot >= 0 && OpenHashMap.nullSafeEquals(OpenHashMap.this.table[(slot << 1) + 1], entry.getValue()))
+            {
+                return slot;
+            }
+            return -1;
+        }
+
+        @Override
+        public void clear()
+        {
+            OpenHashMap.this.clear();
+        }
+    }
+
+    /**
+     * An entry returned by the entry set iterator. Setting its value puts the value in the map.
+     */
+    protected class SlotEntry implements Entry<K, V>
+    {
+        private final K key;
+        private V value;
+
+        protected SlotEntry(K key, V value)
+        {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public K getKey()
+        {
+            return this.key;
+        }
+
+        @Override
+        public V getValue()
+        {
+            return this.value;
+        }
+
+        @Override
+        public V setValue(V value)
+        {
+            V result = this.value;
+            this.value = value;
+            OpenHashMap.this.put(this.key, value);
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object object)
+        {
+            if (!(object instanceof Entry))
+            {
+                return false;
+            }
+            Entry<?, ?> other = (Entry<?, ?>) object;
+            return OpenHashMap.nullSafeEquals(this.key, other.getKey())
+                    && OpenHashMap.nullSafeEquals(this.value, other.getValue());
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return (this.key == null ? 0 : this.key.hashCode()) ^ (this.value == null ? 0 : this.value.hashCode());
+        }
+
+        @Override
+        public String toString()
+        {
+            return this.key + "=" + this.value;
+        }
+    }
+}
@@ -24,7 +24,11 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.ParallelIterable;
+import org.eclipse.collections.api.annotation.Beta;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function0;
 import org.eclipse.collections.api.block.function.Function2;
@@ -43,6 +47,15 @@ import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.block.factory.Functions;
 import org.eclipse.collections.impl.block.factory.Predicates;
 import org.eclipse.collections.impl.block.procedure.MapCollectProcedure;
+import org.eclipse.collections.impl.lazy.AbstractLazyIterable;
+import org.eclipse.collections.impl.lazy.parallel.AbstractBatch;
+import org.eclipse.collections.impl.lazy.parallel.AbstractParallelIterable;
+import org.eclipse.collections.impl.lazy.parallel.AbstractParallelIterableImpl;
+import org.eclipse.collections.impl.lazy.parallel.bag.CollectUnsortedBagBatch;
+import org.eclipse.collections.impl.lazy.parallel.bag.FlatCollectUnsortedBagBatch;
+import org.eclipse.collections.impl.lazy.parallel.bag.RootUnsortedBagBatch;
+import org.eclipse.collections.impl.lazy.parallel.bag.SelectUnsortedBagBatch;
+import org.eclipse.collections.impl.lazy.parallel.bag.UnsortedBagBatch;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.parallel.BatchIterable;
 import org.eclipse.collections.impl.set.mutable.UnifiedSet;
@@ -1125,6 +1138,40 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
         }
     }
 
+    @Beta
+    @Override
+    public ParallelIterable<V> asParallel(ExecutorService executorService, int batchSize)
+    {
+        return this.asParallel(executorService, batchSize, (key, value) -> value);
+    }
+
+    @Beta
+    @Override
+    public ParallelIterable<K> keysViewAsParallel(ExecutorService executorService, int batchSize)
+    {
+        return this.asParallel(executorService, batchSize, (key, value) -> key);
+    }
+
+    @Beta
+    @Override
+    public ParallelIterable<Pair<K, V>> keyValuesViewAsParallel(ExecutorService executorService, int batchSize)
+    {
+        return this.asParallel(executorService, batchSize, Tuples::pair);
+    }
+
+    private <E> ParallelIterable<E> asParallel(ExecutorService executorService, int batchSize, Function2<? super K, ? super V, ? extends E> function)
+    {
+        if (executorService == null)
+        {
+            throw new NullPointerException();
+        }
+        if (batchSize < 1)
+        {
+            throw new IllegalArgumentException();
+        }
+        return new UnifiedMapParallelIterable<>(executorService, batchSize, function);
+    }
+
     @Override
     public void forEachKey(Procedure<? super K> procedure)
     {
@@ -3302,4 +3349,248 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
     {
         return Maps.immutable.withAll(this);
     }
+
+    /**
+     * A batch over the table slots [chunkStartIndex, chunkEndIndex), including the chained buckets hanging off those
+     * slots. Each key/value pair is transformed into the batch element by the function.
+     */
+    private final class UnifiedMapBatch<E> extends AbstractBatch<E> implements RootUnsortedBagBatch<E>
+    {
+        private final int chunkStartIndex;
+        private final int chunkEndIndex;
+        private final Function2<? super K, ? super V, ? extends E> function;
+
+        private UnifiedMapBatch(int chunkStartIndex, int chunkEndIndex, Function2<? super K, ? super V, ? extends E> function)
+        {
+            this.chunkStartIndex = chunkStartIndex;
+            this.chunkEndIndex = chunkEndIndex;
+            this.function = function;
+        }
+
+        @Override
+        public void forEach(Procedure<? super E> procedure)
+        {
+            Object[] table = UnifiedMap.this.table;
+            for (int i = this.chunkStartIndex; i < this.chunkEndIndex; i += 2)
+            {
+                Object cur = table[i];
+                if (cur == CHAINED_KEY)
+                {
+                    Object[] chain = (Object[]) table[i + 1];
+                    for (int j = 0; j < chain.length && chain[j] != null; j += 2)
+                    {
+                        procedure.value(this.function.value(UnifiedMap.this.nonSentinel(chain[j]), (V) chain[j + 1]));
+                    }
+                }
+                else if (cur != null)
+                {
+                    procedure.value(this.function.value(UnifiedMap.this.nonSentinel(cur), (V) table[i + 1]));
+                }
+            }
+        }
+
+        @Override
+        public boolean anySatisfy(Predicate<? super E> predicate)
+        {
+            return this.shortCircuit(predicate, true, true, false);
+        }
+
+        @Override
+        public boolean allSatisfy(Predicate<? super E> predicate)
+        {
+            return this.shortCircuit(predicate, false, false, true);
+        }
+
+        private boolean shortCircuit(Predicate<? super E> predicate, boolean expected, boolean onShortCircuit, boolean atEnd)
+        {
+            Object[] table = UnifiedMap.this.table;
+            for (int i = this.chunkStartIndex; i < this.chunkEndIndex; i += 2)
+            {
+                Object cur = table[i];
+                if (cur == CHAINED_KEY)
+                {
+                    Object[] chain = (Object[]) table[i + 1];
+                    for (int j = 0; j < chain.length && chain[j] != null; j += 2)
+                    {
+                        if (predicate.accept(this.function.value(UnifiedMap.this.nonSentinel(chain[j]), (V) chain[j + 1])) == expected)
+                        {
+                            return onShortCircuit;
+                        }
+                    }
+                }
+                else if (cur != null)
+                {
+                    if (predicate.accept(this.function.value(UnifiedMap.this.nonSentinel(cur), (V) table[i + 1])) == expected)
+                    {
+                        return onShortCircuit;
+                    }
+                }
+            }
+            return atEnd;
+        }
+
+        @Override
+        public E detect(Predicate<? super E> predicate)
+        {
+            Object[] table = UnifiedMap.this.table;
+            for (int i = this.chunkStartIndex; i < this.chunkEndIndex; i += 2)
+            {
+                Object cur = table[i];
+                if (cur == CHAINED_KEY)
+                {
+                    Object[] chain = (Object[]) table[i + 1];
+                    for (int j = 0; j < chain.length && chain[j] != null; j += 2)
+                    {
+                        E each = this.function.value(UnifiedMap.this.nonSentinel(chain[j]), (V) chain[j + 1]);
+                        if (predicate.accept(each))
+                        {
+                            return each;
+                        }
+                    }
+                }
+                else if (cur != null)
+                {
+                    E each = this.function.value(UnifiedMap.this.nonSentinel(cur), (V) table[i + 1]);
+                    if (predicate.accept(each))
+                    {
+                        return each;
+                    }
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public UnsortedBagBatch<E> select(Predicate<? super E> predicate)
+        {
+            return new SelectUnsortedBagBatch<>(this, predicate);
+        }
+
+        @Override
+        public <VV> UnsortedBagBatch<VV> collect(Function<? super E, ? extends VV> function)
+        {
+            return new CollectUnsortedBagBatch<>(this, function);
+        }
+
+        @Override
+        public <VV> UnsortedBagBatch<VV> flatCollect(Function<? super E, ? extends Iterable<VV>> function)
+        {
+            return new FlatCollectUnsortedBagBatch<>(this, function);
+        }
+    }
+
+    private final class UnifiedMapParallelIterable<E> extends AbstractParallelIterableImpl<E, RootUnsortedBagBatch<E>>
+    {
+        private final ExecutorService executorService;
+        private final int batchSize;
+        private final Function2<? super K, ? super V, ? extends E> function;
+
+        private UnifiedMapParallelIterable(ExecutorService executorService, int batchSize, Function2<? super K, ? super V, ? extends E> function)
+        {
+            this.executorService = executorService;
+            this.batchSize = batchSize;
+            this.function = function;
+        }
+
+        @Override
+        public ExecutorService getExecutorService()
+        {
+            return this.executorService;
+        }
+
+        @Override
+        public int getBatchSize()
+        {
+            return this.batchSize;
+        }
+
+        @Override
+        public LazyIterable<RootUnsortedBagBatch<E>> split()
+        {
+            return new UnifiedMapParallelSplitLazyIterable();
+        }
+
+        @Override
+        public void forEach(Procedure<? super E> procedure)
+        {
+            AbstractParallelIterable.forEach(this, procedure);
+        }
+
+        @Override
+        public boolean anySatisfy(Predicate<? super E> predicate)
+        {
+            return AbstractParallelIterable.anySatisfy(this, predicate);
+        }
+
+        @Override
+        public boolean allSatisfy(Predicate<? super E> predicate)
+        {
+            return AbstractParallelIterable.allSatisfy(this, predicate);
+        }
+
+        @Override
+        public E detect(Predicate<? super E> predicate)
+        {
+            return AbstractParallelIterable.detect(this, predicate);
+        }
+
+        @Override
+        public Object[] toArray()
+        {
+            return this.toList().toArray();
+        }
+
+        private class UnifiedMapParallelSplitIterator implements Iterator<RootUnsortedBagBatch<E>>
+        {
+            protected int chunkIndex;
+
+            // Each entry occupies two slots of the table, one for the key and one for the value. The index is computed
+            // in long so that a large batchSize cannot overflow it.
+            private long chunkStartIndex(int chunkIndex)
+            {
+                return (long) chunkIndex * UnifiedMapParallelIterable.this.batchSize * 2L;
+            }
+
+            @Override
+            public boolean hasNext()
+            {
+                return this.chunkStartIndex(this.chunkIndex) < UnifiedMap.this.table.length;
+            }
+
+            @Override
+            public RootUnsortedBagBatch<E> next()
+            {
+                int tableLength = UnifiedMap.this.table.length;
+                int chunkStartIndex = (int) Math.min(this.chunkStartIndex(this.chunkIndex), tableLength);
+                int truncatedChunkEndIndex = (int) Math.min(this.chunkStartIndex(this.chunkIndex + 1), tableLength);
+                this.chunkIndex++;
+                return new UnifiedMapBatch<>(chunkStartIndex, truncatedChunkEndIndex, UnifiedMapParallelIterable.this.function);
+            }
+
+            @Override
+            public void remove()
+            {
+                throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+            }
+        }
+
+        private class UnifiedMapParallelSplitLazyIterable
+                extends AbstractLazyIterable<RootUnsortedBagBatch<E>>
+        {
+            @Override
+            public void each(Procedure<? super RootUnsortedBagBatch<E>> procedure)
+            {
+                for (RootUnsortedBagBatch<E> chunk : this)
+                {
+                    procedure.value(chunk);
+                }
+            }
+
+            @Override
+            public Iterator<RootUnsortedBagBatch<E>> iterator()
+            {
+                return new UnifiedMapParallelSplitIterator();
+            }
+        }
+    }
 }
@@ -0,0 +1,1369 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.sorted.mutable;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * BPlusTreeMap is a {@link SortedMap} stored in a B+tree. Keys and values are kept in parallel arrays in leaf nodes of
+ * up to 64 entries, and the leaves are linked so that iteration and range scans walk arrays rather than chasing a
+ * pointer per entry. Compared with {@link java.util.TreeMap} this needs no node object per entry and performs far fewer
+ * dependent loads per lookup.
+ * <p>
+ * The {@link #subMap(Object, Object)}, {@link #headMap(Object)} and {@link #tailMap(Object)} views are backed by the
+ * tree. Their iterators locate both ends of the range once, so a range scan makes no comparisons after the initial
+ * searches. Iterators are fail-fast. This class is not thread-safe and does not permit null keys.
+ * <p>
+ * BPlusTreeMap is the storage used by {@link BTreeSortedMap} and
+ * {@link org.eclipse.collections.impl.set.sorted.mutable.BTreeSortedSet}.
+ *
+ * @since 10.3
+ */
+public class BPlusTreeMap<K, V>
+        extends AbstractMap<K, V>
+        implements SortedMap<K, V>
+{
+    private static final int CAPACITY = 64;
+    private static final int MIN_SIZE = CAPACITY / 2;
+    private static final int INITIAL_LEAF_CAPACITY = 8;
+
+    private final Comparator<? super K> comparator;
+    private Node root;
+    private int height;
+    private int size;
+    private int modCount;
+
+    private Inner[] path = new Inner[4];
+    private int[] pathIndex = new int[4];
+
+    private SubMap<K, V> all;
+
+    public BPlusTreeMap()
+    {
+        this((Comparator<? super K>) null);
+    }
+
+    public BPlusTreeMap(Comparator<? super K> comparator)
+    {
+        this.comparator = comparator;
+        this.root = new Leaf(INITIAL_LEAF_CAPACITY);
+    }
+
+    public BPlusTreeMap(Map<? extends K, ? extends V> map)
+    {
+        this((Comparator<? super K>) null);
+        this.putAll(map);
+    }
+
+    public BPlusTreeMap(SortedMap<K, ? extends V> map)
+    {
+        this(map.comparator());
+        this.putAll(map);
+    }
+
+    @Override
+    public Comparator<? super K> comparator()
+    {
+        return this.comparator;
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    @Override
+    public V get(Object key)
+    {
+        this.checkKey(key);
+        Leaf leaf = this.findLeaf(key);
+        int index = this.search(leaf, key);
+        return index >= 0 ? (V) leaf.values[index] : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        this.checkKey(key);
+        Leaf leaf = this.findLeaf(key);
+        return this.search(leaf, key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(Object value)
+    {
+        for (Leaf leaf = this.firstLeaf(); leaf != null; leaf = leaf.next)
+        {
+            for (int i = 0; i < leaf.size; i++)
+            {
+                if (Objects.equals(value, leaf.values[i]))
+                {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public V put(K key, V value)
+    {
+        if (this.size == 0)
+        {
+            // Type and null check, as in TreeMap
+            this.compare(key, key);
+        }
+        else
+        {
+            this.checkKey(key);
+        }
+
+        int depth = 0;
+        Node node = this.root;
+        boolean appending = true;
+        while (node instanceof Inner)
+        {
+            Inner inner = (Inner) node;
+            int childIndex = this.childIndex(inner, key);
+            this.path[depth] = inner;
+            this.pathIndex[depth] = childIndex;
+            appending &= childIndex == inner.size;
+            depth++;
+            node = inner.children[childIndex];
+        }
+
+        Leaf leaf = (Leaf) node;
+        int index = this.search(leaf, key);
+        if (index >= 0)
+        {
+            this.clearPath(depth);
+            V oldValue = (V) leaf.values[index];
+            leaf.values[index] = value;
+            return oldValue;
+        }
+
+        int insertionPoint = -index - 1;
+        this.size++;
+        this.modCount++;
+        if (leaf.size < CAPACITY)
+        {
+            this.clearPath(depth);
+            leaf.insert(insertionPoint, key, value);
+            return null;
+        }
+
+        // Ascending inserts leave full leaves behind instead of half-full ones
+        appending &= insertionPoint == leaf.size;
+        Node newChild = leaf.split(insertionPoint, key, value, appending ? CAPACITY : (CAPACITY + 1) / 2);
+        Object separator = newChild.keys[0];
+        for (int level = depth - 1; level >= 0; level--)
+        {
+            Inner parent = this.path[level];
+            int childIndex = this.pathIndex[level];
+            this.path[level] = null;
+            if (parent.size < CAPACITY)
+            {
+                parent.insert(childIndex, separator, newChild);
+                this.clearPath(level);
+                return null;
+            }
+            Inner right = parent.split(childIndex, separator, newChild, appending ? CAPACITY - 1 : CAPACITY / 2);
+            separator = parent.keys[parent.size];
+            parent.keys[parent.size] = null;
+            newChild = right;
+        }
+
+        Inner newRoot = new Inner();
+        newRoot.keys[0] = separator;
+        newRoot.children[0] = this.root;
+        newRoot.children[1] = newChild;
+        newRoot.size = 1;
+        this.root = newRoot;
+        this.height++;
+        if (this.height == this.path.length)
+        {
+            this.path = new Inner[this.height * 2];
+            this.pathIndex = new int[this.height * 2];
+        }
+        return null;
+    }
+
+    @Override
+    public V remove(Object key)
+    {
+        this.checkKey(key);
+
+        int depth = 0;
+        Node node = this.root;
+        while (node instanceof Inner)
+        {
+            Inner inner = (Inner) node;
+            int childIndex = this.childIndex(inner, key);
+            this.path[depth] = inner;
+            this.pathIndex[depth] = childIndex;
+            depth++;
+            node = inner.children[childIndex];
+        }
+
+        Leaf leaf = (Leaf) node;
+        int index = this.search(leaf, key);
+        if (index < 0)
+        {
+            this.clearPath(depth);
+            return null;
+        }
+
+        V oldValue = (V) leaf.values[index];
+        leaf.remove(index);
+        this.size--;
+        this.modCount++;
+
+        Node child = leaf;
+        for (int level = depth - 1; level >= 0 && child.size < MIN_SIZE; level--)
+        {
+            Inner parent = this.path[level];
+            this.rebalance(parent, this.pathIndex[level]);
+            child = parent;
+        }
+        this.clearPath(depth);
+
+        if (this.root instanceof Inner && this.root.size == 0)
+        {
+            this.root = ((Inner) this.root).children[0];
+            this.height--;
+        }
+        return oldValue;
+    }
+
+    @Override
+    public void clear()
+    {
+        if (this.size > 0)
+        {
+            this.root = new Leaf(INITIAL_LEAF_CAPACITY);
+            this.height = 0;
+            this.size = 0;
+            this.modCount++;
+        }
+    }
+
+    @Override
+    public K firstKey()
+    {
+        if (this.size == 0)
+        {
+            throw new NoSuchElementException();
+        }
+        return (K) this.firstLeaf().keys[0];
+    }
+
+    @Override
+    public K lastKey()
+    {
+        if (this.size == 0)
+        {
+            throw new NoSuchElementException();
+        }
+        Leaf leaf = this.lastLeaf();
+        return (K) leaf.keys[leaf.size - 1];
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action)
+    {
+        int expectedModCount = this.modCount;
+        for (Leaf leaf = this.firstLeaf(); leaf != null; leaf = leaf.next)
+        {
+            for (int i = 0; i < leaf.size; i++)
+            {
+                action.accept((K) leaf.keys[i], (V) leaf.values[i]);
+            }
+            if (expectedModCount != this.modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet()
+    {
+        return this.all().entrySet();
+    }
+
+    @Override
+    public SortedSet<K> keySet()
+    {
+        return this.all().keySet();
+    }
+
+    @Override
+    public Collection<V> values()
+    {
+        return this.all().values();
+    }
+
+    @Override
+    public SortedMap<K, V> subMap(K fromKey, K toKey)
+    {
+        return this.all().subMap(fromKey, toKey);
+    }
+
+    @Override
+    public SortedMap<K, V> headMap(K toKey)
+    {
+        return this.all().headMap(toKey);
+    }
+
+    @Override
+    public SortedMap<K, V> tailMap(K fromKey)
+    {
+        return this.all().tailMap(fromKey);
+    }
+
+    private SubMap<K, V> all()
+    {
+        if (this.all == null)
+        {
+            this.all = new SubMap<>(this, true, null, true, null);
+        }
+        return this.all;
+    }
+
+    private void checkKey(Object key)
+    {
+        if (key == null && this.comparator == null)
+        {
+            throw new NullPointerException();
+        }
+    }
+
+    private int compare(Object key1, Object key2)
+    {
+        return this.comparator == null
+                ? ((Comparable<Object>) key1).compareTo(key2)
+                : this.comparator.compare((K) key1, (K) key2);
+    }
+
+    /**
+     * Binary search over the keys of a node, with the same return convention as {@link java.util.Arrays#binarySearch(Object[], Object)}.
+     */
+    private int search(Node node, Object key)
+    {
+        Object[] keys = node.keys;
+        int low = 0;
+        int high = node.size - 1;
+        while (low <= high)
+        {
+            int middle = (low + high) >>> 1;
+            int comparison = this.compare(keys[middle], key);
+            if (comparison < 0)
+            {
+                low = middle + 1;
+            }
+            else if (comparison > 0)
+            {
+                high = middle - 1;
+            }
+            else
+            {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private int childIndex(Inner inner, Object key)
+    {
+        int index = this.search(inner, key);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    private Leaf findLeaf(Object key)
+    {
+        Node node = this.root;
+        while (node instanceof Inner)
+        {
+            Inner inner = (Inner) node;
+            node = inner.children[this.childIndex(inner, key)];
+        }
+        return (Leaf) node;
+    }
+
+    private Leaf firstLeaf()
+    {
+        Node node = this.root;
+        while (node instanceof Inner)
+        {
+            node = ((Inner) node).children[0];
+        }
+        return (Leaf) node;
+    }
+
+    private Leaf lastLeaf()
+    {
+        Node node = this.root;
+        while (node instanceof Inner)
+        {
+            node = ((Inner) node).children[node.size];
+        }
+        return (Leaf) node;
+    }
+
+    private void clearPath(int depth)
+    {
+        for (int i = 0; i < depth; i++)
+        {
+            this.path[i] = null;
+        }
+    }
+
+    /**
+     * Restores the child at {@code childIndex} of {@code parent} after it dropped below half full, either by merging
+     * it with a neighbour, which removes a key from the parent, or by moving entries over from the neighbour.
+     */
+    private void rebalance(Inner parent, int childIndex)
+    {
+        int separatorIndex = childIndex > 0 ? childIndex - 1 : 0;
+        Node left = parent.children[separatorIndex];
+        Node right = parent.children[separatorIndex + 1];
+        if (left instanceof Leaf)
+        {
+            Leaf leftLeaf = (Leaf) left;
+            Leaf rightLeaf = (Leaf) right;
+            if (leftLeaf.size + rightLeaf.size <= CAPACITY)
+            {
+                leftLeaf.append(rightLeaf);
+                parent.remove(separatorIndex);
+            }
+            else
+            {
+                leftLeaf.balance(rightLeaf);
+                parent.keys[separatorIndex] = rightLeaf.keys[0];
+            }
+        }
+        else
+        {
+            Inner leftInner = (Inner) left;
+            Inner rightInner = (Inner) right;
+            if (leftInner.size + rightInner.size < CAPACITY)
+            {
+                leftInner.append(parent.keys[separatorIndex], rightInner);
+                parent.remove(separatorIndex);
+            }
+            else
+            {
+                parent.keys[separatorIndex] = leftInner.rotate(parent.keys[separatorIndex], rightInner);
+            }
+        }
+    }
+
+    /**
+     * Positions a cursor at the first entry whose key is greater than or equal to {@code key}.
+     */
+    private void seekCeiling(Cursor cursor, Object key)
+    {
+        Leaf leaf = this.findLeaf(key);
+        int index = this.search(leaf, key);
+        cursor.set(leaf, index >= 0 ? index : -index - 1);
+    }
+
+    private void seekFirst(Cursor cursor)
+    {
+        cursor.set(this.firstLeaf(), 0);
+    }
+
+    private void seekEnd(Cursor cursor)
+    {
+        Leaf leaf = this.lastLeaf();
+        cursor.set(leaf, leaf.size);
+    }
+
+    /**
+     * Returns the greatest key strictly less than {@code key}, or {@link Cursor#NONE}.
+     */
+    private Object lowerKey(Object key)
+    {
+        Node node = this.root;
+        Node leftSubtree = null;
+        while (node instanceof Inner)
+        {
+            Inner inner = (Inner) node;
+            int childIndex = this.childIndex(inner, key);
+            if (childIndex > 0)
+            {
+                leftSubtree = inner.children[childIndex - 1];
+            }
+            node = inner.children[childIndex];
+        }
+        Leaf leaf = (Leaf) node;
+        int index = this.search(leaf, key);
+        int insertionPoint = index >= 0 ? index : -index - 1;
+        if (insertionPoint > 0)
+        {
+            return leaf.keys[insertionPoint - 1];
+        }
+        while (leftSubtree instanceof Inner)
+        {
+            leftSubtree = ((Inner) leftSubtree).children[leftSubtree.size];
+        }
+        if (leftSubtree == null || leftSubtree.size == 0)
+        {
+            return Cursor.NONE;
+        }
+        return leftSubtree.keys[leftSubtree.size - 1];
+    }
+
+    private abstract static class Node
+    {
+        protected Object[] keys;
+        protected int size;
+    }
+
+    private static final class Leaf extends Node
+    {
+        private Object[] values;
+        private Leaf next;
+
+        private Leaf(int capacity)
+        {
+            this.keys = new Object[capacity];
+            this.values = new Object[capacity];
+        }
+
+        private void insert(int index, Object key, Object value)
+        {
+            if (this.size == this.keys.length)
+            {
+                int newCapacity = Math.min(this.keys.length * 2, CAPACITY);
+                Object[] newKeys = new Object[newCapacity];
+                Object[] newValues = new Object[newCapacity];
+                System.arraycopy(this.keys, 0, newKeys, 0, this.size);
+                System.arraycopy(this.values, 0, newValues, 0, this.size);
+                this.keys = newKeys;
+                this.values = newValues;
+            }
+            System.arraycopy(this.keys, index, this.keys, index + 1, this.size - index);
+            System.arraycopy(this.values, index, this.values, index + 1, this.size - index);
+            this.keys[index] = key;
+            this.values[index] = value;
+            this.size++;
+        }
+
+        private void remove(int index)
+        {
+            int moved = this.size - index - 1;
+            System.arraycopy(this.keys, index + 1, this.keys, index, moved);
+            System.arraycopy(this.values, index + 1, this.values, index, moved);
+            this.size--;
+            this.keys[this.size] = null;
+            this.values[this.size] = null;
+        }
+
+        /**
+         * Splits this full leaf while inserting a new entry, keeping {@code leftSize} entries here and moving the
+         * rest to a new leaf which is linked after this one and returned.
+         */
+        private Leaf split(int index, Object key, Object value, int leftSize)
+        {
+            Leaf right = new Leaf(CAPACITY);
+            if (index < leftSize)
+            {
+                this.moveTail(leftSize - 1, right);
+                this.insert(index, key, value);
+            }
+            else
+            {
+                this.moveTail(leftSize, right);
+                right.insert(index - leftSize, key, value);
+            }
+            right.next = this.next;
+            this.next = right;
+            return right;
+        }
+
+        private void moveTail(int from, Leaf target)
+        {
+            int count = this.size - from;
+            System.arraycopy(this.keys, from, target.keys, target.size, count);
+            System.arraycopy(this.values, from, target.values, target.size, count);
+            for (int i = from; i < this.size; i++)
+            {
+                this.keys[i] = null;
+                this.values[i] = null;
+            }
+            target.size += count;
+            this.size = from;
+        }
+
+        private void append(Leaf right)
+        {
+            if (this.keys.length < this.size + right.size)
+            {
+                Object[] newKeys = new Object[CAPACITY];
+                Object[] newValues = new Object[CAPACITY];
+                System.arraycopy(this.keys, 0, newKeys, 0, this.size);
+                System.arraycopy(this.values, 0, newValues, 0, this.size);
+                this.keys = newKeys;
+                this.values = newValues;
+            }
+            right.moveTail(0, this);
+            this.next = right.next;
+        }
+
+        /**
+         * Evens out the entries of this leaf and its right neighbour.
+         */
+        private void balance(Leaf right)
+        {
+            int total = this.size + right.size;
+            int leftSize = total / 2;
+            if (this.size > leftSize)
+            {
+                int moved = this.size - leftSize;
+                System.arraycopy(right.keys, 0, right.keys, moved, right.size);
+                System.arraycopy(right.values, 0, right.values, moved, right.size);
+                System.arraycopy(this.keys, leftSize, right.keys, 0, moved);
+                System.arraycopy(this.values, leftSize, right.values, 0, moved);
+                for (int i = leftSize; i < this.size; i++)
+                {
+                    this.keys[i] = null;
+                    this.values[i] = null;
+                }
+                right.size += moved;
+                this.size = leftSize;
+            }
+            else
+            {
+                int moved = leftSize - this.size;
+                System.arraycopy(right.keys, 0, this.keys, this.size, moved);
+                System.arraycopy(right.values, 0, this.values, this.size, moved);
+                int remaining = right.size - moved;
+                System.arraycopy(right.keys, moved, right.keys, 0, remaining);
+                System.arraycopy(right.values, moved, right.values, 0, remaining);
+                for (int i = remaining; i < right.size; i++)
+                {
+                    right.keys[i] = null;
+                    right.values[i] = null;
+                }
+                right.size = remaining;
+                this.size = leftSize;
+            }
+        }
+    }
+
+    /**
+     * An inner node with {@code size} separator keys and {@code size + 1} children. Every key in
+     * {@code children[i + 1]} is greater than or equal to {@code keys[i]}, and every key in {@code children[i]} is less.
+     */
+    private static final class Inner extends Node
+    {
+        private final Node[] children = new Node[CAPACITY + 1];
+
+        private Inner()
+        {
+            this.keys = new Object[CAPACITY];
+        }
+
+        /**
+         * Inserts {@code separator} before key {@code childIndex} and {@code child} after child {@code childIndex}.
+         */
+        private void insert(int childIndex, Object separator, Node child)
+        {
+            System.arraycopy(this.keys, childIndex, this.keys, childIndex + 1, this.size - childIndex);
+            System.arraycopy(this.children, childIndex + 1, this.children, childIndex + 2, this.size - childIndex);
+            this.keys[childIndex] = separator;
+            this.children[childIndex + 1] = child;
+            this.size++;
+        }
+
+        /**
+         * Splits this full node while inserting a separator and child. This node keeps {@code leftSize} keys, the
+         * returned node takes the keys after the promoted one, and the promoted key is left at {@code keys[size]} for
+         * the caller to collect.
+         */
+        private Inner split(int childIndex, Object separator, Node child, int leftSize)
+        {
+            Object[] allKeys = new Object[CAPACITY + 1];
+            Node[] allChildren = new Node[CAPACITY + 2];
+            System.arraycopy(this.keys, 0, allKeys, 0, childIndex);
+            allKeys[childIndex] = separator;
+            System.arraycopy(this.keys, childIndex, allKeys, childIndex + 1, CAPACITY - childIndex);
+            System.arraycopy(this.children, 0, allChildren, 0, childIndex + 1);
+            allChildren[childIndex + 1] = child;
+            System.arraycopy(this.children, childIndex + 1, allChildren, childIndex + 2, CAPACITY - childIndex);
+
+            Inner right = new Inner();
+            right.size = CAPACITY - leftSize;
+            System.arraycopy(allKeys, leftSize + 1, right.keys, 0, right.size);
+            System.arraycopy(allChildren, leftSize + 1, right.children, 0, right.size + 1);
+
+            System.arraycopy(allKeys, 0, this.keys, 0, leftSize + 1);
+            System.arraycopy(allChildren, 0, this.children, 0, leftSize + 1);
+            for (int i = leftSize + 1; i < CAPACITY; i++)
+            {
+                this.keys[i] = null;
+            }
+            for (int i = leftSize + 1; i <= CAPACITY; i++)
+            {
+                this.children[i] = null;
+            }
+            this.size = leftSize;
+            return right;
+        }
+
+        /**
+         * Removes key {@code keyIndex} and the child to its right.
+         */
+        private void remove(int keyIndex)
+        {
+            System.arraycopy(this.keys, keyIndex + 1, this.keys, keyIndex, this.size - keyIndex - 1);
+            System.arraycopy(this.children, keyIndex + 2, this.children, keyIndex + 1, this.size - keyIndex - 1);
+            this.size--;
+            this.keys[this.size] = null;
+            this.children[this.size + 1] = null;
+        }
+
+        private void append(Object separator, Inner right)
+        {
+            this.keys[this.size] = separator;
+            System.arraycopy(right.keys, 0, this.keys, this.size + 1, right.size);
+            System.arraycopy(right.children, 0, this.children, this.size + 1, right.size + 1);
+            this.size += right.size + 1;
+        }
+
+        /**
+         * Moves one child between this node and its right neighbour, from the larger to the smaller, through the
+         * separator between them, and returns the new separator.
+         */
+        private Object rotate(Object separator, Inner right)
+        {
+            if (this.size > right.size)
+            {
+                System.arraycopy(right.keys, 0, right.keys, 1, right.size);
+                System.arraycopy(right.children, 0, right.children, 1, right.size + 1);
+                right.keys[0] = separator;
+                right.children[0] = this.children[this.size];
+                right.size++;
+                Object newSeparator = this.keys[this.size - 1];
+                this.keys[this.size - 1] = null;
+                this.children[this.size] = null;
+                this.size--;
+                return newSeparator;
+            }
+            this.keys[this.size] = separator;
+            this.children[this.size + 1] = right.children[0];
+            this.size++;
+            Object newSeparator = right.keys[0];
+            System.arraycopy(right.keys, 1, right.keys, 0, right.size - 1);
+            System.arraycopy(right.children, 1, right.children, 0, right.size);
+            right.size--;
+            right.keys[right.size] = null;
+            right.children[right.size + 1] = null;
+            return newSeparator;
+        }
+    }
+
+    /**
+     * A position in the leaf chain. Cursors are kept normalized so that they only rest past the end of a leaf when
+     * it is the last leaf, which makes two cursors at the same position identical.
+     */
+    private static final class Cursor
+    {
+        private static final Object NONE = new Object();
+
+        private Leaf leaf;
+        private int index;
+
+        private void set(Leaf leaf, int index)
+        {
+            this.leaf = leaf;
+            this.index = index;
+            this.normalize();
+        }
+
+        private void advance()
+        {
+            this.index++;
+            this.normalize();
+        }
+
+        private void normalize()
+        {
+            while (this.index >= this.leaf.size && this.leaf.next != null)
+            {
+                this.leaf = this.leaf.next;
+                this.index = 0;
+            }
+        }
+
+        private boolean at(Cursor other)
+        {
+            return this.leaf == other.leaf && this.index == other.index;
+        }
+    }
+
+    private static final class SubMap<K, V>
+            extends AbstractMap<K, V>
+            implements SortedMap<K, V>
+    {
+        private final BPlusTreeMap<K, V> tree;
+        private final boolean fromStart;
+        private final K low;
+        private final boolean toEnd;
+        private final K high;
+
+        private SubMap(BPlusTreeMap<K, V> tree, boolean fromStart, K low, boolean toEnd, K high)
+        {
+            if (!fromStart && !toEnd && tree.compare(low, high) > 0)
+            {
+                throw new IllegalArgumentException("fromKey > toKey");
+            }
+            if (!fromStart)
+            {
+                tree.compare(low, low);
+            }
+            if (!toEnd)
+            {
+                tree.compare(high, high);
+            }
+            this.tree = tree;
+            this.fromStart = fromStart;
+            this.low = low;
+            this.toEnd = toEnd;
+            this.high = high;
+        }
+
+        private boolean tooLow(Object key)
+        {
+            return !this.fromStart && this.tree.compare(key, this.low) < 0;
+        }
+
+        private boolean tooHigh(Object key)
+        {
+            return !this.toEnd && this.tree.compare(key, this.high) >= 0;
+        }
+
+        private boolean inRange(Object key)
+        {
+            return !this.tooLow(key) && !this.tooHigh(key);
+        }
+
+        private boolean inClosedRange(Object key)
+        {
+            return (this.fromStart || this.tree.compare(key, this.low) >= 0)
+                    && (this.toEnd || this.tree.compare(key, this.high) <= 0);
+        }
+
+        private void seekStart(Cursor cursor)
+        {
+            if (this.fromStart)
+            {
+                this.tree.seekFirst(cursor);
+            }
+            else
+            {
+                this.tree.seekCeiling(cursor, this.low);
+            }
+        }
+
+        private void seekEnd(Cursor cursor)
+        {
+            if (this.toEnd)
+            {
+                this.tree.seekEnd(cursor);
+            }
+            else
+            {
+                this.tree.seekCeiling(cursor, this.high);
+            }
+        }
+
+        @Override
+        public Comparator<? super K> comparator()
+        {
+            return this.tree.comparator;
+        }
+
+        @Override
+        public int size()
+        {
+            if (this.fromStart && this.toEnd)
+            {
+                return this.tree.size;
+            }
+            Cursor cursor = new Cursor();
+            Cursor end = new Cursor();
+            this.seekStart(cursor);
+            this.seekEnd(end);
+            int count = 0;
+            while (cursor.leaf != end.leaf)
+            {
+                count += cursor.leaf.size - cursor.index;
+                cursor.set(cursor.leaf.next, 0);
+            }
+            return count + end.index - cursor.index;
+        }
+
+        @Override
+        public boolean isEmpty()
+        {
+            if (this.fromStart && this.toEnd)
+            {
+                return this.tree.size == 0;
+            }
+            Cursor cursor = new Cursor();
+            Cursor end = new Cursor();
+            this.seekStart(cursor);
+            this.seekEnd(end);
+            return cursor.at(end);
+        }
+
+        @Override
+        public boolean containsKey(Object key)
+        {
+            return this.inRange(key) && this.tree.containsKey(key);
+        }
+
+        @Override
+        public V get(Object key)
+        {
+            return this.inRange(key) ? this.tree.get(key) : null;
+        }
+
+        @Override
+        public V put(K key, V value)
+        {
+            if (!this.inRange(key))
+            {
+                throw new IllegalArgumentException("key out of range");
+            }
+            return this.tree.put(key, value);
+        }
+
+        @Override
+        public V remove(Object key)
+        {
+            return this.inRange(key) ? this.tree.remove(key) : null;
+        }
+
+        @Override
+        public void clear()
+        {
+            if (this.fromStart && this.toEnd)
+            {
+                this.tree.clear();
+            }
+            else
+            {
+                super.clear();
+            }
+        }
+
+        @Override
+        public K firstKey()
+        {
+            Cursor cursor = new Cursor();
+            Cursor end = new Cursor();
+            this.seekStart(cursor);
+            this.seekEnd(end);
+            if (cursor.at(end))
+            {
+                throw new NoSuchElementException();
+            }
+            return (K) cursor.leaf.keys[cursor.index];
+        }
+
+        @Override
+        public K lastKey()
+        {
+            if (this.toEnd)
+            {
+                K lastKey = this.tree.lastKey();
+                if (this.tooLow(lastKey))
+                {
+                    throw new NoSuchElementException();
+                }
+                return lastKey;
+            }
+            Object lowerKey = this.tree.lowerKey(this.high);
+            if (lowerKey == Cursor.NONE || this.tooLow(lowerKey))
+            {
+                throw new NoSuchElementException();
+            }
+            return (K) lowerKey;
+        }
+
+        @Override
+        public SubMap<K, V> subMap(K fromKey, K toKey)
+        {
+            if (!this.inRange(fromKey))
+            {
+                throw new IllegalArgumentException("fromKey out of range");
+            }
+            if (!this.inClosedRange(toKey))
+            {
+                throw new IllegalArgumentException("toKey out of range");
+            }
+            return new SubMap<>(this.tree, false, fromKey, false, toKey);
+        }
+
+        @Override
+        public SubMap<K, V> headMap(K toKey)
+        {
+            if (!this.inClosedRange(toKey))
+            {
+                throw new IllegalArgumentException("toKey out of range");
+            }
+            return new SubMap<>(this.tree, this.fromStart, this.low, false, toKey);
+        }
+
+        @Override
+        public SubMap<K, V> tailMap(K fromKey)
+        {
+            if (!this.inRange(fromKey))
+            {
+                throw new IllegalArgumentException("fromKey out of range");
+            }
+            return new SubMap<>(this.tree, false, fromKey, this.toEnd, this.high);
+        }
+
+        @Override
+        public void forEach(BiConsumer<? super K, ? super V> action)
+        {
+            if (this.fromStart && this.toEnd)
+            {
+                this.tree.forEach(action);
+                return;
+            }
+            Cursor cursor = new Cursor();
+            Cursor end = new Cursor();
+            this.seekStart(cursor);
+            this.seekEnd(end);
+            int expectedModCount = this.tree.modCount;
+            while (!cursor.at(end))
+            {
+                action.accept((K) cursor.leaf.keys[cursor.index], (V) cursor.leaf.values[cursor.index]);
+                if (expectedModCount != this.tree.modCount)
+                {
+                    throw new ConcurrentModificationException();
+                }
+                cursor.advance();
+            }
+        }
+
+        @Override
+        public Set<Entry<K, V>> entrySet()
+        {
+            return new EntrySet();
+        }
+
+        @Override
+        public SortedSet<K> keySet()
+        {
+            return new KeySet();
+        }
+
+        @Override
+        public Collection<V> values()
+        {
+            return new Values();
+        }
+
+        private final class EntrySet extends AbstractSet<Entry<K, V>>
+        {
+            @Override
+            public Iterator<Entry<K, V>> iterator()
+            {
+                return new RangeIterator<Entry<K, V>>()
+                {
+                    @Override
+                    protected Entry<K, V> element(Leaf leaf, int index)
+                    {
+                        return new TreeEntry<>(SubMap.this.tree, (K) leaf.keys[index], (V) leaf.values[index]);
+                    }
+                };
+            }
+
+            @Override
+            public int size()
+            {
+                return SubMap.this.size();
+            }
+
+            @Override
+            public boolean isEmpty()
+            {
+                return SubMap.this.isEmpty();
+            }
+
+            @Override
+            public boolean contains(Object object)
+            {
+                if (!(object instanceof Entry))
+                {
+                    return false;
+                }
+                Entry<?, ?> entry = (Entry<?, ?>) object;
+                Object key = entry.getKey();
+                return SubMap.this.containsKey(key) && Objects.equals(SubMap.this.get(key), entry.getValue());
+            }
+
+            @Override
+            public boolean remove(Object object)
+            {
+                if (this.contains(object))
+                {
+                    SubMap.this.remove(((Entry<?, ?>) object).getKey());
+                    return true;
+                }
+                return false;
+            }
+
+            @Override
+            public void clear()
+            {
+                SubMap.this.clear();
+            }
+        }
+
+        private final class Values extends AbstractCollection<V>
+        {
+            @Override
+            public Iterator<V> iterator()
+            {
+                return new RangeIterator<V>()
+                {
+                    @Override
+                    protected V element(Leaf leaf, int index)
+                    {
+                        return (V) leaf.values[index];
+                    }
+                };
+            }
+
+            @Override
+            public int size()
+            {
+                return SubMap.this.size();
+            }
+
+            @Override
+            public boolean isEmpty()
+            {
+                return SubMap.this.isEmpty();
+            }
+
+            @Override
+            public void clear()
+            {
+                SubMap.this.clear();
+            }
+        }
+
+        private final class KeySet
+                extends AbstractSet<K>
+                implements SortedSet<K>
+        {
+            @Override
+            public Iterator<K> iterator()
+            {
+                return new RangeIterator<K>()
+                {
+                    @Override
+                    protected K element(Leaf leaf, int index)
+                    {
+                        return (K) leaf.keys[index];
+                    }
+                };
+            }
+
+            @Override
+            public void forEach(Consumer<? super K> action)
+            {
+                SubMap.this.forEach((key, value) -> action.accept(key));
+            }
+
+            @Override
+            public int size()
+            {
+                return SubMap.this.size();
+            }
+
+            @Override
+            public boolean isEmpty()
+            {
+                return SubMap.this.isEmpty();
+            }
+
+            @Override
+            public boolean contains(Object object)
+            {
+                return SubMap.this.containsKey(object);
+            }
+
+            @Override
+            public boolean remove(Object object)
+            {
+                if (SubMap.this.containsKey(object))
+                {
+                    SubMap.this.remove(object);
+                    return true;
+                }
+                return false;
+            }
+
+            @Override
+            public void clear()
+            {
+                SubMap.this.clear();
+            }
+
+            @Override
+            public Comparator<? super K> comparator()
+            {
+                return SubMap.this.comparator();
+            }
+
+            @Override
+            public SortedSet<K> subSet(K fromElement, K toElement)
+            {
+                return SubMap.this.subMap(fromElement, toElement).keySet();
+            }
+
+            @Override
+            public SortedSet<K> headSet(K toElement)
+            {
+                return SubMap.this.headMap(toElement).keySet();
+            }
+
+            @Override
+            public SortedSet<K> tailSet(K fromElement)
+            {
+                return SubMap.this.tailMap(fromElement).keySet();
+            }
+
+            @Override
+            public K first()
+            {
+                return SubMap.this.firstKey();
+            }
+
+            @Override
+            public K last()
+            {
+                return SubMap.this.lastKey();
+            }
+        }
+
+        private abstract class RangeIterator<T> implements Iterator<T>
+        {
+            private final Cursor cursor = new Cursor();
+            private final Cursor end = new Cursor();
+            private int expectedModCount = SubMap.this.tree.modCount;
+            private Object lastKey = Cursor.NONE;
+
+            protected RangeIterator()
+            {
+                SubMap.this.seekStart(this.cursor);
+                SubMap.this.seekEnd(this.end);
+            }
+
+            protected abstract T element(Leaf leaf, int index);
+
+            @Override
+            public boolean hasNext()
+            {
+                return !this.cursor.at(this.end);
+            }
+
+            @Override
+            public T next()
+            {
+                if (this.expectedModCount != SubMap.this.tree.modCount)
+                {
+                    throw new ConcurrentModificationException();
+                }
+                if (this.cursor.at(this.end))
+                {
+                    throw new NoSuchElementException();
+                }
+                Leaf leaf = this.cursor.leaf;
+                int index = this.cursor.index;
+                this.lastKey = leaf.keys[index];
+                T element = this.element(leaf, index);
+                this.cursor.advance();
+                return element;
+            }
+
+            @Override
+            public void remove()
+            {
+                if (this.lastKey == Cursor.NONE)
+                {
+                    throw new IllegalStateException();
+                }
+                if (this.expectedModCount != SubMap.this.tree.modCount)
+                {
+                    throw new ConcurrentModificationException();
+                }
+                BPlusTreeMap<K, V> tree = SubMap.this.tree;
+                tree.remove(this.lastKey);
+                // Removal may have moved entries between leaves, so find both ends again
+                tree.seekCeiling(this.cursor, this.lastKey);
+                SubMap.this.seekEnd(this.end);
+                this.lastKey = Cursor.NONE;
+                this.expectedModCount = tree.modCount;
+            }
+        }
+    }
+
+    private static final class TreeEntry<K, V> extends SimpleEntry<K, V>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final transient BPlusTreeMap<K, V> tree;
+
+        private TreeEntry(BPlusTreeMap<K, V> tree, K key, V value)
+        {
+            super(key, value);
+            this.tree = tree;
+        }
+
+        @Override
+        public V setValue(V value)
+        {
+            this.tree.put(this.getKey(), value);
+            return super.setValue(value);
+        }
+    }
+}
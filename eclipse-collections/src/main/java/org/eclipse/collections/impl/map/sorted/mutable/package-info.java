@@ -14,6 +14,12 @@
  *     This package contains the following implementations:
  * <ul>
  *     <li>
+ *          {@link org.eclipse.collections.impl.map.sorted.mutable.BPlusTreeMap} - a {@link java.util.SortedMap} stored in a B+tree with array-based leaves.
+ *     </li>
+ *     <li>
+ *          {@link org.eclipse.collections.impl.map.sorted.mutable.BTreeSortedMap} - a {@link org.eclipse.collections.api.map.sorted.MutableSortedMap} backed by a {@link org.eclipse.collections.impl.map.sorted.mutable.BPlusTreeMap}.
+ *     </li>
+ *     <li>
  *          {@link org.eclipse.collections.impl.map.sorted.mutable.SortedMapAdapter} - a {@link org.eclipse.collections.api.map.sorted.MutableSortedMap} wrapper around a {@link java.util.SortedMap} interface instance.
  *     </li>
  *     <li>
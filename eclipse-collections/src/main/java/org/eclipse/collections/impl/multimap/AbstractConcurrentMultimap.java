@@ -0,0 +1,322 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.multimap;
+
+import java.io.IOException;
+import java.io.ObjectOutput;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.collection.MutableCollection;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.UnmodifiableRichIterable;
+import org.eclipse.collections.impl.block.procedure.checked.MultimapKeyValuesSerializingProcedure;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * A Multimap which is safe for concurrent reads and writes, where updates to different keys never contend.
+ * <p>
+ * The values for each key are held in a collection returned by {@link #createCollection()}, which must synchronize
+ * on itself. Every update locks only the collection for its key and then checks that the collection is still mapped
+ * to that key, retrying otherwise. A collection is removed from the map only while its lock is held, either because it
+ * became empty or because it was replaced, so an update can never be lost to a detached collection.
+ * <p>
+ * {@link #get(Object)} and the multi-value views return snapshots of the values for each key.
+ *
+ * @since 10.3
+ */
+public abstract class AbstractConcurrentMultimap<K, V, C extends MutableCollection<V>> extends AbstractMutableMultimap<K, V, C>
+{
+    private final LongAdder adderTotalSize = new LongAdder();
+
+    protected AbstractConcurrentMultimap()
+    {
+    }
+
+    protected AbstractConcurrentMultimap(MutableMap<K, C> newMap)
+    {
+        super(newMap);
+    }
+
+    @Override
+    protected MutableMap<K, C> createMap()
+    {
+        return ConcurrentHashMap.newMap();
+    }
+
+    @Override
+    protected MutableMap<K, C> createMapWithKeyCount(int keyCount)
+    {
+        return ConcurrentHashMap.newMap(keyCount);
+    }
+
+    @Override
+    public int size()
+    {
+        return (int) this.adderTotalSize.sum();
+    }
+
+    @Override
+    protected void incrementTotalSize()
+    {
+        this.adderTotalSize.increment();
+    }
+
+    @Override
+    protected void decrementTotalSize()
+    {
+        this.adderTotalSize.decrement();
+    }
+
+    @Override
+    protected void addToTotalSize(int value)
+    {
+        this.adderTotalSize.add(value);
+    }
+
+    @Override
+    protected void subtractFromTotalSize(int value)
+    {
+        this.adderTotalSize.add(-value);
+    }
+
+    @Override
+    protected void clearTotalSize()
+    {
+        this.adderTotalSize.reset();
+    }
+
+    private C getIfAbsentPutCollection(K key)
+    {
+        return this.map.getIfAbsentPutWith(key, this.createCollectionBlock(), this);
+    }
+
+    private boolean isAttached(Object key, C collection)
+    {
+        return this.map.get(key) == collection;
+    }
+
+    private C copyOf(C collection)
+    {
+        synchronized (collection)
+        {
+            C copy = this.createCollection();
+            copy.addAll(collection);
+            return copy;
+        }
+    }
+
+    @Override
+    public boolean put(K key, V value)
+    {
+        while (true)
+        {
+            C collection = this.getIfAbsentPutCollection(key);
+            synchronized (collection)
+            {
+                if (this.isAttached(key, collection))
+                {
+                    if (collection.add(value))
+                    {
+                        this.incrementTotalSize();
+                        return true;
+                    }
+                    return false;
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean putAll(K key, Iterable<? extends V> values)
+    {
+        if (Iterate.isEmpty(values))
+        {
+            return false;
+        }
+
+        // Copy outside the lock, as the values may be guarded by another lock, e.g. when they come from another multimap.
+        FastList<V> newValues = FastList.newList(values);
+        while (true)
+        {
+            C collection = this.getIfAbsentPutCollection(key);
+            synchronized (collection)
+            {
+                if (this.isAttached(key, collection))
+                {
+                    int oldSize = collection.size();
+                    collection.addAll(newValues);
+                    int newSize = collection.size();
+                    this.addToTotalSize(newSize - oldSize);
+                    return newSize > oldSize;
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean remove(Object key, Object value)
+    {
+        C collection = this.map.get(key);
+        while (collection != null)
+        {
+            synchronized (collection)
+            {
+                if (this.isAttached(key, collection))
+                {
+                    if (!collection.remove(value))
+                    {
+                        return false;
+                    }
+                    this.decrementTotalSize();
+                    if (collection.isEmpty())
+                    {
+                        this.map.remove(key);
+                    }
+                    return true;
+                }
+            }
+            collection = this.map.get(key);
+        }
+        return false;
+    }
+
+    @Override
+    public C replaceValues(K key, Iterable<? extends V> values)
+    {
+        if (Iterate.isEmpty(values))
+        {
+            return this.removeAll(key);
+        }
+
+        C newValues = Iterate.addAllTo(values, this.createCollection());
+        int newSize = newValues.size();
+        while (true)
+        {
+            C oldValues = this.map.putIfAbsent(key, newValues);
+            if (oldValues == null)
+            {
+                this.addToTotalSize(newSize);
+                return (C) this.createCollection().asUnmodifiable();
+            }
+            synchronized (oldValues)
+            {
+                if (this.isAttached(key, oldValues))
+                {
+                    this.map.put(key, newValues);
+                    this.addToTotalSize(newSize - oldValues.size());
+                    return (C) oldValues.asUnmodifiable();
+                }
+            }
+        }
+    }
+
+    @Override
+    public C removeAll(Object key)
+    {
+        C collection = this.map.get(key);
+        while (collection != null)
+        {
+            synchronized (collection)
+            {
+                if (this.isAttached(key, collection))
+                {
+                    this.map.remove(key);
+                    this.subtractFromTotalSize(collection.size());
+                    return (C) collection.asUnmodifiable();
+                }
+            }
+            collection = this.map.get(key);
+        }
+        return (C) this.createCollection().asUnmodifiable();
+    }
+
+    /**
+     * Removes the values for each key in turn. Keys which are added concurrently may survive the call.
+     */
+    @Override
+    public void clear()
+    {
+        this.map.forEachKey(this::removeAll);
+    }
+
+    @Override
+    public C get(K key)
+    {
+        C collection = this.map.get(key);
+        return (C) (collection == null ? this.createCollection() : this.copyOf(collection)).asUnmodifiable();
+    }
+
+    @Override
+    public C getIfAbsentPutAll(K key, Iterable<? extends V> values)
+    {
+        if (Iterate.isEmpty(values))
+        {
+            return this.get(key);
+        }
+
+        while (true)
+        {
+            C existingValues = this.getIfAbsentPutCollection(key);
+            synchronized (existingValues)
+            {
+                if (this.isAttached(key, existingValues))
+                {
+                    if (existingValues.isEmpty())
+                    {
+                        int newSize = Iterate.addAllTo(values, existingValues).size();
+                        this.addToTotalSize(newSize);
+                    }
+                    return (C) this.copyOf(existingValues).asUnmodifiable();
+                }
+            }
+        }
+    }
+
+    @Override
+    public RichIterable<RichIterable<V>> multiValuesView()
+    {
+        return this.map.valuesView().collect(collection -> UnmodifiableRichIterable.of(this.copyOf(collection)));
+    }
+
+    @Override
+    public RichIterable<V> valuesView()
+    {
+        return this.map.valuesView().flatCollect(this::copyOf);
+    }
+
+    @Override
+    public RichIterable<Pair<K, RichIterable<V>>> keyMultiValuePairsView()
+    {
+        return this.map.keyValuesView().collect(pair -> Tuples.pair(pair.getOne(), UnmodifiableRichIterable.of(this.copyOf(pair.getTwo()))));
+    }
+
+    @Override
+    public void forEachKeyMultiValues(Procedure2<? super K, ? super Iterable<V>> procedure)
+    {
+        this.map.forEachKeyValue((key, collection) -> procedure.value(key, this.copyOf(collection)));
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        MutableMap<K, C> snapshot = UnifiedMap.newMap(this.map.size());
+        this.map.forEachKeyValue((key, collection) -> snapshot.put(key, this.copyOf(collection)));
+        out.writeInt(snapshot.size());
+        snapshot.forEachKeyValue(new MultimapKeyValuesSerializingProcedure<>(out));
+    }
+}
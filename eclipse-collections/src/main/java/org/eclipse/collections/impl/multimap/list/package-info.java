@@ -16,6 +16,9 @@
  *     This package contains the following implementations:
  * <ul>
  *     <li>
+ *          {@link org.eclipse.collections.impl.multimap.list.ConcurrentFastListMultimap} - a {@code MutableListMultimap} that is safe for concurrent reads and writes, and locks only the values of one key on each write.
+ *     </li>
+ *     <li>
  *          {@link org.eclipse.collections.impl.multimap.list.FastListMultimap} - a {@code MutableListMultimap} which uses a {@link org.eclipse.collections.impl.list.mutable.FastList} as its underlying store for the multiple values of a given key.
  *     </li>
  *     <li>
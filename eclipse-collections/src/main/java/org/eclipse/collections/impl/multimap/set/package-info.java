@@ -16,6 +16,9 @@
  *     This package contains the following implementations:
  * <ul>
  *     <li>
+ *          {@link org.eclipse.collections.impl.multimap.set.ConcurrentUnifiedSetMultimap} - a {@code MutableSetMultimap} that is safe for concurrent reads and writes, and locks only the values of one key on each write.
+ *     </li>
+ *     <li>
  *          {@link org.eclipse.collections.impl.multimap.set.UnifiedSetMultimap} - a {@code MutableSetMultimap} which uses a {@link org.eclipse.collections.impl.set.mutable.UnifiedSet} as its underlying store for the multiple values of a given key.
  *     </li>
  *     <li>
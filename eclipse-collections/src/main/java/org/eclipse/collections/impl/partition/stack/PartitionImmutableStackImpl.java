@@ -24,6 +24,15 @@ public class PartitionImmutableStackImpl<T> implements PartitionImmutableStack<T
         this.rejected = partitionArrayStack.getRejected().toImmutable();
     }
 
+    /**
+     * @since 10.3
+     */
+    public PartitionImmutableStackImpl(ImmutableStack<T> selected, ImmutableStack<T> rejected)
+    {
+        this.selected = selected;
+        this.rejected = rejected;
+    }
+
     @Override
     public ImmutableStack<T> getSelected()
     {
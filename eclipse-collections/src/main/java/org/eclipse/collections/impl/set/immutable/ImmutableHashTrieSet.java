@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.immutable;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Set;
+
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.impl.map.immutable.ImmutableHashTrieMap;
+
+/**
+ * ImmutableHashTrieSet is an ImmutableSet backed by the keys of an {@link ImmutableHashTrieMap}, so
+ * {@link #newWith(Object)} and {@link #newWithout(Object)} copy only the path to the changed element and share the rest
+ * of the trie with the original set.
+ *
+ * @since 10.3
+ */
+public final class ImmutableHashTrieSet<T>
+        extends AbstractImmutableSet<T>
+        implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final ImmutableHashTrieSet<?> EMPTY = new ImmutableHashTrieSet<>(ImmutableHashTrieMap.empty());
+
+    private final ImmutableHashTrieMap<T, Boolean> delegate;
+
+    private ImmutableHashTrieSet(ImmutableHashTrieMap<T, Boolean> delegate)
+    {
+        this.delegate = delegate;
+    }
+
+    public static <T> ImmutableHashTrieSet<T> empty()
+    {
+        return (ImmutableHashTrieSet<T>) EMPTY;
+    }
+
+    public static <T> ImmutableHashTrieSet<T> newSetWith(T... elements)
+    {
+        return ImmutableHashTrieSet.<T>empty().newWithAll(Arrays.asList(elements));
+    }
+
+    public static <T> ImmutableHashTrieSet<T> newSet(Iterable<? extends T> iterable)
+    {
+        if (iterable instanceof ImmutableHashTrieSet<?>)
+        {
+            return (ImmutableHashTrieSet<T>) iterable;
+        }
+        return ImmutableHashTrieSet.<T>empty().newWithAll(iterable);
+    }
+
+    private ImmutableHashTrieSet<T> wrap(ImmutableHashTrieMap<T, Boolean> map)
+    {
+        if (map == this.delegate)
+        {
+            return this;
+        }
+        return map.isEmpty() ? ImmutableHashTrieSet.empty() : new ImmutableHashTrieSet<>(map);
+    }
+
+    @Override
+    public int size()
+    {
+        return this.delegate.size();
+    }
+
+    @Override
+    public boolean contains(Object object)
+    {
+        return this.delegate.containsKey(object);
+    }
+
+    @Override
+    public ImmutableHashTrieSet<T> newWith(T element)
+    {
+        return this.wrap(this.delegate.newWithKeyValue(element, Boolean.TRUE));
+    }
+
+    @Override
+    public ImmutableHashTrieSet<T> newWithout(T element)
+    {
+        return this.wrap(this.delegate.newWithoutKey(element));
+    }
+
+    @Override
+    public ImmutableHashTrieSet<T> newWithAll(Iterable<? extends T> elements)
+    {
+        ImmutableHashTrieMap<T, Boolean> map = this.delegate;
+        for (T element : elements)
+        {
+            map = map.newWithKeyValue(element, Boolean.TRUE);
+        }
+        return this.wrap(map);
+    }
+
+    @Override
+    public ImmutableHashTrieSet<T> newWithoutAll(Iterable<? extends T> elements)
+    {
+        return this.wrap(this.delegate.newWithoutAllKeys(elements));
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return this.delegate.keySet().iterator();
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        this.delegate.forEachKey(procedure);
+    }
+
+    @Override
+    public T getFirst()
+    {
+        return this.isEmpty() ? null : this.iterator().next();
+    }
+
+    @Override
+    public T getLast()
+    {
+        T last = null;
+        for (T each : this)
+        {
+            last = each;
+        }
+        return last;
+    }
+
+    @Override
+    public T getOnly()
+    {
+        if (this.size() != 1)
+        {
+            throw new IllegalStateException("Size must be 1 but was " + this.size());
+        }
+        return this.iterator().next();
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+        if (!(other instanceof Set))
+        {
+            return false;
+        }
+        Set<?> set = (Set<?>) other;
+        return this.size() == set.size() && this.containsAll(set);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return this.delegate.keySet().hashCode();
+    }
+
+    private Object writeReplace()
+    {
+        return new ImmutableSetSerializationProxy<>(this);
+    }
+}
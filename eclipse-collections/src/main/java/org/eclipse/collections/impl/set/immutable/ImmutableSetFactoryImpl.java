@@ -20,6 +20,12 @@ public class ImmutableSetFactoryImpl implements ImmutableSetFactory
 {
     public static final ImmutableSetFactory INSTANCE = new ImmutableSetFactoryImpl();
 
+    /**
+     * Sets larger than this are stored in an {@link ImmutableHashTrieSet}, which can add or remove an element without
+     * copying every element, rather than in an {@link ImmutableUnifiedSet}.
+     */
+    private static final int HASH_TRIE_THRESHOLD = 1024;
+
     @Override
     public <T> ImmutableSet<T> empty()
     {
@@ -151,7 +157,9 @@ public class ImmutableSetFactoryImpl implements ImmutableSetFactory
             case 4:
                 return this.of(items[0], items[1], items[2], items[3]);
             default:
-                return ImmutableUnifiedSet.newSetWith(items);
+                return items.length > HASH_TRIE_THRESHOLD
+                        ? ImmutableHashTrieSet.newSetWith(items)
+                        : ImmutableUnifiedSet.newSetWith(items);
         }
     }
 
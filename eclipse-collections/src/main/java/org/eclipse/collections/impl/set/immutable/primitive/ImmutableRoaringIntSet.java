@@ -0,0 +1,313 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.immutable.primitive;
+
+import java.io.Serializable;
+
+import org.eclipse.collections.api.IntIterable;
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.block.function.primitive.IntToObjectFunction;
+import org.eclipse.collections.api.block.function.primitive.ObjectIntToObjectFunction;
+import org.eclipse.collections.api.block.predicate.primitive.IntPredicate;
+import org.eclipse.collections.api.block.procedure.primitive.IntProcedure;
+import org.eclipse.collections.api.iterator.IntIterator;
+import org.eclipse.collections.api.set.ImmutableSet;
+import org.eclipse.collections.api.set.primitive.ImmutableIntSet;
+import org.eclipse.collections.api.set.primitive.IntSet;
+import org.eclipse.collections.impl.iterator.UnmodifiableIntIterator;
+import org.eclipse.collections.impl.set.mutable.primitive.RoaringIntSet;
+import org.eclipse.collections.impl.set.primitive.AbstractIntSet;
+
+/**
+ * ImmutableRoaringIntSet is the immutable counterpart of {@link RoaringIntSet}. It keeps the compressed containers of
+ * the mutable set it was copied from, so it costs no more memory, and supports the same set operations and rank.
+ * {@link #newWith(int)} and the other copying methods copy the whole set.
+ *
+ * @since 10.3
+ */
+public final class ImmutableRoaringIntSet extends AbstractIntSet implements ImmutableIntSet, Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private final RoaringIntSet delegate;
+
+    private ImmutableRoaringIntSet(RoaringIntSet delegate)
+    {
+        this.delegate = delegate;
+    }
+
+    public static ImmutableRoaringIntSet newSet(IntIterable source)
+    {
+        if (source instanceof ImmutableRoaringIntSet)
+        {
+            return (ImmutableRoaringIntSet) source;
+        }
+        return new ImmutableRoaringIntSet(RoaringIntSet.newSet(source));
+    }
+
+    public static ImmutableRoaringIntSet newSetWith(int... source)
+    {
+        return new ImmutableRoaringIntSet(RoaringIntSet.newSetWith(source));
+    }
+
+    public ImmutableRoaringIntSet and(ImmutableRoaringIntSet other)
+    {
+        return new ImmutableRoaringIntSet(this.delegate.and(other.delegate));
+    }
+
+    public ImmutableRoaringIntSet or(ImmutableRoaringIntSet other)
+    {
+        return new ImmutableRoaringIntSet(this.delegate.or(other.delegate));
+    }
+
+    public ImmutableRoaringIntSet andNot(ImmutableRoaringIntSet other)
+    {
+        return new ImmutableRoaringIntSet(this.delegate.andNot(other.delegate));
+    }
+
+    public ImmutableRoaringIntSet xor(ImmutableRoaringIntSet other)
+    {
+        return new ImmutableRoaringIntSet(this.delegate.xor(other.delegate));
+    }
+
+    @Override
+    public ImmutableIntSet union(IntSet set)
+    {
+        return new ImmutableRoaringIntSet(this.delegate.union(ImmutableRoaringIntSet.unwrap(set)));
+    }
+
+    @Override
+    public ImmutableIntSet intersect(IntSet set)
+    {
+        return new ImmutableRoaringIntSet(this.delegate.intersect(ImmutableRoaringIntSet.unwrap(set)));
+    }
+
+    @Override
+    public ImmutableIntSet difference(IntSet subtrahendSet)
+    {
+        return new ImmutableRoaringIntSet(this.delegate.difference(ImmutableRoaringIntSet.unwrap(subtrahendSet)));
+    }
+
+    @Override
+    public ImmutableIntSet symmetricDifference(IntSet setB)
+    {
+        return new ImmutableRoaringIntSet(this.delegate.symmetricDifference(ImmutableRoaringIntSet.unwrap(setB)));
+    }
+
+    private static IntSet unwrap(IntSet set)
+    {
+        return set instanceof ImmutableRoaringIntSet ? ((ImmutableRoaringIntSet) set).delegate : set;
+    }
+
+    /**
+     * @see RoaringIntSet#rank(int)
+     */
+    public int rank(int value)
+    {
+        return this.delegate.rank(value);
+    }
+
+    @Override
+    public ImmutableIntSet newWith(int element)
+    {
+        if (this.delegate.contains(element))
+        {
+            return this;
+        }
+        RoaringIntSet result = new RoaringIntSet(this.delegate);
+        result.add(element);
+        return new ImmutableRoaringIntSet(result);
+    }
+
+    @Override
+    public ImmutableIntSet newWithout(int element)
+    {
+        if (!this.delegate.contains(element))
+        {
+            return this;
+        }
+        RoaringIntSet result = new RoaringIntSet(this.delegate);
+        result.remove(element);
+        return new ImmutableRoaringIntSet(result);
+    }
+
+    @Override
+    public ImmutableIntSet newWithAll(IntIterable elements)
+    {
+        RoaringIntSet result = new RoaringIntSet(this.delegate);
+        result.addAll(elements);
+        return new ImmutableRoaringIntSet(result);
+    }
+
+    @Override
+    public ImmutableIntSet newWithoutAll(IntIterable elements)
+    {
+        RoaringIntSet result = new RoaringIntSet(this.delegate);
+        result.removeAll(elements);
+        return new ImmutableRoaringIntSet(result);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return this.delegate.hashCode();
+    }
+
+    @Override
+    public int size()
+    {
+        return this.delegate.size();
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.delegate.isEmpty();
+    }
+
+    @Override
+    public boolean notEmpty()
+    {
+        return this.delegate.notEmpty();
+    }
+
+    @Override
+    public void appendString(Appendable appendable, String start, String separator, String end)
+    {
+        this.delegate.appendString(appendable, start, separator, end);
+    }
+
+    @Override
+    public IntIterator intIterator()
+    {
+        return new UnmodifiableIntIterator(this.delegate.intIterator());
+    }
+
+    @Override
+    public int[] toArray()
+    {
+        return this.delegate.toArray();
+    }
+
+    @Override
+    public int[] toSortedArray()
+    {
+        return this.delegate.toSortedArray();
+    }
+
+    @Override
+    public boolean contains(int value)
+    {
+        return this.delegate.contains(value);
+    }
+
+    @Override
+    public void forEach(IntProcedure procedure)
+    {
+        this.each(procedure);
+    }
+
+    @Override
+    public void each(IntProcedure procedure)
+    {
+        this.delegate.each(procedure);
+    }
+
+    @Override
+    public ImmutableIntSet select(IntPredicate predicate)
+    {
+        return new ImmutableRoaringIntSet(this.delegate.select(predicate));
+    }
+
+    @Override
+    public ImmutableIntSet reject(IntPredicate predicate)
+    {
+        return new ImmutableRoaringIntSet(this.delegate.reject(predicate));
+    }
+
+    @Override
+    public <V> ImmutableSet<V> collect(IntToObjectFunction<? extends V> function)
+    {
+        return this.delegate.<V>collect(function).toImmutable();
+    }
+
+    @Override
+    public int detectIfNone(IntPredicate predicate, int ifNone)
+    {
+        return this.delegate.detectIfNone(predicate, ifNone);
+    }
+
+    @Override
+    public int count(IntPredicate predicate)
+    {
+        return this.delegate.count(predicate);
+    }
+
+    @Override
+    public boolean anySatisfy(IntPredicate predicate)
+    {
+        return this.delegate.anySatisfy(predicate);
+    }
+
+    @Override
+    public boolean allSatisfy(IntPredicate predicate)
+    {
+        return this.delegate.allSatisfy(predicate);
+    }
+
+    @Override
+    public boolean noneSatisfy(IntPredicate predicate)
+    {
+        return this.delegate.noneSatisfy(predicate);
+    }
+
+    @Override
+    public long sum()
+    {
+        return this.delegate.sum();
+    }
+
+    @Override
+    public int max()
+    {
+        return this.delegate.max();
+    }
+
+    @Override
+    public int min()
+    {
+        return this.delegate.min();
+    }
+
+    @Override
+    public <T> T injectInto(T injectedValue, ObjectIntToObjectFunction<? super T, ? extends T> function)
+    {
+        return this.delegate.injectInto(injectedValue, function);
+    }
+
+    @Override
+    public RichIterable<IntIterable> chunk(int size)
+    {
+        return this.delegate.chunk(size).collect(each -> new ImmutableRoaringIntSet((RoaringIntSet) each));
+    }
+
+    @Override
+    public IntSet freeze()
+    {
+        return this;
+    }
+
+    @Override
+    public ImmutableIntSet toImmutable()
+    {
+        return this;
+    }
+}
@@ -0,0 +1,642 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ExecutorService;
+
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.function.primitive.BooleanFunction;
+import org.eclipse.collections.api.block.function.primitive.ByteFunction;
+import org.eclipse.collections.api.block.function.primitive.CharFunction;
+import org.eclipse.collections.api.block.function.primitive.DoubleFunction;
+import org.eclipse.collections.api.block.function.primitive.FloatFunction;
+import org.eclipse.collections.api.block.function.primitive.IntFunction;
+import org.eclipse.collections.api.block.function.primitive.LongFunction;
+import org.eclipse.collections.api.block.function.primitive.ShortFunction;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.multimap.set.MutableSetMultimap;
+import org.eclipse.collections.api.ordered.OrderedIterable;
+import org.eclipse.collections.api.partition.set.PartitionMutableSet;
+import org.eclipse.collections.api.set.ImmutableSet;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.set.ParallelUnsortedSetIterable;
+import org.eclipse.collections.api.set.SetIterable;
+import org.eclipse.collections.api.set.UnsortedSetIterable;
+import org.eclipse.collections.api.set.primitive.MutableBooleanSet;
+import org.eclipse.collections.api.set.primitive.MutableByteSet;
+import org.eclipse.collections.api.set.primitive.MutableCharSet;
+import org.eclipse.collections.api.set.primitive.MutableDoubleSet;
+import org.eclipse.collections.api.set.primitive.MutableFloatSet;
+import org.eclipse.collections.api.set.primitive.MutableIntSet;
+import org.eclipse.collections.api.set.primitive.MutableLongSet;
+import org.eclipse.collections.api.set.primitive.MutableShortSet;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.UnmodifiableIteratorAdapter;
+import org.eclipse.collections.impl.collection.mutable.AbstractCollectionAdapter;
+
+/**
+ * CopyOnWriteUnifiedSet is a thread-safe MutableSet for data which is read and iterated far more often than it is
+ * changed, such as routing tables. The elements are held in a UnifiedSet which is never modified once published.
+ * Reads, iterators and internal iteration methods like forEach, select and anySatisfy use the set current when they
+ * start, without any locking, and never observe a concurrent change. Every write copies the set under a lock and
+ * publishes the copy, so writers should batch their changes with {@link #withAll(Iterable)}, {@link #removeIf(Predicate)}
+ * or {@link #withWriteLockAndDelegate(Procedure)} rather than calling add or remove in a loop. Adding an element which
+ * is already present, or removing one which is absent, does not copy or lock.
+ * <p>
+ * Iterators are unmodifiable snapshots.
+ *
+ * @since 10.3
+ */
+public final class CopyOnWriteUnifiedSet<T>
+        extends AbstractCollectionAdapter<T>
+        implements MutableSet<T>, Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private final transient Object lock = new Object();
+    private volatile UnifiedSet<T> delegate;
+
+    public CopyOnWriteUnifiedSet()
+    {
+        this.delegate = UnifiedSet.newSet();
+    }
+
+    private CopyOnWriteUnifiedSet(UnifiedSet<T> newDelegate)
+    {
+        this.delegate = newDelegate;
+    }
+
+    public static <T> CopyOnWriteUnifiedSet<T> newSet()
+    {
+        return new CopyOnWriteUnifiedSet<>();
+    }
+
+    public static <T> CopyOnWriteUnifiedSet<T> newSet(Iterable<? extends T> iterable)
+    {
+        return new CopyOnWriteUnifiedSet<>(UnifiedSet.newSet(iterable));
+    }
+
+    public static <T> CopyOnWriteUnifiedSet<T> newSetWith(T... elements)
+    {
+        return new CopyOnWriteUnifiedSet<>(UnifiedSet.newSetWith(elements));
+    }
+
+    /**
+     * Returns the current set, which must not be modified.
+     */
+    @Override
+    protected UnifiedSet<T> getDelegate()
+    {
+        return this.delegate;
+    }
+
+    private boolean copyAndUpdate(Predicate<? super UnifiedSet<T>> update)
+    {
+        synchronized (this.lock)
+        {
+            UnifiedSet<T> copy = this.delegate.clone();
+            boolean changed = update.accept(copy);
+            if (changed)
+            {
+                this.delegate = copy;
+            }
+            return changed;
+        }
+    }
+
+    /**
+     * Applies the procedure to a private copy of this set under the write lock and then publishes the copy, so any
+     * number of changes cost a single copy of the set and readers see all of them or none of them. If the procedure
+     * throws an exception, this set is unchanged.
+     */
+    public void withWriteLockAndDelegate(Procedure<? super MutableSet<T>> procedure)
+    {
+        synchronized (this.lock)
+        {
+            UnifiedSet<T> copy = this.delegate.clone();
+            procedure.value(copy);
+            this.delegate = copy.clone();
+        }
+    }
+
+    @Override
+    public int size()
+    {
+        return this.delegate.size();
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.delegate.isEmpty();
+    }
+
+    @Override
+    public boolean notEmpty()
+    {
+        return this.delegate.notEmpty();
+    }
+
+    @Override
+    public boolean contains(Object o)
+    {
+        return this.delegate.contains(o);
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> collection)
+    {
+        return this.delegate.containsAll(collection);
+    }
+
+    @Override
+    public T getFirst()
+    {
+        return this.delegate.getFirst();
+    }
+
+    @Override
+    public T getLast()
+    {
+        return this.delegate.getLast();
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new UnmodifiableIteratorAdapter<>(this.delegate.iterator());
+    }
+
+    @Override
+    public Spliterator<T> spliterator()
+    {
+        return this.delegate.spliterator();
+    }
+
+    @Override
+    public boolean add(T element)
+    {
+        if (this.delegate.contains(element))
+        {
+            return false;
+        }
+        return this.copyAndUpdate(copy -> copy.add(element));
+    }
+
+    @Override
+    public boolean remove(Object o)
+    {
+        if (!this.delegate.contains(o))
+        {
+            return false;
+        }
+        return this.copyAndUpdate(copy -> copy.remove(o));
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> collection)
+    {
+        return this.addAllIterable(collection);
+    }
+
+    @Override
+    public boolean addAllIterable(Iterable<? extends T> iterable)
+    {
+        return this.copyAndUpdate(copy -> copy.addAllIterable(iterable));
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> collection)
+    {
+        return this.removeAllIterable(collection);
+    }
+
+    @Override
+    public boolean removeAllIterable(Iterable<?> iterable)
+    {
+        return this.copyAndUpdate(copy -> copy.removeAllIterable(iterable));
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> collection)
+    {
+        return this.retainAllIterable(collection);
+    }
+
+    @Override
+    public boolean retainAllIterable(Iterable<?> iterable)
+    {
+        return this.copyAndUpdate(copy -> copy.retainAllIterable(iterable));
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> predicate)
+    {
+        return this.copyAndUpdate(copy -> copy.removeIf(predicate));
+    }
+
+    @Override
+    public <P> boolean removeIfWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.copyAndUpdate(copy -> copy.removeIfWith(predicate, parameter));
+    }
+
+    @Override
+    public boolean removeIf(java.util.function.Predicate<? super T> filter)
+    {
+        Predicate<T> predicate = filter::test;
+        return this.removeIf(predicate);
+    }
+
+    @Override
+    public void clear()
+    {
+        synchronized (this.lock)
+        {
+            this.delegate = UnifiedSet.newSet();
+        }
+    }
+
+    @Override
+    public CopyOnWriteUnifiedSet<T> with(T element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    @Override
+    public CopyOnWriteUnifiedSet<T> without(T element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    @Override
+    public CopyOnWriteUnifiedSet<T> withAll(Iterable<? extends T> elements)
+    {
+        this.addAllIterable(elements);
+        return this;
+    }
+
+    @Override
+    public CopyOnWriteUnifiedSet<T> withoutAll(Iterable<? extends T> elements)
+    {
+        this.removeAllIterable(elements);
+        return this;
+    }
+
+    @Override
+    public MutableSet<T> asUnmodifiable()
+    {
+        return UnmodifiableMutableSet.of(this);
+    }
+
+    @Override
+    public MutableSet<T> asSynchronized()
+    {
+        return SynchronizedMutableSet.of(this);
+    }
+
+    @Override
+    public ImmutableSet<T> toImmutable()
+    {
+        return Sets.immutable.withAll(this.delegate);
+    }
+
+    @Override
+    public CopyOnWriteUnifiedSet<T> clone()
+    {
+        return new CopyOnWriteUnifiedSet<>(this.delegate);
+    }
+
+    @Override
+    public CopyOnWriteUnifiedSet<T> newEmpty()
+    {
+        return CopyOnWriteUnifiedSet.newSet();
+    }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        return this.delegate.equals(obj);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return this.delegate.hashCode();
+    }
+
+    @Override
+    public MutableSet<T> tap(Procedure<? super T> procedure)
+    {
+        this.forEach(procedure);
+        return this;
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        this.delegate.each(procedure);
+    }
+
+    @Override
+    public T detect(Predicate<? super T> predicate)
+    {
+        return this.delegate.detect(predicate);
+    }
+
+    @Override
+    public int count(Predicate<? super T> predicate)
+    {
+        return this.delegate.count(predicate);
+    }
+
+    @Override
+    public boolean anySatisfy(Predicate<? super T> predicate)
+    {
+        return this.delegate.anySatisfy(predicate);
+    }
+
+    @Override
+    public boolean allSatisfy(Predicate<? super T> predicate)
+    {
+        return this.delegate.allSatisfy(predicate);
+    }
+
+    @Override
+    public boolean noneSatisfy(Predicate<? super T> predicate)
+    {
+        return this.delegate.noneSatisfy(predicate);
+    }
+
+    @Override
+    public MutableSet<T> select(Predicate<? super T> predicate)
+    {
+        return this.delegate.select(predicate);
+    }
+
+    @Override
+    public MutableSet<T> reject(Predicate<? super T> predicate)
+    {
+        return this.delegate.reject(predicate);
+    }
+
+    @Override
+    public PartitionMutableSet<T> partition(Predicate<? super T> predicate)
+    {
+        return this.delegate.partition(predicate);
+    }
+
+    @Override
+    public <P> PartitionMutableSet<T> partitionWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.delegate.partitionWith(predicate, parameter);
+    }
+
+    @Override
+    public <S> MutableSet<S> selectInstancesOf(Class<S> clazz)
+    {
+        return this.delegate.selectInstancesOf(clazz);
+    }
+
+    @Override
+    public <V> MutableSet<V> collect(Function<? super T, ? extends V> function)
+    {
+        return this.delegate.collect(function);
+    }
+
+    @Override
+    public MutableBooleanSet collectBoolean(BooleanFunction<? super T> booleanFunction)
+    {
+        return this.delegate.collectBoolean(booleanFunction);
+    }
+
+    @Override
+    public MutableByteSet collectByte(ByteFunction<? super T> byteFunction)
+    {
+        return this.delegate.collectByte(byteFunction);
+    }
+
+    @Override
+    public MutableCharSet collectChar(CharFunction<? super T> charFunction)
+    {
+        return this.delegate.collectChar(charFunction);
+    }
+
+    @Override
+    public MutableDoubleSet collectDouble(DoubleFunction<? super T> doubleFunction)
+    {
+        return this.delegate.collectDouble(doubleFunction);
+    }
+
+    @Override
+    public MutableFloatSet collectFloat(FloatFunction<? super T> floatFunction)
+    {
+        return this.delegate.collectFloat(floatFunction);
+    }
+
+    @Override
+    public MutableIntSet collectInt(IntFunction<? super T> intFunction)
+    {
+        return this.delegate.collectInt(intFunction);
+    }
+
+    @Override
+    public MutableLongSet collectLong(LongFunction<? super T> longFunction)
+    {
+        return this.delegate.collectLong(longFunction);
+    }
+
+    @Override
+    public MutableShortSet collectShort(ShortFunction<? super T> shortFunction)
+    {
+        return this.delegate.collectShort(shortFunction);
+    }
+
+    @Override
+    public <V> MutableSet<V> flatCollect(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return this.delegate.flatCollect(function);
+    }
+
+    @Override
+    public <V> MutableSet<V> collectIf(
+            Predicate<? super T> predicate,
+            Function<? super T, ? extends V> function)
+    {
+        return this.delegate.collectIf(predicate, function);
+    }
+
+    @Override
+    public <V> MutableSetMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
+    {
+        return this.delegate.groupBy(function);
+    }
+
+    @Override
+    public <V> MutableSetMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return this.delegate.groupByEach(function);
+    }
+
+    @Override
+    public <P> MutableSet<T> selectWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.delegate.selectWith(predicate, parameter);
+    }
+
+    @Override
+    public <P> MutableSet<T> rejectWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.delegate.rejectWith(predicate, parameter);
+    }
+
+    @Override
+    public <P, V> MutableSet<V> collectWith(Function2<? super T, ? super P, ? extends V> function, P parameter)
+    {
+        return this.delegate.collectWith(function, parameter);
+    }
+
+    /**
+     * @deprecated in 6.0. Use {@link OrderedIterable#zip(Iterable)} instead.
+     */
+    @Deprecated
+    @Override
+    public <S> MutableSet<Pair<T, S>> zip(Iterable<S> that)
+    {
+        return this.delegate.zip(that);
+    }
+
+    /**
+     * @deprecated in 6.0. Use {@link OrderedIterable#zipWithIndex()} instead.
+     */
+    @Deprecated
+    @Override
+    public MutableSet<Pair<T, Integer>> zipWithIndex()
+    {
+        return this.delegate.zipWithIndex();
+    }
+
+    @Override
+    public MutableSet<T> union(SetIterable<? extends T> set)
+    {
+        return this.delegate.union(set);
+    }
+
+    @Override
+    public <R extends Set<T>> R unionInto(SetIterable<? extends T> set, R targetSet)
+    {
+        return this.delegate.unionInto(set, targetSet);
+    }
+
+    @Override
+    public MutableSet<T> intersect(SetIterable<? extends T> set)
+    {
+        return this.delegate.intersect(set);
+    }
+
+    @Override
+    public <R extends Set<T>> R intersectInto(SetIterable<? extends T> set, R targetSet)
+    {
+        return this.delegate.intersectInto(set, targetSet);
+    }
+
+    @Override
+    public MutableSet<T> difference(SetIterable<? extends T> subtrahendSet)
+    {
+        return this.delegate.difference(subtrahendSet);
+    }
+
+    @Override
+    public <R extends Set<T>> R differenceInto(SetIterable<? extends T> subtrahendSet, R targetSet)
+    {
+        return this.delegate.differenceInto(subtrahendSet, targetSet);
+    }
+
+    @Override
+    public MutableSet<T> symmetricDifference(SetIterable<? extends T> setB)
+    {
+        return this.delegate.symmetricDifference(setB);
+    }
+
+    @Override
+    public <R extends Set<T>> R symmetricDifferenceInto(SetIterable<? extends T> set, R targetSet)
+    {
+        return this.delegate.symmetricDifferenceInto(set, targetSet);
+    }
+
+    @Override
+    public boolean isSubsetOf(SetIterable<? extends T> candidateSuperset)
+    {
+        return this.delegate.isSubsetOf(candidateSuperset);
+    }
+
+    @Override
+    public boolean isProperSubsetOf(SetIterable<? extends T> candidateSuperset)
+    {
+        return this.delegate.isProperSubsetOf(candidateSuperset);
+    }
+
+    @Override
+    public MutableSet<UnsortedSetIterable<T>> powerSet()
+    {
+        return this.delegate.powerSet();
+    }
+
+    @Override
+    public <B> LazyIterable<Pair<T, B>> cartesianProduct(SetIterable<B> set)
+    {
+        return this.delegate.cartesianProduct(set);
+    }
+
+    @Override
+    public ParallelUnsortedSetIterable<T> asParallel(ExecutorService executorService, int batchSize)
+    {
+        return this.delegate.asParallel(executorService, batchSize);
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        UnifiedSet<T> set = this.delegate;
+        out.writeInt(set.size());
+        for (T each : set)
+        {
+            out.writeObject(each);
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        UnifiedSet<T> set = UnifiedSet.newSet(size);
+        for (int i = 0; i < size; i++)
+        {
+            set.add((T) in.readObject());
+        }
+        this.delegate = set;
+    }
+}
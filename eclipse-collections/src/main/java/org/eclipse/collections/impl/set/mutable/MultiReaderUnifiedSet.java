@@ -80,6 +80,9 @@ import static org.eclipse.collections.impl.factory.Iterables.mList;
  * external pointer can ever reference the underlying UnifiedSet outside of a locked procedure. In the case of the read
  * lock method, an Unmodifiable version of the collection is offered, which will throw UnsupportedOperationExceptions on
  * any write methods like add or remove.
+ * <p>
+ * Sets created with {@link #newStampedSet()} read {@code size()}, {@code isEmpty()}, {@code contains()} and
+ * {@code detect()} on small sets optimistically, without taking the read lock.
  */
 public final class MultiReaderUnifiedSet<T>
         extends AbstractMultiReaderMutableCollection<T>
@@ -105,9 +108,14 @@ public final class MultiReaderUnifiedSet<T>
     }
 
     private MultiReaderUnifiedSet(MutableSet<T> newDelegate, ReadWriteLock newLock)
+    {
+        this(newDelegate, newLock, false);
+    }
+
+    private MultiReaderUnifiedSet(MutableSet<T> newDelegate, ReadWriteLock newLock, boolean optimisticReads)
     {
         this.lock = newLock;
-        this.lockWrapper = new ReadWriteLockWrapper(newLock);
+        this.lockWrapper = new ReadWriteLockWrapper(newLock, optimisticReads);
         this.delegate = newDelegate;
     }
 
@@ -131,6 +139,26 @@ public final class MultiReaderUnifiedSet<T>
         return new MultiReaderUnifiedSet<>(UnifiedSet.newSetWith(elements));
     }
 
+    /**
+     * Creates a MultiReaderUnifiedSet whose short read operations, such as size and contains, read optimistically without
+     * taking the read lock and only fall back to it if a write happened concurrently.
+     *
+     * @since 10.3
+     */
+    public static <T> MultiReaderUnifiedSet<T> newStampedSet()
+    {
+        return new MultiReaderUnifiedSet<>(UnifiedSet.newSet(), new ReentrantReadWriteLock(), true);
+    }
+
+    /**
+     * @see #newStampedSet()
+     * @since 10.3
+     */
+    public static <T> MultiReaderUnifiedSet<T> newStampedSet(Iterable<T> iterable)
+    {
+        return new MultiReaderUnifiedSet<>(UnifiedSet.newSet(iterable), new ReentrantReadWriteLock(), true);
+    }
+
     @Override
     protected MutableSet<T> getDelegate()
     {
@@ -203,7 +231,7 @@ public final class MultiReaderUnifiedSet<T>
     {
         try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
         {
-            return new MultiReaderUnifiedSet<>(this.delegate.clone());
+            return new MultiReaderUnifiedSet<>(this.delegate.clone(), new ReentrantReadWriteLock(), this.lockWrapper.isOptimisticReads());
         }
     }
 
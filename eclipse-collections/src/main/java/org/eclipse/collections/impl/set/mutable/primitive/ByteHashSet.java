@@ -17,10 +17,13 @@ import java.io.ObjectOutput;
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
 
 import org.eclipse.collections.api.ByteIterable;
 import org.eclipse.collections.api.LazyByteIterable;
+import org.eclipse.collections.api.ParallelByteIterable;
 import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.annotation.Beta;
 import org.eclipse.collections.api.bag.primitive.MutableByteBag;
 import org.eclipse.collections.api.block.function.primitive.ByteToObjectFunction;
 import org.eclipse.collections.api.block.function.primitive.ObjectByteToObjectFunction;
@@ -39,6 +42,7 @@ import org.eclipse.collections.api.set.primitive.MutableByteSet;
 import org.eclipse.collections.impl.bag.mutable.primitive.ByteHashBag;
 import org.eclipse.collections.impl.block.procedure.checked.primitive.CheckedByteProcedure;
 import org.eclipse.collections.impl.factory.primitive.ByteSets;
+import org.eclipse.collections.impl.lazy.parallel.primitive.ByteIterableParallelIterable;
 import org.eclipse.collections.impl.lazy.primitive.LazyByteIterableAdapter;
 import org.eclipse.collections.impl.list.mutable.primitive.ByteArrayList;
 import org.eclipse.collections.impl.set.immutable.primitive.ImmutableByteSetSerializationProxy;
@@ -525,6 +529,16 @@ public final class ByteHashSet implements MutableByteSet, Externalizable
                 mutableSet.bitGroup1, mutableSet.bitGroup2, mutableSet.size);
     }
 
+    /**
+     * @since 10.3
+     */
+    @Beta
+    @Override
+    public ParallelByteIterable asParallel(ExecutorService executorService, int batchSize)
+    {
+        return new ByteIterableParallelIterable(this, executorService, batchSize);
+    }
+
     /**
      * @since 9.2.
      */
@@ -1583,6 +1597,16 @@ public final class ByteHashSet implements MutableByteSet, Externalizable
             return this;
         }
 
+        /**
+         * @since 10.3
+         */
+        @Beta
+        @Override
+        public ParallelByteIterable asParallel(ExecutorService executorService, int batchSize)
+        {
+            return new ByteIterableParallelIterable(this, executorService, batchSize);
+        }
+
         private Object writeReplace()
         {
             return new ImmutableByteSetSerializationProxy(this);
@@ -0,0 +1,1044 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.mutable.primitive;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Arrays;
+
+import org.eclipse.collections.api.block.procedure.primitive.IntProcedure;
+
+/**
+ * A RoaringContainer holds the low 16 bits of the elements of a {@link RoaringIntSet} which share their high 16 bits.
+ * There are three representations: a sorted array of at most {@value #ARRAY_MAX} values, a bitmap of 65536 bits and a
+ * sorted array of runs of consecutive values. Each holds between one and 65536 values.
+ * <p>
+ * The mutating methods {@link #add(char)} and {@link #remove(char)} return the container to use from then on, which
+ * may be a different representation. The set operations never modify either operand.
+ *
+ * @since 10.3
+ */
+abstract class RoaringContainer
+{
+    static final int ARRAY_MAX = 4096;
+
+    private static final int BITMAP_WORDS = 1024;
+    private static final int BITMAP_BYTES = BITMAP_WORDS * 8;
+
+    private static final byte ARRAY = 0;
+    private static final byte BITMAP = 1;
+    private static final byte RUN = 2;
+
+    static RoaringContainer singleton(char value)
+    {
+        ArrayContainer result = new ArrayContainer(1);
+        result.append(value);
+        return result;
+    }
+
+    /**
+     * Returns a container holding every value from start to end inclusive.
+     */
+    static RoaringContainer range(int start, int end)
+    {
+        RunContainer result = new RunContainer(2);
+        result.appendRun(start, end);
+        return result;
+    }
+
+    static RoaringContainer read(ObjectInput in) throws IOException
+    {
+        byte type = in.readByte();
+        if (type == ARRAY)
+        {
+            int cardinality = in.readInt();
+            ArrayContainer result = new ArrayContainer(cardinality);
+            for (int i = 0; i < cardinality; i++)
+            {
+                result.append(in.readChar());
+            }
+            return result;
+        }
+        if (type == BITMAP)
+        {
+            BitmapContainer result = new BitmapContainer();
+            for (int i = 0; i < BITMAP_WORDS; i++)
+            {
+                result.words[i] = in.readLong();
+            }
+            result.recount();
+            return result;
+        }
+        int runCount = in.readInt();
+        RunContainer result = new RunContainer(runCount << 1);
+        for (int i = 0; i < runCount; i++)
+        {
+            int start = in.readChar();
+            result.appendRun(start, start + in.readChar());
+        }
+        return result;
+    }
+
+    abstract int cardinality();
+
+    abstract boolean contains(char value);
+
+    abstract RoaringContainer add(char value);
+
+    abstract RoaringContainer remove(char value);
+
+    /**
+     * Returns the number of values which are less than or equal to the value.
+     */
+    abstract int rank(char value);
+
+    /**
+     * Returns the smallest value which is greater than or equal to from, or -1 if there is none.
+     */
+    abstract int nextValue(int from);
+
+    abstract int first();
+
+    abstract int last();
+
+    /**
+     * Calls the procedure with each value, in ascending order, combined with the high bits in base.
+     */
+    abstract void forEach(int base, IntProcedure procedure);
+
+    abstract RoaringContainer copy();
+
+    abstract int runCount();
+
+    abstract void write(ObjectOutput out) throws IOException;
+
+    /**
+     * Returns a new bitmap holding the values of this container.
+     */
+    abstract BitmapContainer toBitmap();
+
+    abstract void orInto(long[] words);
+
+    abstract void andNotInto(long[] words);
+
+    abstract void xorInto(long[] words);
+
+    void andInto(long[] words)
+    {
+        long[] own = this.toBitmap().words;
+        for (int i = 0; i < BITMAP_WORDS; i++)
+        {
+            words[i] &= own[i];
+        }
+    }
+
+    /**
+     * Returns the smallest of the array, bitmap and run representations of this container.
+     */
+    RoaringContainer runOptimize()
+    {
+        int runBytes = 2 + 4 * this.runCount();
+        int cardinality = this.cardinality();
+        int otherBytes = cardinality <= ARRAY_MAX ? 2 + 2 * cardinality : BITMAP_BYTES;
+        if (runBytes < otherBytes)
+        {
+            return this instanceof RunContainer ? this : RunContainer.from(this);
+        }
+        if (this instanceof RunContainer)
+        {
+            return cardinality <= ARRAY_MAX ? ArrayContainer.from(this) : this.toBitmap();
+        }
+        return this;
+    }
+
+    RoaringContainer and(RoaringContainer other)
+    {
+        if (other instanceof ArrayContainer)
+        {
+            return ((ArrayContainer) other).and(this);
+        }
+        BitmapContainer result = this.toBitmap();
+        other.andInto(result.words);
+        return result.recount().repair(this, other);
+    }
+
+    RoaringContainer or(RoaringContainer other)
+    {
+        if (this instanceof ArrayContainer && other instanceof ArrayContainer)
+        {
+            return ((ArrayContainer) this).merge((ArrayContainer) other, false);
+        }
+        RoaringContainer bitmapSource = this instanceof ArrayContainer ? other : this;
+        RoaringContainer source = bitmapSource == this ? other : this;
+        BitmapContainer result = bitmapSource.toBitmap();
+        source.orInto(result.words);
+        return result.recount().repair(this, other);
+    }
+
+    RoaringContainer andNot(RoaringContainer other)
+    {
+        if (this instanceof ArrayContainer)
+        {
+            return ((ArrayContainer) this).filter(other, false);
+        }
+        BitmapContainer result = this.toBitmap();
+        other.andNotInto(result.words);
+        return result.recount().repair(this, other);
+    }
+
+    RoaringContainer xor(RoaringContainer other)
+    {
+        if (this instanceof ArrayContainer && other instanceof ArrayContainer)
+        {
+            return ((ArrayContainer) this).merge((ArrayContainer) other, true);
+        }
+        RoaringContainer bitmapSource = this instanceof ArrayContainer ? other : this;
+        RoaringContainer source = bitmapSource == this ? other : this;
+        BitmapContainer result = bitmapSource.toBitmap();
+        source.xorInto(result.words);
+        return result.recount().repair(this, other);
+    }
+
+    private static void setRange(long[] words, int start, int end)
+    {
+        int firstWord = start >>> 6;
+        int lastWord = end >>> 6;
+        long firstMask = -1L << start;
+        long lastMask = -1L >>> (63 - (end & 63));
+        if (firstWord == lastWord)
+        {
+            words[firstWord] |= firstMask & lastMask;
+            return;
+        }
+        words[firstWord] |= firstMask;
+        Arrays.fill(words, firstWord + 1, lastWord, -1L);
+        words[lastWord] |= lastMask;
+    }
+
+    private static void clearRange(long[] words, int start, int end)
+    {
+        int firstWord = start >>> 6;
+        int lastWord = end >>> 6;
+        long firstMask = -1L << start;
+        long lastMask = -1L >>> (63 - (end & 63));
+        if (firstWord == lastWord)
+        {
+            words[firstWord] &= ~(firstMask & lastMask);
+            return;
+        }
+        words[firstWord] &= ~firstMask;
+        Arrays.fill(words, firstWord + 1, lastWord, 0L);
+        words[lastWord] &= ~lastMask;
+    }
+
+    private static void flipRange(long[] words, int start, int end)
+    {
+        int firstWord = start >>> 6;
+        int lastWord = end >>> 6;
+        long firstMask = -1L << start;
+        long lastMask = -1L >>> (63 - (end & 63));
+        if (firstWord == lastWord)
+        {
+            words[firstWord] ^= firstMask & lastMask;
+            return;
+        }
+        words[firstWord] ^= firstMask;
+        for (int i = firstWord + 1; i < lastWord; i++)
+        {
+            words[i] = ~words[i];
+        }
+        words[lastWord] ^= lastMask;
+    }
+
+    static final class ArrayContainer extends RoaringContainer
+    {
+        private char[] values;
+        private int cardinality;
+
+        ArrayContainer(int capacity)
+        {
+            this.values = new char[capacity];
+        }
+
+        static ArrayContainer from(RoaringContainer container)
+        {
+            ArrayContainer result = new ArrayContainer(container.cardinality());
+            container.forEach(0, result::append);
+            return result;
+        }
+
+        void append(int value)
+        {
+            if (this.cardinality == this.values.length)
+            {
+                this.values = Arrays.copyOf(this.values, Math.min(ARRAY_MAX, Math.max(4, this.cardinality << 1)));
+            }
+            this.values[this.cardinality++] = (char) value;
+        }
+
+        @Override
+        int cardinality()
+        {
+            return this.cardinality;
+        }
+
+        @Override
+        boolean contains(char value)
+        {
+            return Arrays.binarySearch(this.values, 0, this.cardinality, value) >= 0;
+        }
+
+        @Override
+        RoaringContainer add(char value)
+        {
+            int index = Arrays.binarySearch(this.values, 0, this.cardinality, value);
+            if (index >= 0)
+            {
+                return this;
+            }
+            if (this.cardinality == ARRAY_MAX)
+            {
+                return this.toBitmap().add(value);
+            }
+            int insertionPoint = -index - 1;
+            if (this.cardinality == this.values.length)
+            {
+                this.values = Arrays.copyOf(this.values, Math.min(ARRAY_MAX, Math.max(4, this.cardinality << 1)));
+            }
+            System.arraycopy(this.values, insertionPoint, this.values, insertionPoint + 1, this.cardinality - insertionPoint);
+            this.values[insertionPoint] = value;
+            this.cardinality++;
+            return this;
+        }
+
+        @Override
+        RoaringContainer remove(char value)
+        {
+            int index = Arrays.binarySearch(this.values, 0, this.cardinality, value);
+            if (index >= 0)
+            {
+                System.arraycopy(this.values, index + 1, this.values, index, this.cardinality - index - 1);
+                this.cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        int rank(char value)
+        {
+            int index = Arrays.binarySearch(this.values, 0, this.cardinality, value);
+            return index >= 0 ? index + 1 : -index - 1;
+        }
+
+        @Override
+        int nextValue(int from)
+        {
+            if (from > Character.MAX_VALUE)
+            {
+                return -1;
+            }
+            int index = Arrays.binarySearch(this.values, 0, this.cardinality, (char) from);
+            int next = index >= 0 ? index : -index - 1;
+            return next < this.cardinality ? this.values[next] : -1;
+        }
+
+        @Override
+        int first()
+        {
+            return this.values[0];
+        }
+
+        @Override
+        int last()
+        {
+            return this.values[this.cardinality - 1];
+        }
+
+        @Override
+        void forEach(int base, IntProcedure procedure)
+        {
+            for (int i = 0; i < this.cardinality; i++)
+            {
+                procedure.value(base | this.values[i]);
+            }
+        }
+
+        @Override
+        RoaringContainer copy()
+        {
+            ArrayContainer result = new ArrayContainer(0);
+            result.values = Arrays.copyOf(this.values, this.cardinality);
+            result.cardinality = this.cardinality;
+            return result;
+        }
+
+        @Override
+        int runCount()
+        {
+            int result = 0;
+            for (int i = 0; i < this.cardinality; i++)
+            {
+                if (i == 0 || this.values[i] != this.values[i - 1] + 1)
+                {
+                    result++;
+                }
+            }
+            return result;
+        }
+
+        @Override
+        void write(ObjectOutput out) throws IOException
+        {
+            out.writeByte(ARRAY);
+            out.writeInt(this.cardinality);
+            for (int i = 0; i < this.cardinality; i++)
+            {
+                out.writeChar(this.values[i]);
+            }
+        }
+
+        @Override
+        BitmapContainer toBitmap()
+        {
+            BitmapContainer result = new BitmapContainer();
+            this.orInto(result.words);
+            result.cardinality = this.cardinality;
+            return result;
+        }
+
+        @Override
+        void orInto(long[] words)
+        {
+            for (int i = 0; i < this.cardinality; i++)
+            {
+                char value = this.values[i];
+                words[value >>> 6] |= 1L << value;
+            }
+        }
+
+        @Override
+        void andNotInto(long[] words)
+        {
+            for (int i = 0; i < this.cardinality; i++)
+            {
+                char value = this.values[i];
+                words[value >>> 6] &= ~(1L << value);
+            }
+        }
+
+        @Override
+        void xorInto(long[] words)
+        {
+            for (int i = 0; i < this.cardinality; i++)
+            {
+                char value = this.values[i];
+                words[value >>> 6] ^= 1L << value;
+            }
+        }
+
+        @Override
+        RoaringContainer and(RoaringContainer other)
+        {
+            if (!(other instanceof ArrayContainer))
+            {
+                return this.filter(other, true);
+            }
+            ArrayContainer that = (ArrayContainer) other;
+            ArrayContainer result = new ArrayContainer(Math.min(this.cardinality, that.cardinality));
+            int i = 0;
+            int j = 0;
+            while (i < this.cardinality && j < that.cardinality)
+            {
+                char left = this.values[i];
+                char right = that.values[j];
+                if (left < right)
+                {
+                    i++;
+                }
+                else if (left > right)
+                {
+                    j++;
+                }
+                else
+                {
+                    result.values[result.cardinality++] = left;
+                    i++;
+                    j++;
+                }
+            }
+            return result;
+        }
+
+        ArrayContainer filter(RoaringContainer other, boolean keep)
+        {
+            ArrayContainer result = new ArrayContainer(this.cardinality);
+            for (int i = 0; i < this.cardinality; i++)
+            {
+                char value = this.values[i];
+                if (other.contains(value) == keep)
+                {
+                    result.values[result.cardinality++] = value;
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Returns the union of the two arrays, or their symmetric difference if exclusive is true.
+         */
+        RoaringContainer merge(ArrayContainer that, boolean exclusive)
+        {
+            char[] merged = new char[this.cardinality + that.cardinality];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < this.cardinality && j < that.cardinality)
+            {
+                char left = this.values[i];
+                char right = that.values[j];
+                if (left < right)
+                {
+                    merged[count++] = left;
+                    i++;
+                }
+                else if (left > right)
+                {
+                    merged[count++] = right;
+                    j++;
+                }
+                else
+                {
+                    if (!exclusive)
+                    {
+                        merged[count++] = left;
+                    }
+                    i++;
+                    j++;
+                }
+            }
+            int leftRemaining = this.cardinality - i;
+            System.arraycopy(this.values, i, merged, count, leftRemaining);
+            count += leftRemaining;
+            int rightRemaining = that.cardinality - j;
+            System.arraycopy(that.values, j, merged, count, rightRemaining);
+            count += rightRemaining;
+
+            ArrayContainer result = new ArrayContainer(0);
+            result.values = merged;
+            result.cardinality = count;
+            return count > ARRAY_MAX ? result.toBitmap() : result;
+        }
+    }
+
+    static final class BitmapContainer extends RoaringContainer
+    {
+        private final long[] words = new long[BITMAP_WORDS];
+        private int cardinality;
+
+        BitmapContainer recount()
+        {
+            int result = 0;
+            for (long word : this.words)
+            {
+                result += Long.bitCount(word);
+            }
+            this.cardinality = result;
+            return this;
+        }
+
+        /**
+         * Returns the representation to keep for the result of a set operation on the two operands. Runs are only
+         * considered when an operand was a run container, so that clustered sets stay compressed.
+         */
+        RoaringContainer repair(RoaringContainer left, RoaringContainer right)
+        {
+            if (left instanceof RunContainer || right instanceof RunContainer)
+            {
+                return this.runOptimize();
+            }
+            return this.cardinality <= ARRAY_MAX ? ArrayContainer.from(this) : this;
+        }
+
+        @Override
+        RoaringContainer runOptimize()
+        {
+            RoaringContainer result = super.runOptimize();
+            return result == this && this.cardinality <= ARRAY_MAX ? ArrayContainer.from(this) : result;
+        }
+
+        @Override
+        int cardinality()
+        {
+            return this.cardinality;
+        }
+
+        @Override
+        boolean contains(char value)
+        {
+            return (this.words[value >>> 6] & 1L << value) != 0L;
+        }
+
+        @Override
+        RoaringContainer add(char value)
+        {
+            long word = this.words[value >>> 6];
+            long bit = 1L << value;
+            if ((word & bit) == 0L)
+            {
+                this.words[value >>> 6] = word | bit;
+                this.cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        RoaringContainer remove(char value)
+        {
+            long word = this.words[value >>> 6];
+            long bit = 1L << value;
+            if ((word & bit) == 0L)
+            {
+                return this;
+            }
+            this.words[value >>> 6] = word & ~bit;
+            this.cardinality--;
+            return this.cardinality <= ARRAY_MAX ? ArrayContainer.from(this) : this;
+        }
+
+        @Override
+        int rank(char value)
+        {
+            int wordIndex = value >>> 6;
+            int result = 0;
+            for (int i = 0; i < wordIndex; i++)
+            {
+                result += Long.bitCount(this.words[i]);
+            }
+            return result + Long.bitCount(this.words[wordIndex] & -1L >>> (63 - (value & 63)));
+        }
+
+        @Override
+        int nextValue(int from)
+        {
+            if (from > Character.MAX_VALUE)
+            {
+                return -1;
+            }
+            int wordIndex = from >>> 6;
+            long word = this.words[wordIndex] & -1L << from;
+            while (word == 0L)
+            {
+                wordIndex++;
+                if (wordIndex == BITMAP_WORDS)
+                {
+                    return -1;
+                }
+                word = this.words[wordIndex];
+            }
+            return (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+        }
+
+        @Override
+        int first()
+        {
+            return this.nextValue(0);
+        }
+
+        @Override
+        int last()
+        {
+            int wordIndex = BITMAP_WORDS - 1;
+            while (this.words[wordIndex] == 0L)
+            {
+                wordIndex--;
+            }
+            return (wordIndex << 6) + 63 - Long.numberOfLeadingZeros(this.words[wordIndex]);
+        }
+
+        @Override
+        void forEach(int base, IntProcedure procedure)
+        {
+            for (int i = 0; i < BITMAP_WORDS; i++)
+            {
+                long word = this.words[i];
+                while (word != 0L)
+                {
+                    procedure.value(base | (i << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1L;
+                }
+            }
+        }
+
+        @Override
+        RoaringContainer copy()
+        {
+            return this.toBitmap();
+        }
+
+        @Override
+        int runCount()
+        {
+            int result = 0;
+            long previous = 0L;
+            for (long word : this.words)
+            {
+                result += Long.bitCount(word & ~(word << 1 | previous >>> 63));
+                previous = word;
+            }
+            return result;
+        }
+
+        @Override
+        void write(ObjectOutput out) throws IOException
+        {
+            out.writeByte(BITMAP);
+            for (long word : this.words)
+            {
+                out.writeLong(word);
+            }
+        }
+
+        @Override
+        BitmapContainer toBitmap()
+        {
+            BitmapContainer result = new BitmapContainer();
+            System.arraycopy(this.words, 0, result.words, 0, BITMAP_WORDS);
+            result.cardinality = this.cardinality;
+            return result;
+        }
+
+        @Override
+        void orInto(long[] words)
+        {
+            for (int i = 0; i < BITMAP_WORDS; i++)
+            {
+                words[i] |= this.words[i];
+            }
+        }
+
+        @Override
+        void andInto(long[] words)
+        {
+            for (int i = 0; i < BITMAP_WORDS; i++)
+            {
+                words[i] &= this.words[i];
+            }
+        }
+
+        @Override
+        void andNotInto(long[] words)
+        {
+            for (int i = 0; i < BITMAP_WORDS; i++)
+            {
+                words[i] &= ~this.words[i];
+            }
+        }
+
+        @Override
+        void xorInto(long[] words)
+        {
+            for (int i = 0; i < BITMAP_WORDS; i++)
+            {
+                words[i] ^= this.words[i];
+            }
+        }
+    }
+
+    /**
+     * Runs are stored as pairs of a start value and a length, where the run covers start to start + length inclusive.
+     */
+    static final class RunContainer extends RoaringContainer
+    {
+        private char[] runs;
+        private int runCount;
+        private int cardinality;
+
+        RunContainer(int capacity)
+        {
+            this.runs = new char[Math.max(2, capacity)];
+        }
+
+        static RunContainer from(RoaringContainer container)
+        {
+            RunContainer result = new RunContainer(container.runCount() << 1);
+            container.forEach(0, result::append);
+            return result;
+        }
+
+        void append(int value)
+        {
+            if (this.runCount > 0 && value == this.end(this.runCount - 1) + 1)
+            {
+                this.runs[(this.runCount << 1) - 1]++;
+                this.cardinality++;
+            }
+            else
+            {
+                this.appendRun(value, value);
+            }
+        }
+
+        void appendRun(int start, int end)
+        {
+            this.insertRun(this.runCount, start, end);
+        }
+
+        private int start(int run)
+        {
+            return this.runs[run << 1];
+        }
+
+        private int end(int run)
+        {
+            return this.runs[run << 1] + this.runs[(run << 1) + 1];
+        }
+
+        /**
+         * Returns the index of the last run starting at or before the value, or -1 if there is none.
+         */
+        private int runAtOrBefore(int value)
+        {
+            int low = 0;
+            int high = this.runCount - 1;
+            while (low <= high)
+            {
+                int mid = (low + high) >>> 1;
+                if (this.start(mid) <= value)
+                {
+                    low = mid + 1;
+                }
+                else
+                {
+                    high = mid - 1;
+                }
+            }
+            return high;
+        }
+
+        private void insertRun(int run, int start, int end)
+        {
+            int length = this.runCount << 1;
+            if (length + 2 > this.runs.length)
+            {
+                this.runs = Arrays.copyOf(this.runs, Math.max(length + 2, length << 1));
+            }
+            System.arraycopy(this.runs, run << 1, this.runs, (run << 1) + 2, length - (run << 1));
+            this.runs[run << 1] = (char) start;
+            this.runs[(run << 1) + 1] = (char) (end - start);
+            this.runCount++;
+            this.cardinality += end - start + 1;
+        }
+
+        private void removeRun(int run)
+        {
+            System.arraycopy(this.runs, (run << 1) + 2, this.runs, run << 1, (this.runCount - run - 1) << 1);
+            this.runCount--;
+        }
+
+        private void setRun(int run, int start, int end)
+        {
+            this.runs[run << 1] = (char) start;
+            this.runs[(run << 1) + 1] = (char) (end - start);
+        }
+
+        @Override
+        int cardinality()
+        {
+            return this.cardinality;
+        }
+
+        @Override
+        boolean contains(char value)
+        {
+            int run = this.runAtOrBefore(value);
+            return run >= 0 && value <= this.end(run);
+        }
+
+        @Override
+        RoaringContainer add(char value)
+        {
+            int run = this.runAtOrBefore(value);
+            if (run >= 0 && value <= this.end(run))
+            {
+                return this;
+            }
+            boolean extendsPrevious = run >= 0 && this.end(run) + 1 == value;
+            boolean extendsNext = run + 1 < this.runCount && this.start(run + 1) == value + 1;
+            if (extendsPrevious && extendsNext)
+            {
+                this.setRun(run, this.start(run), this.end(run + 1));
+                this.removeRun(run + 1);
+                this.cardinality++;
+                return this;
+            }
+            if (extendsPrevious)
+            {
+                this.setRun(run, this.start(run), value);
+                this.cardinality++;
+                return this;
+            }
+            if (extendsNext)
+            {
+                this.setRun(run + 1, value, this.end(run + 1));
+                this.cardinality++;
+                return this;
+            }
+            this.insertRun(run + 1, value, value);
+            return this.runOptimize();
+        }
+
+        @Override
+        RoaringContainer remove(char value)
+        {
+            int run = this.runAtOrBefore(value);
+            if (run < 0 || value > this.end(run))
+            {
+                return this;
+            }
+            int start = this.start(run);
+            int end = this.end(run);
+            this.cardinality--;
+            if (start == end)
+            {
+                this.removeRun(run);
+                return this;
+            }
+            if (value == start)
+            {
+                this.setRun(run, start + 1, end);
+                return this;
+            }
+            if (value == end)
+            {
+                this.setRun(run, start, end - 1);
+                return this;
+            }
+            this.setRun(run, start, value - 1);
+            this.insertRun(run + 1, value + 1, end);
+            this.cardinality -= end - value;
+            return this.runOptimize();
+        }
+
+        @Override
+        int rank(char value)
+        {
+            int result = 0;
+            for (int run = 0; run < this.runCount && this.start(run) <= value; run++)
+            {
+                result += Math.min(value, this.end(run)) - this.start(run) + 1;
+            }
+            return result;
+        }
+
+        @Override
+        int nextValue(int from)
+        {
+            if (from > Character.MAX_VALUE)
+            {
+                return -1;
+            }
+            int run = this.runAtOrBefore(from);
+            if (run >= 0 && from <= this.end(run))
+            {
+                return from;
+            }
+            return run + 1 < this.runCount ? this.start(run + 1) : -1;
+        }
+
+        @Override
+        int first()
+        {
+            return this.start(0);
+        }
+
+        @Override
+        int last()
+        {
+            return this.end(this.runCount - 1);
+        }
+
+        @Override
+        void forEach(int base, IntProcedure procedure)
+        {
+            for (int run = 0; run < this.runCount; run++)
+            {
+                for (int value = this.start(run), end = this.end(run); value <= end; value++)
+                {
+                    procedure.value(base | value);
+                }
+            }
+        }
+
+        @Override
+        RoaringContainer copy()
+        {
+            RunContainer result = new RunContainer(0);
+            result.runs = Arrays.copyOf(this.runs, Math.max(2, this.runCount << 1));
+            result.runCount = this.runCount;
+            result.cardinality = this.cardinality;
+            return result;
+        }
+
+        @Override
+        int runCount()
+        {
+            return this.runCount;
+        }
+
+        @Override
+        void write(ObjectOutput out) throws IOException
+        {
+            out.writeByte(RUN);
+            out.writeInt(this.runCount);
+            for (int i = 0; i < this.runCount << 1; i++)
+            {
+                out.writeChar(this.runs[i]);
+            }
+        }
+
+        @Override
+        BitmapContainer toBitmap()
+        {
+            BitmapContainer result = new BitmapContainer();
+            this.orInto(result.words);
+            result.cardinality = this.cardinality;
+            return result;
+        }
+
+        @Override
+        void orInto(long[] words)
+        {
+            for (int run = 0; run < this.runCount; run++)
+            {
+                setRange(words, this.start(run), this.end(run));
+            }
+        }
+
+        @Override
+        void andNotInto(long[] words)
+        {
+            for (int run = 0; run < this.runCount; run++)
+            {
+                clearRange(words, this.start(run), this.end(run));
+            }
+        }
+
+        @Override
+        void xorInto(long[] words)
+        {
+            for (int run = 0; run < this.runCount; run++)
+            {
+                flipRange(words, this.start(run), this.end(run));
+            }
+        }
+    }
+}
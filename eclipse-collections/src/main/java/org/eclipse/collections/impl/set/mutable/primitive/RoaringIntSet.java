@@ -0,0 +1,981 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.mutable.primitive;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.NoSuchElementException;
+
+import org.eclipse.collections.api.IntIterable;
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.block.function.primitive.IntToObjectFunction;
+import org.eclipse.collections.api.block.function.primitive.ObjectIntToObjectFunction;
+import org.eclipse.collections.api.block.predicate.primitive.IntPredicate;
+import org.eclipse.collections.api.block.procedure.primitive.IntProcedure;
+import org.eclipse.collections.api.collection.primitive.MutableIntCollection;
+import org.eclipse.collections.api.iterator.MutableIntIterator;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.set.primitive.IntSet;
+import org.eclipse.collections.api.set.primitive.MutableIntSet;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.set.immutable.primitive.ImmutableRoaringIntSet;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.set.primitive.AbstractIntSet;
+
+/**
+ * RoaringIntSet is a compressed bitmap MutableIntSet in the style of Roaring bitmaps. The elements are partitioned by
+ * their high 16 bits, and the low 16 bits of each partition are kept in a container which is a sorted array when the
+ * partition is sparse, a bitmap when it is dense, or a list of runs when the values are clustered. Dense and clustered
+ * sets take a small fraction of the memory of an {@link IntHashSet}.
+ * <p>
+ * {@link #and(RoaringIntSet)}, {@link #or(RoaringIntSet)}, {@link #andNot(RoaringIntSet)} and
+ * {@link #xor(RoaringIntSet)} combine two sets container by container, mostly with word-wide bitwise operations. The
+ * bulk mutating methods use them when their argument is also a RoaringIntSet. Runs are only created by
+ * {@link #addRange(int, int)}, {@link #runOptimize()} and set operations on run containers.
+ * <p>
+ * The elements are iterated in ascending order.
+ *
+ * @since 10.3
+ */
+public final class RoaringIntSet extends AbstractIntSet implements MutableIntSet, Externalizable
+{
+    private static final long serialVersionUID = 1L;
+    private static final int INITIAL_CAPACITY = 4;
+
+    private char[] keys;
+    private RoaringContainer[] containers;
+    private int containerCount;
+    private int size;
+
+    public RoaringIntSet()
+    {
+        this.keys = new char[INITIAL_CAPACITY];
+        this.containers = new RoaringContainer[INITIAL_CAPACITY];
+    }
+
+    public RoaringIntSet(int... elements)
+    {
+        this();
+        this.addAll(elements);
+    }
+
+    public RoaringIntSet(RoaringIntSet set)
+    {
+        this.keys = Arrays.copyOf(set.keys, Math.max(INITIAL_CAPACITY, set.containerCount));
+        this.containers = new RoaringContainer[this.keys.length];
+        for (int i = 0; i < set.containerCount; i++)
+        {
+            this.containers[i] = set.containers[i].copy();
+        }
+        this.containerCount = set.containerCount;
+        this.size = set.size;
+    }
+
+    public static RoaringIntSet newSet(IntIterable source)
+    {
+        if (source instanceof RoaringIntSet)
+        {
+            return new RoaringIntSet((RoaringIntSet) source);
+        }
+        RoaringIntSet result = new RoaringIntSet();
+        result.addAll(source);
+        return result;
+    }
+
+    public static RoaringIntSet newSetWith(int... source)
+    {
+        return new RoaringIntSet(source);
+    }
+
+    /**
+     * The high 16 bits with the sign bit flipped, so that unsigned key order is signed element order.
+     */
+    private static char highBits(int value)
+    {
+        return (char) ((value >>> 16) ^ 0x8000);
+    }
+
+    private static char lowBits(int value)
+    {
+        return (char) value;
+    }
+
+    private static int base(char key)
+    {
+        return (key ^ 0x8000) << 16;
+    }
+
+    private int indexOf(char key)
+    {
+        return Arrays.binarySearch(this.keys, 0, this.containerCount, key);
+    }
+
+    private void insertContainer(int index, char key, RoaringContainer container)
+    {
+        if (this.containerCount == this.keys.length)
+        {
+            int newLength = this.containerCount << 1;
+            this.keys = Arrays.copyOf(this.keys, newLength);
+            this.containers = Arrays.copyOf(this.containers, newLength);
+        }
+        System.arraycopy(this.keys, index, this.keys, index + 1, this.containerCount - index);
+        System.arraycopy(this.containers, index, this.containers, index + 1, this.containerCount - index);
+        this.keys[index] = key;
+        this.containers[index] = container;
+        this.containerCount++;
+        this.size += container.cardinality();
+    }
+
+    private void removeContainer(int index)
+    {
+        this.size -= this.containers[index].cardinality();
+        System.arraycopy(this.keys, index + 1, this.keys, index, this.containerCount - index - 1);
+        System.arraycopy(this.containers, index + 1, this.containers, index, this.containerCount - index - 1);
+        this.containerCount--;
+        this.containers[this.containerCount] = null;
+    }
+
+    /**
+     * Replaces the container at the index, keeping the size in step and dropping the container if it is empty. The
+     * old cardinality is passed in because a container may have been updated in place.
+     */
+    private void replaceContainer(int index, RoaringContainer container, int oldCardinality)
+    {
+        this.size += container.cardinality() - oldCardinality;
+        this.containers[index] = container;
+        if (container.cardinality() == 0)
+        {
+            this.removeContainer(index);
+        }
+    }
+
+    private void appendContainer(char key, RoaringContainer container)
+    {
+        if (container.cardinality() > 0)
+        {
+            this.insertContainer(this.containerCount, key, container);
+        }
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int[] result = new int[1];
+        this.each(each -> result[0] += each);
+        return result[0];
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    @Override
+    public boolean notEmpty()
+    {
+        return this.size != 0;
+    }
+
+    @Override
+    public void appendString(Appendable appendable, String start, String separator, String end)
+    {
+        try
+        {
+            appendable.append(start);
+            MutableIntIterator iterator = this.intIterator();
+            if (iterator.hasNext())
+            {
+                appendable.append(String.valueOf(iterator.next()));
+                while (iterator.hasNext())
+                {
+                    appendable.append(separator);
+                    appendable.append(String.valueOf(iterator.next()));
+                }
+            }
+            appendable.append(end);
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public boolean add(int element)
+    {
+        char key = highBits(element);
+        int index = this.indexOf(key);
+        if (index < 0)
+        {
+            this.insertContainer(-index - 1, key, RoaringContainer.singleton(lowBits(element)));
+            return true;
+        }
+        RoaringContainer container = this.containers[index];
+        int oldCardinality = container.cardinality();
+        this.containers[index] = container.add(lowBits(element));
+        if (this.containers[index].cardinality() != oldCardinality)
+        {
+            this.size++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Adds every value from from to to inclusive. Each partition covered by the range gains at most one run.
+     *
+     * @throws IllegalArgumentException if from is greater than to
+     */
+    public void addRange(int from, int to)
+    {
+        if (from > to)
+        {
+            throw new IllegalArgumentException("from " + from + " must not be greater than to " + to);
+        }
+        int firstKey = highBits(from);
+        int lastKey = highBits(to);
+        for (int key = firstKey; key <= lastKey; key++)
+        {
+            int start = key == firstKey ? lowBits(from) : 0;
+            int end = key == lastKey ? lowBits(to) : Character.MAX_VALUE;
+            RoaringContainer range = RoaringContainer.range(start, end);
+            int index = this.indexOf((char) key);
+            if (index < 0)
+            {
+                this.insertContainer(-index - 1, (char) key, range);
+            }
+            else
+            {
+                RoaringContainer container = this.containers[index];
+                this.replaceContainer(index, container.or(range), container.cardinality());
+            }
+        }
+    }
+
+    @Override
+    public boolean addAll(int... source)
+    {
+        int oldSize = this.size;
+        for (int item : source)
+        {
+            this.add(item);
+        }
+        return this.size != oldSize;
+    }
+
+    @Override
+    public boolean addAll(IntIterable source)
+    {
+        int oldSize = this.size;
+        if (source instanceof RoaringIntSet)
+        {
+            this.become(this.or((RoaringIntSet) source));
+        }
+        else
+        {
+            source.forEach(this::add);
+        }
+        return this.size != oldSize;
+    }
+
+    @Override
+    public boolean remove(int value)
+    {
+        int index = this.indexOf(highBits(value));
+        if (index < 0)
+        {
+            return false;
+        }
+        int oldSize = this.size;
+        RoaringContainer container = this.containers[index];
+        int oldCardinality = container.cardinality();
+        this.replaceContainer(index, container.remove(lowBits(value)), oldCardinality);
+        return this.size != oldSize;
+    }
+
+    @Override
+    public boolean removeAll(IntIterable source)
+    {
+        int oldSize = this.size;
+        if (source instanceof RoaringIntSet)
+        {
+            this.become(this.andNot((RoaringIntSet) source));
+        }
+        else
+        {
+            source.forEach(this::remove);
+        }
+        return this.size != oldSize;
+    }
+
+    @Override
+    public boolean removeAll(int... source)
+    {
+        int oldSize = this.size;
+        for (int item : source)
+        {
+            this.remove(item);
+        }
+        return this.size != oldSize;
+    }
+
+    @Override
+    public boolean retainAll(IntIterable source)
+    {
+        int oldSize = this.size;
+        RoaringIntSet other = source instanceof RoaringIntSet ? (RoaringIntSet) source : RoaringIntSet.newSet(source);
+        this.become(this.and(other));
+        return this.size != oldSize;
+    }
+
+    @Override
+    public boolean retainAll(int... source)
+    {
+        return this.retainAll(RoaringIntSet.newSetWith(source));
+    }
+
+    private void become(RoaringIntSet other)
+    {
+        this.keys = other.keys;
+        this.containers = other.containers;
+        this.containerCount = other.containerCount;
+        this.size = other.size;
+    }
+
+    @Override
+    public void clear()
+    {
+        this.keys = new char[INITIAL_CAPACITY];
+        this.containers = new RoaringContainer[INITIAL_CAPACITY];
+        this.containerCount = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Returns a new set holding the elements which are in both this set and the other set.
+     */
+    public RoaringIntSet and(RoaringIntSet other)
+    {
+        RoaringIntSet result = new RoaringIntSet();
+        int i = 0;
+        int j = 0;
+        while (i < this.containerCount && j < other.containerCount)
+        {
+            char left = this.keys[i];
+            char right = other.keys[j];
+            if (left < right)
+            {
+                i++;
+            }
+            else if (left > right)
+            {
+                j++;
+            }
+            else
+            {
+                result.appendContainer(left, this.containers[i].and(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new set holding the elements which are in either this set or the other set.
+     */
+    public RoaringIntSet or(RoaringIntSet other)
+    {
+        return this.merge(other, false);
+    }
+
+    /**
+     * Returns a new set holding the elements which are in exactly one of this set and the other set.
+     */
+    public RoaringIntSet xor(RoaringIntSet other)
+    {
+        return this.merge(other, true);
+    }
+
+    private RoaringIntSet merge(RoaringIntSet other, boolean exclusive)
+    {
+        RoaringIntSet result = new RoaringIntSet();
+        int i = 0;
+        int j = 0;
+        while (i < this.containerCount || j < other.containerCount)
+        {
+            int left = i < this.containerCount ? this.keys[i] : Integer.MAX_VALUE;
+            int right = j < other.containerCount ? other.keys[j] : Integer.MAX_VALUE;
+            if (left < right)
+            {
+                result.appendContainer((char) left, this.containers[i++].copy());
+            }
+            else if (left > right)
+            {
+                result.appendContainer((char) right, other.containers[j++].copy());
+            }
+            else
+            {
+                RoaringContainer container = exclusive
+                        ? this.containers[i].xor(other.containers[j])
+                        : this.containers[i].or(other.containers[j]);
+                result.appendContainer((char) left, container);
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new set holding the elements of this set which are not in the other set.
+     */
+    public RoaringIntSet andNot(RoaringIntSet other)
+    {
+        RoaringIntSet result = new RoaringIntSet();
+        int j = 0;
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            char key = this.keys[i];
+            while (j < other.containerCount && other.keys[j] < key)
+            {
+                j++;
+            }
+            if (j < other.containerCount && other.keys[j] == key)
+            {
+                result.appendContainer(key, this.containers[i].andNot(other.containers[j]));
+            }
+            else
+            {
+                result.appendContainer(key, this.containers[i].copy());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Uses {@link #or(RoaringIntSet)} when the other set is a RoaringIntSet.
+     *
+     * @since 10.3
+     */
+    @Override
+    public RoaringIntSet union(IntSet set)
+    {
+        if (set instanceof RoaringIntSet)
+        {
+            return this.or((RoaringIntSet) set);
+        }
+        return new RoaringIntSet(this).withAll(set);
+    }
+
+    /**
+     * Uses {@link #and(RoaringIntSet)} when the other set is a RoaringIntSet.
+     *
+     * @since 10.3
+     */
+    @Override
+    public RoaringIntSet intersect(IntSet set)
+    {
+        if (set instanceof RoaringIntSet)
+        {
+            return this.and((RoaringIntSet) set);
+        }
+        if (set.size() < this.size)
+        {
+            return set.select(this::contains, new RoaringIntSet());
+        }
+        return this.select(set::contains);
+    }
+
+    /**
+     * Uses {@link #andNot(RoaringIntSet)} when the other set is a RoaringIntSet.
+     *
+     * @since 10.3
+     */
+    @Override
+    public RoaringIntSet difference(IntSet subtrahendSet)
+    {
+        if (subtrahendSet instanceof RoaringIntSet)
+        {
+            return this.andNot((RoaringIntSet) subtrahendSet);
+        }
+        return this.reject(subtrahendSet::contains);
+    }
+
+    /**
+     * Uses {@link #xor(RoaringIntSet)} when the other set is a RoaringIntSet.
+     *
+     * @since 10.3
+     */
+    @Override
+    public RoaringIntSet symmetricDifference(IntSet setB)
+    {
+        if (setB instanceof RoaringIntSet)
+        {
+            return this.xor((RoaringIntSet) setB);
+        }
+        RoaringIntSet result = new RoaringIntSet(this);
+        setB.each(each ->
+        {
+            if (!result.remove(each))
+            {
+                result.add(each);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Returns the number of elements which are less than or equal to the value.
+     */
+    public int rank(int value)
+    {
+        int index = this.indexOf(highBits(value));
+        int end = index >= 0 ? index : -index - 1;
+        int result = 0;
+        for (int i = 0; i < end; i++)
+        {
+            result += this.containers[i].cardinality();
+        }
+        if (index >= 0)
+        {
+            result += this.containers[index].rank(lowBits(value));
+        }
+        return result;
+    }
+
+    /**
+     * Converts each container to runs of consecutive values where that is smaller, and back where it is not.
+     *
+     * @return true if any container changed its representation
+     */
+    public boolean runOptimize()
+    {
+        boolean changed = false;
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            RoaringContainer container = this.containers[i].runOptimize();
+            if (container != this.containers[i])
+            {
+                this.containers[i] = container;
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    @Override
+    public RoaringIntSet with(int element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    @Override
+    public RoaringIntSet without(int element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    @Override
+    public RoaringIntSet withAll(IntIterable elements)
+    {
+        this.addAll(elements);
+        return this;
+    }
+
+    @Override
+    public RoaringIntSet withoutAll(IntIterable elements)
+    {
+        this.removeAll(elements);
+        return this;
+    }
+
+    @Override
+    public MutableIntSet asUnmodifiable()
+    {
+        return new UnmodifiableIntSet(this);
+    }
+
+    @Override
+    public MutableIntSet asSynchronized()
+    {
+        return new SynchronizedIntSet(this);
+    }
+
+    @Override
+    public ImmutableRoaringIntSet toImmutable()
+    {
+        return ImmutableRoaringIntSet.newSet(this);
+    }
+
+    @Override
+    public IntSet freeze()
+    {
+        return this.toImmutable();
+    }
+
+    @Override
+    public MutableIntIterator intIterator()
+    {
+        return new InternalIntIterator();
+    }
+
+    @Override
+    public int[] toArray()
+    {
+        int[] array = new int[this.size];
+        int index = 0;
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            RoaringContainer container = this.containers[i];
+            int base = base(this.keys[i]);
+            for (int low = container.first(); low >= 0; low = container.nextValue(low + 1))
+            {
+                array[index++] = base | low;
+            }
+        }
+        return array;
+    }
+
+    /**
+     * Returns the elements in ascending order, which is the iteration order of this set.
+     */
+    @Override
+    public int[] toSortedArray()
+    {
+        return this.toArray();
+    }
+
+    @Override
+    public boolean contains(int value)
+    {
+        int index = this.indexOf(highBits(value));
+        return index >= 0 && this.containers[index].contains(lowBits(value));
+    }
+
+    @Override
+    public void forEach(IntProcedure procedure)
+    {
+        this.each(procedure);
+    }
+
+    @Override
+    public void each(IntProcedure procedure)
+    {
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            this.containers[i].forEach(base(this.keys[i]), procedure);
+        }
+    }
+
+    @Override
+    public RoaringIntSet select(IntPredicate predicate)
+    {
+        return this.select(predicate, new RoaringIntSet());
+    }
+
+    @Override
+    public <R extends MutableIntCollection> R select(IntPredicate predicate, R target)
+    {
+        this.each(each ->
+        {
+            if (predicate.accept(each))
+            {
+                target.add(each);
+            }
+        });
+        return target;
+    }
+
+    @Override
+    public RoaringIntSet reject(IntPredicate predicate)
+    {
+        return this.reject(predicate, new RoaringIntSet());
+    }
+
+    @Override
+    public <R extends MutableIntCollection> R reject(IntPredicate predicate, R target)
+    {
+        this.each(each ->
+        {
+            if (!predicate.accept(each))
+            {
+                target.add(each);
+            }
+        });
+        return target;
+    }
+
+    @Override
+    public <V> MutableSet<V> collect(IntToObjectFunction<? extends V> function)
+    {
+        return this.collect(function, UnifiedSet.newSet(this.size));
+    }
+
+    @Override
+    public <V, R extends Collection<V>> R collect(IntToObjectFunction<? extends V> function, R target)
+    {
+        this.each(each -> target.add(function.valueOf(each)));
+        return target;
+    }
+
+    @Override
+    public int detectIfNone(IntPredicate predicate, int ifNone)
+    {
+        for (MutableIntIterator iterator = this.intIterator(); iterator.hasNext(); )
+        {
+            int value = iterator.next();
+            if (predicate.accept(value))
+            {
+                return value;
+            }
+        }
+        return ifNone;
+    }
+
+    @Override
+    public int count(IntPredicate predicate)
+    {
+        int[] count = new int[1];
+        this.each(each ->
+        {
+            if (predicate.accept(each))
+            {
+                count[0]++;
+            }
+        });
+        return count[0];
+    }
+
+    @Override
+    public boolean anySatisfy(IntPredicate predicate)
+    {
+        for (MutableIntIterator iterator = this.intIterator(); iterator.hasNext(); )
+        {
+            if (predicate.accept(iterator.next()))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean allSatisfy(IntPredicate predicate)
+    {
+        for (MutableIntIterator iterator = this.intIterator(); iterator.hasNext(); )
+        {
+            if (!predicate.accept(iterator.next()))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean noneSatisfy(IntPredicate predicate)
+    {
+        return !this.anySatisfy(predicate);
+    }
+
+    @Override
+    public long sum()
+    {
+        long[] result = new long[1];
+        this.each(each -> result[0] += each);
+        return result[0];
+    }
+
+    @Override
+    public int max()
+    {
+        if (this.isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        int last = this.containerCount - 1;
+        return base(this.keys[last]) | this.containers[last].last();
+    }
+
+    @Override
+    public int min()
+    {
+        if (this.isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        return base(this.keys[0]) | this.containers[0].first();
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.containerCount);
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            out.writeChar(this.keys[i]);
+            this.containers[i].write(out);
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException
+    {
+        int containerCount = in.readInt();
+        this.keys = new char[Math.max(INITIAL_CAPACITY, containerCount)];
+        this.containers = new RoaringContainer[this.keys.length];
+        this.containerCount = 0;
+        this.size = 0;
+        for (int i = 0; i < containerCount; i++)
+        {
+            char key = in.readChar();
+            this.appendContainer(key, RoaringContainer.read(in));
+        }
+    }
+
+    @Override
+    public <T> T injectInto(T injectedValue, ObjectIntToObjectFunction<? super T, ? extends T> function)
+    {
+        T result = injectedValue;
+        for (MutableIntIterator iterator = this.intIterator(); iterator.hasNext(); )
+        {
+            result = function.valueOf(result, iterator.next());
+        }
+        return result;
+    }
+
+    @Override
+    public RichIterable<IntIterable> chunk(int size)
+    {
+        if (size <= 0)
+        {
+            throw new IllegalArgumentException("Size for groups must be positive but was: " + size);
+        }
+        MutableList<IntIterable> result = Lists.mutable.empty();
+        RoaringIntSet batch = new RoaringIntSet();
+        for (MutableIntIterator iterator = this.intIterator(); iterator.hasNext(); )
+        {
+            batch.add(iterator.next());
+            if (batch.size == size)
+            {
+                result.add(batch);
+                batch = new RoaringIntSet();
+            }
+        }
+        if (batch.notEmpty())
+        {
+            result.add(batch);
+        }
+        return result;
+    }
+
+    /**
+     * Creates a new empty RoaringIntSet.
+     */
+    @Override
+    public RoaringIntSet newEmpty()
+    {
+        return new RoaringIntSet();
+    }
+
+    private class InternalIntIterator implements MutableIntIterator
+    {
+        private int containerIndex;
+        private int nextLow;
+        private boolean canRemove;
+        private int lastValue;
+
+        InternalIntIterator()
+        {
+            this.nextLow = RoaringIntSet.this.containerCount > 0 ? RoaringIntSet.this.containers[0].first() : -1;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.nextLow >= 0;
+        }
+
+        @Override
+        public int next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException("next() called, but the iterator is exhausted");
+            }
+            this.canRemove = true;
+            this.lastValue = base(RoaringIntSet.this.keys[this.containerIndex]) | this.nextLow;
+            this.nextLow = RoaringIntSet.this.containers[this.containerIndex].nextValue(this.nextLow + 1);
+            if (this.nextLow < 0)
+            {
+                this.containerIndex++;
+                this.nextLow = this.containerIndex < RoaringIntSet.this.containerCount
+                        ? RoaringIntSet.this.containers[this.containerIndex].first()
+                        : -1;
+            }
+            return this.lastValue;
+        }
+
+        @Override
+        public void remove()
+        {
+            if (!this.canRemove)
+            {
+                throw new IllegalStateException();
+            }
+            // removal may convert or drop the container, so the position is searched for again
+            RoaringIntSet.this.remove(this.lastValue);
+            if (this.nextLow >= 0)
+            {
+                this.seek(this.lastValue + 1);
+            }
+            this.canRemove = false;
+        }
+
+        private void seek(int value)
+        {
+            int index = RoaringIntSet.this.indexOf(highBits(value));
+            if (index >= 0)
+            {
+                int low = RoaringIntSet.this.containers[index].nextValue(lowBits(value));
+                if (low >= 0)
+                {
+                    this.containerIndex = index;
+                    this.nextLow = low;
+                    return;
+                }
+                this.containerIndex = index + 1;
+            }
+            else
+            {
+                this.containerIndex = -index - 1;
+            }
+            this.nextLow = this.containerIndex < RoaringIntSet.this.containerCount
+                    ? RoaringIntSet.this.containers[this.containerIndex].first()
+                    : -1;
+        }
+    }
+}
@@ -11,9 +11,15 @@
 /**
  * This package contains implementations of {@link org.eclipse.collections.api.set.sorted.MutableSortedSet}.
  * <p>
- *     This package contains 4 sorted mutable set implementation:
+ *     This package contains 6 sorted mutable set implementation:
  * <ul>
  *     <li>
+ *          {@link org.eclipse.collections.impl.set.sorted.mutable.BTreeSortedSet} - a sorted set backed by a B+tree with array-based leaves.
+ *     </li>
+ *     <li>
+ *          {@link org.eclipse.collections.impl.set.sorted.mutable.RankedTreeSortedSet} - a sorted set backed by an order-statistic tree, with rank and index queries in logarithmic time.
+ *     </li>
+ *     <li>
  *          {@link org.eclipse.collections.impl.set.sorted.mutable.SortedSetAdapter} -  a class which provides a MutableSortedSet wrapper around a JDK Collections SortedSet interface instance.
  *     </li>
  *     <li>
@@ -35,6 +35,7 @@ import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.ImmutableMap;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.map.primitive.ImmutableObjectDoubleMap;
@@ -75,7 +76,10 @@ import org.eclipse.collections.impl.factory.primitive.ShortStacks;
 import org.eclipse.collections.impl.partition.stack.PartitionArrayStack;
 import org.eclipse.collections.impl.partition.stack.PartitionArrayStack.PartitionPredicate2Procedure;
 import org.eclipse.collections.impl.partition.stack.PartitionArrayStack.PartitionProcedure;
+import org.eclipse.collections.impl.partition.stack.PartitionImmutableStackImpl;
 import org.eclipse.collections.impl.stack.mutable.ArrayStack;
+import org.eclipse.collections.impl.utility.ListIterate;
+import org.eclipse.collections.impl.utility.OrderedIterate;
 
 final class ImmutableNotEmptyStack<T>
         extends AbstractRichIterable<T>
@@ -445,37 +449,51 @@ final class ImmutableNotEmptyStack<T>
     @Override
     public ImmutableStack<T> takeWhile(Predicate<? super T> predicate)
     {
-        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".takeWhile() not implemented yet");
+        return this.partitionWhile(predicate).getSelected();
     }
 
     @Override
     public ImmutableStack<T> dropWhile(Predicate<? super T> predicate)
     {
-        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".dropWhile() not implemented yet");
+        ImmutableStack<T> pointer = this;
+        while (pointer.notEmpty() && predicate.accept(pointer.peek()))
+        {
+            pointer = pointer.pop();
+        }
+        return pointer;
     }
 
     @Override
     public PartitionImmutableStack<T> partitionWhile(Predicate<? super T> predicate)
     {
-        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".partitionWhile() not implemented yet");
+        MutableList<T> selected = Lists.mutable.empty();
+        ImmutableStack<T> pointer = this;
+        while (pointer.notEmpty() && predicate.accept(pointer.peek()))
+        {
+            selected.add(pointer.peek());
+            pointer = pointer.pop();
+        }
+        ImmutableStack<T> selectedStack = pointer.isEmpty() ? this : Stacks.immutable.withAllReversed(selected);
+        return new PartitionImmutableStackImpl<>(selectedStack, pointer);
     }
 
     @Override
     public ImmutableStack<T> distinct()
     {
-        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".distinct() not implemented yet");
+        MutableList<T> distinct = this.asLazy().distinct().toList();
+        return distinct.size() == this.size ? this : Stacks.immutable.withAllReversed(distinct);
     }
 
     @Override
     public int indexOf(Object object)
     {
-        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".indexOf() not implemented yet");
+        return this.detectIndex(each -> Objects.equals(each, object));
     }
 
     @Override
     public <S> boolean corresponds(OrderedIterable<S> other, Predicate2<? super T, ? super S> predicate)
     {
-        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".corresponds() not implemented yet");
+        return OrderedIterate.corresponds(this, other, predicate);
     }
 
     public boolean hasSameElements(OrderedIterable<T> other)
@@ -486,19 +504,46 @@ final class ImmutableNotEmptyStack<T>
     @Override
     public void forEach(int startIndex, int endIndex, Procedure<? super T> procedure)
     {
-        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".forEach() not implemented yet");
+        this.forEachWithIndex(startIndex, endIndex, (each, index) -> procedure.value(each));
     }
 
     @Override
     public void forEachWithIndex(int fromIndex, int toIndex, ObjectIntProcedure<? super T> objectIntProcedure)
     {
-        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".forEachWithIndex() not implemented yet");
+        ListIterate.rangeCheck(fromIndex, toIndex, this.size);
+
+        if (fromIndex <= toIndex)
+        {
+            ImmutableStack<T> pointer = this.pop(fromIndex);
+            for (int i = fromIndex; i <= toIndex; i++)
+            {
+                objectIntProcedure.value(pointer.peek(), i);
+                pointer = pointer.pop();
+            }
+        }
+        else
+        {
+            ListIterable<T> range = this.pop(toIndex).peek(fromIndex - toIndex + 1);
+            for (int i = range.size() - 1; i >= 0; i--)
+            {
+                objectIntProcedure.value(range.get(i), toIndex + i);
+            }
+        }
     }
 
     @Override
     public int detectIndex(Predicate<? super T> predicate)
     {
-        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".detectIndex() not implemented yet");
+        int index = 0;
+        for (ImmutableStack<T> pointer = this; pointer.notEmpty(); pointer = pointer.pop())
+        {
+            if (predicate.accept(pointer.peek()))
+            {
+                return index;
+            }
+            index++;
+        }
+        return -1;
     }
 
     @Override
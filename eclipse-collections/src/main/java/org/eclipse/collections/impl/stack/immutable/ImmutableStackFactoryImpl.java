@@ -109,6 +109,10 @@ public class ImmutableStackFactoryImpl implements ImmutableStackFactory
     @Override
     public <T> ImmutableStack<T> withAllReversed(Iterable<? extends T> items)
     {
+        if (items instanceof ImmutableStack<?>)
+        {
+            return (ImmutableStack<T>) items;
+        }
         return this.withReversed((T[]) Iterate.toArray(items));
     }
 }
@@ -16,6 +16,12 @@
  *     This package contains 3 stack implementations:
  * <ul>
  *     <li>
+ *          {@link org.eclipse.collections.impl.stack.immutable.ImmutableEmptyStack} - the empty ImmutableStack.
+ *     </li>
+ *     <li>
+ *          {@link org.eclipse.collections.impl.stack.immutable.ImmutableNotEmptyStack} - a linked ImmutableStack which shares its tail with the stack it was pushed onto, created by the factory.
+ *     </li>
+ *     <li>
  *          {@link org.eclipse.collections.impl.stack.immutable.ImmutableArrayStack} - an ImmutableStack backed by a FastList.
  *     </li>
  * </ul>
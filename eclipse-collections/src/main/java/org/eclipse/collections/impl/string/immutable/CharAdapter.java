@@ -14,10 +14,13 @@ import java.io.IOException;
 import java.io.Serializable;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
 
 import org.eclipse.collections.api.CharIterable;
 import org.eclipse.collections.api.LazyCharIterable;
+import org.eclipse.collections.api.ParallelCharIterable;
 import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.annotation.Beta;
 import org.eclipse.collections.api.bag.primitive.MutableCharBag;
 import org.eclipse.collections.api.block.function.primitive.CharToCharFunction;
 import org.eclipse.collections.api.block.function.primitive.CharToObjectFunction;
@@ -38,6 +41,7 @@ import org.eclipse.collections.api.tuple.primitive.CharCharPair;
 import org.eclipse.collections.api.tuple.primitive.CharObjectPair;
 import org.eclipse.collections.impl.bag.mutable.primitive.CharHashBag;
 import org.eclipse.collections.impl.factory.primitive.CharLists;
+import org.eclipse.collections.impl.lazy.parallel.primitive.CharListParallelIterable;
 import org.eclipse.collections.impl.lazy.primitive.ReverseCharIterable;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.list.mutable.primitive.CharArrayList;
@@ -207,6 +211,16 @@ public class CharAdapter
         return new CharAdapter(builder.reverse().toString());
     }
 
+    /**
+     * @since 10.3
+     */
+    @Beta
+    @Override
+    public ParallelCharIterable asParallel(ExecutorService executorService, int batchSize)
+    {
+        return new CharListParallelIterable(this, executorService, batchSize);
+    }
+
     @Override
     public ImmutableCharList subList(int fromIndex, int toIndex)
     {
@@ -14,10 +14,13 @@ import java.io.IOException;
 import java.io.Serializable;
 import java.util.Iterator;
 import java.util.Spliterator;
+import java.util.concurrent.ExecutorService;
 
 import org.eclipse.collections.api.IntIterable;
 import org.eclipse.collections.api.LazyIntIterable;
+import org.eclipse.collections.api.ParallelIntIterable;
 import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.annotation.Beta;
 import org.eclipse.collections.api.bag.primitive.MutableIntBag;
 import org.eclipse.collections.api.block.function.primitive.IntToIntFunction;
 import org.eclipse.collections.api.block.function.primitive.IntToObjectFunction;
@@ -224,6 +227,16 @@ public class CodePointList extends AbstractIntIterable implements CharSequence,
         return new CodePointList(this.codePoints.toReversed());
     }
 
+    /**
+     * @since 10.3
+     */
+    @Beta
+    @Override
+    public ParallelIntIterable asParallel(ExecutorService executorService, int batchSize)
+    {
+        return this.codePoints.asParallel(executorService, batchSize);
+    }
+
     @Override
     public ImmutableIntList subList(int fromIndex, int toIndex)
     {
@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.utility.internal;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * ChannelDecoder reads the primitive values written by {@link ChannelEncoder} from a {@link ReadableByteChannel}
+ * through a buffer of at most {@link ChannelEncoder#BLOCK_SIZE} bytes.
+ * <p>
+ * The decoder never reads past the values it has been asked for, so the channel can be positioned on whatever follows
+ * them once decoding is done. A caller which knows how many bytes are coming declares them with
+ * {@link #expect(long)}, allowing the decoder to read them in whole blocks.
+ *
+ * @since 10.3
+ */
+public final class ChannelDecoder
+{
+    private static final int MINIMUM_BUFFER_SIZE = 16;
+
+    private final ReadableByteChannel channel;
+    private ByteBuffer buffer = ByteBuffer.allocate(MINIMUM_BUFFER_SIZE);
+    private long readAhead;
+
+    public ChannelDecoder(ReadableByteChannel channel)
+    {
+        this.channel = channel;
+        this.buffer.limit(0);
+    }
+
+    /**
+     * Returns a channel reading from {@code in}. Closing the channel does not close {@code in}.
+     */
+    public static ReadableByteChannel newChannel(ObjectInput in)
+    {
+        return new ObjectInputChannel(in);
+    }
+
+    /**
+     * Declares that at least {@code bytes} more bytes are to be read, so they may be read ahead in whole blocks.
+     */
+    public void expect(long bytes)
+    {
+        this.readAhead = Math.max(0L, bytes - this.buffer.remaining());
+        int capacity = (int) Math.min(ChannelEncoder.BLOCK_SIZE, Math.max(MINIMUM_BUFFER_SIZE, bytes));
+        if (capacity > this.buffer.capacity())
+        {
+            ByteBuffer larger = ByteBuffer.allocate(capacity);
+            larger.put(this.buffer);
+            larger.flip();
+            this.buffer = larger;
+        }
+    }
+
+    private void ensureRemaining(int bytes) throws IOException
+    {
+        if (this.buffer.remaining() >= bytes)
+        {
+            return;
+        }
+        this.buffer.compact();
+        int target = (int) Math.min(this.buffer.capacity(), Math.max(bytes, this.buffer.position() + this.readAhead));
+        this.buffer.limit(target);
+        while (this.buffer.position() < bytes)
+        {
+            int read = this.channel.read(this.buffer);
+            if (read < 0)
+            {
+                throw new EOFException();
+            }
+            this.readAhead = Math.max(0L, this.readAhead - read);
+        }
+        this.buffer.flip();
+    }
+
+    public boolean readBoolean() throws IOException
+    {
+        return this.readByte() != 0;
+    }
+
+    public byte readByte() throws IOException
+    {
+        this.ensureRemaining(Byte.BYTES);
+        return this.buffer.get();
+    }
+
+    public short readShort() throws IOException
+    {
+        this.ensureRemaining(Short.BYTES);
+        return this.buffer.getShort();
+    }
+
+    public char readChar() throws IOException
+    {
+        this.ensureRemaining(Character.BYTES);
+        return this.buffer.getChar();
+    }
+
+    public int readInt() throws IOException
+    {
+        this.ensureRemaining(Integer.BYTES);
+        return this.buffer.getInt();
+    }
+
+    public long readLong() throws IOException
+    {
+        this.ensureRemaining(Long.BYTES);
+        return this.buffer.getLong();
+    }
+
+    public float readFloat() throws IOException
+    {
+        this.ensureRemaining(Float.BYTES);
+        return this.buffer.getFloat();
+    }
+
+    public double readDouble() throws IOException
+    {
+        this.ensureRemaining(Double.BYTES);
+        return this.buffer.getDouble();
+    }
+
+    public void readBytes(byte[] target, int offset, int length) throws IOException
+    {
+        this.expect((long) length * Byte.BYTES);
+        int index = offset;
+        int end = offset + length;
+        while (index < end)
+        {
+            this.ensureRemaining(Byte.BYTES);
+            int count = Math.min(end - index, this.buffer.remaining());
+            this.buffer.get(target, index, count);
+            index += count;
+        }
+    }
+
+    public void readShorts(short[] target, int offset, int length) throws IOException
+    {
+        this.expect((long) length * Short.BYTES);
+        int index = offset;
+        int end = offset + length;
+        while (index < end)
+        {
+            this.ensureRemaining(Short.BYTES);
+            int count = Math.min(end - index, this.buffer.remaining() / Short.BYTES);
+            this.buffer.asShortBuffer().get(target, index, count);
+            this.buffer.position(this.buffer.position() + count * Short.BYTES);
+            index += count;
+        }
+    }
+
+    public void readChars(char[] target, int offset, int length) throws IOException
+    {
+        this.expect((long) length * Character.BYTES);
+        int index = offset;
+        int end = offset + length;
+        while (index < end)
+        {
+            this.ensureRemaining(Character.BYTES);
+            int count = Math.min(end - index, this.buffer.remaining() / Character.BYTES);
+            this.buffer.asCharBuffer().get(target, index, count);
+            this.buffer.position(this.buffer.position() + count * Character.BYTES);
+            index += count;
+        }
+    }
+
+    public void readInts(int[] target, int offset, int length) throws IOException
+    {
+        this.expect((long) length * Integer.BYTES);
+        int index = offset;
+        int end = offset + length;
+        while (index < end)
+        {
+            this.ensureRemaining(Integer.BYTES);
+            int count = Math.min(end - index, this.buffer.remaining() / Integer.BYTES);
+            this.buffer.asIntBuffer().get(target, index, count);
+            this.buffer.position(this.buffer.position() + count * Integer.BYTES);
+            index += count;
+        }
+    }
+
+    public void readLongs(long[] target, int offset, int length) throws IOException
+    {
+        this.expect((long) length * Long.BYTES);
+        int index = offset;
+        int end = offset + length;
+        while (index < end)
+        {
+            this.ensureRemaining(Long.BYTES);
+            int count = Math.min(end - index, this.buffer.remaining() / Long.BYTES);
+            this.buffer.asLongBuffer().get(target, index, count);
+            this.buffer.position(this.buffer.position() + count * Long.BYTES);
+            index += count;
+        }
+    }
+
+    public void readFloats(float[] target, int offset, int length) throws IOException
+    {
+        this.expect((long) length * Float.BYTES);
+        int index = offset;
+        int end = offset + length;
+        while (index < end)
+        {
+            this.ensureRemaining(Float.BYTES);
+            int count = Math.min(end - index, this.buffer.remaining() / Float.BYTES);
+            this.buffer.asFloatBuffer().get(target, index, count);
+            this.buffer.position(this.buffer.position() + count * Float.BYTES);
+            index += count;
+        }
+    }
+
+    public void readDoubles(double[] target, int offset, int length) throws IOException
+    {
+        this.expect((long) length * Double.BYTES);
+        int index = offset;
+        int end = offset + length;
+        while (index < end)
+        {
+            this.ensureRemaining(Double.BYTES);
+            int count = Math.min(end - index, this.buffer.remaining() / Double.BYTES);
+            this.buffer.asDoubleBuffer().get(target, index, count);
+            this.buffer.position(this.buffer.position() + count * Double.BYTES);
+            index += count;
+        }
+    }
+
+    private static final class ObjectInputChannel implements ReadableByteChannel
+    {
+        private final ObjectInput in;
+
+        private ObjectInputChannel(ObjectInput in)
+        {
+            this.in = in;
+        }
+
+        @Override
+        public int read(ByteBuffer target) throws IOException
+        {
+            int read = this.in.read(target.array(), target.arrayOffset() + target.position(), target.remaining());
+            if (read > 0)
+            {
+                target.position(target.position() + read);
+            }
+            return read;
+        }
+
+        @Override
+        public boolean isOpen()
+        {
+            return true;
+        }
+
+        @Override
+        public void close()
+        {
+            // the stream belongs to the caller
+        }
+    }
+}
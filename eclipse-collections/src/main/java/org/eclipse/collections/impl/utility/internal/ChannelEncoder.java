@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.utility.internal;
+
+import java.io.IOException;
+import java.io.ObjectOutput;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * ChannelEncoder writes primitive values to a {@link WritableByteChannel} through a buffer of at most
+ * {@value #BLOCK_SIZE} bytes. Arrays are copied into the buffer with a single bulk copy per block rather than one value
+ * at a time.
+ * <p>
+ * Values are written big-endian, exactly as {@link java.io.DataOutput} writes them, so the bytes written for a
+ * collection through {@link #newChannel(ObjectOutput)} are the same as those written by calling
+ * {@code out.writeInt} for each value. {@link #flush()} must be called once all the values have been written.
+ *
+ * @since 10.3
+ */
+public final class ChannelEncoder
+{
+    public static final int BLOCK_SIZE = 1 << 16;
+
+    private static final int MINIMUM_BUFFER_SIZE = 16;
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer;
+
+    /**
+     * @param expectedBytes the number of bytes expected to be written, used to avoid allocating a full block for
+     * small collections
+     */
+    public ChannelEncoder(WritableByteChannel channel, long expectedBytes)
+    {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate((int) Math.max(MINIMUM_BUFFER_SIZE, Math.min(BLOCK_SIZE, expectedBytes)));
+    }
+
+    /**
+     * Returns a channel writing to {@code out}. Closing the channel does not close {@code out}.
+     */
+    public static WritableByteChannel newChannel(ObjectOutput out)
+    {
+        return new ObjectOutputChannel(out);
+    }
+
+    private void ensureRemaining(int bytes) throws IOException
+    {
+        if (this.buffer.remaining() < bytes)
+        {
+            this.flush();
+        }
+    }
+
+    public void writeBoolean(boolean value) throws IOException
+    {
+        this.ensureRemaining(Byte.BYTES);
+        this.buffer.put(value ? (byte) 1 : (byte) 0);
+    }
+
+    public void writeByte(byte value) throws IOException
+    {
+        this.ensureRemaining(Byte.BYTES);
+        this.buffer.put(value);
+    }
+
+    public void writeShort(short value) throws IOException
+    {
+        this.ensureRemaining(Short.BYTES);
+        this.buffer.putShort(value);
+    }
+
+    public void writeChar(char value) throws IOException
+    {
+        this.ensureRemaining(Character.BYTES);
+        this.buffer.putChar(value);
+    }
+
+    public void writeInt(int value) throws IOException
+    {
+        this.ensureRemaining(Integer.BYTES);
+        this.buffer.putInt(value);
+    }
+
+    public void writeLong(long value) throws IOException
+    {
+        this.ensureRemaining(Long.BYTES);
+        this.buffer.putLong(value);
+    }
+
+    public void writeFloat(float value) throws IOException
+    {
+        this.ensureRemaining(Float.BYTES);
+        this.buffer.putFloat(value);
+    }
+
+    public void writeDouble(double value) throws IOException
+    {
+        this.ensureRemaining(Double.BYTES);
+        this.buffer.putDouble(value);
+    }
+
+    public void writeBytes(byte[] values, int offset, int length) throws IOException
+    {
+        int index = offset;
+        int end = offset + length;
+        while (index < end)
+        {
+            this.ensureRemaining(Byte.BYTES);
+            int count = Math.min(end - index, this.buffer.remaining());
+            this.buffer.put(values, index, count);
+            index += count;
+        }
+    }
+
+    public void writeShorts(short[] values, int offset, int length) throws IOException
+    {
+        int index = offset;
+        int end = offset + length;
+        while (index < end)
+        {
+            this.ensureRemaining(Short.BYTES);
+            int count = Math.min(end - index, this.buffer.remaining() / Short.BYTES);
+            this.buffer.asShortBuffer().put(values, index, count);
+            this.buffer.position(this.buffer.position() + count * Short.BYTES);
+            index += count;
+        }
+    }
+
+    public void writeChars(char[] values, int offset, int length) throws IOException
+    {
+        int index = offset;
+        int end = offset + length;
+        while (index < end)
+        {
+            this.ensureRemaining(Character.BYTES);
+            int count = Math.min(end - index, this.buffer.remaining() / Character.BYTES);
+            this.buffer.asCharBuffer().put(values, index, count);
+            this.buffer.position(this.buffer.position() + count * Character.BYTES);
+            index += count;
+        }
+    }
+
+    public void writeInts(int[] values, int offset, int length) throws IOException
+    {
+        int index = offset;
+        int end = offset + length;
+        while (index < end)
+        {
+            this.ensureRemaining(Integer.BYTES);
+            int count = Math.min(end - index, this.buffer.remaining() / Integer.BYTES);
+            this.buffer.asIntBuffer().put(values, index, count);
+            this.buffer.position(this.buffer.position() + count * Integer.BYTES);
+            index += count;
+        }
+    }
+
+    public void writeLongs(long[] values, int offset, int length) throws IOException
+    {
+        int index = offset;
+        int end = offset + length;
+        while (index < end)
+        {
+            this.ensureRemaining(Long.BYTES);
+            int count = Math.min(end - index, this.buffer.remaining() / Long.BYTES);
+            this.buffer.asLongBuffer().put(values, index, count);
+            this.buffer.position(this.buffer.position() + count * Long.BYTES);
+            index += count;
+        }
+    }
+
+    public void writeFloats(float[] values, int offset, int length) throws IOException
+    {
+        int index = offset;
+        int end = offset + length;
+        while (index < end)
+        {
+            this.ensureRemaining(Float.BYTES);
+            int count = Math.min(end - index, this.buffer.remaining() / Float.BYTES);
+            this.buffer.asFloatBuffer().put(values, index, count);
+            this.buffer.position(this.buffer.position() + count * Float.BYTES);
+            index += count;
+        }
+    }
+
+    public void writeDoubles(double[] values, int offset, int length) throws IOException
+    {
+        int index = offset;
+        int end = offset + length;
+        while (index < end)
+        {
+            this.ensureRemaining(Double.BYTES);
+            int count = Math.min(end - index, this.buffer.remaining() / Double.BYTES);
+            this.buffer.asDoubleBuffer().put(values, index, count);
+            this.buffer.position(this.buffer.position() + count * Double.BYTES);
+            index += count;
+        }
+    }
+
+    /**
+     * Writes every buffered byte to the channel.
+     */
+    public void flush() throws IOException
+    {
+        this.buffer.flip();
+        while (this.buffer.hasRemaining())
+        {
+            this.channel.write(this.buffer);
+        }
+        this.buffer.clear();
+    }
+
+    private static final class ObjectOutputChannel implements WritableByteChannel
+    {
+        private final ObjectOutput out;
+
+        private ObjectOutputChannel(ObjectOutput out)
+        {
+            this.out = out;
+        }
+
+        @Override
+        public int write(ByteBuffer source) throws IOException
+        {
+            int length = source.remaining();
+            if (source.hasArray())
+            {
+                this.out.write(source.array(), source.arrayOffset() + source.position(), length);
+                source.position(source.limit());
+            }
+            else
+            {
+                byte[] bytes = new byte[length];
+                source.get(bytes);
+                this.out.write(bytes);
+            }
+            return length;
+        }
+
+        @Override
+        public boolean isOpen()
+        {
+            return true;
+        }
+
+        @Override
+        public void close()
+        {
+            // the stream belongs to the caller
+        }
+    }
+}
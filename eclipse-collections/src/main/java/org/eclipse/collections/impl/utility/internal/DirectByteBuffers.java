@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.utility.internal;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * A utility/helper class for allocating and releasing direct ByteBuffers.
+ * <p>
+ * The native memory behind a direct buffer is normally only returned when the buffer is garbage collected.
+ * {@link #free(ByteBuffer)} returns it straight away by running the buffer's cleaner, using
+ * {@code sun.misc.Unsafe.invokeCleaner} on Java 9 and later and {@code sun.nio.ch.DirectBuffer.cleaner} on Java 8.
+ * If neither is accessible, freeing falls back to waiting for the garbage collector.
+ *
+ * @since 10.3
+ */
+public final class DirectByteBuffers
+{
+    private static final Object UNSAFE = DirectByteBuffers.getUnsafe();
+    private static final Method INVOKE_CLEANER = DirectByteBuffers.getMethod("sun.misc.Unsafe", "invokeCleaner", ByteBuffer.class);
+    private static final Method CLEANER = DirectByteBuffers.getMethod("sun.nio.ch.DirectBuffer", "cleaner");
+    private static final Method CLEAN = DirectByteBuffers.getMethod("sun.misc.Cleaner", "clean");
+
+    private DirectByteBuffers()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    /**
+     * Allocates a zero filled direct buffer of {@code capacity} bytes in the native byte order.
+     */
+    public static ByteBuffer allocate(int capacity)
+    {
+        return ByteBuffer.allocateDirect(capacity).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Returns the native memory of a buffer allocated by {@link #allocate(int)}. The buffer, and every view or
+     * duplicate of it, must not be used afterwards.
+     */
+    public static void free(ByteBuffer buffer)
+    {
+        if (!buffer.isDirect())
+        {
+            return;
+        }
+        try
+        {
+            if (INVOKE_CLEANER != null && UNSAFE != null)
+            {
+                INVOKE_CLEANER.invoke(UNSAFE, buffer);
+            }
+            else if (CLEANER != null && CLEAN != null)
+            {
+                Object cleaner = CLEANER.invoke(buffer);
+                if (cleaner != null)
+                {
+                    CLEAN.invoke(cleaner);
+                }
+            }
+        }
+        catch (ReflectiveOperationException | RuntimeException ignored)
+        {
+            // the memory is returned once the buffer is garbage collected
+        }
+    }
+
+    private static Object getUnsafe()
+    {
+        try
+        {
+            Field field = Class.forName("sun.misc.Unsafe").getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            return field.get(null);
+        }
+        catch (ReflectiveOperationException | RuntimeException ignored)
+        {
+            return null;
+        }
+    }
+
+    private static Method getMethod(String className, String methodName, Class<?>... parameterTypes)
+    {
+        try
+        {
+            Method method = Class.forName(className).getMethod(methodName, parameterTypes);
+            method.setAccessible(true);
+            return method;
+        }
+        catch (ReflectiveOperationException | RuntimeException ignored)
+        {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.utility.internal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+/**
+ * A utility/helper class for the on-disk format shared by the memory-mapped primitive collections.
+ * <p>
+ * A file starts with a {@value #HEADER_SIZE} byte header holding a magic number, the format version, the kind of
+ * collection, the key and value types and the number of elements. The elements follow the header as raw little-endian
+ * arrays, each array starting on an 8 byte boundary. The data is mapped in segments of at most 1 GB, so files larger
+ * than a single {@link java.nio.MappedByteBuffer} can be read.
+ *
+ * @since 10.3
+ */
+public final class MappedFiles
+{
+    public static final int HEADER_SIZE = 64;
+    public static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+    public static final int SEGMENT_SHIFT = 30;
+
+    public static final int LIST = 1;
+    public static final int SET = 2;
+    public static final int MAP = 3;
+
+    private static final int MAGIC = 0x45434D46;
+    private static final int VERSION = 1;
+
+    private MappedFiles()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    /**
+     * Writes the header for a collection of {@code size} elements at the start of the {@code channel}.
+     *
+     * @param valueType the primitive type of the values of a map, or {@code null} for lists and sets
+     */
+    public static void writeHeader(FileChannel channel, int kind, String keyType, String valueType, int size) throws IOException
+    {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(BYTE_ORDER);
+        header.putInt(MAGIC);
+        header.putInt(VERSION);
+        header.putInt(kind);
+        header.putInt(MappedFiles.typeCode(keyType));
+        header.putInt(MappedFiles.typeCode(valueType));
+        header.putInt(size);
+        header.clear();
+        MappedFiles.writeFully(channel, header, 0L);
+    }
+
+    /**
+     * Reads and checks the header at the start of the {@code channel}, returning the number of elements in the file.
+     *
+     * @throws IOException if the file was not written for the expected kind of collection and element types
+     */
+    public static int readHeader(FileChannel channel, int kind, String keyType, String valueType) throws IOException
+    {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(BYTE_ORDER);
+        while (header.hasRemaining())
+        {
+            if (channel.read(header, header.position()) < 0)
+            {
+                throw new IOException("File is too short to hold a header");
+            }
+        }
+        header.flip();
+        if (header.getInt() != MAGIC)
+        {
+            throw new IOException("Not a mapped collection file");
+        }
+        int version = header.getInt();
+        if (version != VERSION)
+        {
+            throw new IOException("Unsupported version: " + version);
+        }
+        if (header.getInt() != kind
+                || header.getInt() != MappedFiles.typeCode(keyType)
+                || header.getInt() != MappedFiles.typeCode(valueType))
+        {
+            throw new IOException("File does not hold the expected kind of collection");
+        }
+        int size = header.getInt();
+        if (size < 0)
+        {
+            throw new IOException("Corrupt header, size: " + size);
+        }
+        return size;
+    }
+
+    /**
+     * Maps {@code length} bytes of the {@code channel} read-only, starting at {@code position}, as a sequence of
+     * segments of {@code 1 << SEGMENT_SHIFT} bytes. Only the last segment may be shorter.
+     *
+     * @throws IOException if the file is shorter than {@code position + length}
+     */
+    public static ByteBuffer[] map(FileChannel channel, long position, long length) throws IOException
+    {
+        if (channel.size() < position + length)
+        {
+            throw new IOException("File is truncated, expected at least " + (position + length) + " bytes but was " + channel.size());
+        }
+        long segmentSize = 1L << SEGMENT_SHIFT;
+        ByteBuffer[] segments = new ByteBuffer[(int) ((length + segmentSize - 1) >>> SEGMENT_SHIFT)];
+        for (int i = 0; i < segments.length; i++)
+        {
+            long offset = (long) i << SEGMENT_SHIFT;
+            long size = Math.min(segmentSize, length - offset);
+            segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position + offset, size).order(BYTE_ORDER);
+        }
+        return segments;
+    }
+
+    /**
+     * Writes the remaining bytes of the {@code buffer} to the {@code channel} at {@code position}, returning the
+     * position just after them.
+     */
+    public static long writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException
+    {
+        long next = position;
+        while (buffer.hasRemaining())
+        {
+            next += channel.write(buffer, next);
+        }
+        return next;
+    }
+
+    /**
+     * Rounds {@code position} up to the next 8 byte boundary.
+     */
+    public static long align(long position)
+    {
+        return (position + 7L) & ~7L;
+    }
+
+    private static int typeCode(String type)
+    {
+        return type == null ? 0 : type.charAt(0);
+    }
+}
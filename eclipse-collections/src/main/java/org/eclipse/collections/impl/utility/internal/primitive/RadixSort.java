@@ -0,0 +1,329 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.utility.internal.primitive;
+
+import java.util.Arrays;
+
+/**
+ * Least significant digit radix sorts for the integral primitive types, which sort in linear time using one byte of
+ * the values per pass. Passes in which every value has the same byte are skipped, so ranges of small values need
+ * fewer passes than the width of the type. The sign bit is flipped in the most significant byte so that negative
+ * values sort before positive ones.
+ * <p>
+ * {@link #sortedIndexes(long[], int)} sorts an index permutation instead of the values themselves, which lets several
+ * parallel primitive arrays be reordered by one key array without boxing.
+ *
+ * @since 10.3
+ */
+public final class RadixSort
+{
+    /**
+     * Below this size a comparison sort is faster than allocating the buffer and counts of a radix sort.
+     */
+    private static final int RADIX_THRESHOLD = 256;
+    private static final int RADIX = 256;
+    private static final int MASK = 0xFF;
+
+    private RadixSort()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    public static void sort(byte[] array, int fromIndex, int toIndex)
+    {
+        RadixSort.checkRange(array.length, fromIndex, toIndex);
+        if (toIndex - fromIndex < RADIX_THRESHOLD)
+        {
+            Arrays.sort(array, fromIndex, toIndex);
+            return;
+        }
+        int[] counts = new int[RADIX];
+        for (int i = fromIndex; i < toIndex; i++)
+        {
+            counts[array[i] - Byte.MIN_VALUE]++;
+        }
+        int index = fromIndex;
+        for (int digit = 0; digit < RADIX; digit++)
+        {
+            int count = counts[digit];
+            Arrays.fill(array, index, index + count, (byte) (digit + Byte.MIN_VALUE));
+            index += count;
+        }
+    }
+
+    public static void sort(short[] array, int fromIndex, int toIndex)
+    {
+        RadixSort.checkRange(array.length, fromIndex, toIndex);
+        int size = toIndex - fromIndex;
+        if (size < RADIX_THRESHOLD)
+        {
+            Arrays.sort(array, fromIndex, toIndex);
+            return;
+        }
+        short[] source = array;
+        int sourceOffset = fromIndex;
+        short[] target = new short[size];
+        int targetOffset = 0;
+        int[] counts = new int[RADIX + 1];
+        for (int shift = 0; shift < Short.SIZE; shift += Byte.SIZE)
+        {
+            int flip = shift == Short.SIZE - Byte.SIZE ? 0x80 : 0;
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < size; i++)
+            {
+                counts[(source[sourceOffset + i] >>> shift & MASK ^ flip) + 1]++;
+            }
+            if (RadixSort.isSingleBucket(counts, size))
+            {
+                continue;
+            }
+            RadixSort.toOffsets(counts);
+            for (int i = 0; i < size; i++)
+            {
+                short value = source[sourceOffset + i];
+                target[targetOffset + counts[value >>> shift & MASK ^ flip]++] = value;
+            }
+            short[] swapArray = source;
+            source = target;
+            target = swapArray;
+            int swapOffset = sourceOffset;
+            sourceOffset = targetOffset;
+            targetOffset = swapOffset;
+        }
+        if (source != array)
+        {
+            System.arraycopy(source, sourceOffset, array, fromIndex, size);
+        }
+    }
+
+    public static void sort(char[] array, int fromIndex, int toIndex)
+    {
+        RadixSort.checkRange(array.length, fromIndex, toIndex);
+        int size = toIndex - fromIndex;
+        if (size < RADIX_THRESHOLD)
+        {
+            Arrays.sort(array, fromIndex, toIndex);
+            return;
+        }
+        char[] source = array;
+        int sourceOffset = fromIndex;
+        char[] target = new char[size];
+        int targetOffset = 0;
+        int[] counts = new int[RADIX + 1];
+        for (int shift = 0; shift < Character.SIZE; shift += Byte.SIZE)
+        {
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < size; i++)
+            {
+                counts[(source[sourceOffset + i] >>> shift & MASK) + 1]++;
+            }
+            if (RadixSort.isSingleBucket(counts, size))
+            {
+                continue;
+            }
+            RadixSort.toOffsets(counts);
+            for (int i = 0; i < size; i++)
+            {
+                char value = source[sourceOffset + i];
+                target[targetOffset + counts[value >>> shift & MASK]++] = value;
+            }
+            char[] swapArray = source;
+            source = target;
+            target = swapArray;
+            int swapOffset = sourceOffset;
+            sourceOffset = targetOffset;
+            targetOffset = swapOffset;
+        }
+        if (source != array)
+        {
+            System.arraycopy(source, sourceOffset, array, fromIndex, size);
+        }
+    }
+
+    public static void sort(int[] array, int fromIndex, int toIndex)
+    {
+        RadixSort.checkRange(array.length, fromIndex, toIndex);
+        int size = toIndex - fromIndex;
+        if (size < RADIX_THRESHOLD)
+        {
+            Arrays.sort(array, fromIndex, toIndex);
+            return;
+        }
+        int[] source = array;
+        int sourceOffset = fromIndex;
+        int[] target = new int[size];
+        int targetOffset = 0;
+        int[] counts = new int[RADIX + 1];
+        for (int shift = 0; shift < Integer.SIZE; shift += Byte.SIZE)
+        {
+            int flip = shift == Integer.SIZE - Byte.SIZE ? 0x80 : 0;
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < size; i++)
+            {
+                counts[(source[sourceOffset + i] >>> shift & MASK ^ flip) + 1]++;
+            }
+            if (RadixSort.isSingleBucket(counts, size))
+            {
+                continue;
+            }
+            RadixSort.toOffsets(counts);
+            for (int i = 0; i < size; i++)
+            {
+                int value = source[sourceOffset + i];
+                target[targetOffset + counts[value >>> shift & MASK ^ flip]++] = value;
+            }
+            int[] swapArray = source;
+            source = target;
+            target = swapArray;
+            int swapOffset = sourceOffset;
+            sourceOffset = targetOffset;
+            targetOffset = swapOffset;
+        }
+        if (source != array)
+        {
+            System.arraycopy(source, sourceOffset, array, fromIndex, size);
+        }
+    }
+
+    public static void sort(long[] array, int fromIndex, int toIndex)
+    {
+        RadixSort.checkRange(array.length, fromIndex, toIndex);
+        int size = toIndex - fromIndex;
+        if (size < RADIX_THRESHOLD)
+        {
+            Arrays.sort(array, fromIndex, toIndex);
+            return;
+        }
+        long[] source = array;
+        int sourceOffset = fromIndex;
+        long[] target = new long[size];
+        int targetOffset = 0;
+        int[] counts = new int[RADIX + 1];
+        for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE)
+        {
+            int flip = shift == Long.SIZE - Byte.SIZE ? 0x80 : 0;
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < size; i++)
+            {
+                counts[((int) (source[sourceOffset + i] >>> shift) & MASK ^ flip) + 1]++;
+            }
+            if (RadixSort.isSingleBucket(counts, size))
+            {
+                continue;
+            }
+            RadixSort.toOffsets(counts);
+            for (int i = 0; i < size; i++)
+            {
+                long value = source[sourceOffset + i];
+                target[targetOffset + counts[(int) (value >>> shift) & MASK ^ flip]++] = value;
+            }
+            long[] swapArray = source;
+            source = target;
+            target = swapArray;
+            int swapOffset = sourceOffset;
+            sourceOffset = targetOffset;
+            targetOffset = swapOffset;
+        }
+        if (source != array)
+        {
+            System.arraycopy(source, sourceOffset, array, fromIndex, size);
+        }
+    }
+
+    /**
+     * Returns the indexes {@code 0} to {@code size - 1} ordered so that {@code keys[indexes[0]]},
+     * {@code keys[indexes[1]]}, ... are in ascending order. The sort is stable, so indexes with equal keys stay in
+     * ascending order. The keys array is not modified.
+     */
+    public static int[] sortedIndexes(long[] keys, int size)
+    {
+        RadixSort.checkRange(keys.length, 0, size);
+        long[] sourceKeys = Arrays.copyOf(keys, size);
+        int[] sourceIndexes = new int[size];
+        for (int i = 0; i < size; i++)
+        {
+            sourceIndexes[i] = i;
+        }
+        long[] targetKeys = new long[size];
+        int[] targetIndexes = new int[size];
+        int[] counts = new int[RADIX + 1];
+        for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE)
+        {
+            int flip = shift == Long.SIZE - Byte.SIZE ? 0x80 : 0;
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < size; i++)
+            {
+                counts[((int) (sourceKeys[i] >>> shift) & MASK ^ flip) + 1]++;
+            }
+            if (RadixSort.isSingleBucket(counts, size))
+            {
+                continue;
+            }
+            RadixSort.toOffsets(counts);
+            for (int i = 0; i < size; i++)
+            {
+                long key = sourceKeys[i];
+                int targetIndex = counts[(int) (key >>> shift) & MASK ^ flip]++;
+                targetKeys[targetIndex] = key;
+                targetIndexes[targetIndex] = sourceIndexes[i];
+            }
+            long[] swapKeys = sourceKeys;
+            sourceKeys = targetKeys;
+            targetKeys = swapKeys;
+            int[] swapIndexes = sourceIndexes;
+            sourceIndexes = targetIndexes;
+            targetIndexes = swapIndexes;
+        }
+        return sourceIndexes;
+    }
+
+    /**
+     * Counts are stored one slot up from their digit, so a count equal to the size means every value is in one bucket.
+     */
+    private static boolean isSingleBucket(int[] counts, int size)
+    {
+        for (int i = 1; i < counts.length; i++)
+        {
+            if (counts[i] != 0)
+            {
+                return counts[i] == size;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Turns the counts, stored one slot up from their digit, into the starting offset of each digit.
+     */
+    private static void toOffsets(int[] counts)
+    {
+        for (int i = 1; i < counts.length; i++)
+        {
+            counts[i] += counts[i - 1];
+        }
+    }
+
+    private static void checkRange(int length, int fromIndex, int toIndex)
+    {
+        if (fromIndex > toIndex)
+        {
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ')');
+        }
+        if (fromIndex < 0)
+        {
+            throw new ArrayIndexOutOfBoundsException(fromIndex);
+        }
+        if (toIndex > length)
+        {
+            throw new ArrayIndexOutOfBoundsException(toIndex);
+        }
+    }
+}
@@ -22,8 +22,10 @@ import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang.RandomStringUtils;
+import org.eclipse.collections.api.bag.Bag;
 import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.primitive.ObjectLongMap;
 import org.eclipse.collections.api.set.Pool;
 import org.eclipse.collections.impl.jmh.runner.AbstractJMHTestRunner;
 import org.eclipse.collections.impl.list.mutable.FastList;
@@ -537,6 +539,63 @@ public class AggregateByTest extends AbstractJMHTestRunner
         Verify.assertMapsEqual((Map<String, MarketValueStatistics>) expected, (Map<String, MarketValueStatistics>) actual);
     }
 
+    @Benchmark
+    public ObjectLongMap<String> sumByIntCategory_serial_eager_ec()
+    {
+        ObjectLongMap<String> result = this.ecPositions.sumByInt(Position::getCategory, Position::getQuantity);
+        Assert.assertNotNull(result);
+        return result;
+    }
+
+    @Benchmark
+    public ObjectLongMap<String> sumByIntCategory_parallel_eager_ec()
+    {
+        ObjectLongMap<String> result = ParallelIterate.sumByInt(this.ecPositions, Position::getCategory, Position::getQuantity);
+        Assert.assertNotNull(result);
+        return result;
+    }
+
+    @Benchmark
+    public ObjectLongMap<String> sumByIntCategory_parallel_lazy_ec()
+    {
+        ObjectLongMap<String> result =
+                this.ecPositions.asParallel(this.executorService, BATCH_SIZE)
+                        .sumByInt(Position::getCategory, Position::getQuantity);
+        Assert.assertNotNull(result);
+        return result;
+    }
+
+    @Test
+    public void test_sumByIntCategory_parallel_lazy_ec()
+    {
+        Assert.assertEquals(this.sumByIntCategory_serial_eager_ec(), this.sumByIntCategory_parallel_eager_ec());
+        Assert.assertEquals(this.sumByIntCategory_serial_eager_ec(), this.sumByIntCategory_parallel_lazy_ec());
+    }
+
+    @Benchmark
+    public Bag<Product> countByProduct_serial_eager_ec()
+    {
+        Bag<Product> result = this.ecPositions.countBy(Position::getProduct);
+        Assert.assertNotNull(result);
+        return result;
+    }
+
+    @Benchmark
+    public Bag<Product> countByProduct_parallel_lazy_ec()
+    {
+        Bag<Product> result =
+                this.ecPositions.asParallel(this.executorService, BATCH_SIZE)
+                        .countBy(Position::getProduct);
+        Assert.assertNotNull(result);
+        return result;
+    }
+
+    @Test
+    public void test_countByProduct_parallel_lazy_ec()
+    {
+        Assert.assertEquals(this.countByProduct_serial_eager_ec(), this.countByProduct_parallel_lazy_ec());
+    }
+
     private static boolean isCloseTo(double a, double b, double delta)
     {
         return a - b < delta || b - a < delta;
@@ -11,6 +11,8 @@
 package org.eclipse.collections.impl.jmh;
 
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -21,22 +23,46 @@ import org.eclipse.collections.impl.jmh.domain.Positions;
 import org.eclipse.collections.impl.jmh.domain.Product;
 import org.eclipse.collections.impl.jmh.runner.AbstractJMHTestRunner;
 import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.junit.After;
 import org.junit.Assert;
+import org.junit.Before;
 import org.junit.Test;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 
 @State(Scope.Thread)
 @BenchmarkMode(Mode.Throughput)
 @OutputTimeUnit(TimeUnit.SECONDS)
 public class SumByDoubleTest extends AbstractJMHTestRunner
 {
+    private static final int BATCH_SIZE = 10_000;
+
     private final Positions positions = new Positions().shuffle();
 
+    private ExecutorService executorService;
+
+    @Before
+    @Setup(Level.Iteration)
+    public void setUp()
+    {
+        this.executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @After
+    @TearDown(Level.Iteration)
+    public void tearDown() throws InterruptedException
+    {
+        this.executorService.shutdownNow();
+        this.executorService.awaitTermination(1L, TimeUnit.SECONDS);
+    }
+
     @Benchmark
     public Map<Product, Double> sumByProduct_serial_lazy_jdk()
     {
@@ -157,6 +183,12 @@ public class SumByDoubleTest extends AbstractJMHTestRunner
         return ParallelIterate.sumByDouble(this.positions.getEcPositions(), Position::getProduct, Position::getMarketValue);
     }
 
+    @Benchmark
+    public ObjectDoubleMap<Product> sumByProduct_parallel_lazy_ec()
+    {
+        return this.positions.getEcPositions().asParallel(this.executorService, BATCH_SIZE).sumByDouble(Position::getProduct, Position::getMarketValue);
+    }
+
     @Test
     public void sumByProduct_ec()
     {
@@ -167,6 +199,10 @@ public class SumByDoubleTest extends AbstractJMHTestRunner
         Assert.assertEquals(
                 this.sumByProduct_parallel_eager_ec(),
                 this.sumByProduct_serial_eager_ec());
+        Assert.assertArrayEquals(
+                this.sumByProduct_parallel_lazy_ec().values().toSortedArray(),
+                this.sumByProduct_serial_eager_ec().values().toSortedArray(),
+                0.001);
     }
 
     @Benchmark
@@ -181,6 +217,12 @@ public class SumByDoubleTest extends AbstractJMHTestRunner
         return ParallelIterate.sumByDouble(this.positions.getEcPositions(), Position::getAccount, Position::getMarketValue);
     }
 
+    @Benchmark
+    public ObjectDoubleMap<Account> sumByAccount_parallel_lazy_ec()
+    {
+        return this.positions.getEcPositions().asParallel(this.executorService, BATCH_SIZE).sumByDouble(Position::getAccount, Position::getMarketValue);
+    }
+
     @Test
     public void sumByAccount_ec()
     {
@@ -191,6 +233,10 @@ public class SumByDoubleTest extends AbstractJMHTestRunner
         Assert.assertEquals(
                 this.sumByAccount_parallel_eager_ec(),
                 this.sumByAccount_serial_eager_ec());
+        Assert.assertArrayEquals(
+                this.sumByAccount_parallel_lazy_ec().values().toSortedArray(),
+                this.sumByAccount_serial_eager_ec().values().toSortedArray(),
+                0.001);
     }
 
     @Benchmark
@@ -205,6 +251,12 @@ public class SumByDoubleTest extends AbstractJMHTestRunner
         return ParallelIterate.sumByDouble(this.positions.getEcPositions(), Position::getCategory, Position::getMarketValue);
     }
 
+    @Benchmark
+    public ObjectDoubleMap<String> sumByCategory_parallel_lazy_ec()
+    {
+        return this.positions.getEcPositions().asParallel(this.executorService, BATCH_SIZE).sumByDouble(Position::getCategory, Position::getMarketValue);
+    }
+
     @Test
     public void sumByCategory_ec()
     {
@@ -215,5 +267,9 @@ public class SumByDoubleTest extends AbstractJMHTestRunner
         Assert.assertEquals(
                 this.sumByCategory_parallel_eager_ec(),
                 this.sumByCategory_serial_eager_ec());
+        Assert.assertArrayEquals(
+                this.sumByCategory_parallel_lazy_ec().values().toSortedArray(),
+                this.sumByCategory_serial_eager_ec().values().toSortedArray(),
+                0.001);
     }
 }
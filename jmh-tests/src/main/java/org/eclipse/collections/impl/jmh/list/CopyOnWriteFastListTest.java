@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh.list;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.CopyOnWriteFastList;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.list.mutable.MultiReaderFastList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares internal iteration over the thread-safe lists when eight threads read one list that is never written.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class CopyOnWriteFastListTest extends AbstractJMHTestRunner
+{
+    @Param({"16", "1000"})
+    public int size;
+
+    private CopyOnWriteFastList<Integer> copyOnWrite;
+    private MultiReaderFastList<Integer> multiReader;
+    private MutableList<Integer> synchronizedList;
+    private CopyOnWriteArrayList<Integer> jdk;
+
+    @Setup
+    public void setUp()
+    {
+        Interval interval = Interval.oneTo(this.size);
+        this.copyOnWrite = CopyOnWriteFastList.newList(interval);
+        this.multiReader = MultiReaderFastList.newList(interval);
+        this.synchronizedList = FastList.newList(interval).asSynchronized();
+        this.jdk = new CopyOnWriteArrayList<>(interval);
+    }
+
+    @Benchmark
+    public void forEach_copyOnWrite(Blackhole blackhole)
+    {
+        this.copyOnWrite.each(blackhole::consume);
+    }
+
+    @Benchmark
+    public void forEach_multiReader(Blackhole blackhole)
+    {
+        this.multiReader.each(blackhole::consume);
+    }
+
+    @Benchmark
+    public void forEach_synchronized(Blackhole blackhole)
+    {
+        this.synchronizedList.each(blackhole::consume);
+    }
+
+    @Benchmark
+    public void forEach_jdk(Blackhole blackhole)
+    {
+        this.jdk.forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public boolean anySatisfy_copyOnWrite()
+    {
+        return this.copyOnWrite.anySatisfy(each -> each < 0);
+    }
+
+    @Benchmark
+    public boolean anySatisfy_multiReader()
+    {
+        return this.multiReader.anySatisfy(each -> each < 0);
+    }
+
+    @Benchmark
+    public boolean anySatisfy_synchronized()
+    {
+        return this.synchronizedList.anySatisfy(each -> each < 0);
+    }
+
+    @Benchmark
+    public boolean anySatisfy_jdk()
+    {
+        return this.jdk.stream().anyMatch(each -> each < 0);
+    }
+}
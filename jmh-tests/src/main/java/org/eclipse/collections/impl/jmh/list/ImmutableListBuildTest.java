@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh.list;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang.RandomStringUtils;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import org.eclipse.collections.impl.list.immutable.ImmutableRrbTreeList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Builds an ImmutableList one element at a time with newWith. ImmutableArrayList copies the whole array on every
+ * call, so the sizes are kept small enough for the quadratic case to finish.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ImmutableListBuildTest extends AbstractJMHTestRunner
+{
+    private static final int RANDOM_COUNT = 9;
+
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    private String[] elements;
+
+    @Setup
+    public void setUp()
+    {
+        this.elements = new String[this.size];
+
+        Random random = new Random(123456789012345L);
+        for (int i = 0; i < this.size; i++)
+        {
+            this.elements[i] = RandomStringUtils.random(RANDOM_COUNT, 0, 0, false, true, null, random);
+        }
+    }
+
+    @Benchmark
+    public ImmutableList<String> arrayListNewWith()
+    {
+        ImmutableList<String> list = Lists.immutable.empty();
+        for (String element : this.elements)
+        {
+            list = list.newWith(element);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public ImmutableList<String> rrbTreeListNewWith()
+    {
+        ImmutableRrbTreeList<String> list = ImmutableRrbTreeList.empty();
+        for (String element : this.elements)
+        {
+            list = list.newWith(element);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public ImmutableList<String> rrbTreeListNewWithFirst()
+    {
+        ImmutableRrbTreeList<String> list = ImmutableRrbTreeList.empty();
+        for (String element : this.elements)
+        {
+            list = list.newWithFirst(element);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh.list;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang.RandomStringUtils;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import org.eclipse.collections.impl.list.immutable.ImmutableRrbTreeList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ImmutableListGetTest extends AbstractJMHTestRunner
+{
+    private static final int RANDOM_COUNT = 9;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private int[] indices;
+    private ImmutableList<String> arrayList;
+    private ImmutableList<String> rrbTreeList;
+    private ImmutableList<String> concatenatedRrbTreeList;
+
+    @Setup
+    public void setUp()
+    {
+        String[] elements = new String[this.size];
+        this.indices = new int[this.size];
+
+        Random random = new Random(123456789012345L);
+        for (int i = 0; i < this.size; i++)
+        {
+            elements[i] = RandomStringUtils.random(RANDOM_COUNT, 0, 0, false, true, null, random);
+            this.indices[i] = random.nextInt(this.size);
+        }
+
+        this.arrayList = Lists.immutable.with(elements);
+        this.rrbTreeList = ImmutableRrbTreeList.newListWith(elements);
+
+        ImmutableRrbTreeList<String> concatenated = ImmutableRrbTreeList.empty();
+        for (int i = 0; i < this.size; i += 100)
+        {
+            concatenated = concatenated.newWithAll(this.arrayList.subList(i, Math.min(i + 100, this.size)));
+        }
+        this.concatenatedRrbTreeList = concatenated;
+    }
+
+    @Benchmark
+    public void arrayList()
+    {
+        this.get(this.arrayList);
+    }
+
+    @Benchmark
+    public void rrbTreeList()
+    {
+        this.get(this.rrbTreeList);
+    }
+
+    @Benchmark
+    public void concatenatedRrbTreeList()
+    {
+        this.get(this.concatenatedRrbTreeList);
+    }
+
+    private void get(ImmutableList<String> list)
+    {
+        int localSize = this.size;
+        int[] localIndices = this.indices;
+
+        for (int i = 0; i < localSize; i++)
+        {
+            if (list.get(localIndices[i]) == null)
+            {
+                throw new AssertionError(i);
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh.list;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import org.eclipse.collections.impl.list.mutable.primitive.LongArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the sorts of a primitive list. Each benchmark sorts a fresh copy, so the copy is included in every score.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LongArrayListSortTest extends AbstractJMHTestRunner
+{
+    @Param({"1000", "100000", "10000000"})
+    public int size;
+
+    private LongArrayList values;
+
+    @Setup
+    public void setUp()
+    {
+        Random random = new Random(1L);
+        this.values = new LongArrayList(this.size);
+        for (int i = 0; i < this.size; i++)
+        {
+            this.values.add(random.nextLong());
+        }
+    }
+
+    @Benchmark
+    public LongArrayList sortThis()
+    {
+        return LongArrayList.newList(this.values).sortThis();
+    }
+
+    @Benchmark
+    public LongArrayList parallelSortThis()
+    {
+        return LongArrayList.newList(this.values).parallelSortThis();
+    }
+
+    @Benchmark
+    public LongArrayList radixSortThis()
+    {
+        return LongArrayList.newList(this.values).radixSortThis();
+    }
+
+    @Benchmark
+    public LongArrayList sortThisBy()
+    {
+        return LongArrayList.newList(this.values).sortThisBy(each -> each);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh.list;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.MultiReaderFastList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Compares a MultiReaderFastList using only the read-write lock with one using optimistic reads when eight threads share
+ * one list. Each operation is a write with probability writePercent, which replaces an element so the size is stable,
+ * and otherwise a size, get and contains read.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class MultiReaderFastListReadWriteTest extends AbstractJMHTestRunner
+{
+    private static final int SIZE = 1_000;
+
+    @Param({"0", "5", "50"})
+    public int writePercent;
+
+    private MultiReaderFastList<Integer> locked;
+    private MultiReaderFastList<Integer> stamped;
+
+    @Setup
+    public void setUp()
+    {
+        this.locked = MultiReaderFastList.newList(Interval.zeroTo(SIZE - 1));
+        this.stamped = MultiReaderFastList.newStampedList(Interval.zeroTo(SIZE - 1));
+    }
+
+    private int readOrWrite(MultiReaderFastList<Integer> list)
+    {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int index = random.nextInt(SIZE);
+        if (random.nextInt(100) < this.writePercent)
+        {
+            list.set(index, index);
+            return index;
+        }
+        int result = list.size() + list.get(index);
+        return list.contains(index) ? result : -result;
+    }
+
+    @Benchmark
+    public int readWrite_locked()
+    {
+        return this.readOrWrite(this.locked);
+    }
+
+    @Benchmark
+    public int readWrite_stamped()
+    {
+        return this.readOrWrite(this.stamped);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh.map;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import org.eclipse.collections.impl.map.mutable.BoundedConcurrentHashMap;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Compares a bounded cache with the unbounded ConcurrentHashMap when eight threads share one map. Keys are drawn from
+ * twice the maximum size, so about half of the bounded reads miss and the put benchmarks evict continuously.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class BoundedConcurrentHashMapTest extends AbstractJMHTestRunner
+{
+    @Param({"1000", "100000"})
+    public int maximumSize;
+
+    private BoundedConcurrentHashMap<Integer, Integer> bounded;
+    private ConcurrentHashMap<Integer, Integer> unbounded;
+
+    @Setup
+    public void setUp()
+    {
+        this.bounded = BoundedConcurrentHashMap.newMap(this.maximumSize);
+        this.unbounded = ConcurrentHashMap.newMap();
+        for (int i = 0; i < this.maximumSize * 2; i++)
+        {
+            this.bounded.put(i, i);
+            this.unbounded.put(i, i);
+        }
+    }
+
+    private Integer randomKey()
+    {
+        return ThreadLocalRandom.current().nextInt(this.maximumSize * 2);
+    }
+
+    @Benchmark
+    public Integer get_bounded()
+    {
+        return this.bounded.get(this.randomKey());
+    }
+
+    @Benchmark
+    public Integer get_unbounded()
+    {
+        return this.unbounded.get(this.randomKey());
+    }
+
+    @Benchmark
+    public Integer put_bounded()
+    {
+        Integer key = this.randomKey();
+        return this.bounded.put(key, key);
+    }
+
+    @Benchmark
+    public Integer put_unbounded()
+    {
+        Integer key = this.randomKey();
+        return this.unbounded.put(key, key);
+    }
+
+    @Benchmark
+    public Integer getIfAbsentPut_bounded()
+    {
+        Integer key = this.randomKey();
+        return this.bounded.getIfAbsentPut(key, key);
+    }
+
+    @Benchmark
+    public Integer getIfAbsentPut_unbounded()
+    {
+        Integer key = this.randomKey();
+        return this.unbounded.getIfAbsentPut(key, key);
+    }
+}
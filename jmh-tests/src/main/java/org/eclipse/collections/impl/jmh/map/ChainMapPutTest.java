@@ -21,6 +21,7 @@ import com.carrotsearch.hppc.ObjectObjectMap;
 import org.apache.commons.lang.RandomStringUtils;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import org.eclipse.collections.impl.map.mutable.OpenHashMap;
 import org.eclipse.collections.impl.map.mutable.UnifiedMap;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -84,6 +85,28 @@ public class ChainMapPutTest extends AbstractJMHTestRunner
         return ec;
     }
 
+    @Benchmark
+    public MutableMap<String, String> ecOpenHash()
+    {
+        int localSize = this.size;
+        String[] localElements = this.elements;
+        /**
+         * @see OpenHashMap#DEFAULT_INITIAL_CAPACITY
+         */
+        int defaultInitialCapacity = 16;
+
+        // OpenHashMap has a fixed maximum load of 7/8 so loadFactor does not apply
+        MutableMap<String, String> ec = this.isPresized
+                ? OpenHashMap.newMap(localSize)
+                : OpenHashMap.newMap(defaultInitialCapacity);
+
+        for (int i = 0; i < localSize; i++)
+        {
+            ec.put(localElements[i], "dummy");
+        }
+        return ec;
+    }
+
     @Benchmark
     public ObjectObjectMap<String, String> hppc()
     {
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh.map;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import org.eclipse.collections.impl.multimap.list.ConcurrentFastListMultimap;
+import org.eclipse.collections.impl.multimap.list.SynchronizedPutFastListMultimap;
+import org.eclipse.collections.impl.multimap.set.ConcurrentUnifiedSetMultimap;
+import org.eclipse.collections.impl.multimap.set.SynchronizedPutUnifiedSetMultimap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Compares the concurrent multimaps with the SynchronizedPut multimaps when 32 threads put into one multimap. The
+ * multimaps are recreated for each iteration so the value collections do not grow without bound.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(32)
+public class ConcurrentMultimapPutTest extends AbstractJMHTestRunner
+{
+    @Param({"16", "100000"})
+    public int keyCount;
+
+    private ConcurrentFastListMultimap<Integer, Integer> concurrentList;
+    private SynchronizedPutFastListMultimap<Integer, Integer> synchronizedPutList;
+    private ConcurrentUnifiedSetMultimap<Integer, Integer> concurrentSet;
+    private SynchronizedPutUnifiedSetMultimap<Integer, Integer> synchronizedPutSet;
+
+    @Setup(Level.Iteration)
+    public void setUp()
+    {
+        this.concurrentList = ConcurrentFastListMultimap.newMultimap();
+        this.synchronizedPutList = SynchronizedPutFastListMultimap.newMultimap();
+        this.concurrentSet = ConcurrentUnifiedSetMultimap.newMultimap();
+        this.synchronizedPutSet = SynchronizedPutUnifiedSetMultimap.newMultimap();
+    }
+
+    private Integer randomKey()
+    {
+        return ThreadLocalRandom.current().nextInt(this.keyCount);
+    }
+
+    private Integer randomValue()
+    {
+        return ThreadLocalRandom.current().nextInt(1_000);
+    }
+
+    @Benchmark
+    public boolean put_concurrent_list()
+    {
+        return this.concurrentList.put(this.randomKey(), this.randomValue());
+    }
+
+    @Benchmark
+    public boolean put_synchronizedPut_list()
+    {
+        return this.synchronizedPutList.put(this.randomKey(), this.randomValue());
+    }
+
+    @Benchmark
+    public boolean put_concurrent_set()
+    {
+        return this.concurrentSet.put(this.randomKey(), this.randomValue());
+    }
+
+    @Benchmark
+    public boolean put_synchronizedPut_set()
+    {
+        return this.synchronizedPutSet.put(this.randomKey(), this.randomValue());
+    }
+
+    @Benchmark
+    public boolean putAndRemove_concurrent_set()
+    {
+        Integer key = this.randomKey();
+        Integer value = this.randomValue();
+        this.concurrentSet.put(key, value);
+        return this.concurrentSet.remove(key, value);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh.map;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang.RandomStringUtils;
+import org.eclipse.collections.api.map.sorted.MutableSortedMap;
+import org.eclipse.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import org.eclipse.collections.impl.map.sorted.mutable.BTreeSortedMap;
+import org.eclipse.collections.impl.map.sorted.mutable.TreeSortedMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SortedMapGetTest extends AbstractJMHTestRunner
+{
+    private static final int RANDOM_COUNT = 9;
+    private static final int RANGE_COUNT = 1_000;
+
+    @Param({"10000", "100000", "1000000"})
+    public int size;
+    private String[] elements;
+    private String[] sortedElements;
+    private MutableSortedMap<String, String> treeMap;
+    private MutableSortedMap<String, String> bTreeMap;
+
+    @Setup
+    public void setUp()
+    {
+        this.elements = new String[this.size];
+        this.treeMap = TreeSortedMap.newMap();
+        this.bTreeMap = BTreeSortedMap.newMap();
+
+        Random random = new Random(123456789012345L);
+        for (int i = 0; i < this.size; i++)
+        {
+            String element = RandomStringUtils.random(RANDOM_COUNT, 0, 0, false, true, null, random);
+            this.elements[i] = element;
+            this.treeMap.put(element, "dummy");
+            this.bTreeMap.put(element, "dummy");
+        }
+        this.sortedElements = this.treeMap.keySet().toArray(new String[0]);
+    }
+
+    @Benchmark
+    public void get_treeSortedMap()
+    {
+        this.get(this.treeMap);
+    }
+
+    @Benchmark
+    public void get_bTreeSortedMap()
+    {
+        this.get(this.bTreeMap);
+    }
+
+    @Benchmark
+    public int rangeScan_treeSortedMap()
+    {
+        return this.rangeScan(this.treeMap);
+    }
+
+    @Benchmark
+    public int rangeScan_bTreeSortedMap()
+    {
+        return this.rangeScan(this.bTreeMap);
+    }
+
+    private void get(MutableSortedMap<String, String> map)
+    {
+        int localSize = this.size;
+        String[] localElements = this.elements;
+
+        for (int i = 0; i < localSize; i++)
+        {
+            if (map.get(localElements[i]) == null)
+            {
+                throw new AssertionError(i);
+            }
+        }
+    }
+
+    private int rangeScan(MutableSortedMap<String, String> map)
+    {
+        String[] localSortedElements = this.sortedElements;
+        int scanned = 0;
+
+        for (int from = 0; from + RANGE_COUNT < localSortedElements.length; from += RANGE_COUNT)
+        {
+            MutableSortedMap<String, String> subMap = map.subMap(localSortedElements[from], localSortedElements[from + RANGE_COUNT]);
+            scanned += subMap.count(each -> each != null);
+        }
+        return scanned;
+    }
+}
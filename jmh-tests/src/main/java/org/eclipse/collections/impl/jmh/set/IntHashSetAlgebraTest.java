@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh.set;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.set.primitive.MutableIntSet;
+import org.eclipse.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import org.eclipse.collections.impl.set.mutable.primitive.IntHashSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Compares the primitive set algebra methods with the copy-then-retainAll/removeAll/addAll idiom they replace.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class IntHashSetAlgebraTest extends AbstractJMHTestRunner
+{
+    private static final int LARGE_SIZE = 1_000_000;
+    private static final int BATCH_SIZE = 10_000;
+
+    @Param({"1000", "100000", "1000000"})
+    public int smallSize;
+
+    private IntHashSet large;
+    private IntHashSet small;
+    private ExecutorService executorService;
+
+    @Setup
+    public void setUp()
+    {
+        Random random = new Random(1L);
+        this.large = new IntHashSet(LARGE_SIZE);
+        while (this.large.size() < LARGE_SIZE)
+        {
+            this.large.add(random.nextInt(LARGE_SIZE * 4));
+        }
+        this.small = new IntHashSet(this.smallSize);
+        while (this.small.size() < this.smallSize)
+        {
+            this.small.add(random.nextInt(LARGE_SIZE * 4));
+        }
+        this.executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException
+    {
+        this.executorService.shutdownNow();
+        this.executorService.awaitTermination(1L, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public MutableIntSet intersect_retainAll()
+    {
+        MutableIntSet result = IntHashSet.newSet(this.large);
+        result.retainAll(this.small);
+        return result;
+    }
+
+    @Benchmark
+    public MutableIntSet intersect()
+    {
+        return this.large.intersect(this.small);
+    }
+
+    @Benchmark
+    public MutableIntSet intersect_parallel()
+    {
+        return this.large.intersect(this.small, this.executorService, BATCH_SIZE);
+    }
+
+    @Benchmark
+    public MutableIntSet union_addAll()
+    {
+        MutableIntSet result = IntHashSet.newSet(this.small);
+        result.addAll(this.large);
+        return result;
+    }
+
+    @Benchmark
+    public MutableIntSet union()
+    {
+        return this.small.union(this.large);
+    }
+
+    @Benchmark
+    public MutableIntSet difference_removeAll()
+    {
+        MutableIntSet result = IntHashSet.newSet(this.large);
+        result.removeAll(this.small);
+        return result;
+    }
+
+    @Benchmark
+    public MutableIntSet difference()
+    {
+        return this.large.difference(this.small);
+    }
+
+    @Benchmark
+    public MutableIntSet difference_parallel()
+    {
+        return this.large.difference(this.small, this.executorService, BATCH_SIZE);
+    }
+
+    @Benchmark
+    public MutableIntSet symmetricDifference_copies()
+    {
+        MutableIntSet result = IntHashSet.newSet(this.large);
+        result.addAll(this.small);
+        MutableIntSet both = IntHashSet.newSet(this.large);
+        both.retainAll(this.small);
+        result.removeAll(both);
+        return result;
+    }
+
+    @Benchmark
+    public MutableIntSet symmetricDifference()
+    {
+        return this.small.symmetricDifference(this.large);
+    }
+}
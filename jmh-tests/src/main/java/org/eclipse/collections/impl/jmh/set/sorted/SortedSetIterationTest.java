@@ -18,6 +18,7 @@ import org.eclipse.collections.api.set.sorted.ImmutableSortedSet;
 import org.eclipse.collections.api.set.sorted.MutableSortedSet;
 import org.eclipse.collections.impl.factory.SortedSets;
 import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.set.sorted.mutable.BTreeSortedSet;
 import org.junit.After;
 import org.junit.Before;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -39,6 +40,7 @@ public class SortedSetIterationTest
 
     private final MutableSortedSet<Integer> ecMutable = SortedSets.mutable.withAll(Interval.zeroTo(SIZE));
     private final ImmutableSortedSet<Integer> ecImmutable = SortedSets.immutable.withAll(Interval.zeroTo(SIZE));
+    private final MutableSortedSet<Integer> ecBTree = BTreeSortedSet.newSet(Interval.zeroTo(SIZE));
 
     private ExecutorService executorService;
 
@@ -87,6 +89,49 @@ public class SortedSetIterationTest
         }
     }
 
+    @Benchmark
+    public void serial_btree_ec()
+    {
+        int count = this.ecBTree
+                .asLazy()
+                .select(each -> each % 10_000 != 0)
+                .collect(String::valueOf)
+                .collect(Integer::valueOf)
+                .count(each -> (each + 1) % 10_000 != 0);
+        if (count != 999_800)
+        {
+            throw new AssertionError();
+        }
+    }
+
+    @Benchmark
+    public void range_mutable_ec()
+    {
+        long sum = 0L;
+        for (int from = 0; from < SIZE; from += BATCH_SIZE)
+        {
+            sum += this.ecMutable.subSet(from, from + BATCH_SIZE).sumOfInt(Integer::intValue);
+        }
+        if (sum != (long) SIZE * (SIZE - 1) / 2)
+        {
+            throw new AssertionError(sum);
+        }
+    }
+
+    @Benchmark
+    public void range_btree_ec()
+    {
+        long sum = 0L;
+        for (int from = 0; from < SIZE; from += BATCH_SIZE)
+        {
+            sum += this.ecBTree.subSet(from, from + BATCH_SIZE).sumOfInt(Integer::intValue);
+        }
+        if (sum != (long) SIZE * (SIZE - 1) / 2)
+        {
+            throw new AssertionError(sum);
+        }
+    }
+
     @Benchmark
     public void parallel_mutable_ec()
     {
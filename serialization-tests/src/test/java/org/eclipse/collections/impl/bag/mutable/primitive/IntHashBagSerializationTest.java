@@ -10,7 +10,14 @@
 
 package org.eclipse.collections.impl.bag.mutable.primitive;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+
+import org.eclipse.collections.impl.list.primitive.IntInterval;
 import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
 import org.junit.Test;
 
 public class IntHashBagSerializationTest
@@ -24,4 +31,31 @@ public class IntHashBagSerializationTest
                         + "ZS5JbnRIYXNoQmFnAAAAAAAAAAEMAAB4cHcEAAAAAHg=",
                 new IntHashBag());
     }
+
+    @Test
+    public void serializedFormWithElements()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAD1vcmcuZWNsaXBzZS5jb2xsZWN0aW9ucy5pbXBsLmJhZy5tdXRhYmxlLnByaW1pdGl2\n"
+                        + "ZS5JbnRIYXNoQmFnAAAAAAAAAAEMAAB4cHcUAAAAAgAAAAAAAAABAAAAAQAAAAJ4",
+                IntHashBag.newBagWith(0, 1, 1));
+    }
+
+    @Test
+    public void writeToReadFrom() throws IOException
+    {
+        IntHashBag bag = IntHashBag.newBag(IntInterval.fromTo(-50_000, 50_000));
+        bag.addOccurrences(7, 3);
+        Verify.assertPostSerializedEqualsAndHashCode(bag);
+
+        ByteArrayOutputStream withHeader = new ByteArrayOutputStream();
+        bag.writeTo(Channels.newChannel(withHeader), true);
+        Assert.assertEquals(bag, IntHashBag.readFrom(Channels.newChannel(new ByteArrayInputStream(withHeader.toByteArray()))));
+
+        ByteArrayOutputStream withoutHeader = new ByteArrayOutputStream();
+        bag.writeTo(Channels.newChannel(withoutHeader), false);
+        Assert.assertEquals(bag.sizeDistinct() * (Integer.BYTES + Integer.BYTES), withoutHeader.size());
+        Assert.assertEquals(bag, IntHashBag.readFrom(Channels.newChannel(new ByteArrayInputStream(withoutHeader.toByteArray())), bag.sizeDistinct()));
+    }
 }
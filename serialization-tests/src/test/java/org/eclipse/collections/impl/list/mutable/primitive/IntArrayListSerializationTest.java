@@ -10,7 +10,14 @@
 
 package org.eclipse.collections.impl.list.mutable.primitive;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+
+import org.eclipse.collections.impl.list.primitive.IntInterval;
 import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
 import org.junit.Test;
 
 public class IntArrayListSerializationTest
@@ -24,4 +31,30 @@ public class IntArrayListSerializationTest
                         + "dmUuSW50QXJyYXlMaXN0AAAAAAAAAAEMAAB4cHcEAAAAAHg=",
                 new IntArrayList());
     }
+
+    @Test
+    public void serializedFormWithElements()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAEBvcmcuZWNsaXBzZS5jb2xsZWN0aW9ucy5pbXBsLmxpc3QubXV0YWJsZS5wcmltaXRp\n"
+                        + "dmUuSW50QXJyYXlMaXN0AAAAAAAAAAEMAAB4cHcQAAAAAwAAAAEAAAACAAAAA3g=",
+                IntArrayList.newListWith(1, 2, 3));
+    }
+
+    @Test
+    public void writeToReadFrom() throws IOException
+    {
+        IntArrayList list = IntArrayList.newList(IntInterval.fromTo(-50_000, 50_000));
+        Verify.assertPostSerializedEqualsAndHashCode(list);
+
+        ByteArrayOutputStream withHeader = new ByteArrayOutputStream();
+        list.writeTo(Channels.newChannel(withHeader), true);
+        Assert.assertEquals(list, IntArrayList.readFrom(Channels.newChannel(new ByteArrayInputStream(withHeader.toByteArray()))));
+
+        ByteArrayOutputStream withoutHeader = new ByteArrayOutputStream();
+        list.writeTo(Channels.newChannel(withoutHeader), false);
+        Assert.assertEquals(list.size() * Integer.BYTES, withoutHeader.size());
+        Assert.assertEquals(list, IntArrayList.readFrom(Channels.newChannel(new ByteArrayInputStream(withoutHeader.toByteArray())), list.size()));
+    }
 }
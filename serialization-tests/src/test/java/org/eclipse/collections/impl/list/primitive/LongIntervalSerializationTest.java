@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.list.primitive;
+
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Test;
+
+public class LongIntervalSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyADhvcmcuZWNsaXBzZS5jb2xsZWN0aW9ucy5pbXBsLmxpc3QucHJpbWl0aXZlLkxvbmdJ\n"
+                        + "bnRlcnZhbAAAAAAAAAABAgADSgAEZnJvbUoABHN0ZXBKAAJ0b3hwAAAAAAAAAAAAAAAAAAAAAQAA\n"
+                        + "AAAAAAAA",
+                LongInterval.fromToBy(0L, 0L, 1L));
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable;
+
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Test;
+
+public class BoundedConcurrentHashMapSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAGxvcmcuZWNsaXBzZS5jb2xsZWN0aW9ucy5pbXBsLm1hcC5tdXRhYmxlLkJvdW5kZWRD\n"
+                        + "b25jdXJyZW50SGFzaE1hcCRCb3VuZGVkQ29uY3VycmVudEhhc2hNYXBTZXJpYWxpemF0aW9uUHJv\n"
+                        + "eHkAAAAAAAAAAQwAAHhwdwgAAAAAAAAACnB3EAAAAAAAAAAAAAAAAAAAAABwcHcEAAAAAHg=",
+                BoundedConcurrentHashMap.newMap(10L));
+    }
+}
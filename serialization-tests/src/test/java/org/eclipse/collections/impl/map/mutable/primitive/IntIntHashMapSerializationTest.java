@@ -10,7 +10,14 @@
 
 package org.eclipse.collections.impl.map.mutable.primitive;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+
+import org.eclipse.collections.impl.list.primitive.IntInterval;
 import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
 import org.junit.Test;
 
 public class IntIntHashMapSerializationTest
@@ -24,4 +31,31 @@ public class IntIntHashMapSerializationTest
                         + "ZS5JbnRJbnRIYXNoTWFwAAAAAAAAAAEMAAB4cHcEAAAAAHg=",
                 new IntIntHashMap());
     }
+
+    @Test
+    public void serializedFormWithElements()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAEBvcmcuZWNsaXBzZS5jb2xsZWN0aW9ucy5pbXBsLm1hcC5tdXRhYmxlLnByaW1pdGl2\n"
+                        + "ZS5JbnRJbnRIYXNoTWFwAAAAAAAAAAEMAAB4cHcUAAAAAgAAAAAAAAAKAAAAAQAAAAt4",
+                IntIntHashMap.newWithKeysValues(0, 10, 1, 11));
+    }
+
+    @Test
+    public void writeToReadFrom() throws IOException
+    {
+        IntIntHashMap map = new IntIntHashMap();
+        IntInterval.fromTo(-50_000, 50_000).forEach(each -> map.put(each, -each));
+        Verify.assertPostSerializedEqualsAndHashCode(map);
+
+        ByteArrayOutputStream withHeader = new ByteArrayOutputStream();
+        map.writeTo(Channels.newChannel(withHeader), true);
+        Assert.assertEquals(map, IntIntHashMap.readFrom(Channels.newChannel(new ByteArrayInputStream(withHeader.toByteArray()))));
+
+        ByteArrayOutputStream withoutHeader = new ByteArrayOutputStream();
+        map.writeTo(Channels.newChannel(withoutHeader), false);
+        Assert.assertEquals(map.size() * (Integer.BYTES + Integer.BYTES), withoutHeader.size());
+        Assert.assertEquals(map, IntIntHashMap.readFrom(Channels.newChannel(new ByteArrayInputStream(withoutHeader.toByteArray())), map.size()));
+    }
 }
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.multimap.list;
+
+import org.eclipse.collections.api.multimap.MutableMultimap;
+import org.eclipse.collections.impl.multimap.MutableMultimapSerializationTestCase;
+
+public class ConcurrentFastListMultimapSerializationTest extends MutableMultimapSerializationTestCase
+{
+    @Override
+    protected MutableMultimap<String, String> createEmpty()
+    {
+        return ConcurrentFastListMultimap.newMultimap();
+    }
+
+    @Override
+    protected String getSerializedForm()
+    {
+        return "rO0ABXNyAEVvcmcuZWNsaXBzZS5jb2xsZWN0aW9ucy5pbXBsLm11bHRpbWFwLmxpc3QuQ29uY3Vy\n"
+                + "cmVudEZhc3RMaXN0TXVsdGltYXAAAAAAAAAAKgwAAHhwdwQAAAACdAABQXcEAAAAA3EAfgACdAAB\n"
+                + "QnEAfgADcQB+AAN3BAAAAAFxAH4AAng=";
+    }
+
+    @Override
+    protected long getExpectedSerialVersionUID()
+    {
+        return 42L;
+    }
+}
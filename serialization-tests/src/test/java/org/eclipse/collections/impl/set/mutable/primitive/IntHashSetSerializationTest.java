@@ -10,7 +10,14 @@
 
 package org.eclipse.collections.impl.set.mutable.primitive;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+
+import org.eclipse.collections.impl.list.primitive.IntInterval;
 import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
 import org.junit.Test;
 
 public class IntHashSetSerializationTest
@@ -24,4 +31,30 @@ public class IntHashSetSerializationTest
                         + "ZS5JbnRIYXNoU2V0AAAAAAAAAAEMAAB4cHcEAAAAAHg=",
                 new IntHashSet());
     }
+
+    @Test
+    public void serializedFormWithElements()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAD1vcmcuZWNsaXBzZS5jb2xsZWN0aW9ucy5pbXBsLnNldC5tdXRhYmxlLnByaW1pdGl2\n"
+                        + "ZS5JbnRIYXNoU2V0AAAAAAAAAAEMAAB4cHcQAAAAAwAAAAEAAAACAAAAA3g=",
+                IntHashSet.newSetWith(1, 2, 3));
+    }
+
+    @Test
+    public void writeToReadFrom() throws IOException
+    {
+        IntHashSet set = IntHashSet.newSet(IntInterval.fromTo(-50_000, 50_000));
+        Verify.assertPostSerializedEqualsAndHashCode(set);
+
+        ByteArrayOutputStream withHeader = new ByteArrayOutputStream();
+        set.writeTo(Channels.newChannel(withHeader), true);
+        Assert.assertEquals(set, IntHashSet.readFrom(Channels.newChannel(new ByteArrayInputStream(withHeader.toByteArray()))));
+
+        ByteArrayOutputStream withoutHeader = new ByteArrayOutputStream();
+        set.writeTo(Channels.newChannel(withoutHeader), false);
+        Assert.assertEquals(set.size() * Integer.BYTES, withoutHeader.size());
+        Assert.assertEquals(set, IntHashSet.readFrom(Channels.newChannel(new ByteArrayInputStream(withoutHeader.toByteArray())), set.size()));
+    }
 }
@@ -109,7 +109,10 @@ import org.eclipse.collections.impl.list.mutable.primitive.ShortArrayList;
 import org.eclipse.collections.impl.list.primitive.IntInterval;
 import org.eclipse.collections.impl.map.mutable.UnifiedMap;
 import org.eclipse.collections.impl.map.sorted.mutable.TreeSortedMap;
+import org.eclipse.collections.impl.multimap.primitive.ObjectIntHashBagMultimap;
+import org.eclipse.collections.impl.multimap.primitive.ObjectLongHashSetMultimap;
 import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.set.mutable.primitive.LongHashSet;
 import org.eclipse.collections.impl.set.sorted.mutable.TreeSortedSet;
 import org.eclipse.collections.impl.test.Verify;
 import org.junit.Assert;
@@ -1135,6 +1138,26 @@ public abstract class AbstractRichIterableTestCase
         Assert.assertEquals(30, result.get(0));
     }
 
+    @Test
+    public void groupByAndCollectInt()
+    {
+        RichIterable<Integer> values = this.newWith(1, 2, 3, 4, 5, 6);
+        ObjectIntHashBagMultimap<Integer> result = values.groupByAndCollectInt(i -> i % 2, i -> i * 10, ObjectIntHashBagMultimap.newMultimap());
+        Assert.assertEquals(6, result.size());
+        Assert.assertEquals(IntHashBag.newBagWith(10, 30, 50), result.get(1));
+        Assert.assertEquals(IntHashBag.newBagWith(20, 40, 60), result.get(0));
+    }
+
+    @Test
+    public void groupByAndCollectLong()
+    {
+        RichIterable<Integer> values = this.newWith(1, 2, 3, 4, 5, 6);
+        ObjectLongHashSetMultimap<Integer> result = values.groupByAndCollectLong(i -> i % 2, i -> i / 3 * 10L, ObjectLongHashSetMultimap.newMultimap());
+        Assert.assertEquals(5, result.size());
+        Assert.assertEquals(LongHashSet.newSetWith(0L, 10L), result.get(1));
+        Assert.assertEquals(LongHashSet.newSetWith(0L, 10L, 20L), result.get(0));
+    }
+
     @Test
     public void sumByFloat()
     {
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.bag.mutable;
+
+import java.util.Iterator;
+
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.impl.block.factory.primitive.IntPredicates;
+import org.eclipse.collections.impl.factory.Bags;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.eclipse.collections.impl.test.SerializeTestHelper;
+import org.eclipse.collections.impl.test.Verify;
+import org.eclipse.collections.impl.tuple.primitive.PrimitiveTuples;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ConcurrentHashBag}.
+ */
+public class ConcurrentHashBagTest
+{
+    @Test
+    public void addOccurrences()
+    {
+        ConcurrentHashBag<String> bag = ConcurrentHashBag.newBag();
+        Assert.assertEquals(2, bag.addOccurrences("1", 2));
+        Assert.assertEquals(5, bag.addOccurrences("1", 3));
+        Assert.assertEquals(0, bag.addOccurrences("2", 0));
+        Assert.assertEquals(5, bag.occurrencesOf("1"));
+        Assert.assertEquals(0, bag.occurrencesOf("2"));
+        Assert.assertEquals(0, bag.occurrencesOf(null));
+        Verify.assertSize(5, bag);
+        Assert.assertEquals(1, bag.sizeDistinct());
+        Verify.assertThrows(IllegalArgumentException.class, () -> bag.addOccurrences("1", -1));
+    }
+
+    @Test
+    public void removeOccurrences()
+    {
+        ConcurrentHashBag<String> bag = ConcurrentHashBag.newBagWith("1", "2", "2", "3", "3", "3");
+        Assert.assertFalse(bag.removeOccurrences("4", 1));
+        Assert.assertFalse(bag.removeOccurrences("3", 0));
+        Assert.assertTrue(bag.removeOccurrences("3", 2));
+        Assert.assertEquals(1, bag.occurrencesOf("3"));
+        Assert.assertTrue(bag.removeOccurrences("2", 5));
+        Assert.assertEquals(0, bag.occurrencesOf("2"));
+        Assert.assertFalse(bag.removeOccurrences("2", 1));
+        Assert.assertFalse(bag.contains("2"));
+        Assert.assertEquals(HashBag.newBagWith("1", "3"), bag);
+        Assert.assertEquals(2, bag.sizeDistinct());
+        Verify.assertThrows(IllegalArgumentException.class, () -> bag.removeOccurrences("1", -1));
+    }
+
+    @Test
+    public void setOccurrences()
+    {
+        ConcurrentHashBag<String> bag = ConcurrentHashBag.newBagWith("1", "2", "2");
+        Assert.assertTrue(bag.setOccurrences("1", 3));
+        Assert.assertFalse(bag.setOccurrences("1", 3));
+        Assert.assertTrue(bag.setOccurrences("2", 0));
+        Assert.assertFalse(bag.setOccurrences("4", 0));
+        Assert.assertEquals(HashBag.newBagWith("1", "1", "1"), bag);
+        Verify.assertThrows(IllegalArgumentException.class, () -> bag.setOccurrences("1", -1));
+    }
+
+    @Test
+    public void removeIfAndRemoveAll()
+    {
+        ConcurrentHashBag<Integer> bag = ConcurrentHashBag.newBagWith(1, 2, 2, 3, 3, 3, 4, 4, 4, 4);
+        Assert.assertTrue(bag.removeIf(each -> each % 2 == 0));
+        Assert.assertFalse(bag.removeIf(each -> each % 2 == 0));
+        Assert.assertEquals(HashBag.newBagWith(1, 3, 3, 3), bag);
+        Assert.assertTrue(bag.removeAllIterable(Lists.mutable.with(3, 5)));
+        Assert.assertFalse(bag.removeAllIterable(Bags.mutable.with(3, 5)));
+        Assert.assertEquals(HashBag.newBagWith(1), bag);
+    }
+
+    @Test
+    public void clearAndIsEmpty()
+    {
+        ConcurrentHashBag<Integer> bag = ConcurrentHashBag.newBagWith(1, 2, 2);
+        bag.removeOccurrences(2, 2);
+        Assert.assertFalse(bag.isEmpty());
+        bag.remove(1);
+        Verify.assertEmpty(bag);
+        bag.add(3);
+        bag.clear();
+        Verify.assertEmpty(bag);
+        Assert.assertEquals(0, bag.sizeDistinct());
+    }
+
+    @Test
+    public void iterator()
+    {
+        ConcurrentHashBag<Integer> bag = ConcurrentHashBag.newBagWith(1, 2, 2, 3, 3, 3);
+        MutableBag<Integer> seen = HashBag.newBag();
+        for (Iterator<Integer> iterator = bag.iterator(); iterator.hasNext(); )
+        {
+            Integer each = iterator.next();
+            seen.add(each);
+            if (each == 3)
+            {
+                iterator.remove();
+            }
+        }
+        Assert.assertEquals(HashBag.newBagWith(1, 2, 2, 3, 3, 3), seen);
+        Verify.assertEmpty(bag.select(each -> each == 3));
+        Verify.assertThrows(IllegalStateException.class, () -> bag.iterator().remove());
+    }
+
+    @Test
+    public void reporting()
+    {
+        ConcurrentHashBag<String> bag = ConcurrentHashBag.newBagWith("1", "2", "2", "3", "3", "3");
+        bag.removeOccurrences("1", 1);
+        Assert.assertEquals(Lists.mutable.with(PrimitiveTuples.pair("3", 3)), bag.topOccurrences(1));
+        Assert.assertEquals(Lists.mutable.with(PrimitiveTuples.pair("2", 2)), bag.bottomOccurrences(1));
+        Assert.assertEquals(Bags.immutable.with("2", "2", "3", "3", "3"), bag.toImmutable());
+        Assert.assertEquals(HashBag.newBagWith("2", "2", "3", "3", "3"), bag.snapshot());
+        Assert.assertEquals(HashBag.newBagWith("3", "3", "3"), bag.selectByOccurrences(IntPredicates.isOdd()));
+        Assert.assertEquals(bag.snapshot().toMapOfItemToCount(), bag.toMapOfItemToCount());
+        Verify.assertEqualsAndHashCode(HashBag.newBagWith("2", "2", "3", "3", "3"), bag);
+    }
+
+    @Test
+    public void serialization()
+    {
+        ConcurrentHashBag<String> bag = ConcurrentHashBag.newBagWith("1", "2", "2");
+        ConcurrentHashBag<String> deserialized = SerializeTestHelper.serializeDeserialize(bag);
+        Verify.assertInstanceOf(ConcurrentHashBag.class, deserialized);
+        Assert.assertEquals(bag, deserialized);
+    }
+
+    @Test
+    public void addOccurrences_concurrent()
+    {
+        ConcurrentHashBag<Integer> bag = ConcurrentHashBag.newBag();
+        ParallelIterate.forEach(Interval.oneTo(1000), each -> bag.addOccurrences(each % 10, 2), 10);
+        Verify.assertSize(2000, bag);
+        Assert.assertEquals(10, bag.sizeDistinct());
+        Assert.assertTrue(bag.toMapOfItemToCount().allSatisfy(each -> each == 200));
+    }
+
+    @Test
+    public void addAndRemove_concurrent()
+    {
+        ConcurrentHashBag<Integer> bag = ConcurrentHashBag.newBag();
+        Interval.oneTo(10).each(each -> bag.addOccurrences(each, 100));
+        ParallelIterate.forEach(Interval.oneTo(2000), each ->
+        {
+            if (each % 2 == 0)
+            {
+                bag.add(each / 2 % 10 + 1);
+            }
+            else
+            {
+                bag.remove(each / 2 % 10 + 1);
+            }
+        }, 10);
+        Verify.assertSize(1000, bag);
+        Assert.assertTrue(bag.toMapOfItemToCount().allSatisfy(each -> each == 100));
+    }
+
+    @Test
+    public void retireEmptyCounters_concurrent()
+    {
+        ConcurrentHashBag<Integer> bag = ConcurrentHashBag.newBag();
+        ParallelIterate.forEach(Interval.oneTo(10000), each ->
+        {
+            bag.add(each % 4);
+            if (each % 2 == 0)
+            {
+                Assert.assertTrue(bag.remove(each % 4));
+            }
+        }, 10);
+        Verify.assertSize(5000, bag);
+        Assert.assertEquals(Bags.mutable.withOccurrences(1, 2500, 3, 2500), bag);
+
+        ParallelIterate.forEach(Interval.oneTo(5000), each -> bag.remove(each % 2 == 0 ? 1 : 3), 10);
+        Verify.assertEmpty(bag);
+        Assert.assertEquals(0, bag.sizeDistinct());
+        bag.add(1);
+        Assert.assertEquals(1, bag.occurrencesOf(1));
+    }
+}
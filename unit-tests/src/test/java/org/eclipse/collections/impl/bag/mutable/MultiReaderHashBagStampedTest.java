@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.bag.mutable;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link MultiReaderHashBag#newStampedBag()}.
+ */
+public class MultiReaderHashBagStampedTest extends MultiReaderHashBagTest
+{
+    @Override
+    protected <T> MultiReaderHashBag<T> newWith(T... littleElements)
+    {
+        return MultiReaderHashBag.newStampedBag(HashBag.newBagWith(littleElements));
+    }
+
+    @Test
+    public void optimisticReads()
+    {
+        MultiReaderHashBag<Integer> bag = this.newWith(1, 2, 2, 3, 3, 3);
+        Assert.assertEquals(6, bag.size());
+        Assert.assertEquals(3, bag.occurrencesOf(3));
+        Assert.assertEquals(0, bag.occurrencesOf(4));
+        Assert.assertTrue(bag.contains(2));
+        bag.withWriteLockAndDelegate(delegate -> {
+            delegate.addOccurrences(4, 2);
+            Assert.assertEquals(2, bag.occurrencesOf(4));
+        });
+        Assert.assertEquals(8, bag.size());
+    }
+
+    @Test
+    public void concurrentReadsAndWrites()
+    {
+        MultiReaderHashBag<Integer> bag = MultiReaderHashBag.newStampedBag();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            ParallelIterate.forEach(
+                    Interval.oneTo(20_000),
+                    each -> {
+                        if (each % 2 == 0)
+                        {
+                            bag.withWriteLockAndDelegate(delegate -> delegate.addOccurrences(each % 10, 2));
+                        }
+                        else
+                        {
+                            Assert.assertEquals(0, bag.size() % 2);
+                            Assert.assertEquals(0, bag.occurrencesOf(each % 10 - 1) % 2);
+                        }
+                    },
+                    100,
+                    executor);
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+        Verify.assertSize(20_000, bag);
+    }
+}
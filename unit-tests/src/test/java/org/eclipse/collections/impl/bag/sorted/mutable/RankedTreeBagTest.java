@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.bag.sorted.mutable;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.bag.sorted.MutableSortedBag;
+import org.eclipse.collections.api.tuple.primitive.ObjectIntPair;
+import org.eclipse.collections.impl.block.factory.Comparators;
+import org.eclipse.collections.impl.factory.Bags;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.factory.Sets;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.test.SerializeTestHelper;
+import org.eclipse.collections.impl.test.Verify;
+import org.eclipse.collections.impl.tuple.primitive.PrimitiveTuples;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link RankedTreeBag}.
+ *
+ * @since 10.3
+ */
+public class RankedTreeBagTest extends AbstractMutableSortedBagTestCase
+{
+    @Override
+    protected <T> MutableSortedBag<T> newWith(T... littleElements)
+    {
+        return RankedTreeBag.newBagWith(littleElements);
+    }
+
+    @Override
+    protected <T> MutableSortedBag<T> newWith(Comparator<? super T> comparator, T... elements)
+    {
+        return RankedTreeBag.newBagWith(comparator, elements);
+    }
+
+    @Override
+    @Test
+    public void asSynchronized()
+    {
+        Verify.assertInstanceOf(SynchronizedSortedBag.class, this.newWith().asSynchronized());
+    }
+
+    @Test
+    public void sortedBagIterableConstructor()
+    {
+        RankedTreeBag<Integer> sortedBagA = RankedTreeBag.newBag(Collections.reverseOrder());
+        RankedTreeBag<Integer> sortedBagB = RankedTreeBag.newBag(sortedBagA.with(1).with(2, 3).with(4, 5, 6).with(1, 1, 1, 1));
+        Verify.assertSortedBagsEqual(sortedBagA, sortedBagB);
+        Assert.assertEquals(Integer.valueOf(6), sortedBagB.getFirst());
+        Assert.assertEquals(5, sortedBagB.occurrencesOf(1));
+        Verify.assertSortedBagsEqual(sortedBagB, new RankedTreeBag<>(sortedBagB));
+        Assert.assertEquals(5, new RankedTreeBag<>(sortedBagB).rank(1));
+    }
+
+    @Test
+    public void sortedBagConstructor()
+    {
+        MutableSortedBag<String> bagA = RankedTreeBag.newBagWith(Comparators.reverseNaturalOrder(), "a", "c", "b", "d", "b");
+        RankedTreeBag<String> bagB = RankedTreeBag.newBag(bagA);
+        Verify.assertSortedBagsEqual(bagA, bagB);
+        Assert.assertSame(bagA.comparator(), bagB.comparator());
+        Assert.assertEquals("d", bagB.get(0));
+    }
+
+    @Test
+    public void iterableConstructor()
+    {
+        LazyIterable<Integer> integerLazyIterable = FastList.newListWith(2, 4, 1, 3, 3).asLazy();
+        RankedTreeBag<Integer> sortedBag = RankedTreeBag.newBag(Comparators.reverseNaturalOrder(), integerLazyIterable);
+        Verify.assertSortedBagsEqual(RankedTreeBag.newBagWith(Comparators.reverseNaturalOrder(), 1, 2, 3, 3, 4), sortedBag);
+        Verify.assertSortedBagsEqual(sortedBag, new RankedTreeBag<>(Comparators.reverseNaturalOrder(), integerLazyIterable));
+        Verify.assertSortedBagsEqual(RankedTreeBag.newBagWith(1, 2, 3, 3, 4), RankedTreeBag.newBag(integerLazyIterable));
+        Assert.assertEquals(Integer.valueOf(3), sortedBag.get(1));
+    }
+
+    @Override
+    @Test
+    public void serialization()
+    {
+        super.serialization();
+        RankedTreeBag<Integer> bag = RankedTreeBag.newBagWith(Comparators.reverseNaturalOrder(), 1, 2, 2, 3);
+        RankedTreeBag<Integer> deserialized = SerializeTestHelper.serializeDeserialize(bag);
+        Verify.assertSortedBagsEqual(bag, deserialized);
+        Assert.assertEquals(1, deserialized.indexOf(2));
+        Assert.assertEquals(Integer.valueOf(1), deserialized.get(3));
+    }
+
+    @Override
+    @Test
+    public void collectWithOccurrences()
+    {
+        Bag<Integer> bag1 = this.newWith(3, 3, 3, 2, 2, 1);
+        Bag<ObjectIntPair<Integer>> actual1 =
+                bag1.collectWithOccurrences(PrimitiveTuples::pair, Bags.mutable.empty());
+        Assert.assertEquals(
+                Bags.immutable.with(
+                        PrimitiveTuples.pair(Integer.valueOf(3), 3),
+                        PrimitiveTuples.pair(Integer.valueOf(2), 2),
+                        PrimitiveTuples.pair(Integer.valueOf(1), 1)),
+                actual1);
+        Assert.assertEquals(
+                Lists.mutable.with(
+                        PrimitiveTuples.pair(Integer.valueOf(1), 1),
+                        PrimitiveTuples.pair(Integer.valueOf(2), 2),
+                        PrimitiveTuples.pair(Integer.valueOf(3), 3)),
+                bag1.collectWithOccurrences(PrimitiveTuples::pair));
+
+        Set<ObjectIntPair<Integer>> actual2 =
+                bag1.collectWithOccurrences(PrimitiveTuples::pair, Sets.mutable.empty());
+        Assert.assertEquals(
+                Sets.immutable.with(
+                        PrimitiveTuples.pair(Integer.valueOf(3), 3),
+                        PrimitiveTuples.pair(Integer.valueOf(2), 2),
+                        PrimitiveTuples.pair(Integer.valueOf(1), 1)),
+                actual2);
+
+        Bag<Integer> bag2 = this.newWith(Comparator.reverseOrder(), 3, 3, 3, 2, 2, 1);
+        Assert.assertEquals(
+                Lists.mutable.with(
+                        PrimitiveTuples.pair(Integer.valueOf(3), 3),
+                        PrimitiveTuples.pair(Integer.valueOf(2), 2),
+                        PrimitiveTuples.pair(Integer.valueOf(1), 1)),
+                bag2.collectWithOccurrences(PrimitiveTuples::pair));
+
+        Bag<Integer> bag3 = this.newWith(3, 3, 3, 3, 3, 2, 2, 2, 1, 1, 1, 1, 1, 4, 5, 7);
+        Assert.assertEquals(
+                Lists.mutable.with(6, 5, 8, 5, 6, 8),
+                bag3.collectWithOccurrences((each, index) -> each + index));
+    }
+
+    @Test
+    public void orderStatistics()
+    {
+        RankedTreeBag<Integer> bag = RankedTreeBag.newBagWith(5, 1, 3, 3, 3, 7, 1, 9);
+        Assert.assertEquals(0, bag.indexOf(1));
+        Assert.assertEquals(2, bag.indexOf(3));
+        Assert.assertEquals(-1, bag.indexOf(4));
+        Assert.assertEquals(5, bag.rank(4));
+        Assert.assertEquals(8, bag.rank(10));
+        Assert.assertEquals(Integer.valueOf(1), bag.get(1));
+        Assert.assertEquals(Integer.valueOf(3), bag.get(4));
+        Assert.assertEquals(Integer.valueOf(9), bag.get(7));
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> bag.get(8));
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> bag.get(-1));
+        Assert.assertEquals(4, bag.countBetween(3, 7));
+        Assert.assertEquals(0, bag.countBetween(4, 5));
+        Verify.assertThrows(IllegalArgumentException.class, () -> bag.countBetween(7, 3));
+        Assert.assertEquals(Integer.valueOf(1), bag.percentile(0.0));
+        Assert.assertEquals(Integer.valueOf(3), bag.percentile(50.0));
+        Assert.assertEquals(Integer.valueOf(9), bag.percentile(100.0));
+        Verify.assertThrows(IllegalArgumentException.class, () -> bag.percentile(100.5));
+
+        bag.removeOccurrences(3, 2);
+        bag.addOccurrences(2, 4);
+        Assert.assertEquals(6, bag.indexOf(3));
+        Assert.assertEquals(Integer.valueOf(2), bag.get(5));
+        Assert.assertEquals(5, bag.countBetween(2, 4));
+
+        RankedTreeBag<Integer> reversed = RankedTreeBag.newBagWith(Comparators.reverseNaturalOrder(), 1, 2, 2, 3);
+        Assert.assertEquals(1, reversed.indexOf(2));
+        Assert.assertEquals(Integer.valueOf(1), reversed.get(3));
+        Verify.assertThrows(NoSuchElementException.class, () -> RankedTreeBag.newBag().percentile(50.0));
+    }
+
+    @Test
+    public void largeBagMatchesTreeBag()
+    {
+        RankedTreeBag<Integer> bag = RankedTreeBag.newBag();
+        TreeBag<Integer> expected = TreeBag.newBag();
+        for (int i = 0; i < 10_000; i++)
+        {
+            int item = (i * 7_919) % 1_000;
+            int occurrences = i % 5;
+            if (i % 3 == 0)
+            {
+                Assert.assertEquals(expected.removeOccurrences(item, occurrences), bag.removeOccurrences(item, occurrences));
+            }
+            else
+            {
+                Assert.assertEquals(expected.addOccurrences(item, occurrences), bag.addOccurrences(item, occurrences));
+            }
+        }
+        Verify.assertSortedBagsEqual(expected, bag);
+        for (int i = 0; i < expected.size(); i += 97)
+        {
+            Integer item = bag.get(i);
+            Assert.assertEquals(expected.indexOf(item), bag.rank(item));
+        }
+        MutableSortedBag<Integer> range = expected.select(each -> each >= 250 && each < 750);
+        Assert.assertEquals(range.size(), bag.countBetween(250, 750));
+        Assert.assertEquals(expected.toList().subList(1_000, 2_001), bag.toList().subList(1_000, 2_001));
+        FastList<Integer> forEachResult = FastList.newList();
+        bag.forEach(1_000, 2_000, forEachResult::add);
+        Assert.assertEquals(expected.toList().subList(1_000, 2_001), forEachResult);
+    }
+}
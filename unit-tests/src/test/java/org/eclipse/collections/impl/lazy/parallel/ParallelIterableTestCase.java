@@ -11,6 +11,7 @@
 package org.eclipse.collections.impl.lazy.parallel;
 
 import java.io.IOException;
+import java.util.IntSummaryStatistics;
 import java.util.NoSuchElementException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -18,7 +19,13 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 
+import org.eclipse.collections.api.DoubleIterable;
+import org.eclipse.collections.api.IntIterable;
+import org.eclipse.collections.api.LongIterable;
+import org.eclipse.collections.api.ParallelDoubleIterable;
+import org.eclipse.collections.api.ParallelIntIterable;
 import org.eclipse.collections.api.ParallelIterable;
+import org.eclipse.collections.api.ParallelLongIterable;
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function0;
@@ -27,19 +34,25 @@ import org.eclipse.collections.api.block.function.primitive.DoubleFunction;
 import org.eclipse.collections.api.block.function.primitive.FloatFunction;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.collection.MutableCollection;
+import org.eclipse.collections.api.collection.primitive.MutableIntCollection;
 import org.eclipse.collections.api.list.ImmutableList;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.list.ParallelListIterable;
+import org.eclipse.collections.api.map.primitive.ObjectDoubleMap;
 import org.eclipse.collections.api.set.ParallelSetIterable;
 import org.eclipse.collections.api.set.sorted.ParallelSortedSetIterable;
 import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.bag.mutable.HashBag;
 import org.eclipse.collections.impl.bag.mutable.primitive.CharHashBag;
+import org.eclipse.collections.impl.bag.mutable.primitive.IntHashBag;
 import org.eclipse.collections.impl.block.factory.Comparators;
 import org.eclipse.collections.impl.block.factory.IntegerPredicates;
 import org.eclipse.collections.impl.block.factory.Predicates;
 import org.eclipse.collections.impl.block.factory.Predicates2;
 import org.eclipse.collections.impl.block.factory.Procedures2;
+import org.eclipse.collections.impl.block.factory.primitive.DoublePredicates;
+import org.eclipse.collections.impl.block.factory.primitive.IntPredicates;
+import org.eclipse.collections.impl.block.factory.primitive.LongPredicates;
 import org.eclipse.collections.impl.block.function.NegativeIntervalFunction;
 import org.eclipse.collections.impl.block.function.PassThruFunction0;
 import org.eclipse.collections.impl.block.function.checked.CheckedFunction;
@@ -846,6 +859,68 @@ public abstract class ParallelIterableTestCase
                 this.classUnderTest().aggregateInPlaceBy(isOddFunction, AtomicInteger::new, AtomicInteger::addAndGet).collect(atomicIntToInt));
     }
 
+    @Test
+    public void sumByInt()
+    {
+        Function<Integer, Boolean> isOddFunction = object -> IntegerPredicates.isOdd().accept(object);
+
+        Assert.assertEquals(
+                this.getExpected().sumByInt(isOddFunction, Integer::intValue),
+                this.classUnderTest().sumByInt(isOddFunction, Integer::intValue));
+    }
+
+    @Test
+    public void sumByLong()
+    {
+        Assert.assertEquals(
+                this.getExpected().sumByLong(String::valueOf, Integer::longValue),
+                this.classUnderTest().sumByLong(String::valueOf, Integer::longValue));
+    }
+
+    @Test
+    public void sumByDouble()
+    {
+        Function<Integer, Boolean> isOddFunction = object -> IntegerPredicates.isOdd().accept(object);
+
+        Assert.assertEquals(
+                this.getExpected().sumByDouble(isOddFunction, Integer::doubleValue),
+                this.classUnderTest().sumByDouble(isOddFunction, Integer::doubleValue));
+    }
+
+    @Test
+    public void sumByDoubleConsistentRounding()
+    {
+        Function<Integer, Boolean> isOddFunction = object -> IntegerPredicates.isOdd().accept(object);
+        DoubleFunction<Integer> roundingSensitiveElementFunction = i -> (i <= 99995) ? 1.0e-18d : 1.0d;
+
+        MutableList<Integer> list = Interval.oneTo(100_000).toList().shuffleThis();
+        ObjectDoubleMap<Boolean> baseline = this.getExpectedWith(list.toArray(new Integer[]{}))
+                .sumByDouble(isOddFunction, roundingSensitiveElementFunction);
+
+        for (Integer batchSize : BATCH_SIZES)
+        {
+            this.batchSize = batchSize;
+
+            ObjectDoubleMap<Boolean> actual = this.newWith(list.toArray(new Integer[]{}))
+                    .sumByDouble(isOddFunction, roundingSensitiveElementFunction);
+            Assert.assertEquals("Batch size: " + this.batchSize, baseline.get(Boolean.TRUE), actual.get(Boolean.TRUE), 1.0e-15d);
+            Assert.assertEquals("Batch size: " + this.batchSize, baseline.get(Boolean.FALSE), actual.get(Boolean.FALSE), 1.0e-15d);
+        }
+    }
+
+    @Test
+    public void countBy()
+    {
+        Function<Integer, Boolean> isOddFunction = object -> IntegerPredicates.isOdd().accept(object);
+
+        Assert.assertEquals(
+                this.getExpected().countBy(isOddFunction),
+                this.classUnderTest().countBy(isOddFunction));
+        Assert.assertEquals(
+                this.getExpected().countBy(String::valueOf),
+                this.classUnderTest().countBy(String::valueOf));
+    }
+
     @Test
     public void sumOfInt()
     {
@@ -924,6 +999,105 @@ public abstract class ParallelIterableTestCase
         }
     }
 
+    @Test
+    public void collectInt()
+    {
+        IntIterable expected = this.getExpected().collectInt(Integer::intValue);
+        ParallelIntIterable actual = this.classUnderTest().collectInt(Integer::intValue);
+        Assert.assertEquals(expected.toBag(), actual.toBag());
+        Assert.assertEquals(expected.toSet(), actual.toSet());
+        Assert.assertEquals(expected.toBag(), IntHashBag.newBagWith(actual.toArray()));
+        Assert.assertEquals(expected.sum(), actual.sum());
+        Assert.assertEquals(expected.min(), actual.min());
+        Assert.assertEquals(expected.max(), actual.max());
+        Assert.assertEquals(expected.average(), actual.average(), 0.0);
+        Assert.assertEquals(expected.count(IntPredicates.isEven()), actual.count(IntPredicates.isEven()));
+        Assert.assertEquals(expected.select(IntPredicates.isEven()).toBag(), actual.select(IntPredicates.isEven()).toBag());
+        Assert.assertEquals(expected.reject(IntPredicates.isEven()).toBag(), actual.reject(IntPredicates.isEven()).toBag());
+        Assert.assertEquals(expected.select(IntPredicates.isOdd()).sum(), actual.select(IntPredicates.isOdd()).sum());
+        Assert.assertTrue(actual.anySatisfy(IntPredicates.equal(3)));
+        Assert.assertFalse(actual.anySatisfy(IntPredicates.equal(8)));
+        Assert.assertTrue(actual.allSatisfy(IntPredicates.greaterThan(0)));
+        Assert.assertFalse(actual.allSatisfy(IntPredicates.greaterThan(1)));
+        Assert.assertTrue(actual.noneSatisfy(IntPredicates.greaterThan(4)));
+        Assert.assertEquals(3, actual.detectIfNone(IntPredicates.equal(3), -1));
+        Assert.assertEquals(-1, actual.detectIfNone(IntPredicates.equal(8), -1));
+
+        IntSummaryStatistics statistics = actual.summaryStatistics();
+        Assert.assertEquals(expected.size(), statistics.getCount());
+        Assert.assertEquals(expected.sum(), statistics.getSum());
+        Assert.assertEquals(expected.min(), statistics.getMin());
+        Assert.assertEquals(expected.max(), statistics.getMax());
+
+        MutableIntCollection forEach = new IntHashBag().asSynchronized();
+        actual.forEach(forEach::add);
+        Assert.assertEquals(expected.toBag(), forEach);
+    }
+
+    @Test
+    public void collectInt_empty()
+    {
+        ParallelIntIterable empty = this.classUnderTest().select(ignored -> false).collectInt(Integer::intValue);
+        Assert.assertEquals(0L, empty.sum());
+        Assert.assertEquals(5, empty.minIfEmpty(5));
+        Assert.assertEquals(5, empty.maxIfEmpty(5));
+        Assert.assertEquals(5.0, empty.averageIfEmpty(5.0), 0.0);
+        Assert.assertEquals(0L, empty.summaryStatistics().getCount());
+        Verify.assertEmpty(empty.toList());
+        Verify.assertThrows(NoSuchElementException.class, empty::min);
+        Verify.assertThrows(NoSuchElementException.class, empty::max);
+        Verify.assertThrows(ArithmeticException.class, empty::average);
+    }
+
+    @Test
+    public void collectLong()
+    {
+        LongIterable expected = this.getExpected().collectLong(Integer::longValue);
+        ParallelLongIterable actual = this.classUnderTest().collectLong(Integer::longValue);
+        Assert.assertEquals(expected.toBag(), actual.toBag());
+        Assert.assertEquals(expected.sum(), actual.sum());
+        Assert.assertEquals(expected.min(), actual.min());
+        Assert.assertEquals(expected.max(), actual.max());
+        Assert.assertEquals(expected.select(LongPredicates.isEven()).toBag(), actual.select(LongPredicates.isEven()).toBag());
+        Assert.assertEquals(expected.summaryStatistics().getSum(), actual.summaryStatistics().getSum());
+    }
+
+    @Test
+    public void collectDouble()
+    {
+        DoubleIterable expected = this.getExpected().collectDouble(Integer::doubleValue);
+        ParallelDoubleIterable actual = this.classUnderTest().collectDouble(Integer::doubleValue);
+        Assert.assertEquals(expected.toBag(), actual.toBag());
+        Assert.assertEquals(expected.sum(), actual.sum(), 0.0);
+        Assert.assertEquals(expected.min(), actual.min(), 0.0);
+        Assert.assertEquals(expected.max(), actual.max(), 0.0);
+        Assert.assertEquals(expected.average(), actual.average(), 0.0);
+        Assert.assertEquals(expected.count(DoublePredicates.greaterThan(2.0)), actual.count(DoublePredicates.greaterThan(2.0)));
+        Assert.assertEquals(expected.summaryStatistics().getSum(), actual.summaryStatistics().getSum(), 0.0);
+    }
+
+    @Test
+    public void collectDoubleConsistentRounding()
+    {
+        DoubleFunction<Integer> roundingSensitiveElementFunction = i -> (i <= 99995) ? 1.0e-18d : 1.0d;
+
+        MutableList<Integer> list = Interval.oneTo(100_000).toList().shuffleThis();
+        double baseline = this.getExpectedWith(list.toArray(new Integer[]{}))
+                .sumOfDouble(roundingSensitiveElementFunction);
+
+        for (Integer batchSize : BATCH_SIZES)
+        {
+            this.batchSize = batchSize;
+
+            ParallelIterable<Integer> testCollection = this.newWith(list.toArray(new Integer[]{}));
+            Assert.assertEquals(
+                    "Batch size: " + this.batchSize,
+                    baseline,
+                    testCollection.collectDouble(roundingSensitiveElementFunction).sum(),
+                    1.0e-15d);
+        }
+    }
+
     @Test
     public void asUnique()
     {
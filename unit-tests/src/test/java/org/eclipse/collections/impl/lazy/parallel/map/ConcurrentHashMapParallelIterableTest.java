@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.lazy.parallel.map;
+
+import org.eclipse.collections.api.ParallelIterable;
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.impl.bag.mutable.HashBag;
+import org.eclipse.collections.impl.lazy.parallel.ParallelIterableTestCase;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.junit.Test;
+
+public class ConcurrentHashMapParallelIterableTest extends ParallelIterableTestCase
+{
+    @Override
+    protected ParallelIterable<Integer> classUnderTest()
+    {
+        return this.newWith(1, 2, 2, 3, 3, 3, 4, 4, 4, 4);
+    }
+
+    @Override
+    protected ParallelIterable<Integer> newWith(Integer... littleElements)
+    {
+        return this.newMapWith(littleElements).asParallel(this.executorService, this.batchSize);
+    }
+
+    // Keys which are multiples of 17 collide in small tables, so the values are spread over chained buckets
+    private ConcurrentHashMap<Integer, Integer> newMapWith(Integer... littleElements)
+    {
+        ConcurrentHashMap<Integer, Integer> map = ConcurrentHashMap.newMap();
+        for (int i = 0; i < littleElements.length; i++)
+        {
+            map.put(i * 17, littleElements[i]);
+        }
+        return map;
+    }
+
+    @Override
+    protected MutableBag<Integer> getExpected()
+    {
+        return HashBag.newBagWith(1, 2, 2, 3, 3, 3, 4, 4, 4, 4);
+    }
+
+    @Override
+    protected MutableBag<Integer> getExpectedWith(Integer... littleElements)
+    {
+        return HashBag.newBagWith(littleElements);
+    }
+
+    @Override
+    protected boolean isOrdered()
+    {
+        return false;
+    }
+
+    @Override
+    protected boolean isUnique()
+    {
+        return false;
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void asParallel_small_batch()
+    {
+        this.newMapWith(1, 2, 2, 3, 3, 3, 4, 4, 4, 4).asParallel(this.executorService, 0);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void asParallel_null_executorService()
+    {
+        this.newMapWith(1, 2, 2, 3, 3, 3, 4, 4, 4, 4).asParallel(null, 2);
+    }
+}
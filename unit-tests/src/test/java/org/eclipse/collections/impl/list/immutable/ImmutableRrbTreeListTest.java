@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.list.immutable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ImmutableRrbTreeList}.
+ */
+public class ImmutableRrbTreeListTest extends AbstractImmutableListTestCase
+{
+    @Override
+    protected ImmutableList<Integer> classUnderTest()
+    {
+        return ImmutableRrbTreeList.newList(Interval.oneTo(40)).newWithAll(ImmutableRrbTreeList.newList(Interval.fromTo(41, 75)));
+    }
+
+    @Test
+    public void newWith()
+    {
+        ImmutableRrbTreeList<Integer> list = ImmutableRrbTreeList.empty();
+        for (int i = 0; i < 10_000; i++)
+        {
+            ImmutableRrbTreeList<Integer> next = list.newWith(i);
+            Verify.assertSize(i, list);
+            Assert.assertEquals(Integer.valueOf(i), next.getLast());
+            list = next;
+        }
+        Assert.assertEquals(Interval.zeroTo(9_999), list);
+    }
+
+    @Test
+    public void newWithFirst()
+    {
+        ImmutableRrbTreeList<Integer> list = ImmutableRrbTreeList.empty();
+        for (int i = 9_999; i >= 0; i--)
+        {
+            ImmutableRrbTreeList<Integer> next = list.newWithFirst(i);
+            Verify.assertSize(9_999 - i, list);
+            Assert.assertEquals(Integer.valueOf(i), next.getFirst());
+            list = next;
+        }
+        Assert.assertEquals(Interval.zeroTo(9_999), list);
+    }
+
+    @Test
+    public void newWithAll()
+    {
+        List<Integer> expected = new ArrayList<>();
+        ImmutableRrbTreeList<Integer> list = ImmutableRrbTreeList.empty();
+        for (int i = 1; i < 300; i++)
+        {
+            ImmutableRrbTreeList<Integer> other = ImmutableRrbTreeList.newList(Interval.oneTo(i % 70 + 1));
+            ImmutableRrbTreeList<Integer> next = i % 2 == 0 ? list.newWithAll(other) : other.newWithAll(list);
+            Verify.assertSize(expected.size(), list);
+            if (i % 2 == 0)
+            {
+                expected.addAll(other);
+            }
+            else
+            {
+                expected.addAll(0, other);
+            }
+            list = next;
+        }
+        Assert.assertEquals(expected, list);
+        Assert.assertEquals(expected.hashCode(), list.hashCode());
+        Assert.assertEquals(FastList.newList(list).reverseThis(), list.asReversed().toList());
+        Assert.assertEquals(FastList.newListWith(1, 2, 3), ImmutableRrbTreeList.newListWith(1).newWithAll(FastList.newListWith(2, 3)));
+    }
+
+    @Test
+    public void newWithout()
+    {
+        ImmutableRrbTreeList<Integer> list = ImmutableRrbTreeList.newList(Interval.oneTo(1_000));
+        Assert.assertSame(list, list.newWithout(0));
+        ImmutableRrbTreeList<Integer> without = list;
+        for (int i = 1; i <= 1_000; i += 3)
+        {
+            without = without.newWithout(i);
+        }
+        Verify.assertSize(1_000, list);
+        Assert.assertEquals(Interval.oneTo(1_000).reject(each -> each % 3 == 1), without);
+        Assert.assertEquals(Interval.oneTo(1_000).reject(each -> each % 3 == 1), list.newWithoutAll(Interval.fromToBy(1, 1_000, 3)));
+    }
+
+    @Test
+    public void subListSharesStructure()
+    {
+        ImmutableRrbTreeList<Integer> list = ImmutableRrbTreeList.newList(Interval.oneTo(100_000));
+        ImmutableRrbTreeList<Integer> subList = list.subList(1_234, 98_765);
+        Assert.assertEquals(Interval.fromTo(1_235, 98_765), subList);
+        Assert.assertEquals(Interval.fromTo(1_236, 1_245), subList.subList(1, 11));
+        Assert.assertEquals(Interval.fromTo(98_765, 98_766), subList.newWith(98_766).subList(97_530, 97_532));
+        Assert.assertEquals(Interval.fromTo(1_234, 1_236), subList.newWithFirst(1_234).subList(0, 3));
+        Assert.assertSame(list, list.subList(0, 100_000));
+        Verify.assertEmpty(list.subList(5, 5));
+        Assert.assertEquals(Interval.oneTo(10), list.take(10));
+        Assert.assertEquals(Interval.fromTo(99_991, 100_000), list.drop(99_990));
+        Verify.assertThrows(IllegalArgumentException.class, () -> list.take(-1));
+        Verify.assertThrows(IllegalArgumentException.class, () -> list.drop(-1));
+    }
+
+    @Test
+    public void serialization()
+    {
+        ImmutableRrbTreeList<Integer> list = ImmutableRrbTreeList.newList(Interval.oneTo(1_000)).newWithFirst(0);
+        Verify.assertPostSerializedEqualsAndHashCode(list);
+        Verify.assertInstanceOf(ImmutableRrbTreeList.class, Verify.assertPostSerializedEqualsAndHashCode(list));
+    }
+}
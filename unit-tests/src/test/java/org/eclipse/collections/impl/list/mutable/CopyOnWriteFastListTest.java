@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.list.mutable;
+
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link CopyOnWriteFastList}.
+ */
+public class CopyOnWriteFastListTest extends AbstractListTestCase
+{
+    @Override
+    protected <T> CopyOnWriteFastList<T> newWith(T... littleElements)
+    {
+        return CopyOnWriteFastList.newListWith(littleElements);
+    }
+
+    @Override
+    @Test
+    public void newEmpty()
+    {
+        Verify.assertInstanceOf(CopyOnWriteFastList.class, CopyOnWriteFastList.newList().newEmpty());
+        Verify.assertEmpty(CopyOnWriteFastList.<Integer>newListWith(null, null).newEmpty());
+    }
+
+    @Override
+    @Test
+    public void subList()
+    {
+        MutableList<String> list = this.newWith("A", "B", "C", "D");
+        MutableList<String> sublist = list.subList(1, 3);
+        Verify.assertPostSerializedEqualsAndHashCode(sublist);
+        Verify.assertSize(2, sublist);
+        Verify.assertContainsAll(sublist, "B", "C");
+        Verify.assertThrows(UnsupportedOperationException.class, () -> sublist.add("X"));
+        Verify.assertThrows(UnsupportedOperationException.class, () -> sublist.set(1, "R"));
+        Verify.assertThrows(UnsupportedOperationException.class, sublist::clear);
+        list.set(1, "R");
+        list.add(2, "X");
+        Assert.assertEquals(FastList.newListWith("B", "C"), sublist);
+        Assert.assertEquals(FastList.newListWith("A", "R", "X", "C", "D"), list);
+    }
+
+    @Test
+    public void iteratorsAreSnapshots()
+    {
+        CopyOnWriteFastList<Integer> list = this.newWith(1, 2, 3);
+        Iterator<Integer> iterator = list.iterator();
+        ListIterator<Integer> listIterator = list.listIterator(3);
+        list.add(4);
+        list.remove(0);
+        Assert.assertEquals(FastList.newListWith(1, 2, 3), FastList.newList(() -> iterator));
+        Assert.assertEquals(Integer.valueOf(3), listIterator.previous());
+        Assert.assertEquals(FastList.newListWith(2, 3, 4), list);
+        Verify.assertThrows(UnsupportedOperationException.class, iterator::remove);
+        Verify.assertThrows(UnsupportedOperationException.class, () -> listIterator.set(5));
+        Verify.assertThrows(UnsupportedOperationException.class, () -> listIterator.add(5));
+    }
+
+    @Test
+    public void eachIteratesOverSnapshot()
+    {
+        CopyOnWriteFastList<Integer> list = this.newWith(1, 2, 3);
+        MutableList<Integer> seen = FastList.newList();
+        list.each(each -> {
+            seen.add(each);
+            list.add(each * 10);
+        });
+        Assert.assertEquals(FastList.newListWith(1, 2, 3), seen);
+        Assert.assertEquals(FastList.newListWith(1, 2, 3, 10, 20, 30), list);
+    }
+
+    @Test
+    public void withWriteLockAndDelegate()
+    {
+        CopyOnWriteFastList<Integer> list = this.newWith(1, 2, 3);
+        list.withWriteLockAndDelegate(delegate -> {
+            delegate.add(4);
+            delegate.remove(0);
+            Assert.assertEquals(FastList.newListWith(1, 2, 3), list);
+        });
+        Assert.assertEquals(FastList.newListWith(2, 3, 4), list);
+        Verify.assertThrows(IllegalStateException.class, () -> list.withWriteLockAndDelegate(delegate -> {
+            delegate.clear();
+            throw new IllegalStateException();
+        }));
+        Assert.assertEquals(FastList.newListWith(2, 3, 4), list);
+    }
+
+    @Test
+    public void readersNeverSeePartialWrites()
+    {
+        CopyOnWriteFastList<Integer> list = CopyOnWriteFastList.newList();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            ParallelIterate.forEach(
+                    Interval.oneTo(2_000),
+                    each -> {
+                        if (each % 2 == 0)
+                        {
+                            list.withAll(FastList.newListWith(each, -each));
+                        }
+                        else
+                        {
+                            Assert.assertEquals(0, list.size() % 2);
+                            Assert.assertEquals(0L, list.sumOfInt(Integer::intValue));
+                        }
+                    },
+                    10,
+                    executor);
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+        Verify.assertSize(2_000, list);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.list.mutable;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link MultiReaderFastList#newStampedList()}.
+ */
+public class MultiReaderFastListStampedTest extends MultiReaderFastListTest
+{
+    @Override
+    protected <T> MultiReaderFastList<T> newWith(T... littleElements)
+    {
+        return MultiReaderFastList.newStampedList(FastList.newListWith(littleElements));
+    }
+
+    @Test
+    public void optimisticReads()
+    {
+        MultiReaderFastList<Integer> list = this.newWith(1, 2, 3);
+        Assert.assertEquals(3, list.size());
+        Assert.assertEquals(Integer.valueOf(2), list.get(1));
+        Assert.assertEquals(Integer.valueOf(1), list.getFirst());
+        Assert.assertEquals(Integer.valueOf(3), list.getLast());
+        Assert.assertEquals(Integer.valueOf(2), list.detect(each -> each > 1));
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> list.get(3));
+        list.withWriteLockAndDelegate(delegate -> {
+            delegate.add(4);
+            Assert.assertEquals(4, list.size());
+            Assert.assertTrue(list.contains(4));
+        });
+        Assert.assertEquals(Integer.valueOf(4), list.getLast());
+    }
+
+    @Test
+    public void cloneAndSubList()
+    {
+        MultiReaderFastList<Integer> list = this.newWith(1, 2, 3, 4);
+        MultiReaderFastList<Integer> clone = list.clone();
+        MutableList<Integer> subList = list.subList(1, 3);
+        subList.add(5);
+        Assert.assertEquals(5, list.size());
+        Assert.assertEquals(Integer.valueOf(5), list.get(3));
+        Assert.assertEquals(FastList.newListWith(1, 2, 3, 4), clone);
+    }
+
+    @Test
+    public void concurrentReadsAndWrites()
+    {
+        MultiReaderFastList<Integer> list = MultiReaderFastList.newStampedList();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            ParallelIterate.forEach(
+                    Interval.oneTo(20_000),
+                    each -> {
+                        if (each % 2 == 0)
+                        {
+                            list.withWriteLockAndDelegate(delegate -> delegate.with(each).with(-each));
+                        }
+                        else
+                        {
+                            Assert.assertEquals(0, list.size() % 2);
+                            if (list.notEmpty())
+                            {
+                                Assert.assertEquals(-list.get(0), list.get(1).intValue());
+                            }
+                        }
+                    },
+                    100,
+                    executor);
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+        Verify.assertSize(20_000, list);
+    }
+}
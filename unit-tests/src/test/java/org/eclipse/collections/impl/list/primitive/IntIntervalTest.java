@@ -11,10 +11,13 @@
 package org.eclipse.collections.impl.list.primitive;
 
 import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import org.eclipse.collections.api.IntIterable;
 import org.eclipse.collections.api.LazyIntIterable;
+import org.eclipse.collections.api.ParallelIntIterable;
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.block.procedure.primitive.IntProcedure;
 import org.eclipse.collections.api.iterator.IntIterator;
@@ -1139,6 +1142,33 @@ public class IntIntervalTest
         Assert.assertSame(interval, interval.toImmutable());
     }
 
+    @Test
+    public void asParallel()
+    {
+        IntInterval interval = IntInterval.fromToBy(1, 100, 3);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try
+        {
+            ParallelIntIterable parallel = interval.asParallel(executorService, 5);
+            Assert.assertEquals(interval, parallel.toList());
+            Assert.assertEquals(interval.sum(), parallel.sum());
+            Assert.assertEquals(1, parallel.min());
+            Assert.assertEquals(100, parallel.max());
+            Assert.assertEquals(interval.count(each -> each % 2 == 0), parallel.count(each -> each % 2 == 0));
+            Assert.assertEquals(interval.select(each -> each > 50).toList(), parallel.select(each -> each > 50).toList());
+            Assert.assertTrue(parallel.anySatisfy(each -> each == 97));
+            Assert.assertFalse(parallel.anySatisfy(each -> each == 98));
+            Assert.assertTrue(parallel.allSatisfy(each -> each % 3 == 1));
+            Assert.assertEquals(52, parallel.detectIfNone(each -> each > 50, 0));
+            Verify.assertThrows(IllegalArgumentException.class, () -> interval.asParallel(executorService, 0));
+            Verify.assertThrows(NullPointerException.class, () -> interval.asParallel(null, 2));
+        }
+        finally
+        {
+            executorService.shutdownNow();
+        }
+    }
+
     @Test
     public void newWith()
     {
@@ -0,0 +1,394 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.list.primitive;
+
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import org.eclipse.collections.api.LongIterable;
+import org.eclipse.collections.api.ParallelLongIterable;
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.iterator.LongIterator;
+import org.eclipse.collections.api.list.primitive.ImmutableLongList;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.factory.primitive.LongLists;
+import org.eclipse.collections.impl.list.immutable.primitive.AbstractImmutableLongListTestCase;
+import org.eclipse.collections.impl.list.mutable.primitive.LongArrayList;
+import org.eclipse.collections.impl.set.mutable.primitive.LongHashSet;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LongIntervalTest extends AbstractImmutableLongListTestCase
+{
+    @Override
+    protected ImmutableLongList classUnderTest()
+    {
+        return LongInterval.oneTo(3L);
+    }
+
+    /**
+     * Arithmetic progressions are created as intervals so that the shared suite runs against {@link LongInterval};
+     * any other elements fall back to the default immutable list.
+     */
+    @Override
+    protected ImmutableLongList newWith(long... elements)
+    {
+        if (elements.length == 1)
+        {
+            return LongInterval.from(elements[0]);
+        }
+        if (elements.length > 1 && LongIntervalTest.isArithmeticProgression(elements))
+        {
+            return LongInterval.fromToBy(elements[0], elements[elements.length - 1], elements[1] - elements[0]);
+        }
+        return super.newWith(elements);
+    }
+
+    private static boolean isArithmeticProgression(long... elements)
+    {
+        long step = elements[1] - elements[0];
+        if (step == 0L)
+        {
+            return false;
+        }
+        for (int i = 2; i < elements.length; i++)
+        {
+            if (elements[i] - elements[i - 1] != step)
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Test
+    public void fromAndToAndBy()
+    {
+        LongInterval interval = LongInterval.from(1L);
+        LongInterval interval2 = interval.to(10L);
+        LongInterval interval3 = interval2.by(2L);
+        Verify.assertEqualsAndHashCode(interval, LongInterval.fromTo(1L, 1L));
+        Verify.assertEqualsAndHashCode(interval2, LongInterval.oneTo(10L));
+        Verify.assertEqualsAndHashCode(interval3, LongInterval.oneToBy(10L, 2L));
+        Assert.assertEquals(LongArrayList.newListWith(1L, 3L, 5L, 7L, 9L), interval3);
+        Assert.assertEquals(LongArrayList.newListWith(0L, 1L, 2L), LongInterval.zero().to(2L));
+        Assert.assertEquals(LongArrayList.newListWith(0L, 1L, 2L), LongInterval.zeroTo(2L));
+        Assert.assertEquals(LongArrayList.newListWith(3L, 2L, 1L), LongInterval.fromTo(3L, 1L));
+        Verify.assertThrows(IllegalArgumentException.class, () -> LongInterval.fromToBy(1L, 2L, 0L));
+        Verify.assertThrows(IllegalArgumentException.class, () -> LongInterval.fromToBy(1L, 2L, -1L));
+        Verify.assertThrows(IllegalArgumentException.class, () -> LongInterval.fromToBy(2L, 1L, 1L));
+        Verify.assertThrows(IllegalArgumentException.class, () -> LongInterval.oneTo(0L));
+        Verify.assertThrows(IllegalArgumentException.class, () -> LongInterval.zeroTo(Integer.MAX_VALUE));
+        Verify.assertThrows(IllegalArgumentException.class, () -> LongInterval.fromTo(Long.MIN_VALUE, Long.MAX_VALUE));
+        Verify.assertThrows(IllegalArgumentException.class, () -> LongInterval.fromToBy(0L, Long.MIN_VALUE, Long.MIN_VALUE));
+        Verify.assertThrows(IllegalArgumentException.class, () -> LongInterval.fromToBy(1L, 1L, Long.MIN_VALUE));
+        Verify.assertThrows(IllegalArgumentException.class, () -> LongInterval.fromTo(-1L, -2L).by(Long.MIN_VALUE));
+        LongInterval widestDescending = LongInterval.fromToBy(Long.MAX_VALUE, -1L, -Long.MAX_VALUE);
+        Assert.assertEquals(LongArrayList.newListWith(Long.MAX_VALUE, 0L), widestDescending);
+        Assert.assertEquals(LongArrayList.newListWith(0L, Long.MAX_VALUE), widestDescending.toReversed());
+    }
+
+    @Test
+    public void extremeValues()
+    {
+        LongInterval interval = LongInterval.fromToBy(Long.MIN_VALUE, Long.MAX_VALUE, 1L << 40);
+        Assert.assertEquals(1 << 24, interval.size());
+        Assert.assertEquals(Long.MIN_VALUE, interval.getFirst());
+        Assert.assertEquals(Long.MAX_VALUE - (1L << 40) + 1L, interval.getLast());
+        Assert.assertEquals(Long.MIN_VALUE, interval.min());
+        Assert.assertEquals(interval.getLast(), interval.max());
+        Assert.assertTrue(interval.contains(0L));
+        Assert.assertFalse(interval.contains(1L));
+        Assert.assertFalse(interval.contains(Long.MAX_VALUE));
+        Assert.assertEquals(1 << 23, interval.indexOf(0L));
+        Assert.assertEquals(1 << 23, interval.binarySearch(0L));
+
+        LongInterval top = LongInterval.fromTo(Long.MAX_VALUE - 2L, Long.MAX_VALUE);
+        Assert.assertEquals(LongArrayList.newListWith(Long.MAX_VALUE - 2L, Long.MAX_VALUE - 1L, Long.MAX_VALUE), top);
+        Assert.assertEquals(3L, top.count(each -> true));
+        Assert.assertEquals(LongArrayList.newListWith(Long.MAX_VALUE, Long.MAX_VALUE - 1L, Long.MAX_VALUE - 2L), top.toReversed());
+
+        LongInterval bottom = LongInterval.fromTo(Long.MIN_VALUE + 2L, Long.MIN_VALUE);
+        Assert.assertEquals(LongArrayList.newListWith(Long.MIN_VALUE + 2L, Long.MIN_VALUE + 1L, Long.MIN_VALUE), bottom.toList());
+        Assert.assertArrayEquals(new long[]{Long.MIN_VALUE, Long.MIN_VALUE + 1L, Long.MIN_VALUE + 2L}, bottom.toSortedArray());
+    }
+
+    @Override
+    @Test
+    public void size()
+    {
+        super.size();
+
+        Verify.assertSize(10, LongInterval.oneTo(10L));
+        Verify.assertSize(5, LongInterval.oneToBy(10L, 2L));
+        Verify.assertSize(4, LongInterval.fromToBy(10L, 1L, -3L));
+        Verify.assertSize(1, LongInterval.fromToBy(10L, 10L, -3L));
+        Verify.assertSize(3_000_001, LongInterval.fromToBy(1_000_000_000_000L, 1_000_003_000_000L, 1_000L));
+        Assert.assertFalse(LongInterval.oneTo(3L).isEmpty());
+        Assert.assertTrue(LongInterval.oneTo(3L).notEmpty());
+    }
+
+    @Test
+    public void sumMinMaxAverageMedian()
+    {
+        LongInterval interval = LongInterval.fromToBy(1_000_000_000_000L, 1_000_000_000_100L, 10L);
+        Assert.assertEquals(interval.toList().sum(), interval.sum());
+        Assert.assertEquals(1_000_000_000_000L, interval.min());
+        Assert.assertEquals(1_000_000_000_100L, interval.max());
+        Assert.assertEquals(1_000_000_000_050.0, interval.average(), 0.0);
+        Assert.assertEquals(1_000_000_000_050.0, interval.median(), 0.0);
+
+        LongInterval reversed = interval.toReversed();
+        Assert.assertEquals(interval.sum(), reversed.sum());
+        Assert.assertEquals(interval.min(), reversed.min());
+        Assert.assertEquals(interval.max(), reversed.max());
+        Assert.assertEquals(interval.min(), reversed.minIfEmpty(0L));
+        Assert.assertEquals(interval.max(), reversed.maxIfEmpty(0L));
+
+        LongInterval overflowing = LongInterval.fromTo(Long.MAX_VALUE - 10L, Long.MAX_VALUE);
+        Assert.assertEquals(overflowing.toList().sum(), overflowing.sum());
+        Assert.assertEquals(55L, LongInterval.oneTo(10L).sum());
+        Assert.assertEquals(2.5, LongInterval.oneTo(4L).median(), 0.0);
+    }
+
+    @Override
+    @Test
+    public void contains()
+    {
+        super.contains();
+
+        LongInterval interval = LongInterval.fromToBy(-10L, 10L, 5L);
+        Assert.assertTrue(interval.contains(-10L));
+        Assert.assertTrue(interval.contains(0L));
+        Assert.assertTrue(interval.contains(10L));
+        Assert.assertFalse(interval.contains(1L));
+        Assert.assertFalse(interval.contains(15L));
+        Assert.assertFalse(interval.contains(-15L));
+        Assert.assertTrue(interval.containsAll(-5L, 5L));
+        Assert.assertFalse(interval.containsAll(-5L, 6L));
+        Assert.assertTrue(interval.containsAll(LongArrayList.newListWith(-5L, 5L)));
+        Assert.assertTrue(interval.containsNone(-4L, 4L, 11L));
+        Assert.assertFalse(interval.containsNone(-4L, 5L));
+        Assert.assertTrue(interval.toReversed().contains(-5L));
+        Assert.assertFalse(interval.toReversed().contains(-4L));
+    }
+
+    @Test
+    public void indexOfAndBinarySearch()
+    {
+        LongInterval interval = LongInterval.fromToBy(10L, 50L, 10L);
+        Assert.assertEquals(0, interval.indexOf(10L));
+        Assert.assertEquals(4, interval.indexOf(50L));
+        Assert.assertEquals(-1, interval.indexOf(15L));
+        Assert.assertEquals(-1, interval.indexOf(60L));
+        Assert.assertEquals(2, interval.lastIndexOf(30L));
+        Assert.assertEquals(2, interval.binarySearch(30L));
+        Assert.assertEquals(-1, interval.binarySearch(5L));
+        Assert.assertEquals(-3, interval.binarySearch(25L));
+        Assert.assertEquals(-6, interval.binarySearch(55L));
+        Assert.assertEquals(3, interval.toReversed().indexOf(20L));
+    }
+
+    @Override
+    @Test
+    public void get()
+    {
+        super.get();
+
+        LongInterval interval = LongInterval.fromToBy(10L, -10L, -5L);
+        Assert.assertEquals(10L, interval.get(0));
+        Assert.assertEquals(0L, interval.get(2));
+        Assert.assertEquals(-10L, interval.get(4));
+        Assert.assertEquals(10L, interval.getFirst());
+        Assert.assertEquals(-10L, interval.getLast());
+        Assert.assertEquals(9L, LongInterval.oneToBy(10L, 2L).getLast());
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> interval.get(-1));
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> interval.get(5));
+    }
+
+    @Test
+    public void iterationMatchesList()
+    {
+        LongInterval interval = LongInterval.fromToBy(7L, -8L, -3L);
+        LongArrayList expected = LongArrayList.newListWith(7L, 4L, 1L, -2L, -5L, -8L);
+        Assert.assertEquals(expected, interval);
+        Assert.assertEquals(interval, expected);
+        Verify.assertEqualsAndHashCode(expected, interval);
+        Assert.assertArrayEquals(expected.toArray(), interval.toArray());
+
+        LongArrayList each = new LongArrayList();
+        interval.each(each::add);
+        Assert.assertEquals(expected, each);
+
+        LongArrayList indexes = new LongArrayList();
+        interval.forEachWithIndex((value, index) -> indexes.add(value * 10L + index));
+        Assert.assertEquals(LongArrayList.newListWith(70L, 41L, 12L, -17L, -46L, -75L), indexes);
+
+        LongIterator iterator = interval.longIterator();
+        for (int i = 0; i < expected.size(); i++)
+        {
+            Assert.assertEquals(expected.get(i), iterator.next());
+        }
+        Assert.assertFalse(iterator.hasNext());
+        Verify.assertThrows(NoSuchElementException.class, iterator::next);
+
+        Assert.assertEquals("[7, 4, 1, -2, -5, -8]", interval.toString());
+        Assert.assertEquals("7/4/1/-2/-5/-8", interval.makeString("/"));
+        Assert.assertEquals(Long.valueOf(-3L), interval.injectInto(0L, (result, value) -> result + value));
+        Assert.assertEquals(Long.valueOf(15L), interval.injectIntoWithIndex(0L, (result, value, index) -> result + index));
+    }
+
+    @Test
+    public void equalsAndHashCode()
+    {
+        Verify.assertEqualsAndHashCode(LongInterval.oneToBy(9L, 2L), LongInterval.oneToBy(10L, 2L));
+        Verify.assertEqualsAndHashCode(LongInterval.fromToBy(5L, 5L, 1L), LongInterval.fromToBy(5L, 5L, -3L));
+        Assert.assertNotEquals(LongInterval.oneTo(3L), LongInterval.fromTo(3L, 1L));
+        Assert.assertNotEquals(LongInterval.oneTo(3L), LongInterval.oneTo(4L));
+        Assert.assertNotEquals(LongInterval.oneTo(3L), LongArrayList.newListWith(1L, 2L, 4L));
+        Assert.assertNotEquals(LongInterval.oneTo(3L), Lists.mutable.with(1L, 2L, 3L));
+        Verify.assertPostSerializedEqualsAndHashCode(LongInterval.fromToBy(Long.MIN_VALUE, 0L, 1L << 60));
+    }
+
+    @Override
+    @Test
+    public void subList()
+    {
+        LongInterval interval = LongInterval.oneToBy(20L, 2L);
+        Assert.assertEquals(LongArrayList.newListWith(5L, 7L, 9L), interval.subList(2, 5));
+        Verify.assertInstanceOf(LongInterval.class, interval.subList(2, 5));
+        Verify.assertEmpty(interval.subList(3, 3));
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> interval.subList(-1, 2));
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> interval.subList(2, 11));
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> interval.subList(3, 2));
+    }
+
+    @Override
+    @Test
+    public void chunk()
+    {
+        super.chunk();
+
+        LongInterval interval = LongInterval.oneToBy(20L, 2L);
+        RichIterable<LongIterable> chunks = interval.chunk(4);
+        Assert.assertEquals(
+                Lists.mutable.with(
+                        LongArrayList.newListWith(1L, 3L, 5L, 7L),
+                        LongArrayList.newListWith(9L, 11L, 13L, 15L),
+                        LongArrayList.newListWith(17L, 19L)),
+                chunks);
+        Verify.assertThrows(IllegalArgumentException.class, () -> interval.chunk(0));
+        Verify.assertSize(1, interval.chunk(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void selectRejectCollectDetect()
+    {
+        LongInterval interval = LongInterval.oneTo(10L);
+        Assert.assertEquals(LongArrayList.newListWith(2L, 4L, 6L, 8L, 10L), interval.select(each -> each % 2L == 0L));
+        Assert.assertEquals(LongArrayList.newListWith(1L, 3L, 5L, 7L, 9L), interval.reject(each -> each % 2L == 0L));
+        Assert.assertEquals(Lists.mutable.with("1", "2", "3"), LongInterval.oneTo(3L).collect(String::valueOf));
+        Assert.assertEquals(4L, interval.detectIfNone(each -> each > 3L, 0L));
+        Assert.assertEquals(0L, interval.detectIfNone(each -> each > 10L, 0L));
+        Assert.assertEquals(5, interval.count(each -> each > 5L));
+        Assert.assertTrue(interval.anySatisfy(each -> each == 10L));
+        Assert.assertTrue(interval.allSatisfy(each -> each > 0L));
+        Assert.assertTrue(interval.noneSatisfy(each -> each > 10L));
+        Assert.assertEquals(385L, interval.dotProduct(interval));
+        Verify.assertThrows(IllegalArgumentException.class, () -> interval.dotProduct(LongInterval.oneTo(3L)));
+    }
+
+    @Test
+    public void conversions()
+    {
+        LongInterval interval = LongInterval.fromTo(3L, 1L);
+        Assert.assertEquals(LongArrayList.newListWith(3L, 2L, 1L), interval.toList());
+        Assert.assertEquals(LongArrayList.newListWith(1L, 2L, 3L), interval.toSortedList());
+        Assert.assertEquals(LongHashSet.newSetWith(1L, 2L, 3L), interval.toSet());
+        Assert.assertEquals(LongArrayList.newListWith(3L, 2L, 1L).toBag(), interval.toBag());
+        Assert.assertEquals(LongArrayList.newListWith(1L, 2L, 3L), interval.asReversed().toList());
+        Assert.assertEquals(interval, interval.asLazy().toList());
+        Assert.assertSame(interval, interval.toImmutable());
+        Assert.assertSame(interval, interval.distinct());
+        Assert.assertEquals(LongArrayList.newListWith(3L, 2L, 1L, 0L), interval.newWith(0L));
+        Assert.assertEquals(LongArrayList.newListWith(3L, 1L), interval.newWithout(2L));
+        Assert.assertEquals(LongArrayList.newListWith(3L, 2L, 1L, 5L), interval.newWithAll(LongLists.immutable.with(5L)));
+        Assert.assertEquals(LongArrayList.newListWith(3L), interval.newWithoutAll(LongLists.immutable.with(1L, 2L)));
+    }
+
+    @Test
+    public void spliterator()
+    {
+        LongInterval interval = LongInterval.fromToBy(-1L, 100L, 11L);
+        Spliterator.OfLong spliterator = interval.spliterator();
+        Assert.assertEquals(10L, spliterator.getExactSizeIfKnown());
+        Spliterator.OfLong prefix = spliterator.trySplit();
+        Assert.assertEquals(5L, prefix.estimateSize());
+        Assert.assertEquals(5L, spliterator.estimateSize());
+        Assert.assertTrue(prefix.tryAdvance((long each) -> Assert.assertEquals(-1L, each)));
+        Assert.assertTrue(spliterator.tryAdvance((long each) -> Assert.assertEquals(54L, each)));
+
+        Assert.assertEquals(
+                Lists.mutable.with(-1L, 10L, 21L, 32L, 43L, 54L, 65L, 76L, 87L, 98L),
+                interval.primitiveParallelStream().boxed().collect(Collectors.toList()));
+        Assert.assertEquals(
+                Lists.mutable.with(98L, 87L, 76L, 65L, 54L, 43L, 32L, 21L, 10L, -1L),
+                interval.toReversed().primitiveParallelStream().boxed().collect(Collectors.toList()));
+        Assert.assertEquals(interval.sum(), LongInterval.fromToBy(-1L, 100L, 11L).primitiveStream().sum());
+
+        Spliterator.OfLong single = LongInterval.from(5L).spliterator();
+        Assert.assertNull(single.trySplit());
+        Assert.assertTrue(single.tryAdvance((long each) -> Assert.assertEquals(5L, each)));
+        Assert.assertFalse(single.tryAdvance((long each) -> Assert.fail()));
+    }
+
+    @Override
+    @Test
+    public void asParallel()
+    {
+        super.asParallel();
+
+        LongInterval interval = LongInterval.fromToBy(1_000_000_000_001L, 1_000_000_000_100L, 3L);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try
+        {
+            ParallelLongIterable parallel = interval.asParallel(executorService, 5);
+            Assert.assertEquals(interval, parallel.toList());
+            Assert.assertEquals(interval.sum(), parallel.sum());
+            Assert.assertEquals(interval.min(), parallel.min());
+            Assert.assertEquals(interval.max(), parallel.max());
+            Assert.assertEquals(interval.count(each -> each % 2L == 0L), parallel.count(each -> each % 2L == 0L));
+            Assert.assertTrue(parallel.allSatisfy(interval::contains));
+            Verify.assertThrows(IllegalArgumentException.class, () -> interval.asParallel(executorService, 0));
+            Verify.assertThrows(NullPointerException.class, () -> interval.asParallel(null, 2));
+        }
+        finally
+        {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Override
+    @Test
+    public void zip()
+    {
+        super.zip();
+
+        LongInterval interval = LongInterval.oneTo(3L);
+        Assert.assertEquals(3, interval.zipLong(LongInterval.fromTo(3L, 1L)).size());
+        Assert.assertEquals(2, interval.zip(Lists.mutable.with("a", "b")).size());
+        Verify.assertEmpty(interval.zipLong(LongLists.mutable.empty()));
+    }
+}
@@ -16,6 +16,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.SortedMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.collections.api.BooleanIterable;
@@ -1556,6 +1558,35 @@ public abstract class MapIterableTestCase
         Assert.assertEquals(UnifiedSet.newSetWith(Tuples.pair(1, "A"), Tuples.pair(2, "B"), Tuples.pair(3, "C"), Tuples.pair(4, "D")), keyValues);
     }
 
+    @Test
+    public void asParallelViews()
+    {
+        MapIterable<Integer, String> map = this.newMapWithKeysValues(1, "A", 2, "B", 3, "C", 4, "D");
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try
+        {
+            for (int batchSize = 1; batchSize <= 5; batchSize++)
+            {
+                Assert.assertEquals(map.valuesView().toBag(), map.asParallel(executorService, batchSize).toBag());
+                Assert.assertEquals(map.keysView().toSet(), map.keysViewAsParallel(executorService, batchSize).toSet());
+                Assert.assertEquals(map.keyValuesView().toSet(), map.keyValuesViewAsParallel(executorService, batchSize).toSet());
+            }
+            Assert.assertEquals(10L, map.keysViewAsParallel(executorService, 2).sumOfInt(Integer::intValue));
+            Assert.assertTrue(map.asParallel(executorService, 3).anySatisfy("C"::equals));
+            Assert.assertEquals(Tuples.pair(3, "C"), map.keyValuesViewAsParallel(executorService, 1).detect(pair -> pair.getOne() == 3));
+            Assert.assertEquals(map.valuesView().toBag(), map.asParallel(executorService, Integer.MAX_VALUE).toBag());
+            Assert.assertEquals(
+                    HashBag.newBag(),
+                    this.<Integer, String>newMap().asParallel(executorService, 2).toBag());
+            Verify.assertThrows(IllegalArgumentException.class, () -> map.asParallel(executorService, 0));
+            Verify.assertThrows(NullPointerException.class, () -> map.keysViewAsParallel(null, 2));
+        }
+        finally
+        {
+            executorService.shutdownNow();
+        }
+    }
+
     @Test
     public void nullCollisionWithCastInEquals()
     {
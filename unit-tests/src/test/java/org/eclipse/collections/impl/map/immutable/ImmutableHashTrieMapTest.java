@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.immutable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.impl.factory.Maps;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.test.Verify;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ImmutableHashTrieMap}.
+ */
+public class ImmutableHashTrieMapTest extends ImmutableMapTestCase
+{
+    @Override
+    protected ImmutableMap<Integer, String> classUnderTest()
+    {
+        return ImmutableHashTrieMap.newMapWith(Tuples.pair(1, "1"), Tuples.pair(2, "2"), Tuples.pair(3, "3"), Tuples.pair(4, "4"));
+    }
+
+    @Override
+    protected int size()
+    {
+        return 4;
+    }
+
+    @Test
+    @Override
+    public void testToString()
+    {
+        Assert.assertEquals("{1=1, 2=2, 3=3, 4=4}", this.classUnderTest().toString());
+    }
+
+    @Test
+    public void newWithKeyValueSharesUnchangedVersion()
+    {
+        ImmutableHashTrieMap<Integer, Integer> map = ImmutableHashTrieMap.empty();
+        for (int i = 0; i < 10_000; i++)
+        {
+            ImmutableHashTrieMap<Integer, Integer> next = map.newWithKeyValue(i, i);
+            Verify.assertSize(i, map);
+            Verify.assertSize(i + 1, next);
+            Assert.assertFalse(map.containsKey(i));
+            map = next;
+        }
+        Assert.assertEquals(Interval.zeroTo(9_999).toMap(each -> each, each -> each), map);
+        Assert.assertSame(map, map.newWithKeyValue(5, 5));
+        Assert.assertSame(map, map.newWithoutKey(10_000));
+
+        ImmutableHashTrieMap<Integer, Integer> replaced = map.newWithKeyValue(5, -5);
+        Assert.assertEquals(Integer.valueOf(5), map.get(5));
+        Assert.assertEquals(Integer.valueOf(-5), replaced.get(5));
+        Verify.assertSize(10_000, replaced);
+    }
+
+    @Test
+    public void newWithoutKey()
+    {
+        ImmutableHashTrieMap<Integer, Integer> map = ImmutableHashTrieMap.newMap(Interval.zeroTo(9_999).toMap(each -> each, each -> each));
+        ImmutableHashTrieMap<Integer, Integer> evens = map.newWithoutAllKeys(Interval.fromToBy(1, 9_999, 2));
+        Verify.assertSize(10_000, map);
+        Assert.assertEquals(Interval.fromToBy(0, 9_998, 2).toMap(each -> each, each -> each), evens);
+
+        ImmutableHashTrieMap<Integer, Integer> empty = evens;
+        for (int i = 0; i < 10_000; i += 2)
+        {
+            empty = empty.newWithoutKey(i);
+        }
+        Verify.assertEmpty(empty);
+        Assert.assertSame(ImmutableHashTrieMap.empty(), empty);
+    }
+
+    @Test
+    public void collidingHashCodes()
+    {
+        Map<CollidingKey, Integer> expected = new HashMap<>();
+        ImmutableHashTrieMap<CollidingKey, Integer> map = ImmutableHashTrieMap.empty();
+        for (int i = 0; i < 200; i++)
+        {
+            map = map.newWithKeyValue(new CollidingKey(i), i);
+            expected.put(new CollidingKey(i), i);
+        }
+        Assert.assertEquals(expected, map);
+        Assert.assertEquals(map, expected);
+        Assert.assertEquals(expected.hashCode(), map.hashCode());
+
+        for (int i = 0; i < 200; i += 2)
+        {
+            map = map.newWithoutKey(new CollidingKey(i));
+            expected.remove(new CollidingKey(i));
+        }
+        Assert.assertEquals(expected, map);
+        Assert.assertEquals(expected.keySet(), map.keySet());
+        Verify.assertContainsAll(map.values(), expected.values().toArray());
+    }
+
+    @Test
+    public void nullKeyAndValue()
+    {
+        ImmutableHashTrieMap<Integer, Integer> map = ImmutableHashTrieMap.<Integer, Integer>empty()
+                .newWithKeyValue(null, 1)
+                .newWithKeyValue(2, null);
+        Assert.assertEquals(Integer.valueOf(1), map.get(null));
+        Assert.assertTrue(map.containsKey(2));
+        Assert.assertNull(map.get(2));
+        Assert.assertNull(map.getIfAbsentValue(2, 3));
+        Assert.assertEquals(Integer.valueOf(3), map.getIfAbsentValue(4, 3));
+        Assert.assertTrue(map.containsValue(null));
+        Assert.assertFalse(map.newWithoutKey(null).containsKey(null));
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(null, 1, 2, null), map);
+        Verify.assertPostSerializedEqualsAndHashCode(map);
+    }
+
+    @Test
+    public void largeMapsUseHashTrie()
+    {
+        Map<Integer, Integer> large = Interval.oneTo(2_000).toMap(each -> each, each -> each);
+        Verify.assertInstanceOf(ImmutableHashTrieMap.class, Maps.immutable.withAll(large));
+        Verify.assertInstanceOf(ImmutableUnifiedMap.class, Maps.immutable.withAll(Interval.oneTo(10).toMap(each -> each, each -> each)));
+    }
+
+    private static final class CollidingKey
+    {
+        private final int value;
+
+        private CollidingKey(int value)
+        {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            return o instanceof CollidingKey && ((CollidingKey) o).value == this.value;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.value & 1;
+        }
+    }
+}
@@ -0,0 +1,334 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.ConcurrentMutableMap;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.partition.PartitionIterable;
+import org.eclipse.collections.impl.block.factory.IntegerPredicates;
+import org.eclipse.collections.impl.block.factory.Predicates2;
+import org.eclipse.collections.impl.factory.Maps;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.test.Verify;
+import org.eclipse.collections.impl.tuple.ImmutableEntry;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.eclipse.collections.impl.factory.Iterables.iSet;
+
+/**
+ * JUnit test for {@link BoundedConcurrentHashMap}.
+ */
+public class BoundedConcurrentHashMapTest extends ConcurrentHashMapTestCase
+{
+    private static final long MAXIMUM_SIZE = 1_000_000L;
+
+    @Override
+    public <K, V> ConcurrentMutableMap<K, V> newMap()
+    {
+        return BoundedConcurrentHashMap.newMap(MAXIMUM_SIZE);
+    }
+
+    @Override
+    public <K, V> ConcurrentMutableMap<K, V> newMapWithKeyValue(K key, V value)
+    {
+        return BoundedConcurrentHashMap.<K, V>newMap(MAXIMUM_SIZE).withKeyValue(key, value);
+    }
+
+    @Override
+    public <K, V> ConcurrentMutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        return BoundedConcurrentHashMap.<K, V>newMap(MAXIMUM_SIZE).withKeyValue(key1, value1).withKeyValue(key2, value2);
+    }
+
+    @Override
+    public <K, V> ConcurrentMutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        return BoundedConcurrentHashMap.<K, V>newMap(MAXIMUM_SIZE)
+                .withKeyValue(key1, value1)
+                .withKeyValue(key2, value2)
+                .withKeyValue(key3, value3);
+    }
+
+    @Override
+    public <K, V> ConcurrentMutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4)
+    {
+        return BoundedConcurrentHashMap.<K, V>newMap(MAXIMUM_SIZE)
+                .withKeyValue(key1, value1)
+                .withKeyValue(key2, value2)
+                .withKeyValue(key3, value3)
+                .withKeyValue(key4, value4);
+    }
+
+    @Test
+    public void putIfAbsent()
+    {
+        ConcurrentMutableMap<Integer, Integer> map = this.newMapWithKeysValues(1, 1, 2, 2);
+        Assert.assertEquals(Integer.valueOf(1), map.putIfAbsent(1, 1));
+        Assert.assertNull(map.putIfAbsent(3, 3));
+    }
+
+    @Test
+    public void replace()
+    {
+        ConcurrentMutableMap<Integer, Integer> map = this.newMapWithKeysValues(1, 1, 2, 2);
+        Assert.assertEquals(Integer.valueOf(1), map.replace(1, 1));
+        Assert.assertNull(map.replace(3, 3));
+    }
+
+    @Test
+    public void replaceWithOldValue()
+    {
+        ConcurrentMutableMap<Integer, Integer> map = this.newMapWithKeysValues(1, 1, 2, 2);
+        Assert.assertTrue(map.replace(1, 1, 1));
+        Assert.assertFalse(map.replace(2, 3, 3));
+    }
+
+    @Test
+    public void removeWithKeyValue()
+    {
+        ConcurrentMutableMap<Integer, Integer> map = this.newMapWithKeysValues(1, 1, 2, 2);
+        Assert.assertTrue(map.remove(1, 1));
+        Assert.assertFalse(map.remove(2, 3));
+    }
+
+    @Override
+    @Test
+    public void removeFromEntrySet()
+    {
+        MutableMap<String, Integer> map = this.newMapWithKeysValues("One", 1, "Two", 2, "Three", 3);
+        Assert.assertTrue(map.entrySet().remove(ImmutableEntry.of("Two", 2)));
+        Assert.assertEquals(UnifiedMap.newWithKeysValues("One", 1, "Three", 3), map);
+
+        Assert.assertFalse(map.entrySet().remove(ImmutableEntry.of("Four", 4)));
+        Assert.assertEquals(UnifiedMap.newWithKeysValues("One", 1, "Three", 3), map);
+    }
+
+    @Override
+    @Test
+    public void removeAllFromEntrySet()
+    {
+        MutableMap<String, Integer> map = this.newMapWithKeysValues("One", 1, "Two", 2, "Three", 3);
+        Assert.assertTrue(map.entrySet().removeAll(FastList.newListWith(
+                ImmutableEntry.of("One", 1),
+                ImmutableEntry.of("Three", 3))));
+        Assert.assertEquals(UnifiedMap.newWithKeysValues("Two", 2), map);
+
+        Assert.assertFalse(map.entrySet().removeAll(FastList.newListWith(ImmutableEntry.of("Four", 4))));
+        Assert.assertEquals(UnifiedMap.newWithKeysValues("Two", 2), map);
+    }
+
+    @Override
+    @Test
+    public void keySetEqualsAndHashCode()
+    {
+        MutableMap<String, Integer> map = this.newMapWithKeysValues("One", 1, "Two", 2, "Three", 3);
+        Verify.assertEqualsAndHashCode(UnifiedSet.newSetWith("One", "Two", "Three"), map.keySet());
+    }
+
+    @Override
+    @Test
+    public void partition_value()
+    {
+        MapIterable<String, Integer> map = this.newMapWithKeysValues(
+                "A", 1,
+                "B", 2,
+                "C", 3,
+                "D", 4);
+        PartitionIterable<Integer> partition = map.partition(IntegerPredicates.isEven());
+        Assert.assertEquals(iSet(2, 4), partition.getSelected().toSet());
+        Assert.assertEquals(iSet(1, 3), partition.getRejected().toSet());
+    }
+
+    @Override
+    @Test
+    public void partitionWith_value()
+    {
+        MapIterable<String, Integer> map = this.newMapWithKeysValues(
+                "A", 1,
+                "B", 2,
+                "C", 3,
+                "D", 4);
+        PartitionIterable<Integer> partition = map.partitionWith(Predicates2.in(), map.select(IntegerPredicates.isEven()));
+        Assert.assertEquals(iSet(2, 4), partition.getSelected().toSet());
+        Assert.assertEquals(iSet(1, 3), partition.getRejected().toSet());
+    }
+
+    @Override
+    public void equalsAndHashCode()
+    {
+        // BoundedConcurrentHashMap doesn't support null keys OR values
+        MapIterable<Integer, String> map = this.newMapWithKeysValues(1, "1", 2, "2", 3, "3");
+        Verify.assertPostSerializedEqualsAndHashCode(map);
+        Verify.assertEqualsAndHashCode(Maps.mutable.of(1, "1", 2, "2", 3, "3"), map);
+        Verify.assertEqualsAndHashCode(Maps.immutable.of(1, "1", 2, "2", 3, "3"), map);
+
+        Assert.assertNotEquals(map, this.newMapWithKeysValues(1, "1", 2, "2"));
+        Assert.assertNotEquals(map, this.newMapWithKeysValues(1, "1", 2, "2", 3, "3", 4, "4"));
+        Assert.assertNotEquals(map, this.newMapWithKeysValues(1, "1", 2, "2", 4, "4"));
+    }
+
+    @Test
+    public void evictsWhenOverMaximumSize()
+    {
+        MutableList<String> evicted = FastList.newList();
+        BoundedConcurrentHashMap<Integer, String> map = BoundedConcurrentHashMap.<Integer, String>newBuilder()
+                .maximumSize(3L)
+                .evictionListener((key, value) -> evicted.add(key + "=" + value))
+                .build();
+        map.put(1, "1");
+        map.put(2, "2");
+        map.put(3, "3");
+        Assert.assertEquals(0L, map.evictionCount());
+        map.put(4, "4");
+        Verify.assertSize(3, map);
+        Verify.assertSize(1, evicted);
+        Assert.assertEquals(1L, map.evictionCount());
+        Assert.assertEquals(3L, map.weightedSize());
+    }
+
+    @Test
+    public void frequentlyReadEntriesSurvive()
+    {
+        BoundedConcurrentHashMap<Integer, Integer> map = BoundedConcurrentHashMap.newMap(100L);
+        map.put(-1, -1);
+        for (int i = 0; i < 10_000; i++)
+        {
+            Assert.assertEquals(Integer.valueOf(-1), map.get(-1));
+            map.put(i, i);
+        }
+        Assert.assertTrue(map.containsKey(-1));
+        Assert.assertTrue(map.size() <= 100);
+        Assert.assertEquals(map.size(), map.weightedSize());
+    }
+
+    @Test
+    public void maximumWeight()
+    {
+        BoundedConcurrentHashMap<String, String> map = BoundedConcurrentHashMap.<String, String>newBuilder()
+                .maximumWeight(10L, String::length)
+                .build();
+        map.put("a", "12345");
+        map.put("b", "12345");
+        Assert.assertEquals(10L, map.weightedSize());
+        map.put("c", "1");
+        Assert.assertTrue(map.weightedSize() <= 10L);
+        Assert.assertEquals(map.valuesView().sumOfInt(String::length), map.weightedSize());
+    }
+
+    @Test
+    public void hitAndMissCounts()
+    {
+        BoundedConcurrentHashMap<Integer, Integer> map = BoundedConcurrentHashMap.newMap(10L);
+        map.put(1, 1);
+        Assert.assertEquals(Integer.valueOf(1), map.get(1));
+        Assert.assertNull(map.get(2));
+        Assert.assertEquals(Integer.valueOf(2), map.getIfAbsentPut(2, () -> 2));
+        Assert.assertEquals(Integer.valueOf(2), map.getIfAbsentPut(2, () -> 3));
+        Assert.assertEquals(2L, map.hitCount());
+        Assert.assertEquals(2L, map.missCount());
+    }
+
+    @Test
+    public void expireAfterWriteAndAccess()
+    {
+        AtomicLong time = new AtomicLong();
+        MutableList<Integer> expired = FastList.newList();
+        BoundedConcurrentHashMap<Integer, Integer> map = BoundedConcurrentHashMap.<Integer, Integer>newBuilder()
+                .maximumSize(10L)
+                .expireAfterWrite(10L, TimeUnit.NANOSECONDS)
+                .expireAfterAccess(5L, TimeUnit.NANOSECONDS)
+                .ticker(time::get)
+                .evictionListener((key, value) -> expired.add(key))
+                .build();
+        map.put(1, 1);
+        map.put(2, 2);
+        time.set(4L);
+        Assert.assertEquals(Integer.valueOf(1), map.get(1));
+        time.set(7L);
+        Assert.assertNull(map.get(2));
+        Assert.assertEquals(Integer.valueOf(1), map.get(1));
+        time.set(10L);
+        Assert.assertNull(map.get(1));
+        Assert.assertEquals(FastList.newListWith(2, 1), expired);
+
+        map.put(3, 3);
+        time.set(20L);
+        Assert.assertNull(map.putIfAbsent(3, 4));
+        Assert.assertEquals(Integer.valueOf(4), map.get(3));
+        time.set(30L);
+        map.cleanUp();
+        Verify.assertEmpty(map);
+        Assert.assertEquals(0L, map.weightedSize());
+        Assert.assertEquals(4L, map.evictionCount());
+    }
+
+    @Test
+    public void cloneKeepsExpiry()
+    {
+        AtomicLong time = new AtomicLong();
+        BoundedConcurrentHashMap<Integer, Integer> map = BoundedConcurrentHashMap.<Integer, Integer>newBuilder()
+                .maximumSize(2L)
+                .expireAfterWrite(10L, TimeUnit.NANOSECONDS)
+                .expireAfterAccess(5L, TimeUnit.NANOSECONDS)
+                .ticker(time::get)
+                .build();
+        map.put(1, 1);
+        map.put(2, 2);
+        time.set(4L);
+        Assert.assertEquals(Integer.valueOf(1), map.get(1));
+        BoundedConcurrentHashMap<Integer, Integer> clone = map.clone();
+        Assert.assertEquals(2L, clone.getMaximumWeight());
+        Assert.assertEquals(2L, clone.weightedSize());
+        time.set(6L);
+        Assert.assertNull(clone.get(2));
+        Assert.assertEquals(Integer.valueOf(1), clone.get(1));
+        time.set(10L);
+        Assert.assertNull(clone.get(1));
+        Verify.assertEmpty(clone);
+        Verify.assertSize(2, map);
+    }
+
+    @Test
+    public void invalidConfiguration()
+    {
+        Verify.assertThrows(IllegalStateException.class, () -> BoundedConcurrentHashMap.newBuilder().build());
+        Verify.assertThrows(IllegalArgumentException.class, () -> BoundedConcurrentHashMap.newBuilder().maximumSize(-1L));
+        Verify.assertThrows(IllegalArgumentException.class, () -> BoundedConcurrentHashMap.newBuilder().expireAfterWrite(0L, TimeUnit.SECONDS));
+        Verify.assertThrows(NullPointerException.class, () -> BoundedConcurrentHashMap.newMap(1L).put(1, null));
+    }
+
+    @Test
+    public void concurrentPutsStayBounded()
+    {
+        BoundedConcurrentHashMap<Integer, Integer> map = BoundedConcurrentHashMap.newMap(1_000L);
+        ParallelIterate.forEach(
+                Interval.oneTo(100_000),
+                each -> {
+                    Integer key = each % 5_000;
+                    map.put(key, each);
+                    map.get(key + 1);
+                    map.updateValue(key + 2, () -> 0, value -> value + 1);
+                },
+                1_000,
+                this.executor);
+        Assert.assertTrue(map.size() <= 1_000);
+        Assert.assertEquals(map.size(), map.weightedSize());
+    }
+}
@@ -34,6 +34,7 @@ import org.eclipse.collections.impl.parallel.ParallelIterate;
 import org.eclipse.collections.impl.set.mutable.UnifiedSet;
 import org.eclipse.collections.impl.test.Verify;
 import org.eclipse.collections.impl.tuple.ImmutableEntry;
+import org.eclipse.collections.impl.tuple.Tuples;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -273,6 +274,22 @@ public class ConcurrentHashMapTest extends ConcurrentHashMapTestCase
         Verify.assertEqualsAndHashCode(SMALL_BAG_MUTABLE_MAP, actual);
     }
 
+    @Test
+    public void asParallel()
+    {
+        ConcurrentHashMap<Integer, Integer> source =
+                ConcurrentHashMap.newMap(Interval.oneTo(100).toMap(Functions.getIntegerPassThru(), each -> each * 2));
+        Assert.assertEquals(Interval.fromToBy(2, 200, 2).toBag(), source.asParallel(this.executor, 7).toBag());
+        Assert.assertEquals(Interval.oneTo(100).toSet(), source.keysViewAsParallel(this.executor, 7).toSet());
+        Assert.assertEquals(
+                Interval.oneTo(100).collect(each -> Tuples.pair(each, each * 2)).toSet(),
+                source.keyValuesViewAsParallel(this.executor, 7).toSet());
+        Assert.assertEquals(10100L, source.asParallel(this.executor, 3).sumOfInt(Integer::intValue));
+        Assert.assertTrue(source.keysViewAsParallel(this.executor, 3).allSatisfy(key -> source.get(key) == key * 2));
+        Assert.assertEquals(Integer.valueOf(42), source.keysViewAsParallel(this.executor, 3).detect(key -> key == 42));
+        Assert.assertEquals(Interval.fromToBy(2, 200, 2).toBag(), source.asParallel(this.executor, Integer.MAX_VALUE).toBag());
+    }
+
     @Test
     public void putAllInParallelSmallMap()
     {
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.factory.Maps;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link OpenHashMap}.
+ */
+public class OpenHashMapTest extends MutableMapTestCase
+{
+    @Override
+    public <K, V> MutableMap<K, V> newMap()
+    {
+        return OpenHashMap.newMap();
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeyValue(K key, V value)
+    {
+        return OpenHashMap.newWithKeysValues(key, value);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        return OpenHashMap.newWithKeysValues(key1, value1, key2, value2);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        return OpenHashMap.newWithKeysValues(key1, value1, key2, value2, key3, value3);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4)
+    {
+        return OpenHashMap.newWithKeysValues(key1, value1, key2, value2, key3, value3, key4, value4);
+    }
+
+    @Test
+    public void constructorOfNegativeCapacity()
+    {
+        Verify.assertThrows(IllegalArgumentException.class, () -> new OpenHashMap<Integer, Integer>(-1));
+    }
+
+    @Test
+    public void newOpenHashMap()
+    {
+        Verify.assertInstanceOf(OpenHashMap.class, Maps.newOpenHashMap());
+        Verify.assertInstanceOf(OpenHashMap.class, Maps.newOpenHashMap(100));
+        Verify.assertEmpty(Maps.newOpenHashMap(100));
+    }
+
+    @Test
+    public void collidingHashCodes()
+    {
+        MutableMap<CollidingKey, Integer> map = OpenHashMap.newMap();
+        Map<CollidingKey, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 200; i++)
+        {
+            map.put(new CollidingKey(i), i);
+            expected.put(new CollidingKey(i), i);
+        }
+        Assert.assertEquals(expected, map);
+
+        for (int i = 0; i < 200; i += 2)
+        {
+            Assert.assertEquals(Integer.valueOf(i), map.remove(new CollidingKey(i)));
+            expected.remove(new CollidingKey(i));
+        }
+        Assert.assertEquals(expected, map);
+        for (int i = 0; i < 200; i++)
+        {
+            Assert.assertEquals(i % 2 == 1, map.containsKey(new CollidingKey(i)));
+        }
+    }
+
+    @Test
+    public void reuseOfDeletedSlots()
+    {
+        OpenHashMap<Integer, Integer> map = OpenHashMap.newMap(8);
+        for (int i = 0; i < 10_000; i++)
+        {
+            map.put(i, i);
+            map.remove(i - 4);
+        }
+        Assert.assertEquals(OpenHashMap.newWithKeysValues(9996, 9996, 9997, 9997, 9998, 9998, 9999, 9999), map);
+        Assert.assertTrue(map.trimToSize());
+        Assert.assertFalse(map.trimToSize());
+        Assert.assertEquals(OpenHashMap.newWithKeysValues(9996, 9996, 9997, 9997, 9998, 9998, 9999, 9999), map);
+    }
+
+    @Test
+    public void initialCapacityHoldsEntriesWithoutRehash()
+    {
+        for (int size : new int[]{7, 8, 896, 897, 910, 1000})
+        {
+            OpenHashMap<Integer, Integer> map = OpenHashMap.newMap(size);
+            Interval.oneTo(size).each(each -> map.put(each, each));
+            Verify.assertSize(size, map);
+            Assert.assertFalse(map.trimToSize());
+        }
+    }
+
+    @Test
+    public void iteratorRemove()
+    {
+        OpenHashMap<Integer, Integer> map = OpenHashMap.newMap();
+        Interval.oneTo(1000).each(each -> map.put(each, each));
+        Iterator<Integer> iterator = map.keySet().iterator();
+        while (iterator.hasNext())
+        {
+            if (iterator.next() % 3 != 0)
+            {
+                iterator.remove();
+            }
+        }
+        Verify.assertSize(333, map);
+        Assert.assertEquals(Interval.fromToBy(3, 999, 3).toSet(), map.keySet());
+        Verify.assertThrows(IllegalStateException.class, map.keySet().iterator()::remove);
+    }
+
+    @Test
+    public void nullKeyAndValue()
+    {
+        OpenHashMap<Integer, Integer> map = OpenHashMap.newWithKeysValues(null, 1, 2, null);
+        Assert.assertEquals(Integer.valueOf(1), map.get(null));
+        Assert.assertTrue(map.containsKey(2));
+        Assert.assertNull(map.get(2));
+        Assert.assertTrue(map.containsValue(null));
+        Assert.assertEquals(Integer.valueOf(1), map.remove(null));
+        Assert.assertFalse(map.containsKey(null));
+        Verify.assertPostSerializedEqualsAndHashCode(map);
+    }
+
+    private static final class CollidingKey
+    {
+        private final int value;
+
+        private CollidingKey(int value)
+        {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            return o instanceof CollidingKey && ((CollidingKey) o).value == this.value;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.value & 1;
+        }
+    }
+}
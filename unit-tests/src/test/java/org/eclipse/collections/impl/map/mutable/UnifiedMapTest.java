@@ -14,6 +14,8 @@ import java.lang.reflect.Field;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.list.MutableList;
@@ -202,6 +204,35 @@ public class UnifiedMapTest extends UnifiedMapTestCase
         this.batchForEachEmptyBatchIterable((BatchIterable<Integer>) UnifiedMap.<Integer, Integer>newMap().values());
     }
 
+    @Test
+    public void asParallel()
+    {
+        UnifiedMap<Integer, Integer> collisions = UnifiedMap.<Integer, Integer>newMap(5)
+                .withKeysValues(COLLISION_1, 1, COLLISION_2, 2, COLLISION_3, 3, 1, 4)
+                .withKeysValues(2, 5, 3, 6, null, 7);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try
+        {
+            for (int batchSize = 1; batchSize <= 16; batchSize++)
+            {
+                Assert.assertEquals(collisions.valuesView().toBag(), collisions.asParallel(executorService, batchSize).toBag());
+                Assert.assertEquals(collisions.keysView().toSet(), collisions.keysViewAsParallel(executorService, batchSize).toSet());
+                Assert.assertEquals(collisions.keyValuesView().toSet(), collisions.keyValuesViewAsParallel(executorService, batchSize).toSet());
+            }
+            Assert.assertTrue(collisions.keysViewAsParallel(executorService, 2).anySatisfy(key -> key == null));
+            Assert.assertEquals(Tuples.pair(COLLISION_3, 3), collisions.keyValuesViewAsParallel(executorService, 2).detect(pair -> pair.getTwo() == 3));
+            Assert.assertEquals(28L, collisions.asParallel(executorService, 2).sumOfInt(Integer::intValue));
+            Assert.assertEquals(collisions.valuesView().toBag(), collisions.asParallel(executorService, Integer.MAX_VALUE).toBag());
+            Assert.assertEquals(collisions.keysView().toSet(), collisions.keysViewAsParallel(executorService, (1 << 30) + 1).toSet());
+            Verify.assertThrows(IllegalArgumentException.class, () -> collisions.asParallel(executorService, 0));
+            Verify.assertThrows(NullPointerException.class, () -> collisions.keysViewAsParallel(null, 2));
+        }
+        finally
+        {
+            executorService.shutdownNow();
+        }
+    }
+
     @Test
     public void batchForEachEntry()
     {
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.multimap.list;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.eclipse.collections.impl.test.Verify;
+import org.eclipse.collections.impl.utility.Iterate;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test of {@link ConcurrentFastListMultimap}.
+ */
+public class ConcurrentFastListMultimapTest extends AbstractMutableListMultimapTestCase
+{
+    @Override
+    public <K, V> ConcurrentFastListMultimap<K, V> newMultimap()
+    {
+        return ConcurrentFastListMultimap.newMultimap();
+    }
+
+    @Override
+    public <K, V> ConcurrentFastListMultimap<K, V> newMultimapWithKeyValue(K key, V value)
+    {
+        ConcurrentFastListMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key, value);
+        return mutableMultimap;
+    }
+
+    @Override
+    public <K, V> ConcurrentFastListMultimap<K, V> newMultimapWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        ConcurrentFastListMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key1, value1);
+        mutableMultimap.put(key2, value2);
+        return mutableMultimap;
+    }
+
+    @Override
+    public <K, V> ConcurrentFastListMultimap<K, V> newMultimapWithKeysValues(
+            K key1, V value1,
+            K key2, V value2,
+            K key3, V value3)
+    {
+        ConcurrentFastListMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key1, value1);
+        mutableMultimap.put(key2, value2);
+        mutableMultimap.put(key3, value3);
+        return mutableMultimap;
+    }
+
+    @Override
+    public <K, V> ConcurrentFastListMultimap<K, V> newMultimapWithKeysValues(
+            K key1, V value1,
+            K key2, V value2,
+            K key3, V value3,
+            K key4, V value4)
+    {
+        ConcurrentFastListMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key1, value1);
+        mutableMultimap.put(key2, value2);
+        mutableMultimap.put(key3, value3);
+        mutableMultimap.put(key4, value4);
+        return mutableMultimap;
+    }
+
+    @SafeVarargs
+    @Override
+    public final <K, V> ConcurrentFastListMultimap<K, V> newMultimap(Pair<K, V>... pairs)
+    {
+        return ConcurrentFastListMultimap.newMultimap(pairs);
+    }
+
+    @Override
+    public <K, V> ConcurrentFastListMultimap<K, V> newMultimapFromPairs(Iterable<Pair<K, V>> inputIterable)
+    {
+        return ConcurrentFastListMultimap.newMultimap(inputIterable);
+    }
+
+    @SafeVarargs
+    @Override
+    protected final <V> FastList<V> createCollection(V... args)
+    {
+        return FastList.newListWith(args);
+    }
+
+    @Test
+    public void getReturnsSnapshot()
+    {
+        ConcurrentFastListMultimap<String, Integer> multimap = this.newMultimapWithKeysValues("A", 1, "A", 2);
+        MutableList<Integer> values = multimap.get("A");
+        multimap.put("A", 3);
+        Assert.assertEquals(FastList.newListWith(1, 2), values);
+        Assert.assertEquals(FastList.newListWith(1, 2, 3), multimap.get("A"));
+
+        MutableList<Integer> removed = multimap.removeAll("A");
+        multimap.put("A", 4);
+        Assert.assertEquals(FastList.newListWith(1, 2, 3), removed);
+        Assert.assertEquals(FastList.newListWith(4), multimap.get("A"));
+        Verify.assertSize(1, multimap);
+    }
+
+    @Test
+    public void concurrentPutsForManyKeys()
+    {
+        ConcurrentFastListMultimap<Integer, Integer> multimap = this.newMultimap();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            ParallelIterate.forEach(Interval.oneTo(100_000), each -> multimap.put(each % 100, each), 1_000, executor);
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+        Assert.assertEquals(100_000, multimap.size());
+        Assert.assertEquals(100, multimap.sizeDistinct());
+        multimap.forEachKeyMultiValues((key, values) -> Verify.assertIterableSize(1_000, values));
+        Assert.assertEquals(Interval.oneTo(100_000).toBag(), multimap.valuesView().toBag());
+    }
+
+    @Test
+    public void concurrentUpdatesKeepSizeConsistent()
+    {
+        ConcurrentFastListMultimap<Integer, Integer> multimap = this.newMultimap();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            ParallelIterate.forEach(
+                    Interval.oneTo(100_000),
+                    each -> {
+                        Integer key = each % 10;
+                        multimap.put(key, each);
+                        if (each % 3 == 0)
+                        {
+                            multimap.remove(key, each);
+                        }
+                        if (each % 1_000 == 0)
+                        {
+                            multimap.removeAll(key);
+                        }
+                        if (each % 777 == 0)
+                        {
+                            multimap.replaceValues(key, FastList.newListWith(each));
+                        }
+                    },
+                    1_000,
+                    executor);
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+        Assert.assertEquals(multimap.valuesView().size(), multimap.size());
+        Assert.assertEquals(multimap.keyBag().size(), multimap.size());
+        multimap.forEachKeyMultiValues((key, values) -> Assert.assertTrue(Iterate.notEmpty(values)));
+    }
+}
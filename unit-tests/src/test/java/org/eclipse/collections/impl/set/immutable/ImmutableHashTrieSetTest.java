@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.immutable;
+
+import org.eclipse.collections.api.set.ImmutableSet;
+import org.eclipse.collections.impl.factory.Sets;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ImmutableHashTrieSet}.
+ */
+public class ImmutableHashTrieSetTest
+        extends AbstractImmutableSetTestCase
+{
+    @Override
+    protected ImmutableSet<Integer> classUnderTest()
+    {
+        return ImmutableHashTrieSet.newSetWith(1, 2, 3, 4);
+    }
+
+    @Test
+    public void newWithSharesUnchangedVersion()
+    {
+        ImmutableHashTrieSet<Integer> set = ImmutableHashTrieSet.empty();
+        for (int i = 0; i < 10_000; i++)
+        {
+            ImmutableHashTrieSet<Integer> next = set.newWith(i);
+            Verify.assertSize(i, set);
+            Assert.assertFalse(set.contains(i));
+            Assert.assertTrue(next.contains(i));
+            set = next;
+        }
+        Assert.assertEquals(Interval.zeroTo(9_999).toSet(), set);
+        Assert.assertEquals(Interval.zeroTo(9_999).toSet().hashCode(), set.hashCode());
+        Assert.assertSame(set, set.newWith(5));
+        Assert.assertSame(set, set.newWithout(10_000));
+
+        ImmutableHashTrieSet<Integer> odds = set.newWithoutAll(Interval.fromToBy(0, 9_998, 2));
+        Verify.assertSize(10_000, set);
+        Assert.assertEquals(Interval.fromToBy(1, 9_999, 2).toSet(), odds);
+        Assert.assertSame(ImmutableHashTrieSet.empty(), odds.newWithoutAll(odds));
+    }
+
+    @Test
+    public void getOnly()
+    {
+        Assert.assertEquals(Integer.valueOf(1), ImmutableHashTrieSet.newSetWith(1).getOnly());
+        Verify.assertThrows(IllegalStateException.class, () -> this.classUnderTest().getOnly());
+    }
+
+    @Test
+    public void largeSetsUseHashTrie()
+    {
+        Verify.assertInstanceOf(ImmutableHashTrieSet.class, Sets.immutable.withAll(Interval.oneTo(2_000)));
+        Verify.assertInstanceOf(ImmutableUnifiedSet.class, Sets.immutable.withAll(Interval.oneTo(10)));
+    }
+}
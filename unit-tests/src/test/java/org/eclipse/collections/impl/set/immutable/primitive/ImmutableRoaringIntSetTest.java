@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.immutable.primitive;
+
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.set.primitive.ImmutableIntSet;
+import org.eclipse.collections.api.set.primitive.MutableIntSet;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.set.mutable.primitive.AbstractImmutableIntHashSetTestCase;
+import org.eclipse.collections.impl.set.mutable.primitive.IntHashSet;
+import org.eclipse.collections.impl.set.mutable.primitive.RoaringIntSet;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ImmutableRoaringIntSet}.
+ */
+public class ImmutableRoaringIntSetTest extends AbstractImmutableIntHashSetTestCase
+{
+    @Override
+    protected ImmutableIntSet classUnderTest()
+    {
+        return ImmutableRoaringIntSet.newSetWith(1, 2, 3);
+    }
+
+    @Override
+    protected ImmutableIntSet newWith(int... elements)
+    {
+        return ImmutableRoaringIntSet.newSetWith(elements);
+    }
+
+    @Override
+    protected MutableIntSet newMutableCollectionWith(int... elements)
+    {
+        return IntHashSet.newSetWith(elements);
+    }
+
+    @Override
+    protected MutableSet<Integer> newObjectCollectionWith(Integer... elements)
+    {
+        return UnifiedSet.newSetWith(elements);
+    }
+
+    @Test
+    public void setOperations()
+    {
+        ImmutableRoaringIntSet left = ImmutableRoaringIntSet.newSetWith(1, 2, 3, 70000);
+        ImmutableRoaringIntSet right = ImmutableRoaringIntSet.newSetWith(3, 4, 70000, -70000);
+        Assert.assertEquals(IntHashSet.newSetWith(3, 70000), left.and(right));
+        Assert.assertEquals(IntHashSet.newSetWith(-70000, 1, 2, 3, 4, 70000), left.or(right));
+        Assert.assertEquals(IntHashSet.newSetWith(1, 2), left.andNot(right));
+        Assert.assertEquals(IntHashSet.newSetWith(-70000, 1, 2, 4), left.xor(right));
+        Assert.assertEquals(3, left.rank(3));
+        Assert.assertEquals(IntHashSet.newSetWith(1, 2, 3, 70000), left);
+    }
+
+    @Test
+    public void copiesOnWrite()
+    {
+        RoaringIntSet mutable = RoaringIntSet.newSetWith(1, 2, 3);
+        ImmutableIntSet immutable = mutable.toImmutable();
+        mutable.add(4);
+        Assert.assertEquals(IntHashSet.newSetWith(1, 2, 3), immutable);
+        Assert.assertSame(immutable, immutable.newWith(2));
+        Assert.assertSame(immutable, immutable.newWithout(5));
+        Assert.assertEquals(IntHashSet.newSetWith(1, 2, 3, 5), immutable.newWith(5));
+        Assert.assertEquals(IntHashSet.newSetWith(1, 3), immutable.newWithout(2));
+        Assert.assertEquals(IntHashSet.newSetWith(1, 2, 3), immutable);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.mutable;
+
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link CopyOnWriteUnifiedSet}.
+ */
+public class CopyOnWriteUnifiedSetTest extends AbstractMutableSetTestCase
+{
+    @Override
+    protected <T> CopyOnWriteUnifiedSet<T> newWith(T... littleElements)
+    {
+        return CopyOnWriteUnifiedSet.newSetWith(littleElements);
+    }
+
+    @Override
+    @Test
+    public void newEmpty()
+    {
+        Verify.assertInstanceOf(CopyOnWriteUnifiedSet.class, CopyOnWriteUnifiedSet.newSet().newEmpty());
+        Verify.assertEmpty(CopyOnWriteUnifiedSet.newSetWith(1, 2).newEmpty());
+    }
+
+    @Override
+    @Test(expected = UnsupportedOperationException.class)
+    public void iterator_remove_without_next()
+    {
+        super.iterator_remove_without_next();
+    }
+
+    @Test
+    public void iteratorsAreSnapshots()
+    {
+        CopyOnWriteUnifiedSet<Integer> set = this.newWith(1, 2, 3);
+        Iterator<Integer> iterator = set.iterator();
+        set.add(4);
+        set.remove(1);
+        Assert.assertEquals(UnifiedSet.newSetWith(1, 2, 3), UnifiedSet.newSet(() -> iterator));
+        Assert.assertEquals(UnifiedSet.newSetWith(2, 3, 4), set);
+        Verify.assertThrows(UnsupportedOperationException.class, iterator::remove);
+    }
+
+    @Test
+    public void eachIteratesOverSnapshot()
+    {
+        CopyOnWriteUnifiedSet<Integer> set = this.newWith(1, 2, 3);
+        MutableSet<Integer> seen = UnifiedSet.newSet();
+        set.each(each -> {
+            seen.add(each);
+            set.add(each * 10);
+        });
+        Assert.assertEquals(UnifiedSet.newSetWith(1, 2, 3), seen);
+        Assert.assertEquals(UnifiedSet.newSetWith(1, 2, 3, 10, 20, 30), set);
+    }
+
+    @Test
+    public void withWriteLockAndDelegate()
+    {
+        CopyOnWriteUnifiedSet<Integer> set = this.newWith(1, 2, 3);
+        set.withWriteLockAndDelegate(delegate -> {
+            delegate.add(4);
+            delegate.remove(1);
+            Assert.assertEquals(UnifiedSet.newSetWith(1, 2, 3), set);
+        });
+        Assert.assertEquals(UnifiedSet.newSetWith(2, 3, 4), set);
+        Verify.assertThrows(IllegalStateException.class, () -> set.withWriteLockAndDelegate(delegate -> {
+            delegate.clear();
+            throw new IllegalStateException();
+        }));
+        Assert.assertEquals(UnifiedSet.newSetWith(2, 3, 4), set);
+    }
+
+    @Test
+    public void readersNeverSeePartialWrites()
+    {
+        CopyOnWriteUnifiedSet<Integer> set = CopyOnWriteUnifiedSet.newSet();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            ParallelIterate.forEach(
+                    Interval.oneTo(2_000),
+                    each -> {
+                        if (each % 2 == 0)
+                        {
+                            set.withAll(UnifiedSet.newSetWith(each, -each));
+                        }
+                        else
+                        {
+                            Assert.assertEquals(0, set.size() % 2);
+                            Assert.assertEquals(0L, set.sumOfInt(Integer::intValue));
+                        }
+                    },
+                    10,
+                    executor);
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+        Verify.assertSize(2_000, set);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.mutable;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link MultiReaderUnifiedSet#newStampedSet()}.
+ */
+public class MultiReaderUnifiedSetStampedTest extends MultiReaderUnifiedSetTest
+{
+    @Override
+    protected <T> MutableSet<T> newWith(T... littleElements)
+    {
+        return MultiReaderUnifiedSet.newStampedSet(UnifiedSet.newSetWith(littleElements));
+    }
+
+    @Test
+    public void optimisticReads()
+    {
+        MultiReaderUnifiedSet<Integer> set = MultiReaderUnifiedSet.newStampedSet(Interval.oneTo(3));
+        Assert.assertEquals(3, set.size());
+        Assert.assertTrue(set.contains(2));
+        Assert.assertFalse(set.contains(4));
+        Assert.assertEquals(Integer.valueOf(3), set.detect(each -> each > 2));
+        set.withWriteLockAndDelegate(delegate -> {
+            delegate.add(4);
+            Assert.assertTrue(set.contains(4));
+        });
+        Assert.assertEquals(UnifiedSet.newSetWith(1, 2, 3, 4), set.clone());
+    }
+
+    @Test
+    public void concurrentReadsAndWrites()
+    {
+        MultiReaderUnifiedSet<Integer> set = MultiReaderUnifiedSet.newStampedSet();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            ParallelIterate.forEach(
+                    Interval.oneTo(20_000),
+                    each -> {
+                        if (each % 2 == 0)
+                        {
+                            set.withWriteLockAndDelegate(delegate -> delegate.with(each).with(-each));
+                        }
+                        else
+                        {
+                            Assert.assertEquals(0, set.size() % 2);
+                            if (set.contains(each - 1))
+                            {
+                                Assert.assertTrue(set.contains(1 - each));
+                            }
+                        }
+                    },
+                    100,
+                    executor);
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+        Verify.assertSize(20_000, set);
+    }
+}
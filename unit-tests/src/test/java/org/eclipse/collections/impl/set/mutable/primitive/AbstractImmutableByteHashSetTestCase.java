@@ -11,8 +11,11 @@
 package org.eclipse.collections.impl.set.mutable.primitive;
 
 import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.eclipse.collections.api.LazyByteIterable;
+import org.eclipse.collections.api.ParallelByteIterable;
 import org.eclipse.collections.api.iterator.ByteIterator;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.api.set.primitive.ImmutableByteSet;
@@ -228,4 +231,29 @@ public abstract class AbstractImmutableByteHashSetTestCase extends AbstractImmut
         Assert.assertEquals(1, this.newWith((byte) 1).toImmutable().size());
         Assert.assertEquals(3, this.newWith((byte) 1, (byte) 2, (byte) 3).toImmutable().size());
     }
+
+    @Test
+    public void asParallel()
+    {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try
+        {
+            ImmutableByteSet set = this.classUnderTest();
+            ParallelByteIterable parallel = set.asParallel(executorService, 2);
+            Assert.assertEquals(set, parallel.toSet());
+            Assert.assertEquals(set.size(), parallel.count(each -> true));
+            Assert.assertEquals(set.sum(), parallel.sum());
+
+            ImmutableByteSet many = this.newWith((byte) -1, (byte) 1, (byte) 2, (byte) 3, (byte) 64);
+            Assert.assertEquals(many, many.asParallel(executorService, 2).toSet());
+            Assert.assertEquals(69L, many.asParallel(executorService, 2).sum());
+
+            Verify.assertThrows(IllegalArgumentException.class, () -> set.asParallel(executorService, 0));
+            Verify.assertThrows(NullPointerException.class, () -> set.asParallel(null, 2));
+        }
+        finally
+        {
+            executorService.shutdownNow();
+        }
+    }
 }
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.mutable.primitive;
+
+import org.eclipse.collections.api.iterator.MutableIntIterator;
+import org.eclipse.collections.impl.list.primitive.IntInterval;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link RoaringIntSet}.
+ */
+public class RoaringIntSetTest extends AbstractIntSetTestCase
+{
+    @Override
+    protected final RoaringIntSet classUnderTest()
+    {
+        return RoaringIntSet.newSetWith(1, 2, 3);
+    }
+
+    @Override
+    protected RoaringIntSet newWith(int... elements)
+    {
+        return RoaringIntSet.newSetWith(elements);
+    }
+
+    @Test
+    public void ascendingOrder()
+    {
+        RoaringIntSet set = this.newWith(Integer.MAX_VALUE, 70000, -1, 0, Integer.MIN_VALUE, 65535, 65536);
+        Assert.assertArrayEquals(new int[]{Integer.MIN_VALUE, -1, 0, 65535, 65536, 70000, Integer.MAX_VALUE}, set.toArray());
+        Assert.assertEquals(Integer.MIN_VALUE, set.min());
+        Assert.assertEquals(Integer.MAX_VALUE, set.max());
+        Assert.assertEquals("[-2147483648, -1, 0, 65535, 65536, 70000, 2147483647]", set.toString());
+    }
+
+    @Test
+    public void denseAndClusteredContainers()
+    {
+        RoaringIntSet set = new RoaringIntSet();
+        IntHashSet expected = new IntHashSet();
+        for (int i = 0; i < 200000; i += 3)
+        {
+            set.add(i);
+            expected.add(i);
+        }
+        set.addRange(1000000, 1100000);
+        expected.addAll(IntInterval.fromTo(1000000, 1100000));
+        Assert.assertEquals(expected, set);
+        Verify.assertEqualsAndHashCode(expected, set);
+        Assert.assertFalse(set.contains(1));
+        Assert.assertTrue(set.contains(1050000));
+
+        set.runOptimize();
+        Assert.assertEquals(expected, set);
+        Verify.assertPostSerializedEqualsAndHashCode(set);
+
+        for (int i = 0; i < 200000; i += 6)
+        {
+            set.remove(i);
+            expected.remove(i);
+        }
+        set.remove(1050000);
+        expected.remove(1050000);
+        Assert.assertEquals(expected, set);
+        Assert.assertArrayEquals(expected.toSortedArray(), set.toArray());
+    }
+
+    @Test
+    public void setOperations()
+    {
+        RoaringIntSet left = new RoaringIntSet();
+        left.addRange(0, 99999);
+        left.addAll(-5, 200000, 300000);
+        RoaringIntSet right = new RoaringIntSet();
+        for (int i = 50000; i < 150000; i += 2)
+        {
+            right.add(i);
+        }
+        right.add(-5);
+
+        IntHashSet leftHashSet = IntHashSet.newSet(left);
+        IntHashSet rightHashSet = IntHashSet.newSet(right);
+
+        Assert.assertEquals(leftHashSet.select(rightHashSet::contains), left.and(right));
+        Assert.assertEquals(leftHashSet.withAll(rightHashSet), left.or(right));
+        Assert.assertEquals(IntHashSet.newSet(left).withoutAll(rightHashSet), left.andNot(right));
+        Assert.assertEquals(
+                IntHashSet.newSet(left).withAll(right).withoutAll(IntHashSet.newSet(left).select(rightHashSet::contains)),
+                left.xor(right));
+        Assert.assertEquals(IntHashSet.newSet(left), left);
+
+        RoaringIntSet copy = RoaringIntSet.newSet(left);
+        Assert.assertTrue(copy.retainAll(right));
+        Assert.assertEquals(left.and(right), copy);
+        Assert.assertTrue(copy.removeAll(right));
+        Verify.assertEmpty(copy);
+    }
+
+    @Test
+    public void rank()
+    {
+        RoaringIntSet set = this.newWith(-70000, -1, 5, 10, 65536, 70000);
+        set.addRange(100000, 100099);
+        Assert.assertEquals(0, set.rank(-70001));
+        Assert.assertEquals(1, set.rank(-70000));
+        Assert.assertEquals(2, set.rank(4));
+        Assert.assertEquals(3, set.rank(5));
+        Assert.assertEquals(4, set.rank(65535));
+        Assert.assertEquals(6, set.rank(99999));
+        Assert.assertEquals(56, set.rank(100049));
+        Assert.assertEquals(106, set.rank(Integer.MAX_VALUE));
+        Verify.assertThrows(IllegalArgumentException.class, () -> set.addRange(2, 1));
+    }
+
+    @Test
+    public void iteratorRemoveAcrossContainers()
+    {
+        RoaringIntSet set = new RoaringIntSet();
+        set.addRange(65530, 65540);
+        set.add(Integer.MAX_VALUE);
+        MutableIntIterator iterator = set.intIterator();
+        while (iterator.hasNext())
+        {
+            int value = iterator.next();
+            if (value % 2 == 0 || value == Integer.MAX_VALUE)
+            {
+                iterator.remove();
+            }
+        }
+        Assert.assertArrayEquals(new int[]{65531, 65533, 65535, 65537, 65539}, set.toArray());
+    }
+
+    @Test
+    public void toImmutable()
+    {
+        RoaringIntSet set = this.newWith(1, 2, 70000);
+        Assert.assertEquals(set, set.toImmutable());
+        Assert.assertEquals(IntHashSet.newSetWith(1, 2, 3, 70000), set.toImmutable().newWith(3));
+        Assert.assertEquals(IntHashSet.newSetWith(1, 2, 70000), set);
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.sorted.mutable;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.set.sorted.MutableSortedSet;
+import org.eclipse.collections.impl.block.factory.Comparators;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.test.SerializeTestHelper;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link RankedTreeSortedSet}.
+ *
+ * @since 10.3
+ */
+public class RankedTreeSortedSetTest extends AbstractSortedSetTestCase
+{
+    @Override
+    protected <T> RankedTreeSortedSet<T> newWith(T... elements)
+    {
+        return RankedTreeSortedSet.newSetWith(elements);
+    }
+
+    @Override
+    protected <T> RankedTreeSortedSet<T> newWith(Comparator<? super T> comparator, T... elements)
+    {
+        return RankedTreeSortedSet.newSetWith(comparator, elements);
+    }
+
+    @Override
+    @Test
+    public void asSynchronized()
+    {
+        Verify.assertInstanceOf(SynchronizedSortedSet.class, this.newWith().asSynchronized());
+    }
+
+    @Override
+    @Test
+    public void asUnmodifiable()
+    {
+        Verify.assertInstanceOf(UnmodifiableSortedSet.class, this.newWith().asUnmodifiable());
+    }
+
+    @Test
+    public void sortedSetIterableConstructor()
+    {
+        RankedTreeSortedSet<Integer> sortedSetA = RankedTreeSortedSet.newSet(Collections.reverseOrder());
+        RankedTreeSortedSet<Integer> sortedSetB = RankedTreeSortedSet.newSet(sortedSetA.with(1).with(2, 3).with(4, 5, 6));
+        Verify.assertSortedSetsEqual(sortedSetA, sortedSetB);
+        Assert.assertEquals(Integer.valueOf(6), sortedSetB.first());
+        Verify.assertSortedSetsEqual(sortedSetB, new RankedTreeSortedSet<>(sortedSetB));
+        Assert.assertEquals(5, new RankedTreeSortedSet<>(sortedSetB).indexOf(1));
+    }
+
+    @Test
+    public void sortedSetConstructor()
+    {
+        SortedSet<String> setA = new TreeSet<>(Comparators.reverseNaturalOrder());
+        setA.addAll(FastList.newListWith("a", "c", "b", "d"));
+        Verify.assertSortedSetsEqual(setA, RankedTreeSortedSet.newSet(setA));
+        Verify.assertSortedSetsEqual(setA, new RankedTreeSortedSet<>(setA));
+        Assert.assertSame(setA.comparator(), new RankedTreeSortedSet<>(setA).comparator());
+    }
+
+    @Test
+    public void iterableConstructor()
+    {
+        LazyIterable<Integer> integerLazyIterable = FastList.newListWith(2, 4, 1, 3).asLazy();
+        Verify.assertSortedSetsEqual(TreeSortedSet.newSetWith(1, 2, 3, 4), RankedTreeSortedSet.newSet(integerLazyIterable));
+        Verify.assertSortedSetsEqual(TreeSortedSet.newSetWith(1, 2, 3, 4), new RankedTreeSortedSet<>(integerLazyIterable));
+        RankedTreeSortedSet<Integer> reversed = RankedTreeSortedSet.newSet(Comparators.reverseNaturalOrder(), integerLazyIterable);
+        Verify.assertSortedSetsEqual(TreeSortedSet.newSetWith(Comparators.reverseNaturalOrder(), 1, 2, 3, 4), reversed);
+        Verify.assertSortedSetsEqual(reversed, new RankedTreeSortedSet<>(Comparators.reverseNaturalOrder(), integerLazyIterable));
+        Assert.assertEquals(Integer.valueOf(3), reversed.get(1));
+    }
+
+    @Test
+    public void serialization()
+    {
+        MutableSortedSet<Integer> set = this.newWith(1, 2, 3, 4, 5);
+        Verify.assertPostSerializedEqualsAndHashCode(set);
+
+        RankedTreeSortedSet<Integer> reversed = RankedTreeSortedSet.newSetWith(Comparators.reverseNaturalOrder(), 1, 2, 3);
+        RankedTreeSortedSet<Integer> deserialized = SerializeTestHelper.serializeDeserialize(reversed);
+        Verify.assertSortedSetsEqual(reversed, deserialized);
+        Assert.assertEquals(Integer.valueOf(1), deserialized.get(2));
+    }
+
+    @Override
+    @Test(expected = UnsupportedOperationException.class)
+    public void detectLastIndex()
+    {
+        this.newWith(1, 2, 3).detectLastIndex(each -> each % 2 == 0);
+    }
+
+    @Override
+    @Test(expected = UnsupportedOperationException.class)
+    public void reverseForEach()
+    {
+        this.newWith(1, 2, 3).reverseForEach(each -> Assert.fail("Should not be evaluated"));
+    }
+
+    @Override
+    @Test(expected = UnsupportedOperationException.class)
+    public void reverseForEachWithIndex()
+    {
+        this.newWith(1, 2, 3).reverseForEachWithIndex((each, index) -> Assert.fail("Should not be evaluated"));
+    }
+
+    @Override
+    @Test(expected = UnsupportedOperationException.class)
+    public void toReversed()
+    {
+        this.newWith(1, 2, 3).toReversed();
+    }
+
+    @Test
+    public void orderStatistics()
+    {
+        RankedTreeSortedSet<Integer> set = RankedTreeSortedSet.newSet(Interval.fromToBy(0, 9_998, 2));
+        Assert.assertEquals(500, set.indexOf(1_000));
+        Assert.assertEquals(-1, set.indexOf(1_001));
+        Assert.assertEquals(501, set.rank(1_001));
+        Assert.assertEquals(Integer.valueOf(1_000), set.get(500));
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> set.get(5_000));
+        Assert.assertEquals(500, set.countBetween(1_000, 2_000));
+        Assert.assertEquals(Integer.valueOf(0), set.percentile(0.0));
+        Assert.assertEquals(Integer.valueOf(4_998), set.percentile(50.0));
+        Assert.assertEquals(Integer.valueOf(9_998), set.percentile(100.0));
+
+        MutableSortedSet<Integer> subSet = set.subSet(1_000, 2_000);
+        Verify.assertSize(500, subSet);
+        Assert.assertEquals(Interval.fromToBy(1_000, 1_998, 2), subSet.toList());
+        Assert.assertTrue(subSet.add(1_001));
+        Verify.assertSize(501, subSet);
+        Assert.assertEquals(Integer.valueOf(1_001), set.get(501));
+        Verify.assertThrows(IllegalArgumentException.class, () -> subSet.add(2_000));
+        subSet.removeIf(each -> each % 4 == 0);
+        Verify.assertSize(251, subSet);
+        Verify.assertSize(4_751, set);
+        Verify.assertSize(500, set.headSet(1_000));
+        Verify.assertSize(4_000, set.tailSet(2_000));
+
+        FastList<Integer> forEachResult = FastList.newList();
+        set.forEach(500, 502, forEachResult::add);
+        Assert.assertEquals(FastList.newListWith(1_001, 1_002, 1_006), forEachResult);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.stack.immutable;
+
+import org.eclipse.collections.api.stack.ImmutableStack;
+import org.eclipse.collections.impl.factory.Stacks;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ImmutableEmptyStackTest
+{
+    private final ImmutableStack<Integer> stack = Stacks.immutable.empty();
+
+    @Test
+    public void isLinkedEmptyStack()
+    {
+        Verify.assertInstanceOf(ImmutableEmptyStack.class, this.stack);
+        Assert.assertSame(this.stack, this.stack.push(1).pop());
+    }
+
+    @Test
+    public void takeWhileDropWhile()
+    {
+        Verify.assertEmpty(this.stack.takeWhile(each -> true));
+        Verify.assertEmpty(this.stack.dropWhile(each -> true));
+        Verify.assertEmpty(this.stack.partitionWhile(each -> true).getSelected());
+        Verify.assertEmpty(this.stack.partitionWhile(each -> true).getRejected());
+    }
+
+    @Test
+    public void distinct()
+    {
+        Assert.assertSame(this.stack, this.stack.distinct());
+    }
+
+    @Test
+    public void indexOfAndDetectIndex()
+    {
+        Assert.assertEquals(-1, this.stack.indexOf(1));
+        Assert.assertEquals(-1, this.stack.detectIndex(each -> true));
+    }
+
+    @Test
+    public void corresponds()
+    {
+        Assert.assertTrue(this.stack.corresponds(Stacks.immutable.empty(), (each, other) -> false));
+        Assert.assertFalse(this.stack.corresponds(Stacks.immutable.with(1), (each, other) -> true));
+    }
+
+    @Test
+    public void forEachInRange()
+    {
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> this.stack.forEach(0, 0, each -> { }));
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> this.stack.forEachWithIndex(0, 0, (each, index) -> { }));
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.stack.immutable;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.partition.stack.PartitionImmutableStack;
+import org.eclipse.collections.api.stack.ImmutableStack;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.factory.Stacks;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ImmutableNotEmptyStackTest extends ImmutableStackTestCase
+{
+    @Override
+    protected <T> ImmutableStack<T> newStackWith(T... elements)
+    {
+        return Stacks.immutable.of(elements);
+    }
+
+    @Override
+    protected <T> ImmutableStack<T> newStackFromTopToBottom(T... elements)
+    {
+        return Stacks.immutable.ofReversed(elements);
+    }
+
+    @Override
+    protected <T> ImmutableStack<T> newStackFromTopToBottom(Iterable<T> elements)
+    {
+        return Stacks.immutable.ofAllReversed(elements);
+    }
+
+    @Override
+    protected <T> ImmutableStack<T> newStack(Iterable<T> elements)
+    {
+        return Stacks.immutable.ofAll(elements);
+    }
+
+    @Test
+    public void pushAndPopShareStructure()
+    {
+        ImmutableStack<Integer> stack = this.newStackWith(1, 2, 3);
+        Verify.assertInstanceOf(ImmutableNotEmptyStack.class, stack);
+        Assert.assertSame(stack, stack.push(4).pop());
+        Assert.assertSame(stack, stack.push(4).push(5).pop(2));
+        Assert.assertSame(stack, Stacks.immutable.withAllReversed(stack));
+    }
+
+    @Test
+    public void takeWhileDropWhile()
+    {
+        ImmutableStack<Integer> stack = this.newStackWith(1, 2, 3, 4, 5);
+        Assert.assertEquals(this.newStackWith(4, 5), stack.takeWhile(each -> each > 3));
+        Assert.assertSame(stack.pop(2), stack.dropWhile(each -> each > 3));
+        Assert.assertSame(stack, stack.takeWhile(each -> each > 0));
+        Verify.assertEmpty(stack.dropWhile(each -> each > 0));
+        Verify.assertEmpty(stack.takeWhile(each -> each > 5));
+
+        PartitionImmutableStack<Integer> partition = stack.partitionWhile(each -> each > 2);
+        Assert.assertEquals(this.newStackWith(3, 4, 5), partition.getSelected());
+        Assert.assertSame(stack.pop(3), partition.getRejected());
+    }
+
+    @Test
+    public void distinct()
+    {
+        Assert.assertEquals(this.newStackWith(1, 3, 2), this.newStackWith(1, 3, 2, 3, 2).distinct());
+        ImmutableStack<Integer> stack = this.newStackWith(1, 2, 3);
+        Assert.assertSame(stack, stack.distinct());
+    }
+
+    @Test
+    public void indexOfAndDetectIndex()
+    {
+        ImmutableStack<Integer> stack = this.newStackWith(1, 2, 3, null);
+        Assert.assertEquals(0, stack.indexOf(null));
+        Assert.assertEquals(3, stack.indexOf(1));
+        Assert.assertEquals(-1, stack.indexOf(4));
+        Assert.assertEquals(1, this.newStackWith(1, 2, 3).detectIndex(each -> each < 3));
+        Assert.assertEquals(-1, this.newStackWith(1, 2, 3).detectIndex(each -> each > 3));
+    }
+
+    @Test
+    public void corresponds()
+    {
+        Assert.assertTrue(this.newStackWith(1, 2, 3).corresponds(this.newStackWith(2, 3, 4), (each, other) -> each + 1 == other));
+        Assert.assertFalse(this.newStackWith(1, 2, 3).corresponds(this.newStackWith(2, 3), (each, other) -> true));
+    }
+
+    @Test
+    public void forEachInRange()
+    {
+        ImmutableStack<Integer> stack = this.newStackWith(1, 2, 3, 4, 5);
+        MutableList<Integer> forward = Lists.mutable.empty();
+        stack.forEach(1, 3, forward::add);
+        Assert.assertEquals(Lists.mutable.with(4, 3, 2), forward);
+
+        MutableList<Integer> reverse = Lists.mutable.empty();
+        stack.forEach(3, 1, reverse::add);
+        Assert.assertEquals(Lists.mutable.with(2, 3, 4), reverse);
+
+        StringBuilder builder = new StringBuilder();
+        stack.forEachWithIndex(4, 3, (each, index) -> builder.append(each).append(index));
+        Assert.assertEquals("1423", builder.toString());
+
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> stack.forEach(0, 5, each -> { }));
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.utility.internal.primitive;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RadixSortTest
+{
+    private static final int SIZE = 5_000;
+
+    private final Random random = new Random(42L);
+
+    @Test
+    public void sortLongs()
+    {
+        long[] values = new long[SIZE];
+        for (int i = 0; i < SIZE; i++)
+        {
+            values[i] = i % 3 == 0 ? this.random.nextLong() : this.random.nextInt(1_000) - 500L;
+        }
+        long[] expected = values.clone();
+        Arrays.sort(expected, 10, SIZE - 10);
+        RadixSort.sort(values, 10, SIZE - 10);
+        Assert.assertArrayEquals(expected, values);
+    }
+
+    @Test
+    public void sortInts()
+    {
+        int[] values = new int[SIZE];
+        for (int i = 0; i < SIZE; i++)
+        {
+            values[i] = i % 3 == 0 ? this.random.nextInt() : this.random.nextInt(1_000) - 500;
+        }
+        values[0] = Integer.MIN_VALUE;
+        values[1] = Integer.MAX_VALUE;
+        int[] expected = values.clone();
+        Arrays.sort(expected);
+        RadixSort.sort(values, 0, SIZE);
+        Assert.assertArrayEquals(expected, values);
+    }
+
+    @Test
+    public void sortShortsCharsAndBytes()
+    {
+        short[] shorts = new short[SIZE];
+        char[] chars = new char[SIZE];
+        byte[] bytes = new byte[SIZE];
+        for (int i = 0; i < SIZE; i++)
+        {
+            int value = this.random.nextInt();
+            shorts[i] = (short) value;
+            chars[i] = (char) value;
+            bytes[i] = (byte) value;
+        }
+        short[] expectedShorts = shorts.clone();
+        char[] expectedChars = chars.clone();
+        byte[] expectedBytes = bytes.clone();
+        Arrays.sort(expectedShorts);
+        Arrays.sort(expectedChars);
+        Arrays.sort(expectedBytes);
+        RadixSort.sort(shorts, 0, SIZE);
+        RadixSort.sort(chars, 0, SIZE);
+        RadixSort.sort(bytes, 0, SIZE);
+        Assert.assertArrayEquals(expectedShorts, shorts);
+        Assert.assertArrayEquals(expectedChars, chars);
+        Assert.assertArrayEquals(expectedBytes, bytes);
+    }
+
+    @Test
+    public void sortSmallRange()
+    {
+        int[] values = {3, -1, 2};
+        RadixSort.sort(values, 0, 2);
+        Assert.assertArrayEquals(new int[]{-1, 3, 2}, values);
+    }
+
+    @Test
+    public void sortedIndexes()
+    {
+        long[] keys = new long[SIZE];
+        for (int i = 0; i < SIZE; i++)
+        {
+            keys[i] = this.random.nextInt(100) - 50L;
+        }
+        long[] original = keys.clone();
+        int[] indexes = RadixSort.sortedIndexes(keys, SIZE);
+        Assert.assertArrayEquals(original, keys);
+        for (int i = 1; i < SIZE; i++)
+        {
+            long previous = keys[indexes[i - 1]];
+            long current = keys[indexes[i]];
+            Assert.assertTrue(previous < current || (previous == current && indexes[i - 1] < indexes[i]));
+        }
+        Assert.assertArrayEquals(new int[]{2, 0, 1}, RadixSort.sortedIndexes(new long[]{5L, 7L, -1L, 0L}, 3));
+    }
+
+    @Test
+    public void invalidRange()
+    {
+        Verify.assertThrows(IllegalArgumentException.class, () -> RadixSort.sort(new int[3], 2, 1));
+        Verify.assertThrows(ArrayIndexOutOfBoundsException.class, () -> RadixSort.sort(new long[3], -1, 1));
+        Verify.assertThrows(ArrayIndexOutOfBoundsException.class, () -> RadixSort.sortedIndexes(new long[3], 4));
+    }
+
+    @Test
+    public void classIsNonInstantiable()
+    {
+        Verify.assertClassNonInstantiable(RadixSort.class);
+    }
+}